@@ -0,0 +1,117 @@
+package com.exit3.testing;
+
+import io.appium.java_client.MobileCommand;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.remote.AppiumCommandExecutor;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * In-process Appium command executor that answers every command with a canned W3C response.
+ * <p>
+ * Nothing is sent over the network, so a driver built on it measures only the client-side
+ * cost of the framework and the Selenium/Appium client: locator construction, command
+ * dispatch, response decoding and element wrapping. Screenshots return a fixed Base64 payload
+ * of the requested size so that decode and copy costs stay realistic.
+ * </p>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+class FakeCommandExecutor extends AppiumCommandExecutor {
+    private static final String ELEMENT_KEY = "element-6066-11e4-a52e-4f735466cecf";
+
+    private final SessionId sessionId = new SessionId("fake-session");
+    private final Map<String, Object> element = Collections.singletonMap(ELEMENT_KEY, "fake-element-1");
+    private final String screenshot;
+    private final String pageSource;
+
+    FakeCommandExecutor(int screenshotBytes, String pageSource) {
+        super(MobileCommand.commandRepository, localUrl());
+        byte[] image = new byte[screenshotBytes];
+        new Random(42).nextBytes(image);
+        this.screenshot = Base64.getEncoder().encodeToString(image);
+        this.pageSource = pageSource;
+    }
+
+    /**
+     * Creates an Android driver on a fake executor.
+     *
+     * @param screenshotBytes size of the decoded screenshot returned by the fake
+     * @param pageSource page source returned by the fake
+     * @return the driver
+     */
+    static AndroidDriver androidDriver(int screenshotBytes, String pageSource) {
+        MutableCapabilities capabilities = new MutableCapabilities();
+        capabilities.setCapability("platformName", "Android");
+        capabilities.setCapability("appium:automationName", "UiAutomator2");
+        return new AndroidDriver(new FakeCommandExecutor(screenshotBytes, pageSource), capabilities);
+    }
+
+    @Override
+    public Response execute(Command command) {
+        Response response = new Response(sessionId);
+        response.setState("success");
+        response.setValue(valueFor(command));
+        return response;
+    }
+
+    private Object valueFor(Command command) {
+        switch (command.getName()) {
+            case DriverCommand.NEW_SESSION:
+                Map<String, Object> capabilities = new HashMap<>();
+                capabilities.put("platformName", "Android");
+                capabilities.put("automationName", "UiAutomator2");
+                return capabilities;
+            case DriverCommand.FIND_ELEMENT:
+            case DriverCommand.FIND_CHILD_ELEMENT:
+                return element;
+            case DriverCommand.FIND_ELEMENTS:
+            case DriverCommand.FIND_CHILD_ELEMENTS:
+                return Collections.singletonList(element);
+            case DriverCommand.IS_ELEMENT_DISPLAYED:
+            case DriverCommand.IS_ELEMENT_ENABLED:
+                return Boolean.TRUE;
+            case DriverCommand.GET_ELEMENT_RECT:
+                return rect(40, 200, 320, 96);
+            case DriverCommand.GET_CURRENT_WINDOW_SIZE:
+                return rect(0, 0, 1080, 2340);
+            case DriverCommand.GET_PAGE_SOURCE:
+                return pageSource;
+            case DriverCommand.SCREENSHOT:
+            case DriverCommand.ELEMENT_SCREENSHOT:
+                return screenshot;
+            default:
+                return null;
+        }
+    }
+
+    private static Map<String, Object> rect(int x, int y, int width, int height) {
+        Map<String, Object> rect = new HashMap<>();
+        rect.put("x", x);
+        rect.put("y", y);
+        rect.put("width", width);
+        rect.put("height", height);
+        return rect;
+    }
+
+    private static URL localUrl() {
+        try {
+            return new URL("http://127.0.0.1:4723/");
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.exit3.testing;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.joran.JoranConfigurator;
+import ch.qos.logback.core.joran.spi.JoranException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Step logging throughput with 8 parallel "devices".
+ * <p>
+ * <code>sync</code> routes every thread through one synchronous file appender (the previous
+ * setup); <code>async</code> uses the shipped <code>logback.xml</code>: MDC-sharded device
+ * files and the test execution log behind async appenders, with the step logger raised to
+ * DEBUG. Each benchmark thread acts as its own device.
+ * </p>
+ * <pre>{@code
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="LoggingThroughputBenchmark"
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class LoggingThroughputBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Config {
+        @Param({"sync", "async"})
+        public String setup;
+
+        @Setup(Level.Trial)
+        public void configure() throws JoranException {
+            LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+            context.reset();
+            JoranConfigurator configurator = new JoranConfigurator();
+            configurator.setContext(context);
+            String resource = "sync".equals(setup) ? "logback-bench-sync.xml" : "logback.xml";
+            configurator.doConfigure(LoggingThroughputBenchmark.class.getClassLoader().getResource(resource));
+            // logback.xml ships step mirroring off; both setups measure it switched on
+            context.getLogger("com.exit3.testing.steps").setLevel(ch.qos.logback.classic.Level.DEBUG);
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            ((LoggerContext) LoggerFactory.getILoggerFactory()).stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Device {
+        private static final AtomicInteger devices = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setup() {
+            LogContext.setDevice("device-" + devices.incrementAndGet());
+            LogContext.setTest("loggingThroughput");
+        }
+    }
+
+    @Benchmark
+    public void logStep(Config config, Device device) {
+        TestLogger.addLogMessage("Clicked element '{}' using {}: {}", "Login Button", "accessibilityId", "login_button");
+    }
+}
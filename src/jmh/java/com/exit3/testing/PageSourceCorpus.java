@@ -0,0 +1,331 @@
+package com.exit3.testing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Corpus of anonymized UiAutomator2 and XCUITest page sources for parser benchmarks.
+ * <p>
+ * The corpus lives in <code>src/jmh/resources/page-sources</code> as
+ * <code>{platform}-{nodes}.xml.gz</code> for 1k, 5k, 20k and 50k nodes. The documents follow
+ * the structure and attribute sets of real Appium page sources (nested layouts, lists of
+ * rows, text, buttons, images and inputs) with anonymized text, ids and package names,
+ * generated from a fixed seed. Each document contains exactly one node whose id
+ * (<code>resource-id</code> on Android, <code>name</code> on iOS) is {@link #TARGET_ID}, placed
+ * near the end of the document, for locator lookups.
+ * </p>
+ * <pre>{@code
+ * // Regenerate the corpus
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.main=com.exit3.testing.PageSourceCorpus -Djmh.args=src/jmh/resources/page-sources
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+final class PageSourceCorpus {
+    static final String[] PLATFORMS = {"android", "ios"};
+    static final int[] SIZES = {1_000, 5_000, 20_000, 50_000};
+    static final String TARGET_ID = "com.example.app:id/checkout_button";
+
+    private static final String[] ANDROID_CONTAINERS = {
+            "android.widget.FrameLayout", "android.widget.LinearLayout", "android.view.ViewGroup",
+            "androidx.recyclerview.widget.RecyclerView", "android.widget.ScrollView"};
+    private static final String[] ANDROID_LEAVES = {
+            "android.widget.TextView", "android.widget.TextView", "android.widget.Button",
+            "android.widget.ImageView", "android.widget.EditText", "android.widget.CheckBox"};
+    private static final String[] IOS_CONTAINERS = {
+            "XCUIElementTypeOther", "XCUIElementTypeOther", "XCUIElementTypeCell",
+            "XCUIElementTypeTable", "XCUIElementTypeScrollView"};
+    private static final String[] IOS_LEAVES = {
+            "XCUIElementTypeStaticText", "XCUIElementTypeStaticText", "XCUIElementTypeButton",
+            "XCUIElementTypeImage", "XCUIElementTypeTextField", "XCUIElementTypeSwitch"};
+
+    private PageSourceCorpus() {
+    }
+
+    /**
+     * Loads a corpus document.
+     *
+     * @param platform <code>android</code> or <code>ios</code>
+     * @param nodes one of {@link #SIZES}
+     * @return the UTF-8 document
+     */
+    static byte[] load(String platform, int nodes) {
+        String resource = "/page-sources/" + platform + "-" + nodes + ".xml.gz";
+        try (InputStream in = PageSourceCorpus.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("No page source corpus entry " + resource);
+            }
+            try (InputStream gzip = new GZIPInputStream(in)) {
+                return gzip.readAllBytes();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the corpus into a directory.
+     *
+     * @param args target directory, default <code>src/jmh/resources/page-sources</code>
+     * @throws IOException if writing fails
+     */
+    public static void main(String[] args) throws IOException {
+        Path dir = Paths.get(args.length > 0 ? args[0] : "src/jmh/resources/page-sources");
+        Files.createDirectories(dir);
+        for (String platform : PLATFORMS) {
+            for (int nodes : SIZES) {
+                byte[] xml = generate(platform, nodes);
+                Path file = dir.resolve(platform + "-" + nodes + ".xml.gz");
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+                    out.write(xml);
+                }
+                System.out.printf("%s: %d nodes, %d bytes, %d bytes compressed%n",
+                        file, nodes, xml.length, Files.size(file));
+            }
+        }
+    }
+
+    /**
+     * Generates one document with exactly {@code nodes} elements below the root.
+     */
+    static byte[] generate(String platform, int nodes) {
+        Generator generator = "ios".equals(platform) ? new IosGenerator(nodes) : new AndroidGenerator(nodes);
+        return generator.document().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Builds a random but deterministic hierarchy; subclasses write the platform format.
+     */
+    private abstract static class Generator {
+        final Random random;
+        final int total;
+        final int targetNode;
+        final StringBuilder xml = new StringBuilder();
+        int written;
+
+        Generator(int total, long seed) {
+            this.random = new Random(seed + total);
+            this.total = total;
+            this.targetNode = total - total / 20;
+        }
+
+        String document() {
+            header();
+            // Top-level subtrees until the node budget is used up
+            while (written < total) {
+                node(1, 0, 0, width(), height());
+            }
+            footer();
+            return xml.toString();
+        }
+
+        private void node(int depth, int index, int top, int w, int h) {
+            int number = written++;
+            boolean container = depth < 3 || (depth < 24 && random.nextInt(100) < 38);
+            int remaining = total - written;
+            if (remaining <= 0 || number == targetNode) {
+                container = false;
+            }
+            indent(depth);
+            if (container) {
+                int children = 1 + random.nextInt(depth < 4 ? 3 : 6);
+                open(depth, index, number, true, top, w, h);
+                int rowHeight = Math.max(1, h / children);
+                for (int i = 0; i < children && written < total; i++) {
+                    node(depth + 1, i, top + i * rowHeight, w, rowHeight);
+                }
+                indent(depth);
+                close();
+            } else {
+                open(depth, index, number, false, top, w, h);
+            }
+        }
+
+        private void indent(int depth) {
+            for (int i = 0; i < depth; i++) {
+                xml.append("  ");
+            }
+        }
+
+        String text(int number) {
+            switch (random.nextInt(6)) {
+                case 0:
+                    return "Item " + number;
+                case 1:
+                    return "Label " + (number % 97);
+                case 2:
+                    return "$" + (number % 500) + ".99";
+                case 3:
+                    return "Description of entry " + number + " &amp; details";
+                default:
+                    return "";
+            }
+        }
+
+        String pick(String[] values) {
+            return values[random.nextInt(values.length)];
+        }
+
+        abstract int width();
+
+        abstract int height();
+
+        abstract void header();
+
+        abstract void footer();
+
+        abstract void open(int depth, int index, int number, boolean container, int top, int w, int h);
+
+        abstract void close();
+    }
+
+    /**
+     * UiAutomator2 format: element names are class names, bounds as <code>[x1,y1][x2,y2]</code>.
+     */
+    private static final class AndroidGenerator extends Generator {
+        private final ArrayDeque<String> open = new ArrayDeque<>();
+
+        AndroidGenerator(int total) {
+            super(total, 7L);
+        }
+
+        @Override
+        int width() {
+            return 1080;
+        }
+
+        @Override
+        int height() {
+            return 2340;
+        }
+
+        @Override
+        void header() {
+            xml.append("<?xml version='1.0' encoding='UTF-8' standalone='yes' ?>\n")
+                    .append("<hierarchy index=\"0\" class=\"hierarchy\" rotation=\"0\" width=\"1080\" height=\"2340\">\n");
+        }
+
+        @Override
+        void footer() {
+            xml.append("</hierarchy>");
+        }
+
+        @Override
+        void open(int depth, int index, int number, boolean container, int top, int w, int h) {
+            String cls = container ? pick(ANDROID_CONTAINERS) : pick(ANDROID_LEAVES);
+            boolean target = number == targetNode;
+            if (target) {
+                cls = "android.widget.Button";
+            }
+            boolean clickable = target || cls.endsWith("Button") || cls.endsWith("CheckBox") || random.nextInt(10) == 0;
+            String id = target ? TARGET_ID
+                    : random.nextInt(3) == 0 ? "com.example.app:id/view_" + (number % 211) : "";
+            xml.append('<').append(cls)
+                    .append(" index=\"").append(index)
+                    .append("\" package=\"com.example.app\" class=\"").append(cls)
+                    .append("\" text=\"").append(container ? "" : target ? "Checkout" : text(number))
+                    .append("\" resource-id=\"").append(id)
+                    .append("\" checkable=\"").append(cls.endsWith("CheckBox"))
+                    .append("\" checked=\"false\" clickable=\"").append(clickable)
+                    .append("\" enabled=\"true\" focusable=\"").append(clickable)
+                    .append("\" focused=\"false\" long-clickable=\"false\" password=\"false\" scrollable=\"")
+                    .append(cls.endsWith("RecyclerView") || cls.endsWith("ScrollView"))
+                    .append("\" selected=\"false\" bounds=\"[0,").append(top).append("][").append(w).append(',')
+                    .append(top + h).append("]\" displayed=\"true\"");
+            if (container) {
+                xml.append(">\n");
+                open.push(cls);
+            } else {
+                xml.append(" />\n");
+            }
+        }
+
+        @Override
+        void close() {
+            xml.append("</").append(open.pop()).append(">\n");
+        }
+    }
+
+    /**
+     * XCUITest format: element names are XCUIElementType names, geometry as x/y/width/height.
+     */
+    private static final class IosGenerator extends Generator {
+        private final ArrayDeque<String> open = new ArrayDeque<>();
+
+        IosGenerator(int total) {
+            super(total, 11L);
+        }
+
+        @Override
+        int width() {
+            return 390;
+        }
+
+        @Override
+        int height() {
+            return 844;
+        }
+
+        @Override
+        void header() {
+            xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<AppiumAUT>\n")
+                    .append("<XCUIElementTypeApplication type=\"XCUIElementTypeApplication\" name=\"Example\" ")
+                    .append("label=\"Example\" enabled=\"true\" visible=\"true\" accessible=\"false\" ")
+                    .append("x=\"0\" y=\"0\" width=\"390\" height=\"844\" index=\"0\">\n");
+        }
+
+        @Override
+        void footer() {
+            xml.append("</XCUIElementTypeApplication>\n</AppiumAUT>");
+        }
+
+        @Override
+        void open(int depth, int index, int number, boolean container, int top, int w, int h) {
+            String type = container ? pick(IOS_CONTAINERS) : pick(IOS_LEAVES);
+            boolean target = number == targetNode;
+            if (target) {
+                type = "XCUIElementTypeButton";
+            }
+            String label = container ? "" : target ? "Checkout" : text(number);
+            String name = target ? TARGET_ID : random.nextInt(3) == 0 ? "cell_" + (number % 211) : label;
+            xml.append('<').append(type)
+                    .append(" type=\"").append(type).append('"');
+            if (!name.isEmpty()) {
+                xml.append(" name=\"").append(name).append('"');
+            }
+            if (!label.isEmpty()) {
+                xml.append(" label=\"").append(label).append('"');
+            }
+            if (type.endsWith("TextField")) {
+                xml.append(" value=\"Enter value\"");
+            }
+            xml.append(" enabled=\"true\" visible=\"").append(top < 844)
+                    .append("\" accessible=\"").append(!container)
+                    .append("\" x=\"0\" y=\"").append(top).append("\" width=\"").append(w)
+                    .append("\" height=\"").append(h).append("\" index=\"").append(index).append('"');
+            if (container) {
+                xml.append(">\n");
+                open.push(type);
+            } else {
+                xml.append("/>\n");
+            }
+        }
+
+        @Override
+        void close() {
+            xml.append("</").append(open.pop()).append(">\n");
+        }
+    }
+}
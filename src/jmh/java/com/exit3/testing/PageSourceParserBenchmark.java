@@ -0,0 +1,222 @@
+package com.exit3.testing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page source parsing with DOM, StAX and {@link ZeroCopyScanner} on the {@link PageSourceCorpus}.
+ * <p>
+ * Every parser does the same work on a UiAutomator2 or XCUITest document of 1k to 50k nodes:
+ * count the elements and find the element whose id attribute is the corpus target, as a
+ * locator check would. Run with the GC profiler for <code>gc.alloc.rate.norm</code>; divide the
+ * document size by the time per operation for throughput. {@link #main(String[])} prints the
+ * bytes allocated by one parse with each parser and the heap retained by the DOM tree, which
+ * bounds the peak heap of a DOM parse from below; the streaming parsers retain nothing.
+ * </p>
+ * <pre>{@code
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="PageSourceParserBenchmark -prof gc"
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.main=com.exit3.testing.PageSourceParserBenchmark
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageSourceParserBenchmark {
+    @Param({"android", "ios"})
+    private String platform;
+
+    @Param({"1000", "5000", "20000", "50000"})
+    private int nodes;
+
+    private byte[] xml;
+    private String idAttribute;
+    private DocumentBuilder documentBuilder;
+    private XMLInputFactory inputFactory;
+    private ZeroCopyScanner scanner;
+
+    @Setup(Level.Trial)
+    public void setup() throws ParserConfigurationException {
+        xml = PageSourceCorpus.load(platform, nodes);
+        idAttribute = idAttribute(platform);
+        documentBuilder = documentBuilder();
+        inputFactory = inputFactory();
+        scanner = new ZeroCopyScanner(idAttribute, PageSourceCorpus.TARGET_ID);
+        long expected = scanner.scan(xml);
+        if (dom() != expected || stax() != expected || (int) expected < 0) {
+            throw new IllegalStateException("Parsers disagree on " + platform + "-" + nodes);
+        }
+    }
+
+    @Benchmark
+    public long dom() {
+        try {
+            documentBuilder.reset();
+            return domScan(documentBuilder.parse(new ByteArrayInputStream(xml)), idAttribute);
+        } catch (SAXException | IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public long stax() {
+        try {
+            return staxScan(inputFactory.createXMLStreamReader(new ByteArrayInputStream(xml)), idAttribute);
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public long zeroCopy() {
+        return scanner.scan(xml);
+    }
+
+    /**
+     * Prints per document the bytes allocated by one parse with each parser and the heap
+     * retained by the parsed DOM tree.
+     *
+     * @param args unused
+     * @throws Exception if parsing fails
+     */
+    public static void main(String[] args) throws Exception {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        DocumentBuilder builder = documentBuilder();
+        XMLInputFactory factory = inputFactory();
+        System.out.println("platform   nodes   size MB | allocated MB: DOM    StAX  zero-copy | DOM retained MB");
+        for (String platform : PageSourceCorpus.PLATFORMS) {
+            for (int nodes : PageSourceCorpus.SIZES) {
+                byte[] xml = PageSourceCorpus.load(platform, nodes);
+                String idAttribute = idAttribute(platform);
+                ZeroCopyScanner scanner = new ZeroCopyScanner(idAttribute, PageSourceCorpus.TARGET_ID);
+                // Warm up once so class loading does not count as allocation
+                domScan(builder.parse(new ByteArrayInputStream(xml)), idAttribute);
+                staxScan(factory.createXMLStreamReader(new ByteArrayInputStream(xml)), idAttribute);
+                scanner.scan(xml);
+
+                long before = threads.getThreadAllocatedBytes(thread);
+                domScan(builder.parse(new ByteArrayInputStream(xml)), idAttribute);
+                long dom = threads.getThreadAllocatedBytes(thread) - before;
+                before = threads.getThreadAllocatedBytes(thread);
+                staxScan(factory.createXMLStreamReader(new ByteArrayInputStream(xml)), idAttribute);
+                long stax = threads.getThreadAllocatedBytes(thread) - before;
+                before = threads.getThreadAllocatedBytes(thread);
+                scanner.scan(xml);
+                long zeroCopy = threads.getThreadAllocatedBytes(thread) - before;
+
+                long baseline = usedHeap();
+                Document document = builder.parse(new ByteArrayInputStream(xml));
+                long retained = usedHeap() - baseline;
+                if (document.getDocumentElement() == null) {
+                    throw new IllegalStateException("Empty document");
+                }
+                System.out.println(String.format(Locale.ROOT, "%-8s %7d %9.1f | %17.1f %7.1f %10.3f | %15.1f",
+                        platform, nodes, mb(xml.length), mb(dom), mb(stax), mb(zeroCopy), mb(retained)));
+            }
+        }
+    }
+
+    private static double mb(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    static String idAttribute(String platform) {
+        return "ios".equals(platform) ? "name" : "resource-id";
+    }
+
+    static DocumentBuilder documentBuilder() throws ParserConfigurationException {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        factory.setNamespaceAware(false);
+        return factory.newDocumentBuilder();
+    }
+
+    static XMLInputFactory inputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+
+    static long domScan(Document document, String idAttribute) {
+        long[] state = {0, -1};
+        walk(document.getDocumentElement(), idAttribute, state);
+        return (state[0] << 32) | (state[1] & 0xFFFFFFFFL);
+    }
+
+    private static void walk(Element element, String idAttribute, long[] state) {
+        long index = state[0]++;
+        if (state[1] < 0 && PageSourceCorpus.TARGET_ID.equals(element.getAttribute(idAttribute))) {
+            state[1] = index;
+        }
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                walk((Element) child, idAttribute, state);
+            }
+        }
+    }
+
+    static long staxScan(XMLStreamReader reader, String idAttribute) throws XMLStreamException {
+        long elements = 0;
+        long found = -1;
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    long index = elements++;
+                    if (found < 0 && PageSourceCorpus.TARGET_ID.equals(reader.getAttributeValue(null, idAttribute))) {
+                        found = index;
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return (elements << 32) | (found & 0xFFFFFFFFL);
+    }
+}
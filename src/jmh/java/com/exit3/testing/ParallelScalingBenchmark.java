@@ -0,0 +1,258 @@
+package com.exit3.testing;
+
+import ch.qos.logback.classic.Logger;
+import io.appium.java_client.MobileCommand;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.remote.AppiumCommandExecutor;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.util.Statistics;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Response;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of {@link UiObject} flows with concurrent sessions against the {@link AppiumStubServer}.
+ * <p>
+ * Every JMH thread owns one driver session on a shared stub, with its own device name in the
+ * MDC and its own element names, and runs a representative flow per operation: find the
+ * username field, type into it, click the login button. {@link #main(String[])} runs the flow
+ * at 1, 2, 4, 8, 16 and 32 threads (or the levels given as arguments) and prints actions per
+ * second, latency percentiles of a flow and scaling efficiency relative to one thread.
+ * </p>
+ * <p>
+ * It also counts cross-thread interference per flow:
+ * </p>
+ * <ul>
+ *   <li><b>foreignCommands</b> - commands sent on another thread's session, detected by a
+ *       command executor that knows its owning thread (e.g. shared static driver fields)</li>
+ *   <li><b>foreignLogEntries</b> - TestLogger entries of the flow naming another thread's elements</li>
+ *   <li><b>mdcChanges</b> - flows after which the thread's device MDC key was no longer its own</li>
+ * </ul>
+ * <p>
+ * The stub latency ({@code latencyMs} +/- {@code jitterMs}) stands in for the device, so
+ * the threads spend most of their time waiting on I/O, as with real devices.
+ * </p>
+ * <pre>{@code
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.main=com.exit3.testing.ParallelScalingBenchmark -Djmh.args="1,2,4,8,16,32"
+ *
+ * // One level with the plain JMH launcher
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ParallelScalingBenchmark -t 8"
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class ParallelScalingBenchmark {
+    static final int ACTIONS_PER_FLOW = 3;
+    private static final int[] DEFAULT_LEVELS = {1, 2, 4, 8, 16, 32};
+
+    @Param({"5"})
+    private long latencyMs;
+
+    @Param({"2"})
+    private long jitterMs;
+
+    private AppiumStubServer stub;
+
+    @Setup(Level.Trial)
+    public void startStub() {
+        ((Logger) LoggerFactory.getLogger("com.exit3.testing.steps")).setLevel(ch.qos.logback.classic.Level.INFO);
+        ((Logger) LoggerFactory.getLogger(AppiumStubServer.class)).setLevel(ch.qos.logback.classic.Level.WARN);
+        stub = new AppiumStubServer(0).latency(latencyMs, jitterMs).start();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopStub() {
+        stub.stop();
+    }
+
+    /**
+     * One session per benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Session {
+        private AndroidDriver driver;
+        private String device;
+        private String suffix;
+        private UiObject username;
+        private UiObject login;
+
+        @Setup(Level.Trial)
+        public void openSession(ParallelScalingBenchmark benchmark, ThreadParams thread) throws IOException {
+            device = "stub-device-" + thread.getThreadIndex();
+            suffix = "#" + thread.getThreadIndex();
+            MutableCapabilities capabilities = new MutableCapabilities();
+            capabilities.setCapability("platformName", "Android");
+            capabilities.setCapability("appium:automationName", "UiAutomator2");
+            capabilities.setCapability("appium:deviceName", device);
+            driver = new AndroidDriver(new OwnedCommandExecutor(benchmark.stub.getUrl()), capabilities);
+            AndroidSettings.driverAndroid.set(driver);
+            UiObject.setPlatform("android");
+            LogContext.setDevice(device);
+            username = new UiElement()
+                    .name("Username" + suffix, "accessibilityId", "username", "accessibilityId", "username")
+                    .makeUiObject();
+            login = new UiElement()
+                    .name("Login" + suffix, "accessibilityId", "login_button", "accessibilityId", "login_button")
+                    .makeUiObject();
+        }
+
+        @TearDown(Level.Trial)
+        public void closeSession() {
+            driver.quit();
+            AndroidSettings.driverAndroid.remove();
+            TestLogger.cleanup();
+            LogContext.clear();
+        }
+    }
+
+    /**
+     * Interference found by the flows of one thread, summed over threads by JMH.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Interference {
+        public long foreignCommands;
+        public long foreignLogEntries;
+        public long mdcChanges;
+    }
+
+    @Benchmark
+    public void flow(Session session, Interference interference) throws IOException {
+        TestLogger.clearLogs();
+        session.username.findOneElement();
+        session.username.sendTextWithWait("user" + session.suffix);
+        session.login.clickWithWait();
+
+        interference.foreignCommands += OwnedCommandExecutor.takeForeignCommands();
+        for (TestLogger.LogEntry entry : TestLogger.getLogMessages()) {
+            String message = entry.getMessage();
+            if (message.contains("#") && !message.contains(session.suffix + "'")) {
+                interference.foreignLogEntries++;
+            }
+        }
+        if (!session.device.equals(MDC.get(LogContext.DEVICE))) {
+            interference.mdcChanges++;
+            LogContext.setDevice(session.device);
+        }
+    }
+
+    /**
+     * Runs the flow at each concurrency level and prints the scaling table.
+     *
+     * @param args comma- or space-separated thread counts, default 1,2,4,8,16,32
+     * @throws RunnerException if JMH fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        int[] levels = parseLevels(args);
+        List<String> rows = new ArrayList<>();
+        double singleThreadRate = 0;
+        for (int threads : levels) {
+            Collection<RunResult> results = new Runner(new OptionsBuilder()
+                    .include(ParallelScalingBenchmark.class.getName() + ".flow")
+                    .threads(threads)
+                    .build()).run();
+            for (RunResult result : results) {
+                Statistics flow = result.getPrimaryResult().getStatistics();
+                double actionsPerSecond = threads * ACTIONS_PER_FLOW * 1000.0 / flow.getMean();
+                if (singleThreadRate == 0) {
+                    singleThreadRate = actionsPerSecond / threads;
+                }
+                rows.add(String.format(Locale.ROOT, "%7d %12.1f %9.2f %9.2f %9.2f %10.0f%% %9d %9d %9d",
+                        threads, actionsPerSecond, flow.getPercentile(50), flow.getPercentile(90),
+                        flow.getPercentile(99), 100 * actionsPerSecond / (singleThreadRate * threads),
+                        secondary(result, "foreignCommands"), secondary(result, "foreignLogEntries"),
+                        secondary(result, "mdcChanges")));
+            }
+        }
+        System.out.println();
+        System.out.println("Flow = findOneElement + sendTextWithWait + clickWithWait, latency in ms per flow");
+        System.out.println("threads    actions/s  p50 flow  p90 flow  p99 flow  efficiency  foreignCmd  foreignLog  mdcChange");
+        rows.forEach(System.out::println);
+    }
+
+    private static long secondary(RunResult result, String name) {
+        Result<?> counter = result.getSecondaryResults().get(name);
+        return counter == null ? 0 : Math.round(counter.getStatistics().getSum());
+    }
+
+    private static int[] parseLevels(String[] args) {
+        String joined = String.join(",", args).trim();
+        if (joined.isEmpty()) {
+            return DEFAULT_LEVELS;
+        }
+        String[] parts = joined.split("[,\\s]+");
+        int[] levels = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            levels[i] = Integer.parseInt(parts[i]);
+        }
+        return levels;
+    }
+
+    /**
+     * Command executor that counts commands sent from a thread other than the one that opened the session.
+     * <p>
+     * The count is kept for the sending thread, which is the one whose flow used the wrong driver.
+     * </p>
+     */
+    static final class OwnedCommandExecutor extends AppiumCommandExecutor {
+        private static final ThreadLocal<long[]> foreignCommands = ThreadLocal.withInitial(() -> new long[1]);
+
+        private final Thread owner = Thread.currentThread();
+
+        OwnedCommandExecutor(URL url) {
+            super(MobileCommand.commandRepository, url);
+        }
+
+        static long takeForeignCommands() {
+            long[] counter = foreignCommands.get();
+            long count = counter[0];
+            counter[0] = 0;
+            return count;
+        }
+
+        @Override
+        public Response execute(Command command) {
+            if (Thread.currentThread() != owner) {
+                foreignCommands.get()[0]++;
+            }
+            return super.execute(command);
+        }
+    }
+}
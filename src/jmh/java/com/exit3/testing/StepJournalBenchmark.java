@@ -0,0 +1,118 @@
+package com.exit3.testing;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append cost of the binary {@link StepJournal} compared with the previous TestLogger path:
+ * an entry object appended to an ArrayList and serialized with pretty-printing Gson at the
+ * end of the test. The Gson cost is amortized over the entries of a 4096-entry "test".
+ * <pre>{@code
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="StepJournalBenchmark -prof gc"
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepJournalBenchmark {
+    private static final int ENTRIES_PER_TEST = 4096;
+
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private String elementName = "Login Button";
+    private String selector = "accessibilityId";
+    private String locator = "login_button";
+    private List<LegacyEntry> legacyLog;
+    private long step;
+    private Path directory;
+    private StepJournal journal;
+
+    @Setup(Level.Iteration)
+    public void setup() throws IOException {
+        legacyLog = new ArrayList<>();
+        step = 0;
+        directory = Files.createTempDirectory("journal-bench");
+        journal = new StepJournal(directory.resolve("bench.journal"), 64L * 1024 * 1024);
+    }
+
+    @TearDown(Level.Iteration)
+    public void teardown() throws IOException {
+        journal.close();
+        Files.deleteIfExists(StepJournal.dictionaryFile(journal.getFile()));
+        Files.deleteIfExists(journal.getFile());
+        Files.deleteIfExists(directory);
+    }
+
+    /** Previous path: concatenate, allocate an entry, add to the list, Gson at test end. */
+    @Benchmark
+    public void arrayListGson() {
+        legacyLog.add(new LegacyEntry(Instant.now().toString(),
+                "Clicked element '" + elementName + "' using " + selector + ": " + locator, ++step));
+        if (legacyLog.size() == ENTRIES_PER_TEST) {
+            gson.toJson(legacyLog, NullWriter.INSTANCE);
+            legacyLog.clear();
+        }
+    }
+
+    /** Journal path: one fixed-size record with interned string ids. */
+    @Benchmark
+    public void journalAppend() {
+        journal.appendMessage(System.currentTimeMillis(), ++step, "Clicked element '{}' using {}: {}",
+                elementName, selector, locator, null, 3);
+    }
+
+    private static final class LegacyEntry {
+        private final String timestamp;
+        private final String message;
+        private final long stepNumber;
+
+        private LegacyEntry(String timestamp, String message, long stepNumber) {
+            this.timestamp = timestamp;
+            this.message = message;
+            this.stepNumber = stepNumber;
+        }
+    }
+
+    private static final class NullWriter extends Writer {
+        private static final NullWriter INSTANCE = new NullWriter();
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.exit3.testing;
+
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation profile of one {@link UiObject} action's log call.
+ * <p>
+ * Compares the previous logging path (string concatenation, <code>Instant.now()</code>
+ * and a new entry object appended to an ArrayList) with the parameterized
+ * {@link TestLogger} API. Run with the GC profiler and compare
+ * <code>gc.alloc.rate.norm</code> (bytes per operation). The DEBUG step mirror to logback is
+ * switched off, so only the in-memory path is measured (see {@link LoggingThroughputBenchmark}).
+ * </p>
+ * <pre>{@code
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="TestLoggerBenchmark -prof gc"
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestLoggerBenchmark {
+    private static final int LEGACY_FLUSH = 4096;
+
+    private String elementName = "Login Button";
+    private String selector = "accessibilityId";
+    private String locator = "login_button";
+    private List<LegacyEntry> legacyLog;
+    private long legacyStep;
+
+    @Setup(Level.Trial)
+    public void disableStepLogging() {
+        ((Logger) LoggerFactory.getLogger("com.exit3.testing.steps")).setLevel(ch.qos.logback.classic.Level.INFO);
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        legacyLog = new ArrayList<>();
+        legacyStep = 0;
+        TestLogger.clearLogs();
+    }
+
+    @TearDown(Level.Iteration)
+    public void teardown() {
+        TestLogger.cleanup();
+    }
+
+    /** Previous path for "Element X is clicked". */
+    @Benchmark
+    public void legacyOneArg() {
+        legacyAdd("Element " + elementName + " is clicked");
+    }
+
+    /** Parameterized path for "Element X is clicked". */
+    @Benchmark
+    public void parameterizedOneArg() {
+        TestLogger.addLogMessage("Element {} is clicked", elementName);
+    }
+
+    /** Previous path for the three-argument click message. */
+    @Benchmark
+    public void legacyThreeArgs() {
+        legacyAdd("Clicked element '" + elementName + "' using " + selector + ": " + locator);
+    }
+
+    /** Parameterized path for the three-argument click message. */
+    @Benchmark
+    public void parameterizedThreeArgs() {
+        TestLogger.addLogMessage("Clicked element '{}' using {}: {}", elementName, selector, locator);
+    }
+
+    /** Plain message without arguments. */
+    @Benchmark
+    public void plainMessage() {
+        TestLogger.addLogMessage("Starting login test");
+    }
+
+    /**
+     * The previous TestLogger kept every entry; the list is reset periodically so the
+     * benchmark measures the per-call cost rather than unbounded heap growth.
+     */
+    private void legacyAdd(String message) {
+        if (legacyLog.size() == LEGACY_FLUSH) {
+            legacyLog.clear();
+        }
+        legacyLog.add(new LegacyEntry(Instant.now(), message, ++legacyStep));
+    }
+
+    private static final class LegacyEntry {
+        private final Instant timestamp;
+        private final String message;
+        private final long stepNumber;
+
+        private LegacyEntry(Instant timestamp, String message, long stepNumber) {
+            this.timestamp = timestamp;
+            this.message = message;
+            this.stepNumber = stepNumber;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.exit3.testing;
+
+import ch.qos.logback.classic.Logger;
+import io.appium.java_client.AppiumBy;
+import io.appium.java_client.android.AndroidDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side overhead of {@link UiObject} actions against an in-process fake driver.
+ * <p>
+ * The driver runs on {@link FakeCommandExecutor}, so no HTTP or device time is included and
+ * each benchmark isolates one framework-side cost of an action:
+ * </p>
+ * <ul>
+ *   <li><b>locator*</b> - reflective By/AppiumBy construction from the selector name</li>
+ *   <li><b>rawFindElement</b> - Selenium/Appium command dispatch and element decoding alone, the
+ *       baseline for the framework methods</li>
+ *   <li><b>findOneElement / clickWithWait</b> - full UiObject action: step span, locator,
+ *       dispatch, explicit wait and log message</li>
+ *   <li><b>waitSetup</b> - constructing the explicit wait of every clickWithWait</li>
+ *   <li><b>addLogMessage</b> - the per-action TestLogger call</li>
+ *   <li><b>exportJson</b> - Gson export of a test log with {@code logEntries} entries</li>
+ *   <li><b>screenshot*</b> - Base64 decode and copy of a screenshot response of
+ *       {@code screenshotBytes}, and re-encoding it for the report</li>
+ * </ul>
+ * <p>
+ * Run with the GC profiler and compare <code>gc.alloc.rate.norm</code> (bytes per operation)
+ * next to the time per operation. The DEBUG step mirror to logback is switched off, so log
+ * calls measure the in-memory path.
+ * </p>
+ * <pre>{@code
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="UiObjectBenchmark -prof gc"
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UiObjectBenchmark {
+    @Param({"1048576"})
+    private int screenshotBytes;
+
+    @Param({"200"})
+    private int logEntries;
+
+    private AndroidDriver driver;
+    private UiObject byAccessibilityId;
+    private UiObject byXpath;
+    private By accessibilityId;
+    private byte[] screenshot;
+
+    @Setup(Level.Trial)
+    public void setupDriver() throws IOException {
+        ((Logger) LoggerFactory.getLogger("com.exit3.testing.steps")).setLevel(ch.qos.logback.classic.Level.INFO);
+        driver = FakeCommandExecutor.androidDriver(screenshotBytes, "<hierarchy/>");
+        AndroidSettings.driverAndroid.set(driver);
+        UiObject.setPlatform("android");
+        byAccessibilityId = new UiElement()
+                .name("Login Button", "accessibilityId", "login_button", "accessibilityId", "login_button")
+                .makeUiObject();
+        byXpath = new UiElement()
+                .name("Username Field", "xpath", "//android.widget.EditText[@resource-id='username']",
+                        "xpath", "//XCUIElementTypeTextField[@name='username']")
+                .makeUiObject();
+        accessibilityId = AppiumBy.accessibilityId("login_button");
+        screenshot = driver.getScreenshotAs(OutputType.BYTES);
+    }
+
+    @Setup(Level.Iteration)
+    public void fillLog() {
+        TestLogger.clearLogs();
+        for (int i = 0; i < logEntries; i++) {
+            TestLogger.addLogMessage("Clicked element '{}' using {}: {}", "Login Button", "accessibilityId", i);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearLog() {
+        TestLogger.cleanup();
+    }
+
+    @TearDown(Level.Trial)
+    public void teardownDriver() {
+        AndroidSettings.driverAndroid.remove();
+    }
+
+    /** Reflective By.xpath construction used for xpath selectors. */
+    @Benchmark
+    public By locatorBy() {
+        return byXpath.findByLocator("xpath", "//android.widget.EditText[@resource-id='username']", "Username Field");
+    }
+
+    /** Reflective AppiumBy construction used for all other selectors. */
+    @Benchmark
+    public AppiumBy locatorAppiumBy() {
+        return byAccessibilityId.findAppiumByLocator("accessibilityId", "login_button", "Login Button");
+    }
+
+    /** findElement through the fake driver without any framework code. */
+    @Benchmark
+    public WebElement rawFindElement() {
+        return driver.findElement(accessibilityId);
+    }
+
+    @Benchmark
+    public UiObject findOneElement() throws IOException {
+        return byAccessibilityId.findOneElement();
+    }
+
+    @Benchmark
+    public UiObject findOneElementXpath() throws IOException {
+        return byXpath.findOneElement();
+    }
+
+    @Benchmark
+    public UiObject clickWithWait() throws IOException {
+        return byAccessibilityId.clickWithWait();
+    }
+
+    @Benchmark
+    public WebDriverWait waitSetup() {
+        return new TimedWait(driver, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+    }
+
+    @Benchmark
+    public void addLogMessage() {
+        TestLogger.addLogMessage("Clicked element '{}' using {}: {}", "Login Button", "accessibilityId", "login_button");
+    }
+
+    @Benchmark
+    public String exportJson() {
+        return TestLogger.getLogMessagesAsJson();
+    }
+
+    /** Screenshot response decoded from Base64 into a byte array. */
+    @Benchmark
+    public byte[] screenshotDecode() {
+        return UiObject.captureScreen(driver);
+    }
+
+    /** Base64 encoding of a screenshot as returned by the screenshot helpers. */
+    @Benchmark
+    public String screenshotEncode() {
+        return Base64.getEncoder().encodeToString(screenshot);
+    }
+}
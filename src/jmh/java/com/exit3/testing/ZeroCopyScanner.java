@@ -0,0 +1,117 @@
+package com.exit3.testing;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Page source scanner that works on the raw UTF-8 bytes without building strings or nodes.
+ * <p>
+ * It walks start tags and their attributes in place and compares attribute names and values
+ * byte by byte, so a full scan allocates nothing. It understands exactly what Appium page
+ * sources contain (elements with quoted attributes, an XML declaration, no text content or
+ * CDATA) and does not decode entities, so lookups must use the encoded form of a value.
+ * </p>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+final class ZeroCopyScanner {
+    private final byte[] attribute;
+    private final byte[] value;
+
+    /**
+     * Creates a scanner looking for one attribute value.
+     *
+     * @param attribute attribute name, e.g. <code>resource-id</code>
+     * @param value attribute value to find
+     */
+    ZeroCopyScanner(String attribute, String value) {
+        this.attribute = attribute.getBytes(StandardCharsets.UTF_8);
+        this.value = value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Counts the elements of a document and finds the first element with the attribute value.
+     *
+     * @param xml UTF-8 page source
+     * @return element count in the upper 32 bits, index of the matching element (or -1) in the lower
+     */
+    long scan(byte[] xml) {
+        int length = xml.length;
+        int elements = 0;
+        int found = -1;
+        int i = 0;
+        while (i < length) {
+            if (xml[i] != '<') {
+                i++;
+                continue;
+            }
+            byte next = i + 1 < length ? xml[i + 1] : 0;
+            if (next == '/' || next == '?' || next == '!') {
+                i = skipPast(xml, i + 1, (byte) '>');
+                continue;
+            }
+            int element = elements++;
+            i++;
+            while (i < length && !isSpace(xml[i]) && xml[i] != '>' && xml[i] != '/') {
+                i++;
+            }
+            // Attributes up to the end of the start tag
+            while (i < length) {
+                while (i < length && isSpace(xml[i])) {
+                    i++;
+                }
+                if (i >= length || xml[i] == '>' || xml[i] == '/') {
+                    break;
+                }
+                int nameStart = i;
+                while (i < length && xml[i] != '=' && !isSpace(xml[i])) {
+                    i++;
+                }
+                int nameEnd = i;
+                while (i < length && xml[i] != '"' && xml[i] != '\'') {
+                    i++;
+                }
+                if (i >= length) {
+                    break;
+                }
+                byte quote = xml[i];
+                int valueStart = i + 1;
+                int valueEnd = valueStart;
+                while (valueEnd < length && xml[valueEnd] != quote) {
+                    valueEnd++;
+                }
+                if (found < 0 && equals(xml, nameStart, nameEnd, attribute) && equals(xml, valueStart, valueEnd, value)) {
+                    found = element;
+                }
+                i = valueEnd + 1;
+            }
+            i = skipPast(xml, i, (byte) '>');
+        }
+        return ((long) elements << 32) | (found & 0xFFFFFFFFL);
+    }
+
+    private static int skipPast(byte[] xml, int from, byte target) {
+        int i = from;
+        while (i < xml.length && xml[i] != target) {
+            i++;
+        }
+        return i + 1;
+    }
+
+    private static boolean equals(byte[] xml, int start, int end, byte[] expected) {
+        if (end - start != expected.length) {
+            return false;
+        }
+        for (int j = 0; j < expected.length; j++) {
+            if (xml[start + j] != expected[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+}
@@ -2,6 +2,7 @@ package com.exit3.testing;
 
 import io.appium.java_client.android.AndroidDriver;
 import org.openqa.selenium.remote.DesiredCapabilities;
+import org.slf4j.MDC;
 
 import java.io.File;
 import java.io.IOException;
@@ -12,10 +13,8 @@ public class AndroidSettings extends AppiumManager {
     public static ThreadLocal<AndroidDriver> driverAndroid = new ThreadLocal<>();
     public static DesiredCapabilities capabilities;
     public static AndroidDriver initialize(String phoneName, String phoneVersion, String appPath, String appPackage, String appActivity, String ipAddress, String port) throws IOException, InterruptedException {
-        startAppiumServer(ipAddress,port);
-
-        final String URL_STRING = "http://localhost:" + port;
-        url = new URL(URL_STRING);
+        LogContext.setDevice(phoneName);
+        url = startAppiumServer(ipAddress,port);
 
         capabilities = new DesiredCapabilities();
         capabilities.setCapability("useNewWDA", false);
@@ -44,7 +43,26 @@ public class AndroidSettings extends AppiumManager {
             capabilities.setCapability("appium:appActivity", appActivity);
         }
 
-        driverAndroid.set(new AndroidDriver(url, capabilities));
+        int mjpegPort = 0;
+        if (TestConfig.MJPEG_ENABLED) {
+            mjpegPort = MjpegFrameStream.nextPort();
+            capabilities.setCapability("appium:mjpegServerPort", mjpegPort);
+        }
+
+        long sessionStart = System.nanoTime();
+        DesiredCapabilities requested = capabilities;
+        URL serverUrl = url;
+        driverAndroid.set(SessionPool.acquire(SessionPool.key("android", phoneName, serverUrl), appPackage, requested,
+                () -> new AndroidDriver(commandExecutor(serverUrl), requested)));
+        ChromeTracer.record("session", "newSession", sessionStart, MDC.get(LogContext.DEVICE));
+        LogContext.setSession(String.valueOf(driverAndroid.get().getSessionId()));
+        if (TestConfig.MJPEG_ENABLED) {
+            // A reused session streams on the port it was created with
+            mjpegPort = ((Number) SessionPool.requestedCapabilities(driverAndroid.get(), requested)
+                    .getCapability("appium:mjpegServerPort")).intValue();
+            MjpegFrameStream.start(ipAddress, mjpegPort);
+        }
+        ScreenRecorder.start(driverAndroid.get());
         return driverAndroid.get();
     }
 }
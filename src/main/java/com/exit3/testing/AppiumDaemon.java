@@ -0,0 +1,366 @@
+package com.exit3.testing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appium server that outlives the JVM, tracked by a PID file and guarded by a lock file.
+ * <p>
+ * With <code>-Dappium.server.daemon=true</code> the {@link AppiumServerRegistry} starts
+ * servers as detached processes that keep running after the test run, so the next
+ * <code>mvn test</code> attaches to them instead of paying the node startup again. For every
+ * port, {@link TestConfig#APPIUM_DAEMON_DIR} holds:
+ * </p>
+ * <ul>
+ *   <li><code>appium-PORT.pid</code> - pid, host, port and process start time of the daemon</li>
+ *   <li><code>appium-PORT.lock</code> - locked by the run currently owning the daemon; the
+ *       operating system releases it when that JVM exits, also on a crash</li>
+ *   <li><code>appium-PORT.log</code> - server output</li>
+ * </ul>
+ * <p>
+ * A run that finds a healthy server with a PID file and gets the lock takes the daemon over:
+ * it leaves it running at exit in daemon mode and stops it otherwise. A daemon that no longer
+ * answers is stopped by the next run that gets the lock. A recorded process is only killed
+ * when its command line or start time still matches the PID file, never a reused pid, and
+ * never while another run holds the lock.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * // Leave the server running between local runs
+ * mvn test -Dappium.server.daemon=true
+ *
+ * // List or stop leftover daemons
+ * mvn -q exec:java -Dexec.mainClass=com.exit3.testing.AppiumDaemon -Dexec.args=status
+ * mvn -q exec:java -Dexec.mainClass=com.exit3.testing.AppiumDaemon -Dexec.args=stop
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ * @see TestConfig#APPIUM_SERVER_DAEMON
+ */
+public class AppiumDaemon {
+    private static final Logger logger = LoggerFactory.getLogger(AppiumDaemon.class);
+
+    private static final long STARTUP_TIMEOUT_MS = 60_000;
+    private static final long STARTUP_POLL_MS = 250;
+    private static final long STOP_TIMEOUT_MS = 10_000;
+
+    private final String host;
+    private final int port;
+    private final Path pidFile;
+    private final Path lockFile;
+    private final Path logFile;
+    private FileChannel lockChannel;
+    private FileLock lock;
+
+    /**
+     * Creates the daemon files handle for a host and port.
+     *
+     * @param host IP address the server binds to
+     * @param port server port
+     */
+    public AppiumDaemon(String host, int port) {
+        this.host = host;
+        this.port = port;
+        Path dir = Paths.get(TestConfig.APPIUM_DAEMON_DIR);
+        this.pidFile = dir.resolve("appium-" + port + ".pid");
+        this.lockFile = dir.resolve("appium-" + port + ".lock");
+        this.logFile = dir.resolve("appium-" + port + ".log");
+    }
+
+    /**
+     * Lists or stops the daemons recorded in {@link TestConfig#APPIUM_DAEMON_DIR}.
+     *
+     * @param args <code>status</code> (default) or <code>stop</code>
+     * @throws IOException if the directory cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        boolean stop = args.length > 0 && "stop".equals(args[0]);
+        for (AppiumDaemon daemon : recorded()) {
+            Properties recorded = daemon.readPidFile();
+            Optional<ProcessHandle> process = daemon.recordedProcess();
+            boolean healthy = AppiumServerRegistry.isHealthy(daemon.host, daemon.port);
+            boolean locked = !daemon.lock();
+            System.out.printf("appium-%d: pid %s, %s, %s%n", daemon.port,
+                    recorded == null ? "?" : recorded.getProperty("pid"),
+                    process.isPresent() ? (healthy ? "healthy" : "not answering") : "not running",
+                    locked ? "in use by another run" : "idle");
+            if (stop && !locked) {
+                process.ifPresent(daemon::stop);
+                daemon.deletePidFile();
+                System.out.printf("appium-%d: stopped%n", daemon.port);
+            }
+            daemon.unlock();
+        }
+    }
+
+    /**
+     * Returns the daemons that have a PID file.
+     */
+    static List<AppiumDaemon> recorded() throws IOException {
+        List<AppiumDaemon> daemons = new ArrayList<>();
+        Path dir = Paths.get(TestConfig.APPIUM_DAEMON_DIR);
+        if (!Files.isDirectory(dir)) {
+            return daemons;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "appium-*.pid")) {
+            for (Path file : files) {
+                Properties properties = read(file);
+                if (properties != null) {
+                    daemons.add(new AppiumDaemon(properties.getProperty("host", "127.0.0.1"),
+                            Integer.parseInt(properties.getProperty("port"))));
+                }
+            }
+        }
+        return daemons;
+    }
+
+    /**
+     * Tries to take the lock of this port without waiting.
+     *
+     * @return true if this JVM holds the lock
+     */
+    synchronized boolean lock() {
+        if (lock != null) {
+            return true;
+        }
+        try {
+            Files.createDirectories(lockFile.getParent());
+            lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            lock = lockChannel.tryLock();
+        } catch (IOException | OverlappingFileLockException e) {
+            logger.debug("Failed to lock {}: {}", lockFile, e.getMessage());
+            lock = null;
+        }
+        if (lock == null) {
+            closeChannel();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Releases the lock, so another run can take the daemon over.
+     */
+    synchronized void unlock() {
+        try {
+            if (lock != null) {
+                lock.release();
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to release {}: {}", lockFile, e.getMessage());
+        }
+        lock = null;
+        closeChannel();
+    }
+
+    /**
+     * Returns the live process recorded in the PID file, if it is still the recorded server.
+     *
+     * @return the process, or empty if none is recorded, it exited or the pid was reused
+     */
+    Optional<ProcessHandle> recordedProcess() {
+        Properties recorded = readPidFile();
+        if (recorded == null) {
+            return Optional.empty();
+        }
+        long pid = Long.parseLong(recorded.getProperty("pid", "-1"));
+        String started = recorded.getProperty("started", "");
+        return ProcessHandle.of(pid)
+                .filter(ProcessHandle::isAlive)
+                .filter(p -> p.info().commandLine().map(c -> AppiumServerRegistry.hasPortArgument(c, port))
+                        .orElseGet(() -> p.info().startInstant().map(i -> i.toString().equals(started)).orElse(false)));
+    }
+
+    /**
+     * Starts a detached server, records it in the PID file and waits until it answers
+     * <code>/status</code>. Requires the lock.
+     *
+     * @param appiumPath Appium executable or <code>main.js</code>
+     * @return the server process
+     * @throws RuntimeException if the server does not become healthy in time
+     */
+    ProcessHandle start(String appiumPath) {
+        List<String> command = new ArrayList<>();
+        if (appiumPath.endsWith(".js")) {
+            command.add("node");
+        }
+        command.add(appiumPath);
+        command.add("--address");
+        command.add(host);
+        command.add("--port");
+        command.add(String.valueOf(port));
+        command.add("--log-level");
+        command.add("error");
+
+        Process process;
+        try {
+            Files.createDirectories(logFile.getParent());
+            process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.appendTo(logFile.toFile()))
+                    .redirectInput(ProcessBuilder.Redirect.from(nullDevice()))
+                    .start();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start Appium daemon on " + host + ":" + port + ": " + e.getMessage(), e);
+        }
+        ProcessHandle handle = process.toHandle();
+        writePidFile(handle, 0);
+
+        long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            if (AppiumServerRegistry.isHealthy(host, port)) {
+                logger.info("Appium daemon pid {} running on {}:{}, output in {}", handle.pid(), host, port, logFile);
+                return handle;
+            }
+            if (!process.isAlive()) {
+                deletePidFile();
+                throw new RuntimeException("Appium daemon on " + host + ":" + port + " exited with code "
+                        + process.exitValue() + ", see " + logFile.toAbsolutePath());
+            }
+            try {
+                Thread.sleep(STARTUP_POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        stop(handle);
+        deletePidFile();
+        throw new RuntimeException("Appium daemon on " + host + ":" + port + " did not answer within "
+                + STARTUP_TIMEOUT_MS / 1000 + "s, see " + logFile.toAbsolutePath());
+    }
+
+    /**
+     * Tells whether a PID file exists for this port.
+     *
+     * @return true if a daemon is recorded
+     */
+    boolean isRecorded() {
+        return Files.isRegularFile(pidFile);
+    }
+
+    /**
+     * Returns how long the recorded daemon took to start.
+     *
+     * @return startup time in seconds, 0 if unknown
+     */
+    double recordedStartupSeconds() {
+        Properties recorded = readPidFile();
+        try {
+            return recorded == null ? 0 : Double.parseDouble(recorded.getProperty("startup.seconds", "0"));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Records the startup time of a started daemon in its PID file, so runs attaching to it
+     * can report the time they saved.
+     *
+     * @param process the daemon process
+     * @param seconds startup time in seconds
+     */
+    void recordStartup(ProcessHandle process, double seconds) {
+        writePidFile(process, seconds);
+    }
+
+    /**
+     * Stops a daemon process, forcibly if it does not exit in time. Requires the lock.
+     *
+     * @param process the process
+     */
+    void stop(ProcessHandle process) {
+        process.destroy();
+        try {
+            process.onExit().get(STOP_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            process.destroyForcibly();
+        }
+        logger.info("Appium daemon pid {} on {}:{} stopped", process.pid(), host, port);
+    }
+
+    /**
+     * Deletes the PID file.
+     */
+    void deletePidFile() {
+        try {
+            Files.deleteIfExists(pidFile);
+        } catch (IOException e) {
+            logger.warn("Failed to delete {}: {}", pidFile, e.getMessage());
+        }
+    }
+
+    private void writePidFile(ProcessHandle process, double startupSeconds) {
+        Properties properties = new Properties();
+        properties.setProperty("pid", String.valueOf(process.pid()));
+        properties.setProperty("host", host);
+        properties.setProperty("port", String.valueOf(port));
+        properties.setProperty("started", process.info().startInstant().map(Instant::toString).orElse(""));
+        properties.setProperty("startup.seconds", String.valueOf(startupSeconds));
+        try (OutputStream out = Files.newOutputStream(pidFile)) {
+            properties.store(out, "ClickNCheck Appium daemon");
+        } catch (IOException e) {
+            logger.warn("Failed to write {}: {}", pidFile, e.getMessage());
+        }
+    }
+
+    private Properties readPidFile() {
+        return read(pidFile);
+    }
+
+    private static Properties read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+            boolean valid = properties.getProperty("pid", "").matches("\\d+")
+                    && properties.getProperty("port", "").matches("\\d+");
+            return valid ? properties : null;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("Ignoring unreadable Appium PID file {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void closeChannel() {
+        if (lockChannel != null) {
+            try {
+                lockChannel.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close {}: {}", lockFile, e.getMessage());
+            }
+            lockChannel = null;
+        }
+    }
+
+    private static File nullDevice() {
+        return new File(System.getProperty("os.name").toLowerCase().contains("win") ? "NUL" : "/dev/null");
+    }
+}
@@ -1,15 +1,19 @@
 package com.exit3.testing;
 
-import io.appium.java_client.service.local.AppiumDriverLocalService;
-import io.appium.java_client.service.local.AppiumServiceBuilder;
+import io.appium.java_client.MobileCommand;
+import io.appium.java_client.remote.AppiumCommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.http.HttpClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import io.appium.java_client.service.local.flags.GeneralServerFlag;
+import java.net.MalformedURLException;
+import java.net.URL;
 
 /**
  * Manages Appium server lifecycle and Android emulator operations.
@@ -37,6 +41,19 @@ import io.appium.java_client.service.local.flags.GeneralServerFlag;
  *   <li><b>appium.path</b> system property - Path to Appium executable</li>
  *   <li>Default: "appium" (assumes Appium is in system PATH)</li>
  * </ul>
+ * <p>
+ * With <code>-Dappium.server.start=false</code> no server is started and sessions connect to
+ * the one already running on the given host and port. With <code>-Dappium.stub.enabled=true</code>
+ * the in-JVM {@link AppiumStubServer} serves the port instead, for device-free runs, and with
+ * <code>-Dcommands.replay=...</code> a {@link CommandReplayServer} replays a recorded trace.
+ * </p>
+ * <p>
+ * Started servers are shared through the {@link AppiumServerRegistry}: every host and port is
+ * started once per JVM and reused by later sessions and test classes, and stopped at JVM exit.
+ * A healthy server already listening on the port is attached to instead of started, and with
+ * <code>-Dappium.server.daemon=true</code> started servers stay up for the next run
+ * ({@link AppiumDaemon}).
+ * </p>
  *
  * <h2>Emulator Management:</h2>
  * <pre>{@code
@@ -60,7 +77,7 @@ import io.appium.java_client.service.local.flags.GeneralServerFlag;
 public class AppiumManager {
     private static final Logger logger = LoggerFactory.getLogger(AppiumManager.class);
 
-    private static AppiumDriverLocalService service;
+    private static final ThreadLocal<AppiumServerRegistry.Server> server = new ThreadLocal<>();
     static String appPath = new File("app/app.apk").getAbsolutePath();
 
     /**
@@ -73,55 +90,143 @@ public class AppiumManager {
      *   <li>Default: <code>appium</code> (assumes it's in system PATH)</li>
      * </ul>
      * </p>
+     * <p>
+     * The server is taken from the {@link AppiumServerRegistry}, so a server already running for
+     * the same host and port is reused instead of started again. With
+     * <code>-Dappium.pool.size=N</code> the server is leased from an {@link AppiumServerPool}
+     * for the device of the current thread ({@link LogContext#DEVICE}) and may listen on
+     * another port, so sessions must use the returned URL. The calling thread holds the
+     * server until {@link #stopAppiumServer()}.
+     * </p>
      *
      * @param ipAddress the IP address to bind Appium server (e.g., "127.0.0.1")
      * @param port the port number for Appium server (e.g., "4723")
+     * @return the URL sessions connect to
      * @throws RuntimeException if Appium server fails to start
      *
      * @see #stopAppiumServer()
      */
-    public static void startAppiumServer(String ipAddress, String port) {
-        // Use environment variable or system property for Appium path
-        // Defaults to "appium" (assumes it's in PATH)
-        String appiumPath = System.getProperty("appium.path",
-            System.getenv().getOrDefault("APPIUM_PATH", "appium"));
-
-        AppiumServiceBuilder builder = new AppiumServiceBuilder()
-                .withIPAddress(ipAddress)
-                .withAppiumJS(new File(appiumPath))
-                .usingPort(Integer.parseInt(port))
-                .withArgument(GeneralServerFlag.LOG_LEVEL, "error");
+    public static URL startAppiumServer(String ipAddress, String port) {
+        FrameworkEvents.ProcessEvent event = new FrameworkEvents.ProcessEvent();
+        event.begin();
+        long traceStart = System.nanoTime();
+        String outcome = "FAILED";
+        try {
+            if (!TestConfig.COMMAND_REPLAY.isEmpty()) {
+                CommandReplayServer.startShared(Integer.parseInt(port));
+                outcome = "REPLAY";
+                return serverUrl(port);
+            }
+            if (TestConfig.APPIUM_STUB_ENABLED) {
+                AppiumStubServer.startShared(Integer.parseInt(port));
+                outcome = "STUB";
+                return serverUrl(port);
+            }
+            if (!TestConfig.APPIUM_SERVER_START) {
+                logger.info("Appium server start skipped (appium.server.start=false), using {}:{}", ipAddress, port);
+                outcome = "SKIPPED";
+                return serverUrl(port);
+            }
 
+            AppiumServerRegistry.Server previous = server.get();
+            if (previous != null && TestConfig.APPIUM_POOL_SIZE == 0
+                    && previous.getKey().equals(AppiumServerRegistry.key(ipAddress, port)) && previous.isRunning()) {
+                logger.debug("Appium server on {}:{} already held by this thread", ipAddress, port);
+                outcome = "REUSED";
+                return serverUrl(port);
+            }
+            // Acquire before releasing the previous server, which may be the same one
+            AppiumServerRegistry.Server acquired = TestConfig.APPIUM_POOL_SIZE > 0
+                    ? AppiumServerPool.startShared(ipAddress).lease(poolDevice())
+                    : AppiumServerRegistry.acquire(ipAddress, port);
+            server.set(acquired);
+            AppiumServerRegistry.release(previous);
+            outcome = "PASSED";
+            return serverUrl(String.valueOf(acquired.getPort()));
+        } finally {
+            event.end("startAppiumServer", ipAddress + ":" + port, outcome);
+            ChromeTracer.record("process", "startAppiumServer", traceStart, System.nanoTime() - traceStart, ipAddress + ":" + port, outcome);
+        }
+    }
 
-        service = AppiumDriverLocalService.buildService(builder);
+    private static URL serverUrl(String port) {
+        try {
+            return new URL("http://localhost:" + port);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid Appium port: " + port, e);
+        }
+    }
 
-        // Start the Appium server
-        service.start();
-        logger.info("Appium server started on {}:{}", ipAddress, port);
+    private static String poolDevice() {
+        String device = MDC.get(LogContext.DEVICE);
+        return device != null ? device : Thread.currentThread().getName();
+    }
 
-        // Ensure the server started successfully
-        if (!service.isRunning()) {
-            logger.error("Appium server failed to start on port {}", port);
-            throw new RuntimeException("Appium server failed to start on port: " + port);
-        }
+    /**
+     * Returns the Appium server held by the calling thread.
+     *
+     * @return the server, or null if none was started or it is a stub, replay or external server
+     */
+    static AppiumServerRegistry.Server heldServer() {
+        return server.get();
     }
 
     /**
-     * Stops the Appium server if it's currently running.
+     * Releases the Appium server held by the calling thread.
      * <p>
      * This method is safe to call even if the server was never started
-     * or has already been stopped.
+     * or has already been stopped. The server keeps running for later
+     * sessions unless <code>-Dappium.server.keep.alive=false</code> and
+     * this was its last user; all servers are stopped at JVM exit.
      * </p>
      *
      * @see #startAppiumServer(String, String)
      */
     public static void stopAppiumServer() {
-        if (service != null && service.isRunning()) {
-            service.stop();
-            logger.info("Appium server stopped successfully");
-        } else {
-            logger.debug("Appium server was not running or already stopped");
+        FrameworkEvents.ProcessEvent event = new FrameworkEvents.ProcessEvent();
+        event.begin();
+        long traceStart = System.nanoTime();
+        String outcome = "FAILED";
+        try {
+            AppiumServerRegistry.Server held = server.get();
+            if (held != null) {
+                server.remove();
+                AppiumServerRegistry.release(held);
+                logger.info("Appium server on {}:{} released ({} users left)", held.getHost(), held.getPort(), held.getUsers());
+            } else {
+                logger.debug("Appium server was not running or already stopped");
+            }
+            outcome = "PASSED";
+        } finally {
+            event.end("stopAppiumServer", null, outcome);
+            ChromeTracer.record("process", "stopAppiumServer", traceStart, System.nanoTime() - traceStart, null, outcome);
+        }
+    }
+
+    /**
+     * Creates the command executor for a new driver session.
+     * <p>
+     * Commands are timed with <code>-Dmetrics.commands.enabled=true</code> ({@link CommandMetrics}) or
+     * <code>-Dmetrics.live.enabled=true</code> ({@link LiveMetrics}),
+     * HTTP traffic is counted by {@link HttpAccounting} with <code>-Dhttp.accounting.enabled=true</code>
+     * and recorded by {@link CommandTraceRecorder} with <code>-Dcommands.record.enabled=true</code>.
+     * </p>
+     *
+     * @param url Appium server URL
+     * @return the command executor
+     */
+    static HttpCommandExecutor commandExecutor(URL url) {
+        HttpClient.Factory httpClientFactory = HttpClient.Factory.createDefault();
+        if (TestConfig.COMMAND_RECORD_ENABLED) {
+            httpClientFactory = CommandTraceRecorder.factory(httpClientFactory);
         }
+        if (TestConfig.HTTP_ACCOUNTING_ENABLED) {
+            httpClientFactory = HttpAccounting.factory(httpClientFactory);
+        }
+        if (TestConfig.COMMAND_METRICS_ENABLED || TestConfig.LIVE_METRICS_ENABLED) {
+            return new TimedCommandExecutor(url, httpClientFactory);
+        }
+        return new AppiumCommandExecutor(MobileCommand.commandRepository, url, httpClientFactory);
     }
     /**
      * Timeout for emulator boot completion in seconds.
@@ -151,17 +256,27 @@ public class AppiumManager {
      * @see #waitForEmulatorToBoot()
      */
     public static void startAndroidEmulator(String emulatorName, String port) throws IOException {
-        String[] command = {"emulator", "-avd", emulatorName, "-port", port,
-                "-memory", "2048", "-cores", "2",
-                "-writable-system", "-no-snapshot-load", "-no-boot-anim",
-                "-verbose"};
+        FrameworkEvents.ProcessEvent event = new FrameworkEvents.ProcessEvent();
+        event.begin();
+        long traceStart = System.nanoTime();
+        String outcome = "FAILED";
+        try {
+            String[] command = {"emulator", "-avd", emulatorName, "-port", port,
+                    "-memory", "2048", "-cores", "2",
+                    "-writable-system", "-no-snapshot-load", "-no-boot-anim",
+                    "-verbose"};
 
-        ProcessBuilder processBuilder = new ProcessBuilder(command);
-        processBuilder.start();
-        logger.info("Starting Android emulator: {} on port {}", emulatorName, port);
+            ProcessBuilder processBuilder = new ProcessBuilder(command);
+            processBuilder.start();
+            logger.info("Starting Android emulator: {} on port {}", emulatorName, port);
 
-        // Wait until the emulator is fully booted
-        waitForEmulatorToBoot();
+            // Wait until the emulator is fully booted
+            waitForEmulatorToBoot();
+            outcome = "PASSED";
+        } finally {
+            event.end("startAndroidEmulator", emulatorName, outcome);
+            ChromeTracer.record("process", "startAndroidEmulator", traceStart, System.nanoTime() - traceStart, emulatorName, outcome);
+        }
     }
 
     /**
@@ -184,54 +299,64 @@ public class AppiumManager {
      * @see #EMULATOR_BOOT_CHECK_INTERVAL_MS
      */
     public static void waitForEmulatorToBoot() {
-        long startTime = System.currentTimeMillis();
-        long timeout = EMULATOR_BOOT_TIMEOUT_SECONDS * 1000L;
+        FrameworkEvents.ProcessEvent event = new FrameworkEvents.ProcessEvent();
+        event.begin();
+        long traceStart = System.nanoTime();
+        String outcome = "FAILED";
+        try {
+            long startTime = System.currentTimeMillis();
+            long timeout = EMULATOR_BOOT_TIMEOUT_SECONDS * 1000L;
 
-        logger.info("Waiting for emulator to boot (timeout: {}s)...", EMULATOR_BOOT_TIMEOUT_SECONDS);
+            logger.info("Waiting for emulator to boot (timeout: {}s)...", EMULATOR_BOOT_TIMEOUT_SECONDS);
 
-        while (System.currentTimeMillis() - startTime < timeout) {
-            Process process = null;
-            BufferedReader reader = null;
-            try {
-                process = Runtime.getRuntime().exec("adb shell getprop sys.boot_completed");
-                reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-                String bootStatus = reader.readLine();
+            while (System.currentTimeMillis() - startTime < timeout) {
+                Process process = null;
+                BufferedReader reader = null;
+                try {
+                    process = Runtime.getRuntime().exec("adb shell getprop sys.boot_completed");
+                    reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+                    String bootStatus = reader.readLine();
 
-                // Check if boot completed
-                if ("1".equals(bootStatus)) {
-                    long bootTime = (System.currentTimeMillis() - startTime) / 1000;
-                    logger.info("Emulator is ready! Boot time: {}s", bootTime);
-                    return;
-                }
+                    // Check if boot completed
+                    if ("1".equals(bootStatus)) {
+                        long bootTime = (System.currentTimeMillis() - startTime) / 1000;
+                        logger.info("Emulator is ready! Boot time: {}s", bootTime);
+                        outcome = "PASSED";
+                        return;
+                    }
 
-                logger.debug("Emulator still booting... (elapsed: {}s)",
-                    (System.currentTimeMillis() - startTime) / 1000);
+                    logger.debug("Emulator still booting... (elapsed: {}s)",
+                        (System.currentTimeMillis() - startTime) / 1000);
 
-                // Wait before checking again
-                Thread.sleep(EMULATOR_BOOT_CHECK_INTERVAL_MS);
-            } catch (IOException e) {
-                logger.warn("Error checking emulator boot status: {}", e.getMessage());
-            } catch (InterruptedException e) {
-                logger.warn("Interrupted while waiting for emulator to boot", e);
-                Thread.currentThread().interrupt();
-                throw new RuntimeException("Interrupted while waiting for emulator to boot", e);
-            } finally {
-                // Clean up resources
-                if (reader != null) {
-                    try {
-                        reader.close();
-                    } catch (IOException e) {
-                        logger.debug("Error closing reader", e);
+                    // Wait before checking again
+                    Thread.sleep(EMULATOR_BOOT_CHECK_INTERVAL_MS);
+                } catch (IOException e) {
+                    logger.warn("Error checking emulator boot status: {}", e.getMessage());
+                } catch (InterruptedException e) {
+                    logger.warn("Interrupted while waiting for emulator to boot", e);
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while waiting for emulator to boot", e);
+                } finally {
+                    // Clean up resources
+                    if (reader != null) {
+                        try {
+                            reader.close();
+                        } catch (IOException e) {
+                            logger.debug("Error closing reader", e);
+                        }
+                    }
+                    if (process != null) {
+                        process.destroy();
                     }
-                }
-                if (process != null) {
-                    process.destroy();
                 }
             }
-        }
 
-        logger.error("Emulator failed to boot within {} seconds", EMULATOR_BOOT_TIMEOUT_SECONDS);
-        throw new RuntimeException("Emulator failed to boot within " + EMULATOR_BOOT_TIMEOUT_SECONDS + " seconds");
+            logger.error("Emulator failed to boot within {} seconds", EMULATOR_BOOT_TIMEOUT_SECONDS);
+            throw new RuntimeException("Emulator failed to boot within " + EMULATOR_BOOT_TIMEOUT_SECONDS + " seconds");
+        } finally {
+            event.end("waitForEmulatorToBoot", null, outcome);
+            ChromeTracer.record("process", "waitForEmulatorToBoot", traceStart, System.nanoTime() - traceStart, null, outcome);
+        }
     }
 
     /**
@@ -246,11 +371,21 @@ public class AppiumManager {
      * @see #executeShellCommand(String)
      */
     public static void installApp(String emulatorName) {
-        // Construct the ADB command for installing the APK
-        String command = "adb -s " + emulatorName + " install " + appPath;
-        logger.info("Installing app on emulator {}: {}", emulatorName, appPath);
-        // Execute the command
-        executeShellCommand(command);
+        FrameworkEvents.ProcessEvent event = new FrameworkEvents.ProcessEvent();
+        event.begin();
+        long traceStart = System.nanoTime();
+        String outcome = "FAILED";
+        try {
+            // Construct the ADB command for installing the APK
+            String command = "adb -s " + emulatorName + " install " + appPath;
+            logger.info("Installing app on emulator {}: {}", emulatorName, appPath);
+            // Execute the command
+            executeShellCommand(command);
+            outcome = "PASSED";
+        } finally {
+            event.end("installApp", emulatorName, outcome);
+            ChromeTracer.record("process", "installApp", traceStart, System.nanoTime() - traceStart, emulatorName, outcome);
+        }
     }
 
     /**
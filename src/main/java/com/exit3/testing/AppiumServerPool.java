@@ -0,0 +1,295 @@
+package com.exit3.testing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of local Appium servers for parallel devices, with health monitoring and restart.
+ * <p>
+ * {@link #start()} allocates free ports from a base port upwards and starts all servers
+ * concurrently through the {@link AppiumServerRegistry}. Every device gets one server from
+ * {@link #lease(String)}: the first lease assigns the least loaded server and later leases of
+ * the same device return the same one. When there are more devices than servers, devices
+ * share servers evenly.
+ * </p>
+ * <p>
+ * A background thread per server polls <code>GET /status</code>. A refused connection means
+ * the process died and restarts the server at once; timeouts and error responses restart
+ * it after {@link TestConfig#APPIUM_POOL_HEALTH_FAILURES} consecutive failures, so a hung
+ * server costs one restart instead of a timeout in every command of its sessions. Leases of
+ * a server that is restarting wait until it is back.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * // startAppiumServer leases a server per device when the pool is enabled
+ * mvn test -Dappium.pool.size=4 -Dappium.pool.base.port=4723
+ *
+ * // Programmatic use
+ * AppiumServerPool pool = new AppiumServerPool("127.0.0.1", 4, 4723).start();
+ * URL url = pool.lease("Pixel_7").getUrl();
+ * ...
+ * pool.stop();
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ * @see TestConfig#APPIUM_POOL_SIZE
+ */
+public class AppiumServerPool {
+    private static final Logger logger = LoggerFactory.getLogger(AppiumServerPool.class);
+
+    private static final Map<String, AppiumServerPool> shared = new ConcurrentHashMap<>();
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+
+    private final String host;
+    private final int size;
+    private final int basePort;
+    private final List<AppiumServerRegistry.Server> servers = new ArrayList<>();
+    private final Map<AppiumServerRegistry.Server, AtomicInteger> failures = new ConcurrentHashMap<>();
+    private final Map<String, AppiumServerRegistry.Server> assignments = new ConcurrentHashMap<>();
+    private ScheduledExecutorService monitor;
+
+    /**
+     * Creates a pool.
+     *
+     * @param host IP address the servers bind to
+     * @param size number of servers
+     * @param basePort first port to try; ports in use are skipped
+     */
+    public AppiumServerPool(String host, int size, int basePort) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Appium server pool size must be at least 1: " + size);
+        }
+        this.host = host;
+        this.size = size;
+        this.basePort = basePort;
+    }
+
+    /**
+     * Returns the pool used by {@link AppiumManager#startAppiumServer(String, String)} for a host,
+     * starting it with the size and ports from {@link TestConfig} if needed.
+     *
+     * @param host IP address the servers bind to
+     * @return the running pool
+     */
+    public static AppiumServerPool startShared(String host) {
+        return shared.computeIfAbsent(host, h -> new AppiumServerPool(h,
+                TestConfig.APPIUM_POOL_SIZE, TestConfig.APPIUM_POOL_BASE_PORT).start());
+    }
+
+    /**
+     * Stops all pools started by {@link #startShared(String)}.
+     */
+    public static void stopShared() {
+        for (AppiumServerPool pool : shared.values()) {
+            pool.stop();
+        }
+        shared.clear();
+    }
+
+    /**
+     * Allocates ports, starts all servers concurrently and starts the health monitor.
+     *
+     * @return this pool
+     * @throws RuntimeException if a server fails to start
+     */
+    public synchronized AppiumServerPool start() {
+        if (monitor != null) {
+            return this;
+        }
+        List<Integer> ports = allocatePorts();
+        long startNanos = System.nanoTime();
+        ExecutorService starter = Executors.newFixedThreadPool(size, daemonThreads("clickncheck-appium-start-"));
+        Throwable failure = null;
+        try {
+            List<Future<AppiumServerRegistry.Server>> started = new ArrayList<>();
+            for (int port : ports) {
+                started.add(starter.submit(() -> AppiumServerRegistry.acquire(host, String.valueOf(port))));
+            }
+            // Collect every server, also after a failure, so none is left without its release
+            for (Future<AppiumServerRegistry.Server> future : started) {
+                try {
+                    AppiumServerRegistry.Server server = future.get();
+                    servers.add(server);
+                    failures.put(server, new AtomicInteger());
+                } catch (ExecutionException e) {
+                    failure = failure == null ? e.getCause() : failure;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = e;
+        } finally {
+            starter.shutdown();
+        }
+        if (failure != null) {
+            releaseServers();
+            throw new RuntimeException("Appium server pool failed to start: " + failure.getMessage(), failure);
+        }
+        logger.info("Appium server pool of {} started on {} ports {} in {}s", size, host, ports,
+                String.format("%.1f", (System.nanoTime() - startNanos) / 1e9));
+
+        monitor = Executors.newScheduledThreadPool(size, daemonThreads("clickncheck-appium-health-"));
+        for (AppiumServerRegistry.Server server : servers) {
+            monitor.scheduleWithFixedDelay(() -> checkHealth(server), TestConfig.APPIUM_POOL_HEALTH_INTERVAL_MS,
+                    TestConfig.APPIUM_POOL_HEALTH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the server of a device, assigning the least loaded server on the device's first
+     * lease, and counts the caller as a user of it. Release it with
+     * {@link AppiumServerRegistry#release(AppiumServerRegistry.Server)}.
+     *
+     * @param device device name or udid
+     * @return the device's running server
+     */
+    public AppiumServerRegistry.Server lease(String device) {
+        AppiumServerRegistry.Server server = assignments.computeIfAbsent(device, d -> leastLoaded());
+        logger.debug("Device {} uses Appium server on {}:{}", device, host, server.getPort());
+        return AppiumServerRegistry.acquire(host, String.valueOf(server.getPort()));
+    }
+
+    /**
+     * Returns the servers of the pool.
+     *
+     * @return the servers, in port order
+     */
+    public synchronized List<AppiumServerRegistry.Server> getServers() {
+        return Collections.unmodifiableList(new ArrayList<>(servers));
+    }
+
+    /**
+     * Stops the health monitor and releases the pool's hold on its servers. The servers stop
+     * with their last user or at JVM exit, see {@link AppiumServerRegistry}.
+     */
+    public synchronized void stop() {
+        if (monitor == null) {
+            return;
+        }
+        monitor.shutdownNow();
+        monitor = null;
+        for (AppiumServerRegistry.Server server : servers) {
+            logger.info("Appium server on {}:{} served {} devices, {} restarts", host, server.getPort(),
+                    assignments.values().stream().filter(server::equals).count(), server.getRestarts());
+        }
+        releaseServers();
+    }
+
+    /**
+     * Polls one server's status and restarts it if it crashed or stopped answering.
+     *
+     * @param server the server
+     */
+    void checkHealth(AppiumServerRegistry.Server server) {
+        AtomicInteger failed = failures.get(server);
+        if (failed == null) {
+            return;
+        }
+        String problem;
+        boolean crashed = false;
+        try {
+            int status = AppiumServerRegistry.status(host, server.getPort(), TestConfig.APPIUM_POOL_HEALTH_TIMEOUT_MS);
+            if (status == HttpURLConnection.HTTP_OK) {
+                failed.set(0);
+                return;
+            }
+            problem = "status " + status;
+        } catch (ConnectException e) {
+            // Nothing listens any more: the process is gone, waiting will not help
+            crashed = true;
+            problem = "not reachable (" + e.getMessage() + ")";
+        } catch (IOException e) {
+            problem = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+        int count = failed.incrementAndGet();
+        logger.warn("Appium server on {}:{} health check failed ({}): {}", host, server.getPort(), count, problem);
+        if (crashed || count >= TestConfig.APPIUM_POOL_HEALTH_FAILURES) {
+            try {
+                server.restart(problem);
+                failed.set(0);
+            } catch (RuntimeException e) {
+                logger.error("Appium server on {}:{} failed to restart: {}", host, server.getPort(), e.getMessage());
+            }
+        }
+    }
+
+    private synchronized AppiumServerRegistry.Server leastLoaded() {
+        if (servers.isEmpty()) {
+            throw new IllegalStateException("Appium server pool on " + host + " is not started");
+        }
+        AppiumServerRegistry.Server best = null;
+        long bestLoad = Long.MAX_VALUE;
+        for (AppiumServerRegistry.Server server : servers) {
+            long load = assignments.values().stream().filter(server::equals).count();
+            if (load < bestLoad) {
+                best = server;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    private List<Integer> allocatePorts() {
+        List<Integer> ports = new ArrayList<>();
+        for (int port = basePort; ports.size() < size; port++) {
+            if (port > 65535) {
+                throw new IllegalStateException("No free ports for " + size + " Appium servers from " + basePort);
+            }
+            if (isFree(port) || (TestConfig.APPIUM_SERVER_ATTACH && AppiumServerRegistry.isHealthy(host, port))) {
+                // A running server, e.g. a daemon of an earlier run, is attached to instead of started
+                ports.add(port);
+            } else {
+                logger.debug("Port {} on {} is in use, skipped for the Appium server pool", port, host);
+            }
+        }
+        return ports;
+    }
+
+    private boolean isFree(int port) {
+        try (ServerSocket socket = new ServerSocket(port, 1, InetAddress.getByName(host))) {
+            socket.setReuseAddress(true);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void releaseServers() {
+        for (AppiumServerRegistry.Server server : servers) {
+            AppiumServerRegistry.release(server);
+        }
+        servers.clear();
+        failures.clear();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,504 @@
+package com.exit3.testing;
+
+import io.appium.java_client.service.local.AppiumDriverLocalService;
+import io.appium.java_client.service.local.AppiumServiceBuilder;
+import io.appium.java_client.service.local.flags.GeneralServerFlag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Local Appium servers shared by all sessions of a JVM, one per host and port.
+ * <p>
+ * {@link #acquire(String, String)} starts the server for a host and port on first use and
+ * hands the running server to every later caller, counting its users;
+ * {@link #release(Server)} gives it back. An idle server keeps running for the next test
+ * class until the JVM exits, when a shutdown hook stops all servers; with
+ * <code>-Dappium.server.keep.alive=false</code> it is stopped when its last user releases it.
+ * </p>
+ * <p>
+ * Every reuse saves the time the server took to start. The saving is logged per
+ * acquisition, normally once per test class, and summarized by {@link #report()} at suite end.
+ * </p>
+ * <p>
+ * Before starting a server, the registry probes the port for a healthy Appium server of an
+ * earlier run or another tool and attaches to it (<code>-Dappium.server.attach=false</code>
+ * disables this). With <code>-Dappium.server.daemon=true</code> started servers outlive the
+ * JVM, see {@link AppiumDaemon}.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * // AppiumManager.startAppiumServer / stopAppiumServer do this per thread
+ * AppiumServerRegistry.Server server = AppiumServerRegistry.acquire("127.0.0.1", "4723");
+ * try {
+ *     // ... create a session on server.getUrl() ...
+ * } finally {
+ *     AppiumServerRegistry.release(server);
+ * }
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ * @see TestConfig#APPIUM_SERVER_KEEP_ALIVE
+ */
+public final class AppiumServerRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(AppiumServerRegistry.class);
+
+    private static final Map<String, Server> servers = new ConcurrentHashMap<>();
+    private static final AtomicBoolean shutdownHookRegistered = new AtomicBoolean();
+
+    /** Timeout of the status probe of a running server, as used by the Appium java client. */
+    static final int HEALTH_TIMEOUT_MS = 1500;
+
+    private AppiumServerRegistry() {
+    }
+
+    /**
+     * Returns the running server for a host and port, starting it if needed, and counts the
+     * caller as a user.
+     *
+     * @param host IP address to bind, e.g. <code>127.0.0.1</code>
+     * @param port port, e.g. <code>4723</code>
+     * @return the running server
+     * @throws RuntimeException if the server fails to start
+     */
+    public static Server acquire(String host, String port) {
+        registerShutdownHook();
+        Server server = servers.computeIfAbsent(key(host, port), k -> new Server(host, Integer.parseInt(port)));
+        server.acquire();
+        return server;
+    }
+
+    /**
+     * Releases a server acquired with {@link #acquire(String, String)}. The last user stops it
+     * when {@link TestConfig#APPIUM_SERVER_KEEP_ALIVE} is false.
+     *
+     * @param server the server, may be null
+     */
+    public static void release(Server server) {
+        if (server != null) {
+            server.release();
+        }
+    }
+
+    /**
+     * Counts another user of a server someone already holds, without the reuse accounting
+     * of {@link #acquire(String, String)}. Release it with {@link #release(Server)}.
+     *
+     * @param server the server, may be null
+     */
+    static void retain(Server server) {
+        if (server != null) {
+            server.retain();
+        }
+    }
+
+    /**
+     * Stops all servers regardless of their users. Runs automatically at JVM exit.
+     */
+    public static void stopAll() {
+        for (Server server : servers.values()) {
+            server.stop();
+        }
+    }
+
+    /**
+     * Logs how many servers were started and how much startup time reuse saved.
+     */
+    public static void report() {
+        int starts = 0;
+        int attaches = 0;
+        int reuses = 0;
+        int restarts = 0;
+        double startSeconds = 0;
+        double savedSeconds = 0;
+        for (Server server : servers.values()) {
+            synchronized (server) {
+                starts += server.starts;
+                attaches += server.attaches;
+                reuses += server.reuses;
+                restarts += server.restarts;
+                startSeconds += server.totalStartSeconds;
+                savedSeconds += server.savedSeconds;
+            }
+        }
+        if (starts + attaches == 0) {
+            return;
+        }
+        int saves = reuses + attaches;
+        logger.info("Appium servers: {} started in {}s ({} restarts), {} attached, {} reuses; saved {}s ({}s per test class)",
+                starts, format(startSeconds), restarts, attaches, reuses, format(savedSeconds),
+                format(saves == 0 ? 0 : savedSeconds / saves));
+    }
+
+    /**
+     * Returns the total startup time saved by reusing servers.
+     *
+     * @return seconds saved
+     */
+    public static double getSecondsSaved() {
+        double saved = 0;
+        for (Server server : servers.values()) {
+            synchronized (server) {
+                saved += server.savedSeconds;
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * Tells whether an Appium server answers <code>GET /status</code> on a host and port.
+     *
+     * @param host server host
+     * @param port server port
+     * @return true if the status is 200 within {@link #HEALTH_TIMEOUT_MS}
+     */
+    static boolean isHealthy(String host, int port) {
+        try {
+            return status(host, port, HEALTH_TIMEOUT_MS) == HttpURLConnection.HTTP_OK;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Tells whether a command line starts a server on a port, i.e. passes <code>--port N</code>
+     * or <code>--port=N</code> with exactly that number, so 4723 does not match 47230.
+     *
+     * @param commandLine process command line
+     * @param port server port
+     * @return true if the command line has the port argument
+     */
+    static boolean hasPortArgument(String commandLine, int port) {
+        String[] tokens = commandLine.trim().split("\\s+");
+        for (int i = 0; i < tokens.length; i++) {
+            String value = tokens[i].startsWith("--port=") ? tokens[i].substring("--port=".length())
+                    : "--port".equals(tokens[i]) && i + 1 < tokens.length ? tokens[i + 1] : null;
+            if (String.valueOf(port).equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the HTTP status of <code>GET /status</code> on a host and port.
+     *
+     * @param host server host
+     * @param port server port
+     * @param timeoutMs connect and read timeout
+     * @return the HTTP status
+     * @throws IOException if the server cannot be reached or does not answer in time
+     */
+    static int status(String host, int port, int timeoutMs) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http", host, port, "/status").openConnection();
+        connection.setConnectTimeout(timeoutMs);
+        connection.setReadTimeout(timeoutMs);
+        try {
+            int status = connection.getResponseCode();
+            try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                if (in != null) {
+                    in.readAllBytes();
+                }
+            }
+            return status;
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    static String key(String host, String port) {
+        return host + ":" + port;
+    }
+
+    private static String format(double seconds) {
+        return String.format("%.1f", seconds);
+    }
+
+    private static void registerShutdownHook() {
+        if (shutdownHookRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(AppiumServerRegistry::stopAll, "clickncheck-appium-shutdown"));
+        }
+    }
+
+    /**
+     * One Appium server and its users: a server process started by this JVM, a daemon
+     * started or taken over by this JVM ({@link AppiumDaemon}), or a server of someone else
+     * that was already running on the port.
+     */
+    public static final class Server {
+        private final String host;
+        private final int port;
+        private AppiumDriverLocalService service;
+        private AppiumDaemon daemon;
+        private ProcessHandle daemonProcess;
+        private boolean attached;
+        private int users;
+        private int starts;
+        private int attaches;
+        private int reuses;
+        private int restarts;
+        private double lastStartSeconds;
+        private double totalStartSeconds;
+        private double savedSeconds;
+
+        private Server(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        /**
+         * Returns the host the server is bound to.
+         *
+         * @return the host
+         */
+        public String getHost() {
+            return host;
+        }
+
+        /**
+         * Returns the server port.
+         *
+         * @return the port
+         */
+        public int getPort() {
+            return port;
+        }
+
+        String getKey() {
+            return key(host, String.valueOf(port));
+        }
+
+        /**
+         * Returns the server URL, e.g. <code>http://127.0.0.1:4723/</code>.
+         *
+         * @return the URL, or null if the server is not running
+         */
+        public synchronized URL getUrl() {
+            if (service != null) {
+                return service.getUrl();
+            }
+            if (daemonProcess == null && !attached) {
+                return null;
+            }
+            try {
+                return new URL("http", host, port, "/");
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Returns the number of callers currently holding the server.
+         *
+         * @return the user count
+         */
+        public synchronized int getUsers() {
+            return users;
+        }
+
+        /**
+         * Tells whether the server is running and answers.
+         *
+         * @return true if running
+         */
+        public synchronized boolean isRunning() {
+            if (service != null) {
+                return service.isRunning();
+            }
+            return (daemonProcess != null || attached) && isHealthy(host, port);
+        }
+
+        private synchronized void acquire() {
+            if (isRunning()) {
+                users++;
+                reuses++;
+                savedSeconds += lastStartSeconds;
+                logger.info("Reusing Appium server on {}:{} ({} users), saved {}s startup",
+                        host, port, users, format(lastStartSeconds));
+                return;
+            }
+            start();
+            users++;
+        }
+
+        private synchronized void retain() {
+            users++;
+        }
+
+        private synchronized void release() {
+            if (users > 0) {
+                users--;
+            }
+            if (users == 0 && !TestConfig.APPIUM_SERVER_KEEP_ALIVE) {
+                stop();
+            }
+        }
+
+        /**
+         * Returns how often the server was restarted after a crash or hang.
+         *
+         * @return the restart count
+         */
+        public synchronized int getRestarts() {
+            return restarts;
+        }
+
+        /**
+         * Stops the server process, also when it no longer answers, and starts it again on the
+         * same port. Callers asking for the server meanwhile wait for the new process.
+         *
+         * @param reason why the server is restarted, for the log
+         */
+        synchronized void restart(String reason) {
+            logger.warn("Restarting Appium server on {}:{}: {}", host, port, reason);
+            // A hung server ignores the graceful stop, which then waits a minute before killing it
+            process().ifPresent(ProcessHandle::destroyForcibly);
+            stop();
+            start();
+            restarts++;
+        }
+
+        /**
+         * Finds the server's node process: the owned daemon, or a child process of this JVM.
+         */
+        synchronized Optional<ProcessHandle> process() {
+            if (daemonProcess != null) {
+                return Optional.of(daemonProcess);
+            }
+            return ProcessHandle.current().descendants()
+                    .filter(p -> p.info().commandLine().map(c -> hasPortArgument(c, port)).orElse(false))
+                    .findFirst();
+        }
+
+        private synchronized void start() {
+            if (service != null) {
+                // Process of a server that stopped answering
+                service.stop();
+                service = null;
+            }
+            if (TestConfig.APPIUM_SERVER_ATTACH && attach()) {
+                return;
+            }
+            clearStaleDaemon();
+
+            // Use environment variable or system property for Appium path
+            // Defaults to "appium" (assumes it's in PATH)
+            String appiumPath = System.getProperty("appium.path",
+                    System.getenv().getOrDefault("APPIUM_PATH", "appium"));
+
+            long startNanos = System.nanoTime();
+            if (TestConfig.APPIUM_SERVER_DAEMON) {
+                AppiumDaemon files = daemon();
+                if (!files.lock()) {
+                    throw new RuntimeException("Appium daemon on " + host + ":" + port + " is locked by another run");
+                }
+                daemonProcess = files.start(appiumPath);
+            } else {
+                AppiumServiceBuilder builder = new AppiumServiceBuilder()
+                        .withIPAddress(host)
+                        .withAppiumJS(new File(appiumPath))
+                        .usingPort(port)
+                        .withArgument(GeneralServerFlag.LOG_LEVEL, "error");
+
+                service = AppiumDriverLocalService.buildService(builder);
+                service.start();
+
+                // Ensure the server started successfully
+                if (!service.isRunning()) {
+                    logger.error("Appium server failed to start on port {}", port);
+                    throw new RuntimeException("Appium server failed to start on port: " + port);
+                }
+            }
+            lastStartSeconds = (System.nanoTime() - startNanos) / 1e9;
+            totalStartSeconds += lastStartSeconds;
+            starts++;
+            if (daemonProcess != null) {
+                daemon.recordStartup(daemonProcess, lastStartSeconds);
+            }
+            logger.info("Appium server started on {}:{} in {}s", host, port, format(lastStartSeconds));
+        }
+
+        /**
+         * Uses a healthy server already listening on the port. A daemon recorded in the PID file
+         * whose lock is free is taken over; any other server is only used, never stopped.
+         */
+        private boolean attach() {
+            if (!isHealthy(host, port)) {
+                return false;
+            }
+            AppiumDaemon files = daemon();
+            Optional<ProcessHandle> recorded = files.isRecorded() ? files.recordedProcess() : Optional.empty();
+            if (recorded.isPresent() && files.lock()) {
+                daemonProcess = recorded.get();
+                lastStartSeconds = files.recordedStartupSeconds();
+                logger.info("Took over Appium daemon pid {} on {}:{}, saved {}s startup",
+                        daemonProcess.pid(), host, port, format(lastStartSeconds));
+            } else {
+                attached = true;
+                lastStartSeconds = recorded.isPresent() ? files.recordedStartupSeconds() : 0;
+                logger.info("Attached to the Appium server already running on {}:{}", host, port);
+            }
+            attaches++;
+            savedSeconds += lastStartSeconds;
+            return true;
+        }
+
+        /**
+         * Stops a recorded daemon that does not answer, so its port is free again.
+         */
+        private void clearStaleDaemon() {
+            AppiumDaemon files = daemon();
+            if (!files.isRecorded() || !files.lock()) {
+                return;
+            }
+            files.recordedProcess().ifPresent(stale -> {
+                logger.warn("Stopping Appium daemon pid {} on {}:{} that does not answer", stale.pid(), host, port);
+                files.stop(stale);
+            });
+            files.deletePidFile();
+            if (!TestConfig.APPIUM_SERVER_DAEMON) {
+                files.unlock();
+            }
+        }
+
+        private AppiumDaemon daemon() {
+            if (daemon == null) {
+                daemon = new AppiumDaemon(host, port);
+            }
+            return daemon;
+        }
+
+        private synchronized void stop() {
+            if (service != null) {
+                service.stop();
+                logger.info("Appium server on {}:{} stopped", host, port);
+            }
+            service = null;
+            if (daemonProcess != null) {
+                if (TestConfig.APPIUM_SERVER_DAEMON && daemonProcess.isAlive()) {
+                    logger.info("Leaving Appium daemon pid {} on {}:{} running for the next run",
+                            daemonProcess.pid(), host, port);
+                } else {
+                    daemon.stop(daemonProcess);
+                    daemon.deletePidFile();
+                }
+                daemon.unlock();
+                daemonProcess = null;
+            }
+            attached = false;
+        }
+    }
+}
@@ -0,0 +1,723 @@
+package com.exit3.testing;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-JVM stub of an Appium server speaking the W3C WebDriver protocol.
+ * <p>
+ * The stub answers session creation and deletion, <code>/status</code>, findElement(s) (also
+ * from an element), click, sendKeys, clear, getText, element state, attributes and rect,
+ * window rect, page source, screen and element screenshots and W3C actions. Any other command
+ * of an existing session, such as Appium extensions, succeeds with a <code>null</code> value.
+ * Every command is delayed by a configurable latency plus uniform jitter, globally or per
+ * command name, so AndroidSettings, IosSettings and UiObject can be benchmarked and
+ * load-tested on a machine without devices.
+ * </p>
+ *
+ * <h2>Screen Model:</h2>
+ * <p>
+ * Without screens every locator matches. With screens, a session starts on the first screen
+ * and only finds the elements of its current screen; clicking an element with a target
+ * screen moves the session there. The page source is generated from the current screen.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * AppiumStubServer stub = new AppiumStubServer(4723)
+ *         .latency(20, 5)
+ *         .commandLatency("screenshot", 150, 30)
+ *         .screen("login")
+ *         .element("accessibility id", "username", "")
+ *         .element("accessibility id", "login_button", "Log in", "home")
+ *         .screen("home")
+ *         .element("xpath", "//android.widget.TextView[@text='Welcome']", "Welcome")
+ *         .start();
+ *
+ * // Whole suite without Appium or devices
+ * mvn test -Dappium.stub.enabled=true -Dappium.stub.latency.ms=20 -Dappium.stub.jitter.ms=5
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ * @see TestConfig#APPIUM_STUB_ENABLED
+ */
+public class AppiumStubServer {
+    private static final Logger logger = LoggerFactory.getLogger(AppiumStubServer.class);
+
+    private static final String ELEMENT_KEY = "element-6066-11e4-a52e-4f735466cecf";
+    private static final String ANY_ELEMENT = "stub-any";
+    private static final int WINDOW_WIDTH = 1080;
+    private static final int WINDOW_HEIGHT = 2340;
+    private static final int ELEMENT_HEIGHT = 120;
+
+    private static final Gson gson = new GsonBuilder().disableHtmlEscaping().serializeNulls().create();
+    private static final Map<Integer, AppiumStubServer> shared = new ConcurrentHashMap<>();
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+
+    static {
+        // Small request/response pairs on loopback otherwise stall on delayed ACKs (about 40 ms each)
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final int requestedPort;
+    private final List<Screen> screens = new ArrayList<>();
+    private final Map<String, long[]> commandLatency = new ConcurrentHashMap<>();
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private volatile long latencyMillis;
+    private volatile long jitterMillis;
+    private String pageSource;
+    private byte[] screenshot;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Creates a stub for a loopback port.
+     *
+     * @param port port to listen on, 0 for any free port
+     */
+    public AppiumStubServer(int port) {
+        this.requestedPort = port;
+    }
+
+    /**
+     * Returns the stub started by {@link AppiumManager#startAppiumServer(String, String)} on a port,
+     * starting it with the latency from {@link TestConfig} if needed.
+     *
+     * @param port port to listen on
+     * @return the running stub
+     */
+    public static AppiumStubServer startShared(int port) {
+        return shared.computeIfAbsent(port, p -> new AppiumStubServer(p)
+                .latency(TestConfig.APPIUM_STUB_LATENCY_MS, TestConfig.APPIUM_STUB_JITTER_MS)
+                .start());
+    }
+
+    /**
+     * Stops all stubs started by {@link #startShared(int)}.
+     */
+    public static void stopShared() {
+        for (AppiumStubServer stub : shared.values()) {
+            stub.stop();
+        }
+        shared.clear();
+    }
+
+    /**
+     * Sets the latency of every command.
+     *
+     * @param millis mean latency in milliseconds
+     * @param jitter maximum deviation from the mean in milliseconds, uniformly distributed
+     * @return this stub
+     */
+    public AppiumStubServer latency(long millis, long jitter) {
+        this.latencyMillis = millis;
+        this.jitterMillis = jitter;
+        return this;
+    }
+
+    /**
+     * Sets the latency of one command, overriding {@link #latency(long, long)}.
+     *
+     * @param command command name as recorded by {@link CommandMetrics}, e.g. <code>findElement</code>,
+     *                <code>clickElement</code>, <code>screenshot</code> or <code>getPageSource</code>
+     * @param millis mean latency in milliseconds
+     * @param jitter maximum deviation from the mean in milliseconds
+     * @return this stub
+     */
+    public AppiumStubServer commandLatency(String command, long millis, long jitter) {
+        commandLatency.put(command, new long[]{millis, jitter});
+        return this;
+    }
+
+    /**
+     * Adds a screen; following {@link #element} calls add elements to it. The first screen is
+     * where new sessions start.
+     *
+     * @param name screen name
+     * @return this stub
+     */
+    public synchronized AppiumStubServer screen(String name) {
+        screens.add(new Screen(name));
+        return this;
+    }
+
+    /**
+     * Adds an element to the last added screen.
+     *
+     * @param using W3C locator strategy, e.g. <code>accessibility id</code>, <code>xpath</code>, <code>id</code>
+     * @param value locator value
+     * @param text element text
+     * @return this stub
+     */
+    public AppiumStubServer element(String using, String value, String text) {
+        return element(using, value, text, null);
+    }
+
+    /**
+     * Adds an element to the last added screen that moves the session to another screen when clicked.
+     *
+     * @param using W3C locator strategy
+     * @param value locator value
+     * @param text element text
+     * @param targetScreen screen shown after a click, or null to stay
+     * @return this stub
+     */
+    public synchronized AppiumStubServer element(String using, String value, String text, String targetScreen) {
+        if (screens.isEmpty()) {
+            throw new IllegalStateException("Call screen(name) before adding elements");
+        }
+        Screen screen = screens.get(screens.size() - 1);
+        screen.elements.add(new StubElement(screens.size() - 1, screen.elements.size(), using, value, text, targetScreen));
+        return this;
+    }
+
+    /**
+     * Replaces the generated page source with a fixed document.
+     *
+     * @param source page source XML
+     * @return this stub
+     */
+    public AppiumStubServer pageSource(String source) {
+        this.pageSource = source;
+        return this;
+    }
+
+    /**
+     * Replaces the generated screenshot with a fixed image.
+     *
+     * @param image PNG or JPEG bytes
+     * @return this stub
+     */
+    public AppiumStubServer screenshot(byte[] image) {
+        this.screenshot = image;
+        return this;
+    }
+
+    /**
+     * Starts listening on 127.0.0.1. Does nothing if already started.
+     *
+     * @return this stub
+     * @throws IllegalStateException if the port cannot be bound
+     */
+    public synchronized AppiumStubServer start() {
+        if (server != null) {
+            return this;
+        }
+        if (screenshot == null) {
+            screenshot = defaultScreenshot();
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), requestedPort), 128);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start Appium stub on port " + requestedPort, e);
+        }
+        server.createContext("/", this::handle);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "clickncheck-appium-stub-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.start();
+        logger.info("Appium stub listening on {} (latency {} ms +/- {} ms, {} screens)",
+                getUrl(), latencyMillis, jitterMillis, screens.size());
+        return this;
+    }
+
+    /**
+     * Stops the stub and drops all sessions.
+     */
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        executor = null;
+        sessions.clear();
+        logger.info("Appium stub stopped after {} requests", requests.get());
+    }
+
+    /**
+     * Returns the bound port.
+     *
+     * @return the port, or the requested port if not started
+     */
+    public synchronized int getPort() {
+        return server == null ? requestedPort : server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the server URL for drivers.
+     *
+     * @return <code>http://127.0.0.1:port</code>
+     */
+    public URL getUrl() {
+        try {
+            return new URL("http://127.0.0.1:" + getPort());
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the number of requests served.
+     *
+     * @return request count
+     */
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Returns the number of open sessions.
+     *
+     * @return session count
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            String method = exchange.getRequestMethod();
+            String[] path = trimSlashes(exchange.getRequestURI().getPath()).split("/");
+            Map<String, Object> body = "POST".equals(method) ? readBody(exchange) : Collections.emptyMap();
+            if (path.length == 1 && "status".equals(path[0])) {
+                delay("status");
+                respond(exchange, 200, status());
+            } else if (path.length == 1 && "session".equals(path[0]) && "POST".equals(method)) {
+                delay("newSession");
+                respond(exchange, 200, newSession(body));
+            } else if (path.length >= 2 && "session".equals(path[0])) {
+                Session session = sessions.get(path[1]);
+                if (session == null) {
+                    respond(exchange, 404, error("invalid session id", "No session " + path[1]));
+                    return;
+                }
+                String command = commandName(method, path);
+                delay(command);
+                Object value = execute(session, command, path, body);
+                if (value instanceof StubError) {
+                    respond(exchange, 404, error("no such element", ((StubError) value).message));
+                } else {
+                    respond(exchange, 200, value);
+                }
+            } else {
+                respond(exchange, 404, error("unknown command", method + " " + exchange.getRequestURI().getPath()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            respond(exchange, 500, error("unknown error", String.valueOf(e.getMessage())));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Command name of a session request, matching the names used by the Selenium/Appium client.
+     */
+    static String commandName(String method, String[] path) {
+        if (path.length == 2) {
+            return "DELETE".equals(method) ? "quit" : "getCapabilities";
+        }
+        String resource = path[2];
+        String last = path[path.length - 1];
+        switch (resource) {
+            case "element":
+                if (path.length == 3) {
+                    return "findElement";
+                }
+                if (path.length == 4) {
+                    return "getElement";
+                }
+                switch (path[4]) {
+                    case "element":
+                        return "findChildElement";
+                    case "elements":
+                        return "findChildElements";
+                    case "click":
+                        return "clickElement";
+                    case "value":
+                        return "sendKeysToElement";
+                    case "clear":
+                        return "clearElement";
+                    case "text":
+                        return "getElementText";
+                    case "displayed":
+                        return "isElementDisplayed";
+                    case "enabled":
+                        return "isElementEnabled";
+                    case "selected":
+                        return "isElementSelected";
+                    case "attribute":
+                        return "getElementAttribute";
+                    case "name":
+                        return "getElementTagName";
+                    case "rect":
+                        return "getElementRect";
+                    case "screenshot":
+                        return "elementScreenshot";
+                    default:
+                        return last;
+                }
+            case "elements":
+                return "findElements";
+            case "source":
+                return "getPageSource";
+            case "screenshot":
+                return "screenshot";
+            case "actions":
+                return "DELETE".equals(method) ? "clearActionState" : "actions";
+            case "window":
+                return "getCurrentWindowSize";
+            default:
+                return last;
+        }
+    }
+
+    private Object execute(Session session, String command, String[] path, Map<String, Object> body) {
+        String elementId = path.length > 3 && "element".equals(path[2]) ? path[3] : null;
+        switch (command) {
+            case "quit":
+                sessions.remove(session.id);
+                return null;
+            case "getCapabilities":
+                return session.capabilities;
+            case "findElement":
+            case "findChildElement":
+                StubElement found = find(session, body);
+                return found == null
+                        ? new StubError("Cannot locate an element using " + body.get("using") + "=" + body.get("value"))
+                        : reference(found);
+            case "findElements":
+            case "findChildElements":
+                StubElement first = find(session, body);
+                return first == null ? Collections.emptyList() : Collections.singletonList(reference(first));
+            case "clickElement":
+                StubElement clicked = element(elementId);
+                if (clicked != null && clicked.targetScreen != null) {
+                    session.screen = clicked.targetScreen;
+                }
+                return null;
+            case "sendKeysToElement":
+                Object text = body.get("text");
+                session.typed.merge(elementId, text == null ? "" : String.valueOf(text), String::concat);
+                return null;
+            case "clearElement":
+                session.typed.put(elementId, "");
+                return null;
+            case "getElementText":
+                String typed = session.typed.get(elementId);
+                StubElement withText = element(elementId);
+                return typed != null ? typed : withText == null ? "" : withText.text;
+            case "isElementDisplayed":
+            case "isElementEnabled":
+                return Boolean.TRUE;
+            case "isElementSelected":
+                return Boolean.FALSE;
+            case "getElementAttribute":
+                StubElement attributed = element(elementId);
+                String attribute = path[path.length - 1];
+                if ("text".equals(attribute) || "label".equals(attribute) || "value".equals(attribute)) {
+                    return attributed == null ? "" : attributed.text;
+                }
+                return "displayed".equals(attribute) || "enabled".equals(attribute) ? "true" : null;
+            case "getElementTagName":
+                return "android.widget.TextView";
+            case "getElementRect":
+                StubElement positioned = element(elementId);
+                return rect(0, positioned == null ? 0 : positioned.index * ELEMENT_HEIGHT, WINDOW_WIDTH, ELEMENT_HEIGHT);
+            case "getCurrentWindowSize":
+                return rect(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
+            case "getPageSource":
+                return pageSource != null ? pageSource : generatePageSource(session);
+            case "screenshot":
+            case "elementScreenshot":
+                return Base64.getEncoder().encodeToString(screenshot);
+            case "sync":
+                // The client requires a result from terminateApp, see SessionPool#RESTART_APP
+                return "mobile: terminateApp".equals(body.get("script")) ? Boolean.TRUE : null;
+            case "terminate_app":
+                return Boolean.TRUE;
+            default:
+                return null;
+        }
+    }
+
+    private Map<String, Object> newSession(Map<String, Object> body) {
+        Map<String, Object> capabilities = new LinkedHashMap<>();
+        Object requested = body.get("capabilities");
+        if (requested instanceof Map) {
+            Object alwaysMatch = ((Map<?, ?>) requested).get("alwaysMatch");
+            if (alwaysMatch instanceof Map) {
+                ((Map<?, ?>) alwaysMatch).forEach((k, v) -> capabilities.put(String.valueOf(k), v));
+            }
+            Object firstMatch = ((Map<?, ?>) requested).get("firstMatch");
+            if (firstMatch instanceof List && !((List<?>) firstMatch).isEmpty()
+                    && ((List<?>) firstMatch).get(0) instanceof Map) {
+                ((Map<?, ?>) ((List<?>) firstMatch).get(0)).forEach((k, v) -> capabilities.put(String.valueOf(k), v));
+            }
+        }
+        Session session = new Session(UUID.randomUUID().toString(), capabilities, firstScreen());
+        sessions.put(session.id, session);
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("sessionId", session.id);
+        value.put("capabilities", capabilities);
+        return value;
+    }
+
+    private Map<String, Object> status() {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("ready", true);
+        value.put("message", "ClickNCheck Appium stub");
+        value.put("build", Collections.singletonMap("version", "stub"));
+        return value;
+    }
+
+    private synchronized String firstScreen() {
+        return screens.isEmpty() ? null : screens.get(0).name;
+    }
+
+    private synchronized StubElement find(Session session, Map<String, Object> body) {
+        if (screens.isEmpty()) {
+            return StubElement.ANY;
+        }
+        String using = String.valueOf(body.get("using"));
+        String value = String.valueOf(body.get("value"));
+        for (Screen screen : screens) {
+            if (screen.name.equals(session.screen)) {
+                for (StubElement candidate : screen.elements) {
+                    if (candidate.using.equals(using) && candidate.value.equals(value)) {
+                        return candidate;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private synchronized StubElement element(String elementId) {
+        if (elementId == null || ANY_ELEMENT.equals(elementId)) {
+            return elementId == null ? null : StubElement.ANY;
+        }
+        String[] parts = elementId.split("-");
+        try {
+            return screens.get(Integer.parseInt(parts[1])).elements.get(Integer.parseInt(parts[2]));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private synchronized String generatePageSource(Session session) {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<hierarchy rotation=\"0\">\n");
+        for (Screen screen : screens) {
+            if (screen.name.equals(session.screen)) {
+                for (StubElement e : screen.elements) {
+                    int top = e.index * ELEMENT_HEIGHT;
+                    xml.append("  <node index=\"").append(e.index)
+                            .append("\" class=\"android.widget.TextView\" text=\"").append(escape(e.text))
+                            .append("\" content-desc=\"").append("accessibility id".equals(e.using) ? escape(e.value) : "")
+                            .append("\" resource-id=\"").append("id".equals(e.using) ? escape(e.value) : "")
+                            .append("\" bounds=\"[0,").append(top).append("][").append(WINDOW_WIDTH).append(',')
+                            .append(top + ELEMENT_HEIGHT).append("]\"/>\n");
+                }
+            }
+        }
+        return xml.append("</hierarchy>").toString();
+    }
+
+    private void delay(String command) throws InterruptedException {
+        long[] configured = commandLatency.get(command);
+        long mean = configured != null ? configured[0] : latencyMillis;
+        long jitter = configured != null ? configured[1] : jitterMillis;
+        long micros = mean * 1000;
+        if (jitter > 0) {
+            micros += ThreadLocalRandom.current().nextLong(-jitter * 1000, jitter * 1000 + 1);
+        }
+        if (micros > 0) {
+            TimeUnit.MICROSECONDS.sleep(micros);
+        }
+    }
+
+    private static Map<String, Object> reference(StubElement element) {
+        return Collections.singletonMap(ELEMENT_KEY, element.id);
+    }
+
+    private static Map<String, Object> rect(int x, int y, int width, int height) {
+        Map<String, Object> rect = new LinkedHashMap<>();
+        rect.put("x", x);
+        rect.put("y", y);
+        rect.put("width", width);
+        rect.put("height", height);
+        return rect;
+    }
+
+    private static Map<String, Object> error(String error, String message) {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("error", error);
+        value.put("message", message);
+        value.put("stacktrace", "");
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readAllBytes();
+            if (bytes.length == 0) {
+                return Collections.emptyMap();
+            }
+            Object parsed = gson.fromJson(new String(bytes, StandardCharsets.UTF_8), Object.class);
+            return parsed instanceof Map ? (Map<String, Object>) parsed : Collections.emptyMap();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object value) throws IOException {
+        byte[] bytes = gson.toJson(Collections.singletonMap("value", value)).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String trimSlashes(String path) {
+        int start = 0;
+        int end = path.length();
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        String trimmed = path.substring(start, end);
+        return trimmed.startsWith("wd/hub/") ? trimmed.substring(7) : trimmed;
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("\"", "&quot;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static byte[] defaultScreenshot() {
+        BufferedImage image = new BufferedImage(WINDOW_WIDTH, WINDOW_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(0xF5F5F5));
+        graphics.fillRect(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
+        graphics.setColor(new Color(0x3F51B5));
+        graphics.fillRect(0, 0, WINDOW_WIDTH, ELEMENT_HEIGHT);
+        graphics.dispose();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageUtils.writeJpeg(image, 0.85f, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to render stub screenshot", e);
+        }
+    }
+
+    /**
+     * One W3C session and its position in the screen model.
+     */
+    private static final class Session {
+        private final String id;
+        private final Map<String, Object> capabilities;
+        private final Map<String, String> typed = new ConcurrentHashMap<>();
+        private volatile String screen;
+
+        private Session(String id, Map<String, Object> capabilities, String screen) {
+            this.id = id;
+            this.capabilities = capabilities;
+            this.screen = screen;
+        }
+    }
+
+    /**
+     * A named screen with the elements it shows.
+     */
+    private static final class Screen {
+        private final String name;
+        private final List<StubElement> elements = new ArrayList<>();
+
+        private Screen(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * One element of the screen model.
+     */
+    private static final class StubElement {
+        private static final StubElement ANY = new StubElement(ANY_ELEMENT, 0, "", "", "", null);
+
+        private final String id;
+        private final int index;
+        private final String using;
+        private final String value;
+        private final String text;
+        private final String targetScreen;
+
+        private StubElement(int screen, int index, String using, String value, String text, String targetScreen) {
+            this("stub-" + screen + "-" + index, index, using, value, text, targetScreen);
+        }
+
+        private StubElement(String id, int index, String using, String value, String text, String targetScreen) {
+            this.id = id;
+            this.index = index;
+            this.using = using;
+            this.value = value;
+            this.text = text == null ? "" : text;
+            this.targetScreen = targetScreen;
+        }
+    }
+
+    /**
+     * A W3C "no such element" result.
+     */
+    private static final class StubError {
+        private final String message;
+
+        private StubError(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.exit3.testing;
+
+import com.google.gson.stream.JsonWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Records framework spans and writes them as a Chrome Trace Event file for Perfetto or chrome://tracing.
+ * <p>
+ * With {@link TestConfig#TRACE_ENABLED} the framework records session creation, Appium
+ * server start, emulator start and boot, every UiObject action and every explicit wait as
+ * complete events. Each device (the <code>device</code> MDC key, see {@link LogContext}) becomes
+ * a trace process and each thread a track inside it; work done before a device is known, such
+ * as starting the Appium server, lands in the <b>host</b> process. Gaps in a track show where
+ * a thread was idle, and the tracks side by side show how parallel the run really was.
+ * </p>
+ * <p>
+ * Spans are buffered per thread without locking and written once by {@link #write()} at
+ * suite end. Timestamps come from {@link System#nanoTime()} relative to the earliest span.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * // Record a run
+ * mvn test -Dtrace.enabled=true
+ *
+ * // Open target/trace/clickncheck-trace.json in https://ui.perfetto.dev or chrome://tracing
+ *
+ * // Custom spans
+ * long start = System.nanoTime();
+ * ...
+ * ChromeTracer.record("setup", "resetApp", start, null);
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ * @see TestConfig#TRACE_ENABLED
+ */
+public class ChromeTracer {
+    private static final Logger logger = LoggerFactory.getLogger(ChromeTracer.class);
+
+    private static final String HOST = "host";
+    private static final ConcurrentLinkedQueue<Track> tracks = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<Track> track = ThreadLocal.withInitial(() -> {
+        Thread thread = Thread.currentThread();
+        Track created = new Track(thread.getId(), thread.getName());
+        tracks.add(created);
+        return created;
+    });
+
+    private ChromeTracer() {
+    }
+
+    /**
+     * Returns whether spans are recorded.
+     *
+     * @return true if <code>-Dtrace.enabled=true</code>
+     */
+    public static boolean isEnabled() {
+        return TestConfig.TRACE_ENABLED;
+    }
+
+    /**
+     * Records a span of the current thread ending now.
+     *
+     * @param category span category, e.g. <code>action</code> or <code>wait</code>
+     * @param name span name
+     * @param startNanos {@link System#nanoTime()} at the start of the span
+     * @param detail optional detail shown in the span arguments, may be null
+     */
+    public static void record(String category, String name, long startNanos, String detail) {
+        if (TestConfig.TRACE_ENABLED) {
+            record(category, name, startNanos, System.nanoTime() - startNanos, detail, null);
+        }
+    }
+
+    /**
+     * Records a span of the current thread.
+     *
+     * @param category span category
+     * @param name span name
+     * @param startNanos {@link System#nanoTime()} at the start of the span
+     * @param durationNanos duration in nanoseconds
+     * @param detail optional detail, may be null
+     * @param outcome optional outcome, may be null
+     */
+    public static void record(String category, String name, long startNanos, long durationNanos,
+                              String detail, String outcome) {
+        if (!TestConfig.TRACE_ENABLED) {
+            return;
+        }
+        String device = MDC.get(LogContext.DEVICE);
+        Track current = track.get();
+        current.spans.add(new Span(device != null ? device : HOST, category, name, startNanos, durationNanos,
+                detail, outcome));
+    }
+
+    /**
+     * Writes all recorded spans to {@link TestConfig#TRACE_FILE} and clears them.
+     * <p>
+     * Call this when test threads are idle (suite end); buffers are read without locking.
+     * </p>
+     *
+     * @return the trace file, or null if nothing was recorded or writing failed
+     */
+    public static Path write() {
+        List<Track> snapshot = new ArrayList<>(tracks);
+        Map<String, Integer> processIds = new LinkedHashMap<>();
+        processIds.put(HOST, 1);
+        int spanCount = 0;
+        long originNanos = Long.MAX_VALUE;
+        for (Track t : snapshot) {
+            for (Span span : t.spans) {
+                processIds.computeIfAbsent(span.device, d -> processIds.size() + 1);
+                originNanos = Math.min(originNanos, span.startNanos);
+                spanCount++;
+            }
+        }
+        if (spanCount == 0) {
+            return null;
+        }
+
+        Path file = Paths.get(TestConfig.TRACE_FILE);
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                 JsonWriter json = new JsonWriter(out)) {
+                json.beginObject();
+                json.name("displayTimeUnit").value("ms");
+                json.name("traceEvents").beginArray();
+                for (Map.Entry<String, Integer> process : processIds.entrySet()) {
+                    metadata(json, "process_name", process.getValue(), 0, process.getKey());
+                }
+                for (Track t : snapshot) {
+                    Set<String> named = new HashSet<>();
+                    for (Span span : t.spans) {
+                        int pid = processIds.get(span.device);
+                        if (named.add(span.device)) {
+                            metadata(json, "thread_name", pid, t.threadId, t.threadName);
+                        }
+                        json.beginObject();
+                        json.name("name").value(span.name);
+                        json.name("cat").value(span.category);
+                        json.name("ph").value("X");
+                        json.name("ts").value((span.startNanos - originNanos) / 1000.0);
+                        json.name("dur").value(span.durationNanos / 1000.0);
+                        json.name("pid").value(pid);
+                        json.name("tid").value(t.threadId);
+                        if (span.detail != null || span.outcome != null) {
+                            json.name("args").beginObject();
+                            if (span.detail != null) {
+                                json.name("detail").value(span.detail);
+                            }
+                            if (span.outcome != null) {
+                                json.name("outcome").value(span.outcome);
+                            }
+                            json.endObject();
+                        }
+                        json.endObject();
+                    }
+                    t.spans.clear();
+                }
+                json.endArray();
+                json.endObject();
+            }
+            logger.info("Trace with {} spans in {} processes written to {}", spanCount, processIds.size(),
+                    file.toAbsolutePath());
+            return file;
+        } catch (IOException e) {
+            logger.warn("Failed to write trace file {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void metadata(JsonWriter json, String name, int pid, long tid, String value) throws IOException {
+        json.beginObject();
+        json.name("name").value(name);
+        json.name("ph").value("M");
+        json.name("pid").value(pid);
+        json.name("tid").value(tid);
+        json.name("args").beginObject().name("name").value(value).endObject();
+        json.endObject();
+    }
+
+    /**
+     * Spans recorded by one thread.
+     */
+    private static final class Track {
+        private final long threadId;
+        private final String threadName;
+        private final List<Span> spans = new ArrayList<>();
+
+        private Track(long threadId, String threadName) {
+            this.threadId = threadId;
+            this.threadName = threadName;
+        }
+    }
+
+    /**
+     * One complete trace event.
+     */
+    private static final class Span {
+        private final String device;
+        private final String category;
+        private final String name;
+        private final long startNanos;
+        private final long durationNanos;
+        private final String detail;
+        private final String outcome;
+
+        private Span(String device, String category, String name, long startNanos, long durationNanos,
+                     String detail, String outcome) {
+            this.device = device;
+            this.category = category;
+            this.name = name;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+            this.detail = detail;
+            this.outcome = outcome;
+        }
+    }
+}
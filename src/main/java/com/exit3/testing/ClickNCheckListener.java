@@ -0,0 +1,193 @@
+package com.exit3.testing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+
+/**
+ * TestNG listener that hooks framework housekeeping into the suite lifecycle.
+ * <p>
+ * Register it once in <code>testng.xml</code>; it is safe to use with
+ * <code>parallel="tests"</code> because every hook is either per-JVM or thread-safe.
+ * </p>
+ *
+ * <h2>Registration:</h2>
+ * <pre>{@code
+ * <suite name="My Suite">
+ *     <listeners>
+ *         <listener class-name="com.exit3.testing.ClickNCheckListener"/>
+ *     </listeners>
+ *     ...
+ * </suite>
+ * }</pre>
+ *
+ * <h2>Suite Start:</h2>
+ * <ul>
+ *   <li>Starts the background screenshot retention sweep ({@link ScreenshotSweeper#sweepAsync()})</li>
+ *   <li>Starts the suite log collector when <code>-Dsuite.log.enabled=true</code> ({@link SuiteLogCollector#start()})</li>
+ *   <li>Starts the live metrics endpoint when <code>-Dmetrics.live.enabled=true</code> ({@link LiveMetrics#start()})</li>
+ * </ul>
+ *
+ * <h2>Test Start:</h2>
+ * <ul>
+ *   <li>Puts the test name into the MDC ({@link LogContext#setTest(String)})</li>
+ *   <li>Starts the test's step summary ({@link TestLogger#resetStepSummary()})</li>
+ *   <li>Opens the per-test JSON Lines log stream when <code>-Dtestlogger.stream.enabled=true</code>
+ *       ({@link TestLogger#openStream(String)})</li>
+ *   <li>Registers the test with the suite log collector ({@link SuiteLogCollector#testStarted()})</li>
+ *   <li>Shows the test as the device's current test on the live metrics endpoint</li>
+ *   <li>Snapshots the session's HTTP counters when <code>-Dhttp.accounting.enabled=true</code>
+ *       ({@link HttpAccounting#testStarted()})</li>
+ * </ul>
+ *
+ * <h2>Test End:</h2>
+ * <ul>
+ *   <li>Adds the wait-versus-act step summary to the test log ({@link TestLogger#getStepSummary()})</li>
+ *   <li>Adds the test's HTTP requests and bytes to the test log ({@link HttpAccounting#testFinished(String)})</li>
+ *   <li>Publishes the entries logged since test start to the suite log collector
+ *       ({@link SuiteLogCollector#publish(String)})</li>
+ *   <li>Closes the JSON Lines log stream; the file stays readable from <code>@AfterMethod</code>
+ *       ({@link TestLogger#closeStream()})</li>
+ *   <li>Counts the test result on the live metrics endpoint</li>
+ *   <li>Removes the test name from the MDC</li>
+ *   <li>Failed tests flush the screenshot ring buffer to disk ({@link ScreenshotRingBuffer#flush(String)})</li>
+ *   <li>Passed and skipped tests drop the buffered frames ({@link ScreenshotRingBuffer#clear()})</li>
+ *   <li>The screen recording is saved for failed tests and dropped otherwise
+ *       ({@link ScreenRecorder#finishTest(String, boolean)})</li>
+ * </ul>
+ *
+ * <h2>Suite End:</h2>
+ * <ul>
+ *   <li>Logs the screen recording cost next to the screenshot cost of the run ({@link ScreenRecorder#logCost()})</li>
+ *   <li>Stops the suite log collector after it has written all entries ({@link SuiteLogCollector#stop()})</li>
+ *   <li>Closes the binary step journals ({@link StepJournal#closeAll()})</li>
+ *   <li>Exports the per-command WebDriver latency histograms when <code>-Dmetrics.commands.enabled=true</code>
+ *       ({@link CommandMetrics#export()})</li>
+ *   <li>Writes the per-test HTTP accounting and flags the heaviest tests ({@link HttpAccounting#report()})</li>
+ *   <li>Writes the Chrome Trace file when <code>-Dtrace.enabled=true</code> ({@link ChromeTracer#write()})</li>
+ *   <li>Stops the live metrics endpoint ({@link LiveMetrics#stop()})</li>
+ *   <li>Quits the pooled driver sessions and logs the session creation time saved ({@link SessionPool#quitAll()})</li>
+ *   <li>Stops the health monitor of the Appium server pool ({@link AppiumServerPool#stopShared()})</li>
+ *   <li>Logs the Appium server starts and the startup time saved by reusing them ({@link AppiumServerRegistry#report()})</li>
+ *   <li>Stops the Appium stub when <code>-Dappium.stub.enabled=true</code> ({@link AppiumStubServer#stopShared()})</li>
+ *   <li>Closes open command traces ({@link CommandTraceRecorder#closeAll()}) and writes the replay diff
+ *       when replaying ({@link CommandReplayServer#stopShared()})</li>
+ * </ul>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+public class ClickNCheckListener implements ISuiteListener, ITestListener {
+    private static final Logger logger = LoggerFactory.getLogger(ClickNCheckListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        ScreenshotSweeper.sweepAsync();
+        if (TestConfig.SUITE_LOG_ENABLED) {
+            SuiteLogCollector.start();
+        }
+        if (TestConfig.LIVE_METRICS_ENABLED) {
+            LiveMetrics.start();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        ScreenRecorder.logCost();
+        SuiteLogCollector.stop();
+        StepJournal.closeAll();
+        if (TestConfig.COMMAND_METRICS_ENABLED) {
+            CommandMetrics.export();
+        }
+        if (TestConfig.HTTP_ACCOUNTING_ENABLED) {
+            HttpAccounting.report();
+        }
+        if (TestConfig.TRACE_ENABLED) {
+            ChromeTracer.write();
+        }
+        LiveMetrics.stop();
+        SessionPool.quitAll();
+        AppiumServerPool.stopShared();
+        AppiumServerRegistry.report();
+        if (TestConfig.APPIUM_STUB_ENABLED) {
+            AppiumStubServer.stopShared();
+        }
+        if (TestConfig.COMMAND_RECORD_ENABLED) {
+            CommandTraceRecorder.closeAll();
+        }
+        if (!TestConfig.COMMAND_REPLAY.isEmpty()) {
+            CommandReplayServer.stopShared();
+        }
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        LogContext.setTest(result.getName());
+        TestLogger.resetStepSummary();
+        if (TestConfig.TESTLOGGER_STREAM_ENABLED) {
+            TestLogger.openStream(result.getName());
+        }
+        if (SuiteLogCollector.isRunning()) {
+            SuiteLogCollector.testStarted();
+        }
+        if (TestConfig.HTTP_ACCOUNTING_ENABLED) {
+            HttpAccounting.testStarted();
+        }
+        if (TestConfig.LIVE_METRICS_ENABLED) {
+            LiveMetrics.testStarted(result.getName());
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        finishTestLog(result);
+        ScreenshotRingBuffer.clear();
+        ScreenRecorder.finishTest(result.getName(), false);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        finishTestLog(result);
+        try {
+            ScreenshotRingBuffer.flush(result.getName());
+        } catch (IOException e) {
+            logger.warn("Failed to flush screenshot ring buffer for test {}: {}", result.getName(), e.getMessage());
+        }
+        ScreenRecorder.finishTest(result.getName(), true);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        finishTestLog(result);
+        ScreenshotRingBuffer.clear();
+        ScreenRecorder.finishTest(result.getName(), false);
+    }
+
+    private void finishTestLog(ITestResult result) {
+        TestLogger.StepSummary summary = TestLogger.getStepSummary();
+        if (summary.getSteps() > 0) {
+            TestLogger.addLogMessage("Step summary: {}", summary);
+            logger.info("Test {} step summary: {}", result.getName(), summary);
+        }
+        if (TestConfig.HTTP_ACCOUNTING_ENABLED) {
+            HttpAccounting.Summary http = HttpAccounting.testFinished(result.getName());
+            if (http != null) {
+                TestLogger.addLogMessage("HTTP summary: {}", http);
+            }
+        }
+        if (SuiteLogCollector.isRunning()) {
+            SuiteLogCollector.publish(result.getName());
+        }
+        TestLogger.closeStream();
+        if (TestConfig.LIVE_METRICS_ENABLED) {
+            LiveMetrics.testFinished(result.getStatus() == ITestResult.SUCCESS, result.getStatus() == ITestResult.SKIP);
+        }
+        LogContext.setTest(null);
+    }
+}
@@ -0,0 +1,275 @@
+package com.exit3.testing;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.ios.IOSDriver;
+import org.openqa.selenium.Capabilities;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Per-command WebDriver latency histograms.
+ * <p>
+ * Drivers created by AndroidSettings/IosSettings with {@link TestConfig#COMMAND_METRICS_ENABLED}
+ * use a timed Appium command executor, so every WebDriver command (findElement, clickElement,
+ * sendKeysToElement, screenshot, getPageSource, actions, ...) is recorded under its command name.
+ * </p>
+ * <p>
+ * Latencies are recorded into per-thread, per-command histograms stored as primitive
+ * <code>long[]</code> arrays with log-linear microsecond buckets (four buckets per power of two,
+ * at most 25% relative error), so recording is a few array increments without locks or
+ * allocation. {@link #export()} merges them at suite end into
+ * <code>command-latency.json</code> and the Prometheus text file <code>command-latency.prom</code>
+ * under {@link TestConfig#METRICS_DIR}.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * // Enable for drivers created by AndroidSettings/IosSettings
+ * mvn test -Dmetrics.commands.enabled=true
+ *
+ * // Own drivers
+ * AndroidDriver driver = CommandMetrics.newAndroidDriver(url, capabilities);
+ *
+ * // Done by ClickNCheckListener at suite end
+ * CommandMetrics.export();
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ * @see TestConfig#COMMAND_METRICS_ENABLED
+ */
+public class CommandMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(CommandMetrics.class);
+
+    static final int BUCKETS = 160;
+    static final int COUNT = BUCKETS;
+    static final int SUM_NANOS = BUCKETS + 1;
+    static final int MAX_NANOS = BUCKETS + 2;
+    static final int SLOTS = BUCKETS + 3;
+
+    private static final ConcurrentLinkedQueue<ThreadHistograms> allThreads = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<ThreadHistograms> histograms = ThreadLocal.withInitial(() -> {
+        ThreadHistograms thread = new ThreadHistograms(Thread.currentThread().getName());
+        allThreads.add(thread);
+        return thread;
+    });
+
+    /**
+     * Creates an Android driver whose commands are timed.
+     *
+     * @param url Appium server URL
+     * @param capabilities session capabilities
+     * @return the driver
+     */
+    public static AndroidDriver newAndroidDriver(URL url, Capabilities capabilities) {
+        return new AndroidDriver(new TimedCommandExecutor(url), capabilities);
+    }
+
+    /**
+     * Creates an iOS driver whose commands are timed.
+     *
+     * @param url Appium server URL
+     * @param capabilities session capabilities
+     * @return the driver
+     */
+    public static IOSDriver newIosDriver(URL url, Capabilities capabilities) {
+        return new IOSDriver(new TimedCommandExecutor(url), capabilities);
+    }
+
+    /**
+     * Records one command latency for the current thread.
+     *
+     * @param command WebDriver command name
+     * @param nanos latency in nanoseconds
+     */
+    public static void record(String command, long nanos) {
+        long[] histogram = histograms.get().forCommand(command);
+        histogram[bucket(nanos / 1000)]++;
+        histogram[COUNT]++;
+        histogram[SUM_NANOS] += nanos;
+        if (nanos > histogram[MAX_NANOS]) {
+            histogram[MAX_NANOS] = nanos;
+        }
+    }
+
+    /**
+     * Bucket index of a latency in microseconds: exact below 4 us, then four buckets per power of two.
+     */
+    static int bucket(long micros) {
+        if (micros < 4) {
+            return (int) Math.max(0, micros);
+        }
+        int bit = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) (micros >> (bit - 2)) & 3;
+        return Math.min(BUCKETS - 1, 4 + (bit - 2) * 4 + sub);
+    }
+
+    /**
+     * Exclusive upper bound of a bucket in microseconds.
+     */
+    static long bucketUpperMicros(int bucket) {
+        if (bucket < 4) {
+            return bucket + 1;
+        }
+        int bit = (bucket - 4) / 4 + 2;
+        int sub = (bucket - 4) % 4;
+        return (long) (5 + sub) << (bit - 2);
+    }
+
+    /**
+     * Merges all threads' histograms and writes the JSON and Prometheus files.
+     * <p>
+     * Call this when test threads are idle (suite end); histograms are read without locking.
+     * </p>
+     *
+     * @return the JSON file, or null if nothing was recorded or writing failed
+     */
+    public static Path export() {
+        Map<String, long[]> merged = new TreeMap<>();
+        Map<String, Map<String, Object>> perThread = new TreeMap<>();
+        for (ThreadHistograms thread : allThreads) {
+            Map<String, Object> threadSummary = new TreeMap<>();
+            for (Map.Entry<String, long[]> entry : thread.byCommand.entrySet()) {
+                long[] target = merged.computeIfAbsent(entry.getKey(), k -> new long[SLOTS]);
+                long[] source = entry.getValue();
+                for (int i = 0; i < SUM_NANOS; i++) {
+                    target[i] += source[i];
+                }
+                target[SUM_NANOS] += source[SUM_NANOS];
+                target[MAX_NANOS] = Math.max(target[MAX_NANOS], source[MAX_NANOS]);
+                threadSummary.put(entry.getKey(), summarize(source, false));
+            }
+            if (!threadSummary.isEmpty()) {
+                perThread.put(thread.name, threadSummary);
+            }
+        }
+        if (merged.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Object> commands = new LinkedHashMap<>();
+        for (Map.Entry<String, long[]> entry : merged.entrySet()) {
+            commands.put(entry.getKey(), summarize(entry.getValue(), true));
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("commands", commands);
+        report.put("threads", perThread);
+
+        Path dir = Paths.get(TestConfig.METRICS_DIR);
+        Path json = dir.resolve("command-latency.json");
+        Path prometheus = dir.resolve("command-latency.prom");
+        try {
+            Files.createDirectories(dir);
+            Gson gson = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
+            Files.write(json, gson.toJson(report).getBytes(StandardCharsets.UTF_8));
+            Files.write(prometheus, toPrometheus(merged).getBytes(StandardCharsets.UTF_8));
+            logger.info("Command latency metrics for {} commands written to {} and {}",
+                    merged.size(), json.toAbsolutePath(), prometheus.toAbsolutePath());
+            return json;
+        } catch (IOException e) {
+            logger.warn("Failed to write command latency metrics: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static Map<String, Object> summarize(long[] histogram, boolean withBuckets) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        long count = histogram[COUNT];
+        summary.put("count", count);
+        summary.put("meanMs", round(count == 0 ? 0 : histogram[SUM_NANOS] / 1e6 / count));
+        summary.put("p50Ms", round(percentileNanos(histogram, 0.50) / 1e6));
+        summary.put("p90Ms", round(percentileNanos(histogram, 0.90) / 1e6));
+        summary.put("p99Ms", round(percentileNanos(histogram, 0.99) / 1e6));
+        summary.put("maxMs", round(histogram[MAX_NANOS] / 1e6));
+        if (withBuckets) {
+            Map<String, Long> buckets = new LinkedHashMap<>();
+            for (int i = 0; i < BUCKETS; i++) {
+                if (histogram[i] > 0) {
+                    buckets.put("<" + bucketUpperMicros(i) + "us", histogram[i]);
+                }
+            }
+            summary.put("buckets", buckets);
+        }
+        return summary;
+    }
+
+    private static long percentileNanos(long[] histogram, double quantile) {
+        long rank = (long) Math.ceil(histogram[COUNT] * quantile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += histogram[i];
+            if (seen >= rank && histogram[i] > 0) {
+                return Math.min(bucketUpperMicros(i) * 1000, histogram[MAX_NANOS]);
+            }
+        }
+        return 0;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    private static String toPrometheus(Map<String, long[]> merged) {
+        StringBuilder out = new StringBuilder();
+        out.append("# HELP clickncheck_command_duration_seconds WebDriver command latency.\n");
+        out.append("# TYPE clickncheck_command_duration_seconds histogram\n");
+        for (Map.Entry<String, long[]> entry : merged.entrySet()) {
+            String label = "command=\"" + entry.getKey().replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+            long[] histogram = entry.getValue();
+            long cumulative = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                if (histogram[i] == 0) {
+                    continue;
+                }
+                cumulative += histogram[i];
+                out.append("clickncheck_command_duration_seconds_bucket{").append(label)
+                        .append(",le=\"").append(String.format(Locale.ROOT, "%.6f", bucketUpperMicros(i) / 1e6))
+                        .append("\"} ").append(cumulative).append('\n');
+            }
+            out.append("clickncheck_command_duration_seconds_bucket{").append(label).append(",le=\"+Inf\"} ")
+                    .append(histogram[COUNT]).append('\n');
+            out.append("clickncheck_command_duration_seconds_sum{").append(label).append("} ")
+                    .append(String.format(Locale.ROOT, "%.6f", histogram[SUM_NANOS] / 1e9)).append('\n');
+            out.append("clickncheck_command_duration_seconds_count{").append(label).append("} ")
+                    .append(histogram[COUNT]).append('\n');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Histograms of one thread, keyed by command name.
+     */
+    private static final class ThreadHistograms {
+        private final String name;
+        private final Map<String, long[]> byCommand = new HashMap<>();
+
+        private ThreadHistograms(String name) {
+            this.name = name;
+        }
+
+        private long[] forCommand(String command) {
+            long[] histogram = byCommand.get(command);
+            if (histogram == null) {
+                histogram = new long[SLOTS];
+                byCommand.put(command, histogram);
+            }
+            return histogram;
+        }
+    }
+}
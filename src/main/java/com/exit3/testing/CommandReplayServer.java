@@ -0,0 +1,477 @@
+package com.exit3.testing;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Serves command traces recorded by {@link CommandTraceRecorder} as a stand-in Appium server.
+ * <p>
+ * Requests are matched by method and path, in recorded order; the recorded session and element
+ * ids are replayed as well, so the paths the client sends line up with the trace. A command
+ * recorded fewer times than it is replayed gets the last recorded response again; a command
+ * that was never recorded gets a W3C <code>unknown command</code> error and is counted as
+ * unmatched. Each response is delayed by its recorded duration times the latency scale
+ * (0 replays as fast as possible). Recorded durations are round trips seen by the client, so
+ * at scale 1 the replay also carries the recording's client-side overhead; compare runs
+ * replayed at the same scale.
+ * </p>
+ * <p>
+ * {@link #writeDiffReport()} compares the replay with the recording: command counts and total
+ * time per command, and wall time per session. It is written as <code>replay-diff.json</code>
+ * under {@link TestConfig#METRICS_DIR}.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * // Served by startAppiumServer for the whole suite
+ * mvn test -Dcommands.replay=target/command-traces -Dcommands.replay.scale=0.5
+ *
+ * // Programmatic
+ * CommandReplayServer replay = new CommandReplayServer(4723, Paths.get("target/command-traces")).start();
+ * ... run the flow ...
+ * replay.stop();
+ * replay.writeDiffReport();
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ * @see TestConfig#COMMAND_REPLAY
+ */
+public class CommandReplayServer {
+    private static final Logger logger = LoggerFactory.getLogger(CommandReplayServer.class);
+
+    private static final Gson gson = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
+    private static final Map<Integer, CommandReplayServer> shared = new ConcurrentHashMap<>();
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+
+    static {
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final int requestedPort;
+    private final Path source;
+    private final Map<String, ArrayDeque<Recorded>> pending = new HashMap<>();
+    private final Map<String, Recorded> lastResponse = new HashMap<>();
+    private final Map<String, CommandStats> recordedCommands = new TreeMap<>();
+    private final Map<String, SessionStats> recordedSessions = new LinkedHashMap<>();
+    private final Map<String, CommandStats> replayedCommands = new ConcurrentHashMap<>();
+    private final Map<String, SessionStats> replayedSessions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> unmatched = new ConcurrentHashMap<>();
+    private volatile double latencyScale = 1.0;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Loads a trace for replay.
+     *
+     * @param port loopback port to listen on, 0 for any free port
+     * @param trace a <code>.jsonl.gz</code> trace file or a directory of them
+     * @throws IOException if the trace cannot be read
+     */
+    public CommandReplayServer(int port, Path trace) throws IOException {
+        this.requestedPort = port;
+        this.source = trace;
+        List<Path> files;
+        if (Files.isDirectory(trace)) {
+            try (Stream<Path> list = Files.list(trace)) {
+                files = list.filter(p -> p.getFileName().toString().endsWith(".jsonl.gz")).sorted()
+                        .collect(Collectors.toList());
+            }
+        } else {
+            files = List.of(trace);
+        }
+        if (files.isEmpty()) {
+            throw new IOException("No command traces (*.jsonl.gz) in " + trace);
+        }
+        for (Path file : files) {
+            load(file);
+        }
+        logger.info("Loaded {} recorded sessions from {} files in {}", recordedSessions.size(), files.size(), trace);
+    }
+
+    /**
+     * Returns the replay server started by {@link AppiumManager#startAppiumServer(String, String)} on a port,
+     * loading {@link TestConfig#COMMAND_REPLAY} at {@link TestConfig#COMMAND_REPLAY_SCALE} if needed.
+     *
+     * @param port port to listen on
+     * @return the running replay server
+     */
+    public static CommandReplayServer startShared(int port) {
+        return shared.computeIfAbsent(port, p -> {
+            try {
+                return new CommandReplayServer(p, Paths.get(TestConfig.COMMAND_REPLAY))
+                        .latencyScale(TestConfig.COMMAND_REPLAY_SCALE)
+                        .start();
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to load command trace " + TestConfig.COMMAND_REPLAY, e);
+            }
+        });
+    }
+
+    /**
+     * Stops all replay servers started by {@link #startShared(int)} and writes their diff reports.
+     */
+    public static void stopShared() {
+        for (CommandReplayServer replay : shared.values()) {
+            replay.stop();
+            replay.writeDiffReport();
+        }
+        shared.clear();
+    }
+
+    /**
+     * Sets the factor applied to recorded latencies.
+     *
+     * @param scale 1 for recorded latency, 0.5 for twice as fast, 0 for no delay
+     * @return this server
+     */
+    public CommandReplayServer latencyScale(double scale) {
+        this.latencyScale = scale;
+        return this;
+    }
+
+    /**
+     * Starts listening on 127.0.0.1. Does nothing if already started.
+     *
+     * @return this server
+     * @throws IllegalStateException if the port cannot be bound
+     */
+    public synchronized CommandReplayServer start() {
+        if (server != null) {
+            return this;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), requestedPort), 128);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start command replay on port " + requestedPort, e);
+        }
+        server.createContext("/", this::handle);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "clickncheck-replay-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.start();
+        logger.info("Replaying {} on {} at {}x recorded latency", source, getUrl(), latencyScale);
+        return this;
+    }
+
+    /**
+     * Stops serving.
+     */
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        executor = null;
+    }
+
+    /**
+     * Returns the server URL for drivers.
+     *
+     * @return <code>http://127.0.0.1:port</code>
+     */
+    public synchronized URL getUrl() {
+        try {
+            return new URL("http://127.0.0.1:" + (server == null ? requestedPort : server.getAddress().getPort()));
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the number of replayed requests that matched no recorded command.
+     *
+     * @return unmatched request count
+     */
+    public long getUnmatchedCount() {
+        return unmatched.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    /**
+     * Writes <code>replay-diff.json</code> and logs the commands whose counts differ.
+     *
+     * @return the report file, or null if writing failed
+     */
+    public Path writeDiffReport() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("trace", source.toString());
+        report.put("latencyScale", latencyScale);
+
+        List<Map<String, Object>> commands = new ArrayList<>();
+        TreeSet<String> names = new TreeSet<>(recordedCommands.keySet());
+        names.addAll(replayedCommands.keySet());
+        for (String name : names) {
+            CommandStats recorded = recordedCommands.getOrDefault(name, new CommandStats());
+            CommandStats replayed = replayedCommands.getOrDefault(name, new CommandStats());
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("command", name);
+            row.put("recorded", recorded.count.get());
+            row.put("replayed", replayed.count.get());
+            row.put("delta", replayed.count.get() - recorded.count.get());
+            row.put("recordedMs", millis(recorded.micros.get()));
+            row.put("replayedMs", millis(replayed.micros.get()));
+            commands.add(row);
+            if (recorded.count.get() != replayed.count.get()) {
+                logger.warn("Replay command count differs for {}: recorded {}, replayed {}",
+                        name, recorded.count.get(), replayed.count.get());
+            }
+        }
+        report.put("commands", commands);
+
+        List<Map<String, Object>> sessions = new ArrayList<>();
+        long recordedTotal = 0;
+        long replayedTotal = 0;
+        for (Map.Entry<String, SessionStats> entry : recordedSessions.entrySet()) {
+            SessionStats recorded = entry.getValue();
+            SessionStats replayed = replayedSessions.get(entry.getKey());
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("sessionId", entry.getKey());
+            row.put("device", recorded.device);
+            row.put("recordedMs", millis(recorded.wallMicros()));
+            row.put("replayedMs", replayed == null ? null : millis(replayed.wallMicros()));
+            sessions.add(row);
+            recordedTotal += recorded.wallMicros();
+            replayedTotal += replayed == null ? 0 : replayed.wallMicros();
+        }
+        report.put("sessions", sessions);
+        report.put("recordedWallMs", millis(recordedTotal));
+        report.put("replayedWallMs", millis(replayedTotal));
+        report.put("unmatched", new TreeMap<>(unmatched.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().get()))));
+
+        logger.info("Replay wall time {} ms vs recorded {} ms ({} sessions), {} unmatched requests",
+                String.format(Locale.ROOT, "%.1f", replayedTotal / 1000.0),
+                String.format(Locale.ROOT, "%.1f", recordedTotal / 1000.0), sessions.size(), getUnmatchedCount());
+
+        Path file = Paths.get(TestConfig.METRICS_DIR, "replay-diff.json");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, gson.toJson(report).getBytes(StandardCharsets.UTF_8));
+            logger.info("Replay diff written to {}", file.toAbsolutePath());
+            return file;
+        } catch (IOException e) {
+            logger.warn("Failed to write replay diff: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void load(Path file) throws IOException {
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            JsonObject header = JsonParser.parseString(in.readLine()).getAsJsonObject();
+            if (header.get("version").getAsInt() != CommandTraceRecorder.FORMAT_VERSION) {
+                throw new IOException("Unsupported command trace version in " + file);
+            }
+            String device = header.has("device") && !header.get("device").isJsonNull()
+                    ? header.get("device").getAsString() : null;
+            SessionStats session = new SessionStats(device);
+            String sessionId = file.getFileName().toString();
+            for (String line = in.readLine(); line != null; line = in.readLine()) {
+                JsonObject entry = JsonParser.parseString(line).getAsJsonObject();
+                Recorded recorded = new Recorded(entry.get("d").getAsLong(), entry.get("s").getAsInt(),
+                        entry.get("b").getAsString().getBytes(StandardCharsets.UTF_8));
+                String method = entry.get("m").getAsString();
+                String path = entry.get("p").getAsString();
+                String key = method + " " + path;
+                pending.computeIfAbsent(key, k -> new ArrayDeque<>()).add(recorded);
+                lastResponse.put(key, recorded);
+                recordedCommands.computeIfAbsent(commandName(method, path), k -> new CommandStats())
+                        .add(recorded.durationMicros);
+                long start = entry.get("t").getAsLong();
+                session.observe(start, start + recorded.durationMicros);
+                String created = createdSessionId(method, path, recorded.body);
+                if (created != null) {
+                    sessionId = created;
+                }
+            }
+            recordedSessions.put(sessionId, session);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        long startNanos = System.nanoTime();
+        try (InputStream in = exchange.getRequestBody()) {
+            in.readAllBytes();
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            String key = method + " " + path;
+            Recorded recorded;
+            synchronized (pending) {
+                ArrayDeque<Recorded> queue = pending.get(key);
+                recorded = queue != null && !queue.isEmpty() ? queue.poll() : lastResponse.get(key);
+            }
+            String command = commandName(method, path);
+            if (recorded == null) {
+                unmatched.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+                respond(exchange, 404, ("{\"value\":{\"error\":\"unknown command\",\"message\":\"Not in trace: "
+                        + key.replace("\"", "'") + "\",\"stacktrace\":\"\"}}").getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            long delayMicros = (long) (recorded.durationMicros * latencyScale);
+            if (delayMicros > 0) {
+                TimeUnit.MICROSECONDS.sleep(delayMicros);
+            }
+            respond(exchange, recorded.status, recorded.body);
+            long endNanos = System.nanoTime();
+            replayedCommands.computeIfAbsent(command, k -> new CommandStats()).add((endNanos - startNanos) / 1000);
+            String sessionId = createdSessionId(method, path, recorded.body);
+            if (sessionId == null) {
+                sessionId = sessionIdOf(path);
+            }
+            if (sessionId != null) {
+                replayedSessions.computeIfAbsent(sessionId, k -> new SessionStats(null))
+                        .observe(startNanos / 1000, endNanos / 1000);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Command name of a request, using the names of {@link CommandMetrics}.
+     */
+    static String commandName(String method, String path) {
+        String trimmed = path.replaceAll("^/+|/+$", "");
+        if (trimmed.startsWith("wd/hub/")) {
+            trimmed = trimmed.substring(7);
+        }
+        String[] segments = trimmed.split("/");
+        if (segments.length == 1 && "session".equals(segments[0])) {
+            return "newSession";
+        }
+        if (segments.length >= 2 && "session".equals(segments[0])) {
+            return AppiumStubServer.commandName(method, segments);
+        }
+        return segments[segments.length - 1];
+    }
+
+    private static String sessionIdOf(String path) {
+        String[] segments = path.replaceAll("^/+", "").replaceFirst("^wd/hub/", "").split("/");
+        return segments.length >= 2 && "session".equals(segments[0]) ? segments[1] : null;
+    }
+
+    private static String createdSessionId(String method, String path, byte[] body) {
+        if (!"POST".equals(method) || !"newSession".equals(commandName(method, path))) {
+            return null;
+        }
+        try {
+            JsonObject value = JsonParser.parseString(new String(body, StandardCharsets.UTF_8))
+                    .getAsJsonObject().getAsJsonObject("value");
+            return value != null && value.has("sessionId") ? value.get("sessionId").getAsString() : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static double millis(long micros) {
+        return Math.round(micros / 100.0) / 10.0;
+    }
+
+    /**
+     * One recorded response.
+     */
+    private static final class Recorded {
+        private final long durationMicros;
+        private final int status;
+        private final byte[] body;
+
+        private Recorded(long durationMicros, int status, byte[] body) {
+            this.durationMicros = durationMicros;
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    /**
+     * Count and total time of one command.
+     */
+    private static final class CommandStats {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong micros = new AtomicLong();
+
+        private void add(long durationMicros) {
+            count.incrementAndGet();
+            micros.addAndGet(durationMicros);
+        }
+    }
+
+    /**
+     * First command start and last command end of one session.
+     */
+    private static final class SessionStats {
+        private final String device;
+        private long firstMicros = Long.MAX_VALUE;
+        private long lastMicros = Long.MIN_VALUE;
+
+        private SessionStats(String device) {
+            this.device = device;
+        }
+
+        private synchronized void observe(long startMicros, long endMicros) {
+            firstMicros = Math.min(firstMicros, startMicros);
+            lastMicros = Math.max(lastMicros, endMicros);
+        }
+
+        private synchronized long wallMicros() {
+            return lastMicros < firstMicros ? 0 : lastMicros - firstMicros;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.exit3.testing;
+
+import com.google.gson.stream.JsonWriter;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Records the HTTP command traffic between the driver and the Appium server for offline replay.
+ * <p>
+ * {@link #factory(HttpClient.Factory)} wraps the Selenium HTTP client factory. Every client it
+ * creates (one per driver session) writes a gzip-compressed JSON Lines trace
+ * <code>session-N.jsonl.gz</code> under {@link TestConfig#COMMAND_TRACE_DIR}: a header line
+ * with the device and start time, then one line per command with its start offset and
+ * duration in microseconds, method, path, response status and response body. Request bodies
+ * are not stored; the replay matches commands by method and path.
+ * </p>
+ * <p>
+ * {@link CommandReplayServer} serves a recorded trace at the recorded (or scaled) latencies, so
+ * framework changes can be benchmarked against a real suite's command mix without devices.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * // Record a device run
+ * mvn test -Dcommands.record.enabled=true
+ *
+ * // Replay it without devices, at recorded latency
+ * mvn test -Dcommands.replay=target/command-traces -Dappium.server.start=false
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ * @see TestConfig#COMMAND_RECORD_ENABLED
+ * @see CommandReplayServer
+ */
+public class CommandTraceRecorder {
+    private static final Logger logger = LoggerFactory.getLogger(CommandTraceRecorder.class);
+
+    static final int FORMAT_VERSION = 1;
+
+    private static final AtomicInteger traceCounter = new AtomicInteger();
+    private static final ConcurrentLinkedQueue<TraceFile> openTraces = new ConcurrentLinkedQueue<>();
+
+    private CommandTraceRecorder() {
+    }
+
+    /**
+     * Returns a recording factory on top of another HTTP client factory.
+     *
+     * @param delegate factory creating the real clients
+     * @return the factory
+     */
+    public static HttpClient.Factory factory(HttpClient.Factory delegate) {
+        return new HttpClient.Factory() {
+            @Override
+            public HttpClient createClient(ClientConfig config) {
+                HttpClient client = delegate.createClient(config);
+                TraceFile trace = TraceFile.open(traceCounter.incrementAndGet());
+                return trace == null ? client : new RecordingClient(client, trace);
+            }
+
+            @Override
+            public void cleanupIdleClients() {
+                delegate.cleanupIdleClients();
+            }
+        };
+    }
+
+    /**
+     * Closes all traces that are still open, e.g. of sessions that were never quit.
+     */
+    public static void closeAll() {
+        for (TraceFile trace = openTraces.poll(); trace != null; trace = openTraces.poll()) {
+            trace.close();
+        }
+    }
+
+    /**
+     * Trace file of one client.
+     */
+    private static final class TraceFile {
+        private final Path file;
+        private final BufferedWriter out;
+        private final long startNanos = System.nanoTime();
+        private int commands;
+        private boolean closed;
+
+        private TraceFile(Path file, BufferedWriter out) {
+            this.file = file;
+            this.out = out;
+        }
+
+        private static TraceFile open(int number) {
+            Path file = Paths.get(TestConfig.COMMAND_TRACE_DIR, "session-" + number + ".jsonl.gz");
+            try {
+                Files.createDirectories(file.getParent());
+                BufferedWriter out = new BufferedWriter(new OutputStreamWriter(
+                        new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8));
+                TraceFile trace = new TraceFile(file, out);
+                String device = MDC.get(LogContext.DEVICE);
+                trace.writeLine(json -> {
+                    json.name("version").value(FORMAT_VERSION);
+                    json.name("device").value(device);
+                    json.name("started").value(Instant.now().toString());
+                });
+                openTraces.add(trace);
+                return trace;
+            } catch (IOException e) {
+                logger.warn("Failed to open command trace {}: {}", file, e.getMessage());
+                return null;
+            }
+        }
+
+        private synchronized void record(HttpRequest request, HttpResponse response, long startNanos, long durationNanos,
+                                         String body) {
+            if (closed) {
+                return;
+            }
+            try {
+                writeLine(json -> {
+                    json.name("t").value((startNanos - this.startNanos) / 1000);
+                    json.name("d").value(durationNanos / 1000);
+                    json.name("m").value(request.getMethod().toString());
+                    json.name("p").value(request.getUri());
+                    json.name("s").value(response.getStatus());
+                    json.name("b").value(body);
+                });
+                commands++;
+            } catch (IOException e) {
+                logger.warn("Failed to record command in {}: {}", file, e.getMessage());
+            }
+        }
+
+        private void writeLine(JsonBody body) throws IOException {
+            JsonWriter json = new JsonWriter(out);
+            json.setHtmlSafe(false);
+            json.beginObject();
+            body.write(json);
+            json.endObject();
+            json.flush();
+            out.write('\n');
+        }
+
+        private synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            openTraces.remove(this);
+            try {
+                out.close();
+                logger.info("Command trace with {} commands written to {}", commands, file.toAbsolutePath());
+            } catch (IOException e) {
+                logger.warn("Failed to close command trace {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Writes the fields of one trace line.
+     */
+    private interface JsonBody {
+        void write(JsonWriter json) throws IOException;
+    }
+
+    /**
+     * HTTP client that records the traffic of its delegate.
+     */
+    private static final class RecordingClient implements HttpClient {
+        private final HttpClient delegate;
+        private final TraceFile trace;
+
+        private RecordingClient(HttpClient delegate, TraceFile trace) {
+            this.delegate = delegate;
+            this.trace = trace;
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            long start = System.nanoTime();
+            HttpResponse response = delegate.execute(request);
+            long duration = System.nanoTime() - start;
+            byte[] body = Contents.bytes(response.getContent());
+            response.setContent(Contents.bytes(body));
+            trace.record(request, response, start, duration, new String(body, StandardCharsets.UTF_8));
+            return response;
+        }
+
+        @Override
+        public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            return delegate.openSocket(request, listener);
+        }
+
+        @Override
+        public void close() {
+            trace.close();
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.exit3.testing;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder events emitted by the framework.
+ * <p>
+ * UiObject actions, explicit waits, scroll iterations, screenshots and AppiumManager process
+ * operations appear in a JFR recording under the <b>ClickNCheck</b> category, next to GC,
+ * allocation and thread events of the same run. When no recording is active the events are
+ * disabled: short-lived events are removed by the JIT, and {@link StepSpan} only creates its
+ * action event after checking {@link #actionsEnabled()}.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * // Record a test run
+ * mvn test -DargLine="-XX:StartFlightRecording=filename=target/clickncheck.jfr,settings=profile"
+ *
+ * // List framework events
+ * jfr print --categories ClickNCheck target/clickncheck.jfr
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+public final class FrameworkEvents {
+    private static final ActionEvent ACTION_PROBE = new ActionEvent();
+
+    private FrameworkEvents() {
+    }
+
+    /**
+     * Returns whether a recording currently collects action events.
+     *
+     * @return true if {@link ActionEvent} is enabled
+     */
+    static boolean actionsEnabled() {
+        return ACTION_PROBE.isEnabled();
+    }
+
+    /**
+     * One UiObject action, recorded when its {@link StepSpan} closes.
+     */
+    @Name("com.exit3.testing.Action")
+    @Label("UiObject Action")
+    @Category({"ClickNCheck", "Actions"})
+    @StackTrace(false)
+    static final class ActionEvent extends Event {
+        @Label("Action")
+        String action;
+
+        @Label("Element")
+        String element;
+
+        @Label("Selector Strategy")
+        String selector;
+
+        @Label("Outcome")
+        String outcome;
+
+        @Label("Retries")
+        int retries;
+
+        @Label("Wait Time")
+        @Description("Time spent in explicit waits during the action")
+        @Timespan(Timespan.NANOSECONDS)
+        long waitTime;
+
+        @Label("Error")
+        String error;
+
+        void end(StepSpan span) {
+            end();
+            if (shouldCommit()) {
+                this.action = span.getAction();
+                this.element = span.getElementName();
+                this.selector = span.getSelector();
+                this.outcome = span.getOutcome().name();
+                this.retries = span.getRetries();
+                this.waitTime = span.getWaitNanos();
+                this.error = span.getError();
+                commit();
+            }
+        }
+    }
+
+    /**
+     * One explicit wait ({@link TimedWait#until}).
+     */
+    @Name("com.exit3.testing.Wait")
+    @Label("Explicit Wait")
+    @Category({"ClickNCheck", "Waits"})
+    @StackTrace(false)
+    static final class WaitEvent extends Event {
+        @Label("Action")
+        String action;
+
+        @Label("Element")
+        String element;
+
+        @Label("Selector Strategy")
+        String selector;
+
+        @Label("Timeout")
+        @Timespan(Timespan.MILLISECONDS)
+        long timeout;
+
+        @Label("Outcome")
+        String outcome;
+
+        void end(StepSpan span, long timeoutMillis, String outcome) {
+            end();
+            if (shouldCommit()) {
+                if (span != null) {
+                    this.action = span.getAction();
+                    this.element = span.getElementName();
+                    this.selector = span.getSelector();
+                }
+                this.timeout = timeoutMillis;
+                this.outcome = outcome;
+                commit();
+            }
+        }
+    }
+
+    /**
+     * One swipe of a scroll-to-element loop.
+     */
+    @Name("com.exit3.testing.Scroll")
+    @Label("Scroll Iteration")
+    @Category({"ClickNCheck", "Actions"})
+    @StackTrace(false)
+    static final class ScrollEvent extends Event {
+        @Label("Element")
+        String element;
+
+        @Label("Direction")
+        String direction;
+
+        @Label("Attempt")
+        int attempt;
+
+        void end(String element, String direction, int attempt) {
+            end();
+            if (shouldCommit()) {
+                this.element = element;
+                this.direction = direction;
+                this.attempt = attempt;
+                commit();
+            }
+        }
+    }
+
+    /**
+     * One screen or element capture.
+     */
+    @Name("com.exit3.testing.Screenshot")
+    @Label("Screenshot")
+    @Category({"ClickNCheck", "Screenshots"})
+    @StackTrace(false)
+    static final class ScreenshotEvent extends Event {
+        @Label("Kind")
+        @Description("screen or element")
+        String kind;
+
+        @Label("Source")
+        @Description("mjpeg, webdriver or crop")
+        String source;
+
+        @Label("Size")
+        @DataAmount
+        long size;
+
+        void end(String kind, String source, byte[] image) {
+            end();
+            if (shouldCommit()) {
+                this.kind = kind;
+                this.source = source;
+                this.size = image == null ? 0 : image.length;
+                commit();
+            }
+        }
+    }
+
+    /**
+     * One AppiumManager process operation: Appium server start/stop, emulator start and boot, app install.
+     */
+    @Name("com.exit3.testing.Process")
+    @Label("Process Operation")
+    @Category({"ClickNCheck", "Processes"})
+    @StackTrace(false)
+    static final class ProcessEvent extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Target")
+        String target;
+
+        @Label("Outcome")
+        String outcome;
+
+        void end(String operation, String target, String outcome) {
+            end();
+            if (shouldCommit()) {
+                this.operation = operation;
+                this.target = target;
+                this.outcome = outcome;
+                commit();
+            }
+        }
+    }
+}
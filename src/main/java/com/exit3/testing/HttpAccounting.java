@@ -0,0 +1,392 @@
+package com.exit3.testing;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * HTTP round trip and payload accounting between the driver and the Appium server.
+ * <p>
+ * {@link #factory()} wraps the Selenium HTTP client factory. Every client it creates (one per
+ * driver session) counts requests, request and response bytes (start line, headers and body),
+ * page source and screenshot response bytes, and responses after which the server closed the
+ * connection. The Selenium HTTP client does not expose its connection pool, so connection
+ * reuse is reported as requests per client minus the connections the server closed.
+ * </p>
+ * <p>
+ * {@link ClickNCheckListener} snapshots the counters of the current thread's session when a
+ * test starts and adds the difference to the TestLogger output when it ends. Counters belong
+ * to the session, not the thread: {@link SessionPool} binds a pooled session's counters to
+ * the thread it hands the session to. At suite end
+ * {@link #report()} writes all test summaries to <code>http-per-test.json</code> under
+ * {@link TestConfig#METRICS_DIR} and flags the tests with the most response bytes.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * // Enable for drivers created by AndroidSettings/IosSettings
+ * mvn test -Dhttp.accounting.enabled=true
+ *
+ * // TestLogger output of a test
+ * HTTP summary: 84 requests, 21.4 KB sent, 3.9 MB received (page source 1.2 MB, screenshots 2.5 MB), 0 connections closed
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ * @see TestConfig#HTTP_ACCOUNTING_ENABLED
+ */
+public class HttpAccounting {
+    private static final Logger logger = LoggerFactory.getLogger(HttpAccounting.class);
+
+    static final int REQUESTS = 0;
+    static final int REQUEST_BYTES = 1;
+    static final int RESPONSE_BYTES = 2;
+    static final int PAGE_SOURCE_BYTES = 3;
+    static final int SCREENSHOT_BYTES = 4;
+    static final int CLOSED_CONNECTIONS = 5;
+    static final int FIELDS = 6;
+
+    private static final AtomicInteger clientCounter = new AtomicInteger();
+    private static final ThreadLocal<SessionCounters> sessions = new ThreadLocal<>();
+    private static final ThreadLocal<Snapshot> testStart = new ThreadLocal<>();
+    private static final ConcurrentLinkedQueue<Summary> finishedTests = new ConcurrentLinkedQueue<>();
+
+    private HttpAccounting() {
+    }
+
+    /**
+     * Returns an accounting factory on top of Selenium's default HTTP client factory.
+     *
+     * @return the factory
+     */
+    public static HttpClient.Factory factory() {
+        return factory(HttpClient.Factory.createDefault());
+    }
+
+    /**
+     * Returns an accounting factory on top of another HTTP client factory.
+     * <p>
+     * The counters of a created client are bound to the thread that creates it, which is the
+     * thread constructing the driver, until {@link #bind(SessionCounters)} binds other counters.
+     * </p>
+     *
+     * @param delegate factory creating the real clients
+     * @return the factory
+     */
+    public static HttpClient.Factory factory(HttpClient.Factory delegate) {
+        return new HttpClient.Factory() {
+            @Override
+            public HttpClient createClient(ClientConfig config) {
+                SessionCounters counters = new SessionCounters(clientCounter.incrementAndGet());
+                sessions.set(counters);
+                return new AccountingClient(delegate.createClient(config), counters);
+            }
+
+            @Override
+            public void cleanupIdleClients() {
+                delegate.cleanupIdleClients();
+            }
+        };
+    }
+
+    /**
+     * Returns the counters bound to the current thread, i.e. of the session it created last.
+     *
+     * @return the counters, or null if the thread has no accounting HTTP client
+     */
+    static SessionCounters currentSession() {
+        return sessions.get();
+    }
+
+    /**
+     * Binds a session's counters to the current thread, e.g. when a pooled session created
+     * on another thread is handed to it.
+     *
+     * @param counters the session's counters, or null to unbind
+     */
+    static void bind(SessionCounters counters) {
+        if (counters == null) {
+            sessions.remove();
+        } else {
+            sessions.set(counters);
+        }
+    }
+
+    /**
+     * Remembers the current session counters as the start of a test.
+     */
+    public static void testStarted() {
+        SessionCounters counters = sessions.get();
+        testStart.set(counters == null ? null : new Snapshot(counters));
+    }
+
+    /**
+     * Computes the HTTP traffic of the test running on this thread and keeps it for {@link #report()}.
+     * <p>
+     * A driver created during the test is counted from zero.
+     * </p>
+     *
+     * @param testName test name
+     * @return the summary, or null if the thread has no accounting HTTP client
+     */
+    public static Summary testFinished(String testName) {
+        SessionCounters counters = sessions.get();
+        Snapshot start = testStart.get();
+        testStart.remove();
+        if (counters == null) {
+            return null;
+        }
+        long[] values = new long[FIELDS];
+        for (int i = 0; i < FIELDS; i++) {
+            values[i] = counters.values.get(i);
+            if (start != null && start.counters == counters) {
+                values[i] -= start.values[i];
+            }
+        }
+        Summary summary = new Summary(testName, counters.client, values);
+        finishedTests.add(summary);
+        return summary;
+    }
+
+    /**
+     * Writes all test summaries, heaviest first, and logs the flagged tests.
+     * <p>
+     * The {@link TestConfig#HTTP_ACCOUNTING_WORST} tests with the most response bytes are
+     * flagged.
+     * </p>
+     *
+     * @return the report file, or null if no test was measured or writing failed
+     */
+    public static Path report() {
+        List<Summary> tests = new ArrayList<>();
+        for (Summary summary = finishedTests.poll(); summary != null; summary = finishedTests.poll()) {
+            tests.add(summary);
+        }
+        if (tests.isEmpty()) {
+            return null;
+        }
+        tests.sort(Comparator.comparingLong(Summary::getResponseBytes).reversed());
+        int flagged = Math.min(TestConfig.HTTP_ACCOUNTING_WORST, tests.size());
+        for (int i = 0; i < flagged; i++) {
+            Summary summary = tests.get(i);
+            summary.flagged = true;
+            logger.warn("Heavy HTTP test #{}: {} - {}", i + 1, summary.testName, summary);
+        }
+
+        Path file = Paths.get(TestConfig.METRICS_DIR, "http-per-test.json");
+        try {
+            Files.createDirectories(file.getParent());
+            Gson gson = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (Summary summary : tests) {
+                rows.add(summary.toMap());
+            }
+            Files.write(file, gson.toJson(rows).getBytes(StandardCharsets.UTF_8));
+            logger.info("HTTP accounting for {} tests written to {}", tests.size(), file.toAbsolutePath());
+            return file;
+        } catch (IOException e) {
+            logger.warn("Failed to write HTTP accounting report: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+
+    private static long headerBytes(Iterable<String> names, Function<String, Iterable<String>> values) {
+        long bytes = 2; // blank line after the headers
+        for (String name : names) {
+            for (String value : values.apply(name)) {
+                bytes += name.length() + value.length() + 4;
+            }
+        }
+        return bytes;
+    }
+
+    private static long contentBytes(Contents.Supplier content) {
+        try {
+            return content == null ? 0 : content.length();
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * HTTP traffic of one test.
+     */
+    public static final class Summary {
+        private final String testName;
+        private final int client;
+        private final long[] values;
+        private boolean flagged;
+
+        private Summary(String testName, int client, long[] values) {
+            this.testName = testName;
+            this.client = client;
+            this.values = values;
+        }
+
+        public String getTestName() {
+            return testName;
+        }
+
+        public long getRequests() {
+            return values[REQUESTS];
+        }
+
+        public long getRequestBytes() {
+            return values[REQUEST_BYTES];
+        }
+
+        public long getResponseBytes() {
+            return values[RESPONSE_BYTES];
+        }
+
+        public long getPageSourceBytes() {
+            return values[PAGE_SOURCE_BYTES];
+        }
+
+        public long getScreenshotBytes() {
+            return values[SCREENSHOT_BYTES];
+        }
+
+        public long getClosedConnections() {
+            return values[CLOSED_CONNECTIONS];
+        }
+
+        /**
+         * Returns whether this test is one of the heaviest of the suite (set by {@link #report()}).
+         *
+         * @return true if flagged
+         */
+        public boolean isFlagged() {
+            return flagged;
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("test", testName);
+            map.put("client", client);
+            map.put("flagged", flagged);
+            map.put("requests", getRequests());
+            map.put("requestBytes", getRequestBytes());
+            map.put("responseBytes", getResponseBytes());
+            map.put("pageSourceBytes", getPageSourceBytes());
+            map.put("screenshotBytes", getScreenshotBytes());
+            map.put("closedConnections", getClosedConnections());
+            map.put("reusedRequests", Math.max(0, getRequests() - getClosedConnections()));
+            return map;
+        }
+
+        @Override
+        public String toString() {
+            return getRequests() + " requests, " + formatBytes(getRequestBytes()) + " sent, "
+                    + formatBytes(getResponseBytes()) + " received (page source " + formatBytes(getPageSourceBytes())
+                    + ", screenshots " + formatBytes(getScreenshotBytes()) + "), "
+                    + getClosedConnections() + " connections closed";
+        }
+    }
+
+    /**
+     * Counters of one HTTP client, i.e. one driver session.
+     */
+    static final class SessionCounters {
+        private final int client;
+        private final AtomicLongArray values = new AtomicLongArray(FIELDS);
+
+        private SessionCounters(int client) {
+            this.client = client;
+        }
+    }
+
+    /**
+     * Session counters at the start of a test.
+     */
+    private static final class Snapshot {
+        private final SessionCounters counters;
+        private final long[] values = new long[FIELDS];
+
+        private Snapshot(SessionCounters counters) {
+            this.counters = counters;
+            for (int i = 0; i < FIELDS; i++) {
+                values[i] = counters.values.get(i);
+            }
+        }
+    }
+
+    /**
+     * HTTP client that counts the traffic of its delegate.
+     */
+    private static final class AccountingClient implements HttpClient {
+        private final HttpClient delegate;
+        private final SessionCounters counters;
+
+        private AccountingClient(HttpClient delegate, SessionCounters counters) {
+            this.delegate = delegate;
+            this.counters = counters;
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            long sent = request.getMethod().toString().length() + request.getUri().length() + 11
+                    + headerBytes(request.getHeaderNames(), request::getHeaders) + contentBytes(request.getContent());
+            counters.values.incrementAndGet(REQUESTS);
+            counters.values.addAndGet(REQUEST_BYTES, sent);
+
+            HttpResponse response = delegate.execute(request);
+
+            long body = contentBytes(response.getContent());
+            counters.values.addAndGet(RESPONSE_BYTES, 17 + headerBytes(response.getHeaderNames(), response::getHeaders) + body);
+            String uri = request.getUri();
+            if (uri.endsWith("/source")) {
+                counters.values.addAndGet(PAGE_SOURCE_BYTES, body);
+            } else if (uri.endsWith("/screenshot")) {
+                counters.values.addAndGet(SCREENSHOT_BYTES, body);
+            }
+            if ("close".equalsIgnoreCase(response.getHeader("Connection"))) {
+                counters.values.incrementAndGet(CLOSED_CONNECTIONS);
+            }
+            return response;
+        }
+
+        @Override
+        public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            return delegate.openSocket(request, listener);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.exit3.testing;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * Small image helpers shared by the screenshot utilities.
+ * <p>
+ * Everything here works on in-memory PNG/JPEG bytes as returned by
+ * <code>getScreenshotAs(OutputType.BYTES)</code>, so no temporary files are created.
+ * </p>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+final class ImageUtils {
+
+    private ImageUtils() {
+    }
+
+    /**
+     * Decodes PNG or JPEG bytes into an image.
+     *
+     * @param imageBytes encoded image
+     * @return the decoded image
+     * @throws IOException if the bytes are not a supported image
+     */
+    static BufferedImage decode(byte[] imageBytes) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageBytes));
+        if (image == null) {
+            throw new IOException("Unsupported image format (" + imageBytes.length + " bytes)");
+        }
+        return image;
+    }
+
+    /**
+     * Scales an image by the given factor into an RGB image suitable for JPEG encoding.
+     *
+     * @param source the source image
+     * @param scale scale factor, e.g. 0.25 for a quarter of the resolution
+     * @return the scaled image, at least 1x1 pixels
+     */
+    static BufferedImage scale(BufferedImage source, double scale) {
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * Crops a region out of an image, clamping the region to the image bounds.
+     *
+     * @param source the source image
+     * @param x left edge of the region in image pixels
+     * @param y top edge of the region in image pixels
+     * @param width region width in image pixels
+     * @param height region height in image pixels
+     * @return a copy of the clamped region, at least 1x1 pixels
+     */
+    static BufferedImage crop(BufferedImage source, int x, int y, int width, int height) {
+        int left = Math.max(0, Math.min(x, source.getWidth() - 1));
+        int top = Math.max(0, Math.min(y, source.getHeight() - 1));
+        int right = Math.max(left + 1, Math.min(x + width, source.getWidth()));
+        int bottom = Math.max(top + 1, Math.min(y + height, source.getHeight()));
+        BufferedImage region = new BufferedImage(right - left, bottom - top, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = region.createGraphics();
+        try {
+            graphics.drawImage(source, 0, 0, right - left, bottom - top, left, top, right, bottom, null);
+        } finally {
+            graphics.dispose();
+        }
+        return region;
+    }
+
+    /**
+     * Encodes an image as JPEG with the given quality.
+     *
+     * @param image the image to encode
+     * @param quality JPEG quality between 0.0 and 1.0
+     * @param out destination stream (not closed)
+     * @throws IOException if encoding fails
+     */
+    static void writeJpeg(BufferedImage image, float quality, OutputStream out) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
+        if (!writers.hasNext()) {
+            throw new IOException("No JPEG image writer available");
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(toRgb(image), null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * JPEG cannot carry an alpha channel, so screenshots decoded from PNG are flattened first.
+     */
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+}
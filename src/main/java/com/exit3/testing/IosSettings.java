@@ -2,10 +2,12 @@ package com.exit3.testing;
 
 import io.appium.java_client.ios.IOSDriver;
 import org.openqa.selenium.remote.DesiredCapabilities;
+import org.slf4j.MDC;
 
-import java.net.MalformedURLException;
+import java.io.IOException;
 import java.net.URL;
 
+import static com.exit3.testing.AppiumManager.commandExecutor;
 import static com.exit3.testing.AppiumManager.startAppiumServer;
 
 
@@ -13,11 +15,9 @@ public class IosSettings {
     public static URL url;
     public static DesiredCapabilities capabilities;
     public static ThreadLocal<IOSDriver> driverIos = new ThreadLocal<>();
-    public static IOSDriver initialize(String appName, String appPackage, String phoneName, String phoneId, String phoneVersion, String xcodeOrgId, String xcodeSigningId, String ipAddress, String port) throws MalformedURLException, InterruptedException {
-        startAppiumServer(ipAddress,port);
-
-        final String URL_STRING = "http://localhost:" + port;
-        url = new URL(URL_STRING);
+    public static IOSDriver initialize(String appName, String appPackage, String phoneName, String phoneId, String phoneVersion, String xcodeOrgId, String xcodeSigningId, String ipAddress, String port) throws IOException, InterruptedException {
+        LogContext.setDevice(phoneId != null && !phoneId.isEmpty() ? phoneId : phoneName);
+        url = startAppiumServer(ipAddress,port);
         capabilities = new DesiredCapabilities();
         capabilities.setCapability("appium:automationName", "XCUITest");
         capabilities.setCapability("useNewWDA", false);
@@ -39,7 +39,26 @@ public class IosSettings {
         capabilities.setCapability("appium:settings[pageSourceExcludedAttributes]", "visible,enabled,x,y,width,height");
         capabilities.setCapability("appium:UpdatedWDABundleID", "com.shape.WebDriverAgentRunner");
 
-        driverIos.set(new IOSDriver(url, capabilities));
+        int mjpegPort = 0;
+        if (TestConfig.MJPEG_ENABLED) {
+            mjpegPort = MjpegFrameStream.nextPort();
+            capabilities.setCapability("appium:mjpegServerPort", mjpegPort);
+        }
+
+        long sessionStart = System.nanoTime();
+        DesiredCapabilities requested = capabilities;
+        URL serverUrl = url;
+        driverIos.set(SessionPool.acquire(SessionPool.key("ios", MDC.get(LogContext.DEVICE), serverUrl), appPackage,
+                requested, () -> new IOSDriver(commandExecutor(serverUrl), requested)));
+        ChromeTracer.record("session", "newSession", sessionStart, MDC.get(LogContext.DEVICE));
+        LogContext.setSession(String.valueOf(driverIos.get().getSessionId()));
+        if (TestConfig.MJPEG_ENABLED) {
+            // A reused session streams on the port it was created with
+            mjpegPort = ((Number) SessionPool.requestedCapabilities(driverIos.get(), requested)
+                    .getCapability("appium:mjpegServerPort")).intValue();
+            MjpegFrameStream.start(ipAddress, mjpegPort);
+        }
+        ScreenRecorder.start(driverIos.get());
         return driverIos.get();
     }
 }
@@ -0,0 +1,394 @@
+package com.exit3.testing;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live metrics endpoint for runs in progress.
+ * <p>
+ * With {@link TestConfig#LIVE_METRICS_ENABLED} the listener starts a JDK
+ * <code>HttpServer</code> on <code>127.0.0.1:{@link TestConfig#LIVE_METRICS_PORT}</code> that serves:
+ * </p>
+ * <ul>
+ *   <li><code>/metrics</code> - Prometheus text format</li>
+ *   <li><code>/metrics.json</code> - the same data as JSON</li>
+ * </ul>
+ * <p>
+ * Per device it reports the current test, test results so far, actions and failed actions,
+ * the action rate over the last minute and the wait-time ratio of top-level actions. Globally
+ * it reports the screenshot ring buffer backlog and command latency percentiles of the last
+ * one to two minutes.
+ * </p>
+ * <p>
+ * The hot path ({@link StepSpan#close()}, the timed command executor) only increments
+ * lock-free counters ({@link LongAdder}, {@link AtomicLongArray}); rates and percentiles are
+ * computed when the endpoint is scraped and by a sampler thread every
+ * {@value #SAMPLE_SECONDS} seconds.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * mvn test -Dmetrics.live.enabled=true
+ *
+ * curl http://127.0.0.1:9464/metrics.json
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ * @see TestConfig#LIVE_METRICS_ENABLED
+ */
+public class LiveMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(LiveMetrics.class);
+
+    static final int SAMPLE_SECONDS = 5;
+    private static final int RATE_SAMPLES = 60 / SAMPLE_SECONDS;
+    private static final int LATENCY_WINDOW_SECONDS = 60;
+    private static final String NO_DEVICE = "no-device";
+
+    private static final ConcurrentHashMap<String, DeviceStats> devices = new ConcurrentHashMap<>();
+    private static final ThreadLocal<DeviceStats> threadDevice = new ThreadLocal<>();
+    private static final AtomicLongArray[] latencyWindows = {
+            new AtomicLongArray(CommandMetrics.BUCKETS + 1), new AtomicLongArray(CommandMetrics.BUCKETS + 1)
+    };
+    private static volatile int latencyWindow;
+
+    private static HttpServer server;
+    private static ScheduledExecutorService sampler;
+    private static long startMillis;
+
+    private LiveMetrics() {
+    }
+
+    /**
+     * Starts the endpoint and the sampler. Does nothing if already started.
+     */
+    public static synchronized void start() {
+        if (server != null) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                    TestConfig.LIVE_METRICS_PORT), 0);
+        } catch (IOException e) {
+            logger.warn("Failed to start live metrics endpoint on port {}: {}", TestConfig.LIVE_METRICS_PORT, e.getMessage());
+            return;
+        }
+        server.createContext("/metrics", exchange -> respond(exchange, "text/plain; version=0.0.4", toPrometheus()));
+        server.createContext("/metrics.json", exchange -> respond(exchange, "application/json", toJson()));
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "clickncheck-live-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(sampler);
+        sampler.scheduleAtFixedRate(LiveMetrics::sample, SAMPLE_SECONDS, SAMPLE_SECONDS, TimeUnit.SECONDS);
+        sampler.scheduleAtFixedRate(LiveMetrics::rotateLatencyWindow,
+                LATENCY_WINDOW_SECONDS, LATENCY_WINDOW_SECONDS, TimeUnit.SECONDS);
+        startMillis = System.currentTimeMillis();
+        server.start();
+        logger.info("Live metrics at http://127.0.0.1:{}/metrics and /metrics.json", server.getAddress().getPort());
+    }
+
+    /**
+     * Stops the endpoint and the sampler.
+     */
+    public static synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        sampler.shutdownNow();
+        server = null;
+        sampler = null;
+    }
+
+    /**
+     * Returns whether the endpoint is running.
+     *
+     * @return true if started
+     */
+    public static synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Marks the start of a test on the current thread's device.
+     *
+     * @param testName test name
+     */
+    public static void testStarted(String testName) {
+        DeviceStats stats = device();
+        stats.currentTest = testName;
+        stats.tests.increment();
+    }
+
+    /**
+     * Records the result of the current thread's test.
+     *
+     * @param passed true if passed
+     * @param skipped true if skipped
+     */
+    public static void testFinished(boolean passed, boolean skipped) {
+        DeviceStats stats = device();
+        stats.currentTest = null;
+        (skipped ? stats.skipped : passed ? stats.passed : stats.failed).increment();
+    }
+
+    /**
+     * Records a closed action span. Called by {@link StepSpan#close()}.
+     *
+     * @param span the closed span
+     */
+    static void actionFinished(StepSpan span) {
+        DeviceStats stats = device();
+        stats.actions.increment();
+        if (span.getOutcome() == StepSpan.Outcome.FAILED) {
+            stats.failedActions.increment();
+        }
+        if (span.isTopLevel()) {
+            stats.actionNanos.add(span.getDurationNanos());
+            stats.waitNanos.add(span.getWaitNanos());
+        }
+    }
+
+    /**
+     * Records the latency of one WebDriver command.
+     *
+     * @param nanos latency in nanoseconds
+     */
+    static void commandFinished(long nanos) {
+        latencyWindows[latencyWindow].incrementAndGet(CommandMetrics.bucket(nanos / 1000));
+    }
+
+    /**
+     * Returns the current metrics as JSON.
+     *
+     * @return JSON document
+     */
+    public static String toJson() {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("uptimeSeconds", startMillis == 0 ? 0 : (System.currentTimeMillis() - startMillis) / 1000);
+        Map<String, Object> perDevice = new TreeMap<>();
+        for (Map.Entry<String, DeviceStats> entry : devices.entrySet()) {
+            DeviceStats stats = entry.getValue();
+            Map<String, Object> device = new LinkedHashMap<>();
+            device.put("currentTest", stats.currentTest);
+            device.put("tests", stats.tests.sum());
+            device.put("passed", stats.passed.sum());
+            device.put("failed", stats.failed.sum());
+            device.put("skipped", stats.skipped.sum());
+            device.put("actions", stats.actions.sum());
+            device.put("failedActions", stats.failedActions.sum());
+            device.put("actionsPerMinute", stats.actionsPerMinute());
+            device.put("waitRatio", round(stats.waitRatio()));
+            perDevice.put(entry.getKey(), device);
+        }
+        root.put("devices", perDevice);
+        root.put("screenshotBacklog", ScreenshotRingBuffer.bufferedFrames());
+        long[] latency = recentLatency();
+        Map<String, Object> commands = new LinkedHashMap<>();
+        commands.put("count", latency[CommandMetrics.BUCKETS]);
+        commands.put("p50Ms", round(percentileMicros(latency, 0.50) / 1e3));
+        commands.put("p90Ms", round(percentileMicros(latency, 0.90) / 1e3));
+        commands.put("p99Ms", round(percentileMicros(latency, 0.99) / 1e3));
+        root.put("recentCommandLatency", commands);
+        Gson gson = new GsonBuilder().disableHtmlEscaping().serializeNulls().setPrettyPrinting().create();
+        return gson.toJson(root);
+    }
+
+    /**
+     * Returns the current metrics in Prometheus text format.
+     *
+     * @return metrics text
+     */
+    public static String toPrometheus() {
+        StringBuilder out = new StringBuilder();
+        out.append("# TYPE clickncheck_tests_total counter\n");
+        for (Map.Entry<String, DeviceStats> entry : new TreeMap<>(devices).entrySet()) {
+            String device = label(entry.getKey());
+            DeviceStats stats = entry.getValue();
+            out.append("clickncheck_tests_total{device=\"").append(device).append("\",result=\"passed\"} ").append(stats.passed.sum()).append('\n');
+            out.append("clickncheck_tests_total{device=\"").append(device).append("\",result=\"failed\"} ").append(stats.failed.sum()).append('\n');
+            out.append("clickncheck_tests_total{device=\"").append(device).append("\",result=\"skipped\"} ").append(stats.skipped.sum()).append('\n');
+        }
+        out.append("# TYPE clickncheck_current_test_info gauge\n");
+        for (Map.Entry<String, DeviceStats> entry : new TreeMap<>(devices).entrySet()) {
+            String test = entry.getValue().currentTest;
+            if (test != null) {
+                out.append("clickncheck_current_test_info{device=\"").append(label(entry.getKey()))
+                        .append("\",test=\"").append(label(test)).append("\"} 1\n");
+            }
+        }
+        out.append("# TYPE clickncheck_actions_total counter\n");
+        for (Map.Entry<String, DeviceStats> entry : new TreeMap<>(devices).entrySet()) {
+            out.append("clickncheck_actions_total{device=\"").append(label(entry.getKey())).append("\"} ")
+                    .append(entry.getValue().actions.sum()).append('\n');
+        }
+        out.append("# TYPE clickncheck_failed_actions_total counter\n");
+        for (Map.Entry<String, DeviceStats> entry : new TreeMap<>(devices).entrySet()) {
+            out.append("clickncheck_failed_actions_total{device=\"").append(label(entry.getKey())).append("\"} ")
+                    .append(entry.getValue().failedActions.sum()).append('\n');
+        }
+        out.append("# TYPE clickncheck_actions_per_minute gauge\n");
+        for (Map.Entry<String, DeviceStats> entry : new TreeMap<>(devices).entrySet()) {
+            out.append("clickncheck_actions_per_minute{device=\"").append(label(entry.getKey())).append("\"} ")
+                    .append(entry.getValue().actionsPerMinute()).append('\n');
+        }
+        out.append("# TYPE clickncheck_wait_ratio gauge\n");
+        for (Map.Entry<String, DeviceStats> entry : new TreeMap<>(devices).entrySet()) {
+            out.append("clickncheck_wait_ratio{device=\"").append(label(entry.getKey())).append("\"} ")
+                    .append(String.format(Locale.ROOT, "%.4f", entry.getValue().waitRatio())).append('\n');
+        }
+        out.append("# TYPE clickncheck_screenshot_backlog gauge\n");
+        out.append("clickncheck_screenshot_backlog ").append(ScreenshotRingBuffer.bufferedFrames()).append('\n');
+        long[] latency = recentLatency();
+        out.append("# TYPE clickncheck_recent_command_latency_seconds summary\n");
+        for (double quantile : new double[] {0.5, 0.9, 0.99}) {
+            out.append("clickncheck_recent_command_latency_seconds{quantile=\"").append(quantile).append("\"} ")
+                    .append(String.format(Locale.ROOT, "%.6f", percentileMicros(latency, quantile) / 1e6)).append('\n');
+        }
+        out.append("clickncheck_recent_command_latency_seconds_count ").append(latency[CommandMetrics.BUCKETS]).append('\n');
+        return out.toString();
+    }
+
+    private static DeviceStats device() {
+        String device = MDC.get(LogContext.DEVICE);
+        if (device == null) {
+            device = NO_DEVICE;
+        }
+        DeviceStats stats = threadDevice.get();
+        if (stats == null || !stats.device.equals(device)) {
+            stats = devices.computeIfAbsent(device, DeviceStats::new);
+            threadDevice.set(stats);
+        }
+        return stats;
+    }
+
+    private static void sample() {
+        for (DeviceStats stats : devices.values()) {
+            stats.sample();
+        }
+    }
+
+    private static void rotateLatencyWindow() {
+        int next = 1 - latencyWindow;
+        AtomicLongArray window = latencyWindows[next];
+        for (int i = 0; i < window.length(); i++) {
+            window.set(i, 0);
+        }
+        latencyWindow = next;
+    }
+
+    /**
+     * Sums both latency windows; the last slot holds the total count.
+     */
+    private static long[] recentLatency() {
+        long[] merged = new long[CommandMetrics.BUCKETS + 1];
+        for (AtomicLongArray window : latencyWindows) {
+            for (int i = 0; i < CommandMetrics.BUCKETS; i++) {
+                long count = window.get(i);
+                merged[i] += count;
+                merged[CommandMetrics.BUCKETS] += count;
+            }
+        }
+        return merged;
+    }
+
+    private static long percentileMicros(long[] histogram, double quantile) {
+        long rank = (long) Math.ceil(histogram[CommandMetrics.BUCKETS] * quantile);
+        long seen = 0;
+        for (int i = 0; i < CommandMetrics.BUCKETS; i++) {
+            seen += histogram[i];
+            if (seen >= rank && histogram[i] > 0) {
+                return CommandMetrics.bucketUpperMicros(i);
+            }
+        }
+        return 0;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    private static String label(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static void respond(HttpExchange exchange, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=utf-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Counters of one device. Written by test threads, read by the endpoint.
+     */
+    private static final class DeviceStats {
+        private final String device;
+        private final LongAdder tests = new LongAdder();
+        private final LongAdder passed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final LongAdder actions = new LongAdder();
+        private final LongAdder failedActions = new LongAdder();
+        private final LongAdder actionNanos = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private volatile String currentTest;
+
+        // Action counts sampled every SAMPLE_SECONDS, owned by the sampler thread
+        private final long[] actionSamples = new long[RATE_SAMPLES + 1];
+        private int samples;
+        private volatile long actionsPerMinute;
+
+        private DeviceStats(String device) {
+            this.device = device;
+            // The device starts with zero actions, so its first interval counts towards the rate
+            this.samples = 1;
+        }
+
+        private void sample() {
+            long total = actions.sum();
+            actionSamples[samples % actionSamples.length] = total;
+            samples++;
+            int window = Math.min(samples - 1, RATE_SAMPLES);
+            if (window > 0) {
+                long oldest = actionSamples[(samples - 1 - window) % actionSamples.length];
+                actionsPerMinute = (total - oldest) * 60 / ((long) window * SAMPLE_SECONDS);
+            }
+        }
+
+        private long actionsPerMinute() {
+            return actionsPerMinute;
+        }
+
+        private double waitRatio() {
+            long total = actionNanos.sum();
+            return total == 0 ? 0 : (double) waitNanos.sum() / total;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.exit3.testing;
+
+import org.slf4j.MDC;
+
+/**
+ * MDC keys that tag every log line with the device, driver session and test of the current thread.
+ * <p>
+ * The device and session are set by {@link AndroidSettings#initialize} and
+ * {@link IosSettings#initialize}, the test name by {@link ClickNCheckListener}. The shipped
+ * <code>logback.xml</code> prints the keys in every pattern and uses <code>device</code> to
+ * shard output into one file per device under <code>target/logs/devices/</code>.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * // Pattern
+ * %d [%thread] [%X{device}] [%X{test}] %-5level %logger{36} - %msg%n
+ *
+ * // Custom threads that act on a device's behalf
+ * LogContext.setDevice("Pixel_7");
+ * try {
+ *     ...
+ * } finally {
+ *     LogContext.clear();
+ * }
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+public class LogContext {
+    /** MDC key of the device name (file name safe). */
+    public static final String DEVICE = "device";
+    /** MDC key of the WebDriver session id. */
+    public static final String SESSION = "session";
+    /** MDC key of the running test method. */
+    public static final String TEST = "test";
+
+    private LogContext() {
+    }
+
+    /**
+     * Sets the device of the current thread. Characters that are unsafe in file names are
+     * replaced, because the value selects the per-device log file.
+     *
+     * @param device device name or udid
+     */
+    public static void setDevice(String device) {
+        put(DEVICE, device == null ? null : device.replaceAll("[^A-Za-z0-9_.-]", "_"));
+    }
+
+    /**
+     * Sets the driver session of the current thread.
+     *
+     * @param session WebDriver session id
+     */
+    public static void setSession(String session) {
+        put(SESSION, session);
+    }
+
+    /**
+     * Sets the running test of the current thread.
+     *
+     * @param test test method name, or null to clear it
+     */
+    public static void setTest(String test) {
+        put(TEST, test);
+    }
+
+    /**
+     * Removes all ClickNCheck keys from the current thread's MDC.
+     */
+    public static void clear() {
+        MDC.remove(DEVICE);
+        MDC.remove(SESSION);
+        MDC.remove(TEST);
+    }
+
+    private static void put(String key, String value) {
+        if (value == null || value.isEmpty()) {
+            MDC.remove(key);
+        } else {
+            MDC.put(key, value);
+        }
+    }
+}
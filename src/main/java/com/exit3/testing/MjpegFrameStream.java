@@ -0,0 +1,448 @@
+package com.exit3.testing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Client for the MJPEG screen stream exposed by the UiAutomator2 and XCUITest servers.
+ * <p>
+ * A screenshot over the WebDriver endpoint costs a full HTTP round trip plus PNG encoding
+ * on the device for every frame. When <code>-Dmjpeg.enabled=true</code>, the settings classes
+ * ask the driver to expose its MJPEG stream on a local port (<code>appium:mjpegServerPort</code>)
+ * and start one stream per session. A daemon thread decodes the multipart stream into a
+ * small ring of the most recent JPEG frames, so screenshot helpers can grab a frame
+ * without a round trip and tests can wait for visual conditions.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * MjpegFrameStream stream = MjpegFrameStream.current();
+ *
+ * // Wait until a spinner region stops changing for 500 ms
+ * stream.waitUntilRegionStable(new Rectangle(100, 400, 200, 200),
+ *         Duration.ofMillis(500), Duration.ofSeconds(10));
+ *
+ * // Wait until anything on screen changes after a tap
+ * stream.waitUntilRegionChanged(null, Duration.ofSeconds(5));
+ * }</pre>
+ * <p>
+ * Regions are given in frame pixels. Frames may be scaled down by the server
+ * (<code>mjpegScalingFactor</code>), so derive regions from {@link Frame#getWidth()}.
+ * </p>
+ *
+ * <h2>Configuration:</h2>
+ * <ul>
+ *   <li><b>mjpeg.enabled</b> - Start an MJPEG stream per session (default: false)</li>
+ *   <li><b>mjpeg.port</b> - First local port; each session gets the next free one (default: 9100)</li>
+ *   <li><b>mjpeg.frames</b> - Frames kept in memory per stream (default: 3)</li>
+ *   <li><b>mjpeg.max.frame.age.ms</b> - Oldest frame the screenshot helpers accept (default: 500)</li>
+ * </ul>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+public class MjpegFrameStream {
+    private static final Logger logger = LoggerFactory.getLogger(MjpegFrameStream.class);
+
+    /**
+     * Mean absolute per-channel difference below which two regions count as equal.
+     * JPEG re-encoding of an unchanged screen produces small non-zero differences.
+     */
+    private static final double REGION_EQUAL_THRESHOLD = 2.0;
+
+    private static final int RECONNECT_DELAY_MS = 500;
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+
+    private static final AtomicInteger portOffset = new AtomicInteger();
+    private static final ThreadLocal<MjpegFrameStream> streams = new ThreadLocal<>();
+
+    private final URL url;
+    private final Frame[] frames;
+    private final Object frameLock = new Object();
+    private volatile Frame latest;
+    private volatile boolean running = true;
+    private long sequence;
+    private int next;
+    private Thread reader;
+
+    private MjpegFrameStream(URL url, int frameCount) {
+        this.url = url;
+        this.frames = new Frame[Math.max(1, frameCount)];
+    }
+
+    /**
+     * Returns the next local port for a session's MJPEG server.
+     *
+     * @return a port starting at {@link TestConfig#MJPEG_PORT}
+     */
+    public static int nextPort() {
+        return TestConfig.MJPEG_PORT + portOffset.getAndIncrement();
+    }
+
+    /**
+     * Starts reading the MJPEG stream of the current thread's session.
+     * Replaces (and stops) a stream previously started on this thread.
+     *
+     * @param host host the MJPEG port is forwarded to (normally the Appium host)
+     * @param port the local MJPEG port
+     * @return the started stream
+     * @throws IOException if the stream URL is invalid
+     */
+    public static MjpegFrameStream start(String host, int port) throws IOException {
+        stop();
+        MjpegFrameStream stream = new MjpegFrameStream(new URL("http://" + host + ":" + port), TestConfig.MJPEG_FRAMES);
+        stream.reader = new Thread(stream::readLoop, "clickncheck-mjpeg-" + port);
+        stream.reader.setDaemon(true);
+        stream.reader.start();
+        streams.set(stream);
+        logger.info("MJPEG frame stream started on {}", stream.url);
+        return stream;
+    }
+
+    /**
+     * Returns the stream of the current thread's session, or null if none is running.
+     *
+     * @return the current stream or null
+     */
+    public static MjpegFrameStream current() {
+        return streams.get();
+    }
+
+    /**
+     * Stops the stream of the current thread, if any. Threads waiting for a frame of the
+     * stream return at once.
+     */
+    public static void stop() {
+        MjpegFrameStream stream = streams.get();
+        if (stream != null) {
+            synchronized (stream.frameLock) {
+                stream.running = false;
+                stream.frameLock.notifyAll();
+            }
+            stream.reader.interrupt();
+            streams.remove();
+        }
+    }
+
+    /**
+     * Returns the latest frame of the current thread's stream if it is younger than
+     * {@link TestConfig#MJPEG_MAX_FRAME_AGE_MS}, otherwise null.
+     * Used by the screenshot helpers to skip the WebDriver screenshot round trip.
+     *
+     * @return JPEG bytes or null
+     */
+    static byte[] grabCurrent() {
+        MjpegFrameStream stream = streams.get();
+        if (stream == null) {
+            return null;
+        }
+        Frame frame = stream.latest;
+        if (frame == null || frame.ageNanos() > TimeUnit.MILLISECONDS.toNanos(TestConfig.MJPEG_MAX_FRAME_AGE_MS)) {
+            return null;
+        }
+        return frame.jpeg;
+    }
+
+    /**
+     * Returns the most recent frame without waiting.
+     *
+     * @return the latest frame, or null if no frame has been received yet
+     */
+    public Frame latestFrame() {
+        return latest;
+    }
+
+    /**
+     * Returns the frames currently held in memory, oldest first.
+     *
+     * @return up to {@link TestConfig#MJPEG_FRAMES} recent frames
+     */
+    public Frame[] recentFrames() {
+        synchronized (frameLock) {
+            Frame[] recent = new Frame[frames.length];
+            int count = 0;
+            for (int i = 0; i < frames.length; i++) {
+                Frame frame = frames[(next + i) % frames.length];
+                if (frame != null) {
+                    recent[count++] = frame;
+                }
+            }
+            return Arrays.copyOf(recent, count);
+        }
+    }
+
+    /**
+     * Waits for a frame received after this call.
+     *
+     * @param timeout maximum time to wait
+     * @return the new frame, or null on timeout, when the stream stops or when the calling thread is interrupted
+     */
+    public Frame nextFrame(Duration timeout) {
+        long after = latest == null ? -1 : latest.sequence;
+        return awaitFrameAfter(after, System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * Waits until the region has not changed for <code>stableFor</code>.
+     *
+     * @param region region in frame pixels, or null for the whole frame
+     * @param stableFor how long the region must stay unchanged
+     * @param timeout maximum time to wait
+     * @return true if the region became stable, false on timeout, when the stream stops or
+     *         when the calling thread is interrupted
+     */
+    public boolean waitUntilRegionStable(Rectangle region, Duration stableFor, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Frame reference = awaitFrameAfter(-1, deadline);
+        if (reference == null) {
+            return false;
+        }
+        BufferedImage referenceImage = decode(reference);
+        long stableSince = reference.receivedNanos;
+
+        while (System.nanoTime() < deadline) {
+            Frame frame = awaitFrameAfter(reference.sequence, Math.min(deadline, stableSince + stableFor.toNanos()));
+            if (frame == null) {
+                if (System.nanoTime() - stableSince >= stableFor.toNanos()) {
+                    return true;
+                }
+                if (!running || Thread.currentThread().isInterrupted()) {
+                    return false;
+                }
+                continue;
+            }
+            BufferedImage image = decode(frame);
+            if (image == null || referenceImage == null || difference(referenceImage, image, region) > REGION_EQUAL_THRESHOLD) {
+                stableSince = frame.receivedNanos;
+                referenceImage = image;
+            } else if (frame.receivedNanos - stableSince >= stableFor.toNanos()) {
+                return true;
+            }
+            reference = frame;
+        }
+        return false;
+    }
+
+    /**
+     * Waits until the region differs from how it looks when this method is called.
+     *
+     * @param region region in frame pixels, or null for the whole frame
+     * @param timeout maximum time to wait
+     * @return true if the region changed, false on timeout, when the stream stops or when
+     *         the calling thread is interrupted
+     */
+    public boolean waitUntilRegionChanged(Rectangle region, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Frame reference = awaitFrameAfter(-1, deadline);
+        if (reference == null) {
+            return false;
+        }
+        BufferedImage referenceImage = decode(reference);
+        long seen = reference.sequence;
+        while (System.nanoTime() < deadline) {
+            Frame frame = awaitFrameAfter(seen, deadline);
+            if (frame == null) {
+                return false;
+            }
+            seen = frame.sequence;
+            BufferedImage image = decode(frame);
+            if (image != null && referenceImage != null && difference(referenceImage, image, region) > REGION_EQUAL_THRESHOLD) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Frame awaitFrameAfter(long sequenceExclusive, long deadlineNanos) {
+        synchronized (frameLock) {
+            while (latest == null || latest.sequence <= sequenceExclusive) {
+                long remaining = deadlineNanos - System.nanoTime();
+                if (remaining <= 0 || !running || Thread.currentThread().isInterrupted()) {
+                    return null;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(frameLock, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+            return latest;
+        }
+    }
+
+    private void publish(byte[] jpeg) {
+        synchronized (frameLock) {
+            Frame frame = new Frame(jpeg, ++sequence, System.nanoTime());
+            frames[next] = frame;
+            next = (next + 1) % frames.length;
+            latest = frame;
+            frameLock.notifyAll();
+        }
+    }
+
+    /**
+     * Reads the multipart stream and extracts JPEG images between SOI (FFD8) and EOI (FFD9) markers.
+     * Inside entropy-coded JPEG data 0xFF is always byte-stuffed, so the EOI marker is unambiguous.
+     */
+    private void readLoop() {
+        byte[] buffer = new byte[READ_BUFFER_BYTES];
+        byte[] frame = new byte[READ_BUFFER_BYTES];
+        while (running) {
+            HttpURLConnection connection = null;
+            try {
+                connection = (HttpURLConnection) url.openConnection();
+                connection.setConnectTimeout(2000);
+                connection.setReadTimeout(5000);
+                try (InputStream in = new BufferedInputStream(connection.getInputStream())) {
+                    int length = 0;
+                    boolean inFrame = false;
+                    int previous = -1;
+                    int read;
+                    while (running && (read = in.read(buffer)) != -1) {
+                        for (int i = 0; i < read; i++) {
+                            int current = buffer[i] & 0xFF;
+                            if (!inFrame) {
+                                if (previous == 0xFF && current == 0xD8) {
+                                    inFrame = true;
+                                    frame[0] = (byte) 0xFF;
+                                    frame[1] = (byte) 0xD8;
+                                    length = 2;
+                                }
+                            } else {
+                                if (length == frame.length) {
+                                    frame = Arrays.copyOf(frame, frame.length * 2);
+                                }
+                                frame[length++] = (byte) current;
+                                if (previous == 0xFF && current == 0xD9) {
+                                    publish(Arrays.copyOf(frame, length));
+                                    inFrame = false;
+                                    current = -1;
+                                }
+                            }
+                            previous = current;
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                if (running) {
+                    logger.debug("MJPEG stream {} interrupted: {}; reconnecting", url, e.getMessage());
+                }
+            } finally {
+                if (connection != null) {
+                    connection.disconnect();
+                }
+            }
+            if (running) {
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static BufferedImage decode(Frame frame) {
+        try {
+            return frame.image();
+        } catch (IOException e) {
+            logger.debug("Skipping undecodable MJPEG frame {}: {}", frame.sequence, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Mean absolute per-channel difference of the region, sampled on a 4 pixel grid.
+     */
+    private static double difference(BufferedImage a, BufferedImage b, Rectangle region) {
+        if (a.getWidth() != b.getWidth() || a.getHeight() != b.getHeight()) {
+            return Double.MAX_VALUE;
+        }
+        Rectangle bounds = new Rectangle(0, 0, a.getWidth(), a.getHeight());
+        Rectangle area = region == null ? bounds : region.intersection(bounds);
+        if (area.isEmpty()) {
+            return 0;
+        }
+        long total = 0;
+        long samples = 0;
+        for (int y = area.y; y < area.y + area.height; y += 4) {
+            for (int x = area.x; x < area.x + area.width; x += 4) {
+                int pa = a.getRGB(x, y);
+                int pb = b.getRGB(x, y);
+                total += Math.abs(((pa >> 16) & 0xFF) - ((pb >> 16) & 0xFF))
+                        + Math.abs(((pa >> 8) & 0xFF) - ((pb >> 8) & 0xFF))
+                        + Math.abs((pa & 0xFF) - (pb & 0xFF));
+                samples += 3;
+            }
+        }
+        return samples == 0 ? 0 : (double) total / samples;
+    }
+
+    /**
+     * A single decoded-on-demand JPEG frame from the stream.
+     */
+    public static final class Frame {
+        private final byte[] jpeg;
+        private final long sequence;
+        private final long receivedNanos;
+        private BufferedImage image;
+
+        private Frame(byte[] jpeg, long sequence, long receivedNanos) {
+            this.jpeg = jpeg;
+            this.sequence = sequence;
+            this.receivedNanos = receivedNanos;
+        }
+
+        public byte[] getJpeg() {
+            return jpeg;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        /**
+         * @return age of the frame in nanoseconds
+         */
+        public long ageNanos() {
+            return System.nanoTime() - receivedNanos;
+        }
+
+        /**
+         * @return frame width in pixels (decodes the frame on first use)
+         * @throws IOException if the frame cannot be decoded
+         */
+        public int getWidth() throws IOException {
+            return image().getWidth();
+        }
+
+        /**
+         * @return frame height in pixels (decodes the frame on first use)
+         * @throws IOException if the frame cannot be decoded
+         */
+        public int getHeight() throws IOException {
+            return image().getHeight();
+        }
+
+        private synchronized BufferedImage image() throws IOException {
+            if (image == null) {
+                image = ImageUtils.decode(jpeg);
+            }
+            return image;
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package com.exit3.testing;
+
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.android.AndroidStartScreenRecordingOptions;
+import io.appium.java_client.ios.IOSStartScreenRecordingOptions;
+import io.appium.java_client.screenrecording.CanRecordScreen;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Continuous device screen recording that keeps video only for failed tests.
+ * <p>
+ * When enabled with <code>-Drecording.enabled=true</code>, {@link AndroidSettings#initialize}
+ * and {@link IosSettings#initialize} start a screen recording for the new session. The
+ * recording is split into segments of <code>recording.segment.seconds</code>: after every
+ * mutating {@link UiObject} action the current segment is rotated once it is old enough,
+ * and only the previous segment is kept in memory.
+ * </p>
+ * <p>
+ * At the end of each test {@link ClickNCheckListener} calls {@link #finishTest(String, boolean)}:
+ * </p>
+ * <ul>
+ *   <li><b>Failed:</b> the last <code>recording.keep.seconds</code> are written to
+ *       <code>{screenshot.dir}/recordings/</code>, trimmed locally with ffmpeg when available
+ *       (the raw segments are kept otherwise)</li>
+ *   <li><b>Passed/Skipped:</b> the recording is dropped on the device without being downloaded</li>
+ * </ul>
+ * <p>
+ * In both cases a fresh recording is started for the next test. At suite end {@link #logCost()}
+ * logs the bytes transferred from the device, the bytes kept on disk, the time spent in
+ * recording commands and the JVM CPU time of recording work, next to the same figures for
+ * the screenshots and frames {@link UiObject} captured in the run. Comparing a recorded run
+ * with a screenshot-heavy run of the same suite shows which costs more. CPU time is the
+ * test threads' own time (decoding, saving); ffmpeg runs in a separate process and is
+ * reported as trimming time.
+ * </p>
+ *
+ * <h2>Configuration:</h2>
+ * <ul>
+ *   <li><b>recording.enabled</b> - Record the screen of every session (default: false)</li>
+ *   <li><b>recording.segment.seconds</b> - Segment length before rotation (default: 60)</li>
+ *   <li><b>recording.keep.seconds</b> - Seconds of video kept for a failed test (default: 30)</li>
+ *   <li><b>recording.ffmpeg</b> - ffmpeg executable used for local trimming (default: ffmpeg)</li>
+ * </ul>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+public class ScreenRecorder {
+    private static final Logger logger = LoggerFactory.getLogger(ScreenRecorder.class);
+
+    /**
+     * Android screenrecord refuses time limits above 180 seconds.
+     */
+    private static final int ANDROID_MAX_TIME_LIMIT_SECONDS = 180;
+
+    private static final ThreadLocal<Recording> recording = new ThreadLocal<>();
+    private static volatile Boolean ffmpegAvailable;
+
+    private static final LongAdder testsRecorded = new LongAdder();
+    private static final LongAdder testsKept = new LongAdder();
+    private static final LongAdder segments = new LongAdder();
+    private static final LongAdder transferredBytes = new LongAdder();
+    private static final LongAdder keptBytes = new LongAdder();
+    private static final LongAdder commandNanos = new LongAdder();
+    private static final LongAdder trimNanos = new LongAdder();
+    private static final LongAdder cpuNanos = new LongAdder();
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Returns true if screen recording is enabled for this run.
+     *
+     * @return value of {@link TestConfig#RECORDING_ENABLED}
+     */
+    public static boolean isEnabled() {
+        return TestConfig.RECORDING_ENABLED;
+    }
+
+    /**
+     * Starts recording the screen of a new session on the current thread.
+     * Does nothing when recording is disabled.
+     *
+     * @param driver the freshly created Android or iOS driver
+     */
+    public static void start(CanRecordScreen driver) {
+        if (!isEnabled()) {
+            return;
+        }
+        Recording current = new Recording(driver, driver instanceof AndroidDriver);
+        recording.set(current);
+        current.startSegment();
+    }
+
+    /**
+     * Rotates the current segment if it is older than <code>recording.segment.seconds</code>.
+     * Called by {@link UiObject} after mutating actions, so rotation happens on the test
+     * thread and never races with a driver command.
+     */
+    public static void rotateIfDue() {
+        Recording current = recording.get();
+        if (current == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - current.segmentStartNanos;
+        if (elapsed >= TimeUnit.SECONDS.toNanos(TestConfig.RECORDING_SEGMENT_SECONDS)) {
+            byte[] video = current.stopSegment();
+            if (video != null) {
+                current.previousSegment = video;
+                current.previousSegmentNanos = elapsed;
+            }
+            current.startSegment();
+        }
+    }
+
+    /**
+     * Ends the recording of the current test.
+     * <p>
+     * A failed test keeps the last <code>recording.keep.seconds</code> of video on disk.
+     * Otherwise the video is never downloaded: the forced restart of the next recording
+     * drops it on the device.
+     * </p>
+     *
+     * @param testName name used as the file name prefix
+     * @param failed whether the test failed
+     * @return the written video files, empty for passed tests
+     */
+    public static List<File> finishTest(String testName, boolean failed) {
+        Recording current = recording.get();
+        List<File> written = new ArrayList<>();
+        if (current == null) {
+            return written;
+        }
+
+        testsRecorded.increment();
+        if (failed) {
+            written = keep(testName, current);
+        }
+        current.previousSegment = null;
+        current.previousSegmentNanos = 0;
+        current.startSegment();
+        return written;
+    }
+
+    /**
+     * Downloads the current segment of a failed test and writes the kept video.
+     */
+    private static List<File> keep(String testName, Recording current) {
+        List<File> written = new ArrayList<>();
+        long currentNanos = System.nanoTime() - current.segmentStartNanos;
+        byte[] video = current.stopSegment();
+        if (video != null) {
+            long startCpu = threadCpuNanos();
+            try {
+                written = save(testName, current.previousSegment, current.previousSegmentNanos, video, currentNanos);
+                testsKept.increment();
+                for (File file : written) {
+                    keptBytes.add(file.length());
+                }
+                TestLogger.addLogMessage("Screen recording saved: {}", written);
+            } catch (IOException e) {
+                logger.warn("Failed to save screen recording for test {}: {}", testName, e.getMessage());
+            } finally {
+                cpuNanos.add(threadCpuNanos() - startCpu);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Stops the recording of the current thread without saving anything.
+     * Call this before quitting the driver.
+     */
+    public static void stop() {
+        Recording current = recording.get();
+        if (current != null) {
+            current.stopSegment();
+            recording.remove();
+        }
+    }
+
+    /**
+     * Logs the accumulated cost of screen recording and, as the baseline to compare it with,
+     * of screenshots for this JVM. Both lines give CPU time also as a share of the process CPU time.
+     */
+    public static void logCost() {
+        long processCpu = processCpuNanos();
+        if (testsRecorded.sum() > 0) {
+            logger.info("Screen recording cost: {} tests recorded, {} kept; {} segments, {} KiB transferred from devices, "
+                            + "{} KiB kept on disk, {} ms in recording commands, {} ms trimming, {} ms CPU ({} of process CPU)",
+                    testsRecorded.sum(), testsKept.sum(), segments.sum(), transferredBytes.sum() / 1024,
+                    keptBytes.sum() / 1024, TimeUnit.NANOSECONDS.toMillis(commandNanos.sum()),
+                    TimeUnit.NANOSECONDS.toMillis(trimNanos.sum()), TimeUnit.NANOSECONDS.toMillis(cpuNanos.sum()),
+                    share(cpuNanos.sum(), processCpu));
+        }
+        if (UiObject.screenCaptures.sum() > 0) {
+            logger.info("Screenshot cost: {} captures, {} KiB transferred from devices, {} KiB written to disk, "
+                            + "{} ms capturing, {} ms CPU ({} of process CPU)",
+                    UiObject.screenCaptures.sum(), UiObject.screenCaptureBytes.sum() / 1024,
+                    UiObject.screenshotDiskBytes.sum() / 1024,
+                    TimeUnit.NANOSECONDS.toMillis(UiObject.screenCaptureNanos.sum()),
+                    TimeUnit.NANOSECONDS.toMillis(UiObject.screenCaptureCpuNanos.sum()),
+                    share(UiObject.screenCaptureCpuNanos.sum(), processCpu));
+        }
+    }
+
+    /**
+     * Returns the CPU time of the current thread, used to attribute recording and screenshot
+     * work to its cost.
+     *
+     * @return CPU nanoseconds, or 0 if the JVM does not measure thread CPU time
+     */
+    static long threadCpuNanos() {
+        return threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : 0;
+    }
+
+    private static long processCpuNanos() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime();
+        }
+        return -1;
+    }
+
+    private static String share(long nanos, long processNanos) {
+        return processNanos > 0 ? String.format("%.1f%%", nanos * 100.0 / processNanos) : "n/a";
+    }
+
+    /**
+     * Writes the last <code>recording.keep.seconds</code> of the recorded segments.
+     */
+    private static List<File> save(String testName, byte[] previous, long previousNanos,
+                                   byte[] current, long currentNanos) throws IOException {
+        File recordingDir = new File(TestConfig.SCREENSHOT_DIR + "/recordings");
+        recordingDir.mkdirs();
+        String prefix = testName + "-" + new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        long keepNanos = TimeUnit.SECONDS.toNanos(TestConfig.RECORDING_KEEP_SECONDS);
+        boolean needsPrevious = previous != null && currentNanos < keepNanos;
+
+        File currentFile = new File(recordingDir, prefix + (needsPrevious ? "-part2" : "") + ".mp4");
+        Files.write(currentFile.toPath(), current);
+        List<File> segmentFiles = new ArrayList<>();
+        if (needsPrevious) {
+            File previousFile = new File(recordingDir, prefix + "-part1.mp4");
+            Files.write(previousFile.toPath(), previous);
+            segmentFiles.add(previousFile);
+        }
+        segmentFiles.add(currentFile);
+
+        long totalNanos = currentNanos + (needsPrevious ? previousNanos : 0);
+        if (totalNanos <= keepNanos || !isFfmpegAvailable()) {
+            return segmentFiles;
+        }
+
+        long start = System.nanoTime();
+        File joined = new File(recordingDir, prefix + ".joined.mp4");
+        File trimmed = new File(recordingDir, prefix + ".trimmed.mp4");
+        Path list = recordingDir.toPath().resolve(prefix + ".segments.txt");
+        try {
+            File input = currentFile;
+            if (needsPrevious) {
+                Files.write(list, Arrays.asList(
+                        "file '" + segmentFiles.get(0).getAbsolutePath() + "'",
+                        "file '" + currentFile.getAbsolutePath() + "'"));
+                if (!runFfmpeg(Arrays.asList(TestConfig.RECORDING_FFMPEG, "-y", "-loglevel", "error",
+                        "-f", "concat", "-safe", "0", "-i", list.toString(), "-c", "copy", joined.getAbsolutePath()))) {
+                    return segmentFiles;
+                }
+                input = joined;
+            }
+            if (!runFfmpeg(Arrays.asList(TestConfig.RECORDING_FFMPEG, "-y", "-loglevel", "error",
+                    "-sseof", "-" + TestConfig.RECORDING_KEEP_SECONDS, "-i", input.getAbsolutePath(),
+                    "-c", "copy", trimmed.getAbsolutePath())) || trimmed.length() == 0) {
+                return segmentFiles;
+            }
+
+            for (File segment : segmentFiles) {
+                Files.deleteIfExists(segment.toPath());
+            }
+            File target = new File(recordingDir, prefix + ".mp4");
+            Files.move(trimmed.toPath(), target.toPath());
+            List<File> result = new ArrayList<>();
+            result.add(target);
+            return result;
+        } finally {
+            Files.deleteIfExists(list);
+            Files.deleteIfExists(joined.toPath());
+            Files.deleteIfExists(trimmed.toPath());
+            trimNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private static boolean runFfmpeg(List<String> command) {
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+            if (!process.waitFor(60, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                logger.warn("ffmpeg did not finish within 60 seconds: {}", command);
+                return false;
+            }
+            return process.exitValue() == 0;
+        } catch (IOException e) {
+            logger.warn("Failed to run ffmpeg: {}", e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean isFfmpegAvailable() {
+        if (ffmpegAvailable == null) {
+            ffmpegAvailable = runFfmpeg(Arrays.asList(TestConfig.RECORDING_FFMPEG, "-version"));
+            if (!ffmpegAvailable) {
+                logger.info("ffmpeg not found ({}), failed-test recordings are kept untrimmed", TestConfig.RECORDING_FFMPEG);
+            }
+        }
+        return ffmpegAvailable;
+    }
+
+    /**
+     * Recording state of one session.
+     */
+    private static final class Recording {
+        private final CanRecordScreen driver;
+        private final boolean android;
+        private long segmentStartNanos;
+        private byte[] previousSegment;
+        private long previousSegmentNanos;
+
+        private Recording(CanRecordScreen driver, boolean android) {
+            this.driver = driver;
+            this.android = android;
+        }
+
+        /**
+         * The device-side time limit is twice the segment length so a slow action between
+         * two rotations does not lose the tail of the segment.
+         */
+        private void startSegment() {
+            long limit = 2L * TestConfig.RECORDING_SEGMENT_SECONDS;
+            long start = System.nanoTime();
+            long startCpu = threadCpuNanos();
+            try {
+                if (android) {
+                    driver.startRecordingScreen(new AndroidStartScreenRecordingOptions()
+                            .withTimeLimit(Duration.ofSeconds(Math.min(limit, ANDROID_MAX_TIME_LIMIT_SECONDS)))
+                            .enableForcedRestart());
+                } else {
+                    driver.startRecordingScreen(new IOSStartScreenRecordingOptions()
+                            .withTimeLimit(Duration.ofSeconds(limit))
+                            .enableForcedRestart());
+                }
+                segments.increment();
+            } catch (WebDriverException e) {
+                logger.warn("Failed to start screen recording: {}", e.getMessage());
+            } finally {
+                segmentStartNanos = System.nanoTime();
+                commandNanos.add(segmentStartNanos - start);
+                cpuNanos.add(threadCpuNanos() - startCpu);
+            }
+        }
+
+        private byte[] stopSegment() {
+            long start = System.nanoTime();
+            long startCpu = threadCpuNanos();
+            try {
+                String base64 = driver.stopRecordingScreen();
+                if (base64 == null || base64.isEmpty()) {
+                    return null;
+                }
+                transferredBytes.add(base64.length());
+                return Base64.getMimeDecoder().decode(base64);
+            } catch (WebDriverException | IllegalArgumentException e) {
+                logger.warn("Failed to stop screen recording: {}", e.getMessage());
+                return null;
+            } finally {
+                commandNanos.add(System.nanoTime() - start);
+                cpuNanos.add(threadCpuNanos() - startCpu);
+            }
+        }
+    }
+}
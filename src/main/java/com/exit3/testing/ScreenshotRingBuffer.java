@@ -0,0 +1,272 @@
+package com.exit3.testing;
+
+import org.openqa.selenium.TakesScreenshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the last few low-resolution screenshots of the current thread in memory and
+ * writes them to disk only when a test fails.
+ * <p>
+ * When enabled with <code>-Dscreenshot.ring.enabled=true</code>, {@link UiObject} captures a
+ * downscaled JPEG frame after every mutating action (click, text input, swipe, scroll, ...).
+ * Frames are stored in a fixed-size ring of direct {@link ByteBuffer}s owned by the test
+ * thread, so the oldest frame is overwritten once the ring is full and nothing touches
+ * the disk on the happy path.
+ * </p>
+ * <p>
+ * Buffers are borrowed from a JVM-wide pool and returned by {@link #release()}, so a
+ * thread that runs many tests re-uses the same native memory. Memory per device is
+ * bounded by <code>screenshot.ring.frames * screenshot.ring.frame.bytes</code>.
+ * </p>
+ *
+ * <h2>Configuration:</h2>
+ * <ul>
+ *   <li><b>screenshot.ring.enabled</b> - Capture frames after mutating actions (default: false)</li>
+ *   <li><b>screenshot.ring.frames</b> - Frames kept per thread (default: 5)</li>
+ *   <li><b>screenshot.ring.frame.bytes</b> - Maximum encoded size of one frame (default: 256 KiB)</li>
+ *   <li><b>screenshot.ring.scale</b> - Resolution scale of captured frames (default: 0.25)</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * @AfterMethod
+ * public void teardown(ITestResult result) throws IOException {
+ *     if (!result.isSuccess()) {
+ *         UiObject.screenshotFail(result.getName()); // also flushes the ring buffer
+ *     }
+ *     ScreenshotRingBuffer.clear();
+ * }
+ *
+ * @AfterClass
+ * public void teardownDriver() {
+ *     ScreenshotRingBuffer.release(); // return the thread's frame buffers to the pool
+ * }
+ * }</pre>
+ * <p>
+ * {@link ClickNCheckListener} does the flush/clear automatically when it is registered;
+ * {@link #release()} belongs in the class teardown, which runs on the test thread.
+ * </p>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+public class ScreenshotRingBuffer {
+    private static final Logger logger = LoggerFactory.getLogger(ScreenshotRingBuffer.class);
+
+    private static final float FRAME_JPEG_QUALITY = 0.6f;
+
+    private static final ConcurrentLinkedQueue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<Ring> ring = new ThreadLocal<>();
+    private static final AtomicInteger bufferedFrames = new AtomicInteger();
+
+    /**
+     * Returns true if frame capture is enabled for this run.
+     *
+     * @return value of {@link TestConfig#SCREENSHOT_RING_ENABLED}
+     */
+    public static boolean isEnabled() {
+        return TestConfig.SCREENSHOT_RING_ENABLED;
+    }
+
+    /**
+     * Captures a low-resolution frame of the current screen into the thread's ring.
+     * <p>
+     * Does nothing when the ring buffer is disabled or no driver is initialized for the
+     * current thread. Capture failures are logged and never fail the test.
+     * </p>
+     *
+     * @param label short description of the action that preceded the frame
+     */
+    public static void capture(String label) {
+        if (!isEnabled()) {
+            return;
+        }
+        TakesScreenshot driver = UiObject.currentDriver();
+        if (driver == null) {
+            return;
+        }
+
+        Ring current = ring();
+        try {
+            byte[] screenshot = UiObject.captureScreen(driver);
+            long encodeCpu = ScreenRecorder.threadCpuNanos();
+            current.encoded.reset();
+            ImageUtils.writeJpeg(ImageUtils.scale(ImageUtils.decode(screenshot), TestConfig.SCREENSHOT_RING_SCALE),
+                    FRAME_JPEG_QUALITY, current.encoded);
+            UiObject.screenCaptureCpuNanos.add(ScreenRecorder.threadCpuNanos() - encodeCpu);
+            current.add(label, current.encoded);
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Failed to capture ring buffer frame after '{}': {}", label, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the number of frames currently held in memory by all threads, waiting to be
+     * written on failure or dropped on success.
+     *
+     * @return buffered frames
+     */
+    public static int bufferedFrames() {
+        return bufferedFrames.get();
+    }
+
+    /**
+     * Writes all buffered frames of the current thread to the failure screenshot directory,
+     * oldest first, and empties the ring.
+     *
+     * @param testName name used as the file name prefix
+     * @return the written files, empty if there was nothing to flush
+     * @throws IOException if a frame cannot be written
+     */
+    public static List<File> flush(String testName) throws IOException {
+        Ring current = ring.get();
+        List<File> written = new ArrayList<>();
+        if (current == null || current.count == 0) {
+            return written;
+        }
+
+        File screenshotDir = new File(TestConfig.SCREENSHOT_DIR + "/fails");
+        screenshotDir.mkdirs();
+        String readableTime = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+
+        int capacity = current.slots.length;
+        int first = (current.head - current.count + capacity) % capacity;
+        for (int i = 0; i < current.count; i++) {
+            int slot = (first + i) % capacity;
+            File targetFile = new File(screenshotDir,
+                    testName + "-" + readableTime + "-frame" + (i + 1) + "-" + current.labels[slot] + ".jpg");
+            ByteBuffer frame = current.slots[slot].duplicate();
+            frame.flip();
+            try (FileChannel channel = FileChannel.open(targetFile.toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (frame.hasRemaining()) {
+                    channel.write(frame);
+                }
+            }
+            UiObject.screenshotDiskBytes.add(targetFile.length());
+            written.add(targetFile);
+        }
+        TestLogger.addLogMessage("Flushed {} ring buffer frames to {}", written.size(), screenshotDir.getAbsolutePath());
+        current.clear();
+        return written;
+    }
+
+    /**
+     * Drops all buffered frames of the current thread without writing them.
+     * Call this when a test passes.
+     */
+    public static void clear() {
+        Ring current = ring.get();
+        if (current != null) {
+            current.clear();
+        }
+    }
+
+    /**
+     * Returns the thread's buffers to the shared pool.
+     * Call this when the thread is done running tests to prevent memory leaks.
+     */
+    public static void release() {
+        Ring current = ring.get();
+        if (current != null) {
+            current.clear();
+            for (ByteBuffer buffer : current.slots) {
+                buffer.clear();
+                pool.offer(buffer);
+            }
+            ring.remove();
+        }
+    }
+
+    private static Ring ring() {
+        Ring current = ring.get();
+        if (current == null) {
+            current = new Ring(TestConfig.SCREENSHOT_RING_FRAMES, TestConfig.SCREENSHOT_RING_FRAME_BYTES);
+            ring.set(current);
+        }
+        return current;
+    }
+
+    private static ByteBuffer borrow(int frameBytes) {
+        ByteBuffer buffer = pool.poll();
+        if (buffer == null || buffer.capacity() < frameBytes) {
+            return ByteBuffer.allocateDirect(frameBytes);
+        }
+        return buffer;
+    }
+
+    /**
+     * Fixed-size ring of encoded frames for one thread.
+     */
+    private static final class Ring {
+        private final ByteBuffer[] slots;
+        private final String[] labels;
+        private final FrameStream encoded;
+        private int head;
+        private int count;
+
+        private Ring(int frames, int frameBytes) {
+            slots = new ByteBuffer[Math.max(1, frames)];
+            labels = new String[slots.length];
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = borrow(frameBytes);
+            }
+            encoded = new FrameStream(frameBytes);
+        }
+
+        private void add(String label, FrameStream frame) {
+            ByteBuffer slot = slots[head];
+            if (frame.size() > slot.capacity()) {
+                logger.debug("Ring buffer frame after '{}' is {} bytes, larger than the {} byte slot; dropped",
+                        label, frame.size(), slot.capacity());
+                return;
+            }
+            slot.clear();
+            frame.copyTo(slot);
+            labels[head] = sanitize(label);
+            head = (head + 1) % slots.length;
+            if (count < slots.length) {
+                count++;
+                bufferedFrames.incrementAndGet();
+            }
+        }
+
+        private void clear() {
+            bufferedFrames.addAndGet(-count);
+            head = 0;
+            count = 0;
+        }
+
+        private static String sanitize(String label) {
+            return label == null ? "frame" : label.replaceAll("[^A-Za-z0-9_.-]", "_");
+        }
+    }
+
+    /**
+     * Re-usable encode buffer that copies into a slot without an intermediate array.
+     */
+    private static final class FrameStream extends ByteArrayOutputStream {
+        private FrameStream(int size) {
+            super(size);
+        }
+
+        private void copyTo(ByteBuffer target) {
+            target.put(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.exit3.testing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Enforces screenshot retention for the screenshot directory tree.
+ * <p>
+ * The sweep runs in two passes over {@link TestConfig#SCREENSHOT_DIR} and all of its
+ * sub-directories (<code>android/</code>, <code>ios/</code>, <code>fails/</code>, ...):
+ * </p>
+ * <ol>
+ *   <li>Files older than {@link TestConfig#SCREENSHOT_RETENTION_DAYS} are deleted.</li>
+ *   <li>If the remaining files still exceed {@link TestConfig#SCREENSHOT_MAX_BYTES},
+ *       the oldest files are deleted until the directory fits under the cap.</li>
+ * </ol>
+ * <p>
+ * Each top-level sub-directory is walked with NIO on its own fork/join task, and
+ * {@link #sweepAsync()} runs the whole sweep on a daemon thread so test startup is
+ * never blocked. The sweep is started once per JVM by {@link ClickNCheckListener}.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * // Fire and forget (what the suite listener does)
+ * ScreenshotSweeper.sweepAsync();
+ *
+ * // Synchronous sweep with explicit limits
+ * ScreenshotSweeper.SweepResult result = ScreenshotSweeper.sweep(
+ *     Paths.get("target/screenshots"), Duration.ofDays(3), 512L * 1024 * 1024);
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ * @see TestConfig#SCREENSHOT_RETENTION_DAYS
+ * @see TestConfig#SCREENSHOT_MAX_BYTES
+ */
+public class ScreenshotSweeper {
+    private static final Logger logger = LoggerFactory.getLogger(ScreenshotSweeper.class);
+
+    private static final AtomicBoolean started = new AtomicBoolean(false);
+
+    /**
+     * Starts the retention sweep on a background daemon thread.
+     * <p>
+     * Only the first call per JVM starts a sweep; later calls return an already
+     * completed future with an empty result, so it is safe to call this from every
+     * suite in a parallel run.
+     * </p>
+     *
+     * @return a future completed with the sweep result
+     */
+    public static CompletableFuture<SweepResult> sweepAsync() {
+        if (!started.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(new SweepResult());
+        }
+
+        CompletableFuture<SweepResult> future = new CompletableFuture<>();
+        Thread sweeper = new Thread(() -> {
+            try {
+                future.complete(sweep(Paths.get(TestConfig.SCREENSHOT_DIR),
+                        Duration.ofDays(TestConfig.SCREENSHOT_RETENTION_DAYS),
+                        TestConfig.SCREENSHOT_MAX_BYTES));
+            } catch (RuntimeException e) {
+                logger.warn("Screenshot retention sweep failed: {}", e.getMessage(), e);
+                future.completeExceptionally(e);
+            }
+        }, "clickncheck-screenshot-sweeper");
+        sweeper.setDaemon(true);
+        sweeper.setPriority(Thread.MIN_PRIORITY);
+        sweeper.start();
+        return future;
+    }
+
+    /**
+     * Runs the retention sweep synchronously.
+     *
+     * @param root the screenshot root directory
+     * @param maxAge files last modified before <code>now - maxAge</code> are deleted;
+     *               zero or negative disables the age limit
+     * @param maxBytes total size cap in bytes; zero or negative disables the cap
+     * @return counts of deleted and kept files
+     */
+    public static SweepResult sweep(Path root, Duration maxAge, long maxBytes) {
+        SweepResult result = new SweepResult();
+        if (!Files.isDirectory(root)) {
+            logger.debug("Screenshot directory {} does not exist, nothing to sweep", root);
+            return result;
+        }
+
+        long start = System.nanoTime();
+        List<ScreenshotFile> files = collect(root);
+
+        long cutoff = System.currentTimeMillis() - maxAge.toMillis();
+        List<ScreenshotFile> kept = new ArrayList<>(files.size());
+        for (ScreenshotFile file : files) {
+            if (!maxAge.isZero() && !maxAge.isNegative() && file.lastModified < cutoff) {
+                if (delete(file)) {
+                    result.deletedByAge++;
+                    result.deletedBytes += file.size;
+                }
+            } else {
+                kept.add(file);
+                result.keptBytes += file.size;
+            }
+        }
+
+        if (maxBytes > 0 && result.keptBytes > maxBytes) {
+            kept.sort(Comparator.comparingLong(f -> f.lastModified));
+            for (ScreenshotFile file : kept) {
+                if (result.keptBytes <= maxBytes) {
+                    break;
+                }
+                if (delete(file)) {
+                    result.deletedBySize++;
+                    result.deletedBytes += file.size;
+                    result.keptBytes -= file.size;
+                }
+            }
+        }
+        result.keptFiles = files.size() - result.deletedByAge - result.deletedBySize;
+        result.elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        logger.info("Screenshot sweep of {}: deleted {} by age and {} over the {} byte cap ({} bytes), kept {} files ({} bytes) in {} ms",
+                root, result.deletedByAge, result.deletedBySize, maxBytes, result.deletedBytes,
+                result.keptFiles, result.keptBytes, result.elapsedMillis);
+        return result;
+    }
+
+    /**
+     * Lists all regular files under the root, walking each top-level entry in parallel.
+     */
+    private static List<ScreenshotFile> collect(Path root) {
+        List<Path> topLevel;
+        try (Stream<Path> entries = Files.list(root)) {
+            topLevel = entries.collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list screenshot directory: " + root, e);
+        }
+
+        return topLevel.parallelStream()
+                .flatMap(ScreenshotSweeper::walk)
+                .collect(Collectors.toList());
+    }
+
+    private static Stream<ScreenshotFile> walk(Path start) {
+        List<ScreenshotFile> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(start)) {
+            paths.forEach(path -> {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    if (attributes.isRegularFile()) {
+                        files.add(new ScreenshotFile(path, attributes.size(), attributes.lastModifiedTime().toMillis()));
+                    }
+                } catch (NoSuchFileException e) {
+                    // Deleted concurrently, nothing to do
+                } catch (IOException e) {
+                    logger.debug("Cannot read attributes of {}: {}", path, e.getMessage());
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("Failed to walk screenshot directory {}: {}", start, e.getMessage());
+        }
+        return files.stream();
+    }
+
+    private static boolean delete(ScreenshotFile file) {
+        try {
+            return Files.deleteIfExists(file.path);
+        } catch (IOException e) {
+            logger.debug("Failed to delete screenshot {}: {}", file.path, e.getMessage());
+            return false;
+        }
+    }
+
+    private static final class ScreenshotFile {
+        private final Path path;
+        private final long size;
+        private final long lastModified;
+
+        private ScreenshotFile(Path path, long size, long lastModified) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+
+    /**
+     * Summary of a single retention sweep.
+     */
+    public static class SweepResult {
+        private int deletedByAge;
+        private int deletedBySize;
+        private long deletedBytes;
+        private int keptFiles;
+        private long keptBytes;
+        private long elapsedMillis;
+
+        public int getDeletedByAge() {
+            return deletedByAge;
+        }
+
+        public int getDeletedBySize() {
+            return deletedBySize;
+        }
+
+        public long getDeletedBytes() {
+            return deletedBytes;
+        }
+
+        public int getKeptFiles() {
+            return keptFiles;
+        }
+
+        public long getKeptBytes() {
+            return keptBytes;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+    }
+}
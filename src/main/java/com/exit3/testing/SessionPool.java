@@ -0,0 +1,333 @@
+package com.exit3.testing;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.InteractsWithApps;
+import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Per-device pool of driver sessions that outlive a test class.
+ * <p>
+ * Creating a session, including the UiAutomator2 or WebDriverAgent bootstrap, is the largest
+ * fixed cost of a test class. With <code>-Dsession.pool.enabled=true</code>,
+ * {@link AndroidSettings#initialize} and {@link IosSettings#initialize} take the session of
+ * their device from this pool, and {@link #release(AppiumDriver)} at class end returns it
+ * instead of quitting it. Before a pooled session is handed out again it is validated with a
+ * window size command, which reaches the device, and the app is reset with the configured
+ * {@link ResetStrategy}. A session that fails either step is quit and replaced by a new one.
+ * </p>
+ * <p>
+ * Sessions are keyed by platform, device and server URL. Pooled sessions are created with
+ * <code>appium:newCommandTimeout</code> set to {@link TestConfig#SESSION_POOL_IDLE_TIMEOUT_SECONDS},
+ * so Appium keeps them alive between classes. {@link #quitAll()} quits them at suite end.
+ * </p>
+ * <p>
+ * A pooled session holds its own lease on the Appium server of the creating thread
+ * ({@link AppiumManager#startAppiumServer}) until it is quit, so releasing the server at class
+ * end does not stop it under idle sessions with <code>-Dappium.server.keep.alive=false</code>.
+ * When a session is handed to another thread, its {@link HttpAccounting} counters move with it.
+ * </p>
+ *
+ * <h2>Reset Strategies:</h2>
+ * <ul>
+ *   <li><b>restart-app</b> - <code>terminateApp</code> and <code>activateApp</code> (default)</li>
+ *   <li><b>clear-app</b> - also clears the app data on Android (<code>mobile: clearApp</code>);
+ *       iOS has no data reset without reinstall and restarts the app</li>
+ *   <li><b>none</b> - hands the session out as the previous class left it</li>
+ *   <li>Custom - {@link #setResetStrategy(ResetStrategy)}</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * // Whole suite, restarting the app between classes
+ * mvn test -Dsession.pool.enabled=true -Dsession.reset=restart-app
+ *
+ * // Class teardown: returns pooled sessions, quits all others
+ * SessionPool.release(driver);
+ *
+ * // Custom reset, e.g. a deep link to the start screen
+ * SessionPool.setResetStrategy((driver, appId) -> driver.get("myapp://home"));
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ * @see TestConfig#SESSION_POOL_ENABLED
+ */
+public class SessionPool {
+    private static final Logger logger = LoggerFactory.getLogger(SessionPool.class);
+
+    /** Hands sessions out unchanged. */
+    public static final ResetStrategy NO_RESET = (driver, appId) -> {
+    };
+
+    /** Terminates and activates the app. */
+    public static final ResetStrategy RESTART_APP = (driver, appId) -> {
+        InteractsWithApps apps = (InteractsWithApps) driver;
+        apps.terminateApp(appId);
+        apps.activateApp(appId);
+    };
+
+    /** Clears the app data on Android, then activates the app; restarts it on iOS. */
+    public static final ResetStrategy CLEAR_APP = (driver, appId) -> {
+        if (driver instanceof AndroidDriver) {
+            driver.executeScript("mobile: clearApp", Map.of("appId", appId));
+            ((InteractsWithApps) driver).activateApp(appId);
+        } else {
+            RESTART_APP.reset(driver, appId);
+        }
+    };
+
+    private static final Map<String, Deque<PooledSession>> idle = new ConcurrentHashMap<>();
+    private static final Map<AppiumDriver, PooledSession> leased = new ConcurrentHashMap<>();
+    private static final AtomicInteger created = new AtomicInteger();
+    private static final AtomicInteger reused = new AtomicInteger();
+    private static final AtomicInteger replaced = new AtomicInteger();
+    private static final AtomicLong createNanos = new AtomicLong();
+    private static final AtomicLong savedNanos = new AtomicLong();
+    private static volatile ResetStrategy resetStrategy = resetStrategy(TestConfig.SESSION_RESET);
+
+    private SessionPool() {
+    }
+
+    /**
+     * Resets the app of a pooled session before it is handed out again.
+     */
+    @FunctionalInterface
+    public interface ResetStrategy {
+        /**
+         * Resets the app.
+         *
+         * @param driver the session
+         * @param appId app package (Android) or bundle id (iOS)
+         * @throws RuntimeException if the reset fails; the session is then replaced
+         */
+        void reset(AppiumDriver driver, String appId);
+    }
+
+    /**
+     * Returns the built-in reset strategy with a name.
+     *
+     * @param name <code>restart-app</code>, <code>clear-app</code> or <code>none</code>
+     * @return the strategy
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static ResetStrategy resetStrategy(String name) {
+        switch (name) {
+            case "restart-app":
+                return RESTART_APP;
+            case "clear-app":
+                return CLEAR_APP;
+            case "none":
+                return NO_RESET;
+            default:
+                throw new IllegalArgumentException("Unknown session reset strategy: " + name
+                        + ". Use 'restart-app', 'clear-app' or 'none'");
+        }
+    }
+
+    /**
+     * Replaces the reset strategy configured with <code>-Dsession.reset</code>.
+     *
+     * @param strategy the strategy
+     */
+    public static void setResetStrategy(ResetStrategy strategy) {
+        resetStrategy = strategy;
+    }
+
+    /**
+     * Returns the pool key of a device.
+     *
+     * @param platform <code>android</code> or <code>ios</code>
+     * @param device device name or udid
+     * @param url Appium server URL
+     * @return the key
+     */
+    public static String key(String platform, String device, URL url) {
+        return platform + ":" + device + "@" + url;
+    }
+
+    /**
+     * Returns a healthy, reset session of the device from the pool, or creates one. Without
+     * pooling this just creates the session.
+     *
+     * @param key device key, see {@link #key(String, String, URL)}
+     * @param appId app to reset between uses, may be null to skip the reset
+     * @param capabilities capabilities the factory creates the session with
+     * @param factory creates a new session
+     * @param <T> driver type
+     * @return the session
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends AppiumDriver> T acquire(String key, String appId, MutableCapabilities capabilities,
+                                                     Supplier<T> factory) {
+        if (!TestConfig.SESSION_POOL_ENABLED) {
+            return factory.get();
+        }
+        Deque<PooledSession> sessions = idle.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+        for (PooledSession pooled = sessions.pollFirst(); pooled != null; pooled = sessions.pollFirst()) {
+            if (prepare(pooled, appId)) {
+                pooled.uses++;
+                HttpAccounting.bind(pooled.httpCounters);
+                leased.put(pooled.driver, pooled);
+                reused.incrementAndGet();
+                savedNanos.addAndGet(pooled.createNanos);
+                logger.info("Reusing session {} for {} (use {}), saved {}s session creation",
+                        pooled.driver.getSessionId(), key, pooled.uses, seconds(pooled.createNanos));
+                return (T) pooled.driver;
+            }
+            replaced.incrementAndGet();
+            quit(pooled);
+        }
+
+        if (capabilities.getCapability("appium:newCommandTimeout") == null) {
+            capabilities.setCapability("appium:newCommandTimeout", TestConfig.SESSION_POOL_IDLE_TIMEOUT_SECONDS);
+        }
+        long start = System.nanoTime();
+        T driver = factory.get();
+        PooledSession pooled = new PooledSession(key, driver, capabilities, System.nanoTime() - start,
+                AppiumManager.heldServer(), HttpAccounting.currentSession());
+        AppiumServerRegistry.retain(pooled.server);
+        leased.put(driver, pooled);
+        created.incrementAndGet();
+        createNanos.addAndGet(pooled.createNanos);
+        logger.info("Created pooled session {} for {} in {}s", driver.getSessionId(), key, seconds(pooled.createNanos));
+        return driver;
+    }
+
+    /**
+     * Returns a session to the pool for the next test class of its device. Sessions that are
+     * not pooled are quit.
+     *
+     * @param driver the session, may be null
+     */
+    public static void release(AppiumDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        PooledSession pooled = leased.remove(driver);
+        if (pooled == null) {
+            driver.quit();
+            return;
+        }
+        idle.computeIfAbsent(pooled.key, k -> new ConcurrentLinkedDeque<>()).addFirst(pooled);
+        logger.debug("Session {} returned to the pool for {}", driver.getSessionId(), pooled.key);
+    }
+
+    /**
+     * Returns the capabilities a session was created with. For a reused session these are
+     * the capabilities of its first use, e.g. its MJPEG port.
+     *
+     * @param driver the session
+     * @param fallback capabilities returned for sessions that are not pooled
+     * @return the capabilities
+     */
+    public static Capabilities requestedCapabilities(AppiumDriver driver, Capabilities fallback) {
+        PooledSession pooled = leased.get(driver);
+        return pooled == null ? fallback : pooled.capabilities;
+    }
+
+    /**
+     * Quits all pooled sessions, idle and leased, and logs how much session creation the
+     * pool saved.
+     */
+    public static void quitAll() {
+        List<PooledSession> sessions = new ArrayList<>(leased.values());
+        leased.clear();
+        for (Deque<PooledSession> deque : idle.values()) {
+            for (PooledSession pooled = deque.pollFirst(); pooled != null; pooled = deque.pollFirst()) {
+                sessions.add(pooled);
+            }
+        }
+        for (PooledSession pooled : sessions) {
+            quit(pooled);
+        }
+        if (created.get() > 0) {
+            logger.info("Session pool: {} sessions created in {}s, {} reuses saved {}s, {} replaced after failed validation or reset",
+                    created.get(), seconds(createNanos.get()), reused.get(), seconds(savedNanos.get()), replaced.get());
+        }
+    }
+
+    /**
+     * Validates a pooled session and resets its app.
+     *
+     * @return true if the session can be handed out
+     */
+    private static boolean prepare(PooledSession pooled, String appId) {
+        AppiumDriver driver = pooled.driver;
+        try {
+            if (driver.getSessionId() == null) {
+                return false;
+            }
+            driver.manage().window().getSize();
+        } catch (WebDriverException e) {
+            logger.warn("Pooled session {} for {} failed validation, creating a new one: {}",
+                    driver.getSessionId(), pooled.key, String.valueOf(e.getMessage()).split("\n")[0]);
+            return false;
+        }
+        if (appId == null || appId.isEmpty()) {
+            logger.debug("No app id for {}, pooled session handed out without reset", pooled.key);
+            return true;
+        }
+        try {
+            resetStrategy.reset(driver, appId);
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Resetting {} in pooled session {} failed, creating a new session: {}",
+                    appId, driver.getSessionId(), String.valueOf(e.getMessage()).split("\n")[0]);
+            return false;
+        }
+    }
+
+    private static String seconds(long nanos) {
+        return String.format("%.1f", nanos / 1e9);
+    }
+
+    private static void quit(PooledSession pooled) {
+        try {
+            pooled.driver.quit();
+        } catch (WebDriverException e) {
+            logger.debug("Failed to quit pooled session {}: {}", pooled.driver.getSessionId(), e.getMessage());
+        } finally {
+            AppiumServerRegistry.release(pooled.server);
+        }
+    }
+
+    /**
+     * One pooled session.
+     */
+    private static final class PooledSession {
+        private final String key;
+        private final AppiumDriver driver;
+        private final Capabilities capabilities;
+        private final long createNanos;
+        private final AppiumServerRegistry.Server server;
+        private final HttpAccounting.SessionCounters httpCounters;
+        private int uses = 1;
+
+        private PooledSession(String key, AppiumDriver driver, Capabilities capabilities, long createNanos,
+                              AppiumServerRegistry.Server server, HttpAccounting.SessionCounters httpCounters) {
+            this.key = key;
+            this.driver = driver;
+            this.capabilities = new MutableCapabilities(capabilities);
+            this.createNanos = createNanos;
+            this.server = server;
+            this.httpCounters = httpCounters;
+        }
+    }
+}
@@ -0,0 +1,386 @@
+package com.exit3.testing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Binary, memory-mapped journal of TestLogger entries for long soak runs.
+ * <p>
+ * Every thread writes its own journal file. Entries are fixed-size records appended into a
+ * memory-mapped region, so an append is a handful of stores into the page cache: no
+ * formatting, no JSON and no system call. Because the records live in the page cache, they
+ * survive a crash of the test JVM.
+ * </p>
+ * <p>
+ * Strings from test code (message templates, span actions, element names and selectors) are
+ * interned into a per-journal dictionary and referenced by id; each new string is appended
+ * once to a side <code>.dict</code> file. Argument values, span errors and formatted messages
+ * are high-cardinality (typed text, coordinates, exception messages), so they are copied as
+ * UTF-8 into a mapped text ring instead and referenced by position. The dictionary holds at
+ * most {@value #MAX_DICTIONARY_STRINGS} strings; templates beyond that go to the text ring
+ * as well, span strings beyond that are left out.
+ * </p>
+ * <p>
+ * The journal is a ring: when {@link TestConfig#JOURNAL_MAX_BYTES} is reached the oldest
+ * records are overwritten. Half of the size is the text ring, which wraps on its own;
+ * a record whose argument text was overwritten decodes with a placeholder.
+ * {@link StepJournalDecoder} converts a journal back into the TestLogger JSON format.
+ * </p>
+ *
+ * <h2>File Layout:</h2>
+ * <pre>
+ * header (32 bytes): magic "CNCJ" | version int | record size int | text ring bytes int | records written long |
+ *                    text bytes written long
+ * text ring:         repeated (UTF-8 length int, UTF-8 bytes); a value that does not fit before the end
+ *                    starts at the beginning
+ * record (64 bytes): timestamp long | step long | type byte | arg count byte | retries short |
+ *                    template/action id int |
+ *   message:         4 x arg text position long | template text position long (when the template id is -1)
+ *   span:            element id int | selector id int | 2 x unused int | duration nanos long | wait nanos long |
+ *                    error text position long
+ * dictionary:        repeated (id int, modified UTF-8 string)
+ * </pre>
+ * <p>
+ * Text positions count bytes written to the text ring since the journal was created; -1 means none.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * // Enabled for every TestLogger call with -Djournal.enabled=true
+ * mvn test -Djournal.enabled=true
+ *
+ * // Decode afterwards
+ * java -cp target/classes:... com.exit3.testing.StepJournalDecoder target/journal/TestNG-1-20260120_101530.journal
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ * @see StepJournalDecoder
+ */
+public class StepJournal {
+    private static final Logger logger = LoggerFactory.getLogger(StepJournal.class);
+
+    static final int MAGIC = 0x434E434A; // "CNCJ"
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 32;
+    static final int RECORD_BYTES = 64;
+    static final int HEADER_TEXT_CAPACITY_OFFSET = 12;
+    static final int HEADER_RECORDS_OFFSET = 16;
+    static final int HEADER_TEXT_OFFSET = 24;
+    static final int RECORD_TEXT_OFFSET = 56;
+    static final int INLINE_ARGS = 4;
+    static final byte TYPE_MESSAGE = 0;
+    static final byte TYPE_SPAN_PASSED = 1;
+    static final byte TYPE_SPAN_FAILED = 2;
+    static final int NO_STRING = -1;
+    static final long NO_TEXT = -1;
+    static final String DICTIONARY_SUFFIX = ".dict";
+
+    /** Upper bound of dictionary entries; keeps the <code>.dict</code> file and its flushes bounded. */
+    static final int MAX_DICTIONARY_STRINGS = 65_536;
+
+    private static final int MAX_UTF_CHARS = 16_000;
+    /** Text values are cut to this many chars, so one value is at most 4 + 3 * 1024 bytes. */
+    private static final int MAX_TEXT_CHARS = 1024;
+    private static final int MIN_TEXT_BYTES = 64 * 1024;
+
+    private static final ThreadLocal<StepJournal> journals = new ThreadLocal<>();
+    private static final ConcurrentLinkedQueue<StepJournal> openJournals = new ConcurrentLinkedQueue<>();
+
+    private final Path file;
+    private final FileChannel channel;
+    private final DataOutputStream dictionary;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final long capacity;
+    private final int textCapacity;
+    private final int recordsOffset;
+    private MappedByteBuffer records;
+    private long written;
+    private long textWritten;
+    private boolean dictionaryFullLogged;
+
+    /**
+     * Creates a journal file, mapping <code>maxBytes</code> of it.
+     *
+     * @param file journal file; the dictionary is written next to it with a <code>.dict</code> suffix
+     * @param maxBytes maximum journal size including the header
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public StepJournal(Path file, long maxBytes) throws IOException {
+        this.file = file;
+        long size = Math.min(maxBytes, Integer.MAX_VALUE) - HEADER_BYTES;
+        this.textCapacity = (int) Math.max(MIN_TEXT_BYTES, size / 2);
+        this.recordsOffset = HEADER_BYTES + textCapacity;
+        this.capacity = Math.max(1, (size - textCapacity) / RECORD_BYTES);
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.records = channel.map(FileChannel.MapMode.READ_WRITE, 0, recordsOffset + capacity * RECORD_BYTES);
+        this.records.putInt(0, MAGIC);
+        this.records.putInt(4, VERSION);
+        this.records.putInt(8, RECORD_BYTES);
+        this.records.putInt(HEADER_TEXT_CAPACITY_OFFSET, textCapacity);
+        this.records.putLong(HEADER_RECORDS_OFFSET, 0);
+        this.records.putLong(HEADER_TEXT_OFFSET, 0);
+        OutputStream dictionaryOut = Files.newOutputStream(dictionaryFile(file));
+        this.dictionary = new DataOutputStream(new BufferedOutputStream(dictionaryOut));
+    }
+
+    /**
+     * Returns the current thread's journal, creating it under {@link TestConfig#JOURNAL_DIR} on first use.
+     *
+     * @return the journal, or null if it could not be created
+     */
+    static StepJournal forCurrentThread() {
+        StepJournal journal = journals.get();
+        // Journals closed at the end of a previous suite are replaced by a new file
+        if (journal == null || journal.records == null) {
+            String readableTime = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+            String threadName = Thread.currentThread().getName().replaceAll("[^A-Za-z0-9_.-]", "_");
+            Path file = Paths.get(TestConfig.JOURNAL_DIR, threadName + "-" + Thread.currentThread().getId()
+                    + "-" + readableTime + ".journal");
+            try {
+                journal = new StepJournal(file, TestConfig.JOURNAL_MAX_BYTES);
+                journals.set(journal);
+                openJournals.add(journal);
+            } catch (IOException e) {
+                logger.warn("Failed to create step journal {}: {}", file, e.getMessage());
+                return null;
+            }
+        }
+        return journal;
+    }
+
+    /**
+     * Closes every journal opened through TestLogger. Called at suite end; threads that
+     * log again afterwards start a new journal file.
+     */
+    public static void closeAll() {
+        for (StepJournal journal = openJournals.poll(); journal != null; journal = openJournals.poll()) {
+            journal.close();
+        }
+        journals.remove();
+    }
+
+    static Path dictionaryFile(Path journal) {
+        return journal.resolveSibling(journal.getFileName() + DICTIONARY_SUFFIX);
+    }
+
+    /**
+     * Appends a message record. Arguments beyond the fourth are formatted into the message,
+     * which is then stored as text.
+     *
+     * @param timestamp epoch milliseconds
+     * @param stepNumber step number
+     * @param template message template
+     * @param arg1 first argument or null
+     * @param arg2 second argument or null
+     * @param arg3 third argument or null
+     * @param args all arguments when more than three were passed, otherwise null
+     * @param argCount number of arguments
+     */
+    public void appendMessage(long timestamp, long stepNumber, String template,
+                              Object arg1, Object arg2, Object arg3, Object[] args, int argCount) {
+        if (records == null) {
+            return;
+        }
+        boolean formatted = argCount > INLINE_ARGS;
+        if (formatted) {
+            template = MessageFormatter.arrayFormat(template, args).getMessage();
+            argCount = 0;
+        }
+        int templateId = formatted ? NO_STRING : intern(template);
+        int position = nextRecord();
+        records.putLong(position, timestamp);
+        records.putLong(position + 8, stepNumber);
+        records.put(position + 16, TYPE_MESSAGE);
+        records.put(position + 17, (byte) argCount);
+        records.putShort(position + 18, (short) 0);
+        records.putInt(position + 20, templateId);
+        // Argument values go to the text ring, which lies outside the record area
+        for (int i = 0; i < INLINE_ARGS; i++) {
+            Object arg = i >= argCount ? null : args != null ? args[i] : i == 0 ? arg1 : i == 1 ? arg2 : arg3;
+            records.putLong(position + 24 + i * 8, i >= argCount ? NO_TEXT : appendText(String.valueOf(arg)));
+        }
+        records.putLong(position + RECORD_TEXT_OFFSET,
+                templateId == NO_STRING && template != null ? appendText(template) : NO_TEXT);
+        commit();
+    }
+
+    /**
+     * Appends a closed step span record.
+     *
+     * @param stepNumber step number
+     * @param span the closed span
+     */
+    public void appendSpan(long stepNumber, StepSpan span) {
+        if (records == null) {
+            return;
+        }
+        int position = nextRecord();
+        records.putLong(position, span.getStartEpochMillis());
+        records.putLong(position + 8, stepNumber);
+        records.put(position + 16, span.getOutcome() == StepSpan.Outcome.FAILED ? TYPE_SPAN_FAILED : TYPE_SPAN_PASSED);
+        records.put(position + 17, (byte) 0);
+        records.putShort(position + 18, (short) Math.min(span.getRetries(), Short.MAX_VALUE));
+        records.putInt(position + 20, intern(span.getAction()));
+        records.putInt(position + 24, intern(span.getElementName()));
+        records.putInt(position + 28, intern(span.getSelector()));
+        records.putInt(position + 32, NO_STRING);
+        records.putInt(position + 36, NO_STRING);
+        records.putLong(position + 40, span.getDurationNanos());
+        records.putLong(position + 48, span.getWaitNanos());
+        records.putLong(position + RECORD_TEXT_OFFSET, span.getError() == null ? NO_TEXT : appendText(span.getError()));
+        commit();
+    }
+
+    /**
+     * Returns the journal file.
+     *
+     * @return the journal path
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the number of records appended so far, including overwritten ones.
+     *
+     * @return records written
+     */
+    public long getRecordsWritten() {
+        return written;
+    }
+
+    /**
+     * Returns the number of strings in the dictionary.
+     *
+     * @return dictionary entries, at most {@value #MAX_DICTIONARY_STRINGS}
+     */
+    public int getDictionarySize() {
+        return ids.size();
+    }
+
+    /**
+     * Flushes the dictionary and truncates an unwrapped journal to its used size.
+     */
+    public void close() {
+        if (records == null) {
+            return;
+        }
+        try {
+            dictionary.close();
+            records.force();
+            records = null;
+            if (written < capacity) {
+                channel.truncate(recordsOffset + written * RECORD_BYTES);
+            }
+            channel.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close step journal {}: {}", file, e.getMessage());
+        }
+    }
+
+    private int nextRecord() {
+        return (int) (recordsOffset + (written % capacity) * RECORD_BYTES);
+    }
+
+    private void commit() {
+        written++;
+        records.putLong(HEADER_RECORDS_OFFSET, written);
+        records.putLong(HEADER_TEXT_OFFSET, textWritten);
+    }
+
+    /**
+     * Copies a value as length-prefixed UTF-8 into the text ring, without an intermediate array.
+     *
+     * @return the value's text position
+     */
+    private long appendText(String value) {
+        int length = Math.min(value.length(), MAX_TEXT_CHARS);
+        int ringPosition = (int) (textWritten % textCapacity);
+        if (ringPosition + 4 + 3 * length > textCapacity) {
+            // Not enough room before the end of the ring: start over at its beginning
+            textWritten += textCapacity - ringPosition;
+            ringPosition = 0;
+        }
+        long start = textWritten;
+        int base = HEADER_BYTES + ringPosition;
+        int out = base + 4;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                records.put(out++, (byte) c);
+            } else if (c < 0x800) {
+                records.put(out++, (byte) (0xC0 | (c >> 6)));
+                records.put(out++, (byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                records.put(out++, (byte) (0xF0 | (codePoint >> 18)));
+                records.put(out++, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                records.put(out++, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                records.put(out++, (byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                char encoded = Character.isSurrogate(c) ? '?' : c;
+                records.put(out++, (byte) (0xE0 | (encoded >> 12)));
+                records.put(out++, (byte) (0x80 | ((encoded >> 6) & 0x3F)));
+                records.put(out++, (byte) (0x80 | (encoded & 0x3F)));
+            }
+        }
+        records.putInt(base, out - base - 4);
+        textWritten += out - base;
+        return start;
+    }
+
+    private int intern(String value) {
+        if (value == null) {
+            return NO_STRING;
+        }
+        Integer id = ids.get(value);
+        if (id != null) {
+            return id;
+        }
+        if (ids.size() >= MAX_DICTIONARY_STRINGS) {
+            if (!dictionaryFullLogged) {
+                dictionaryFullLogged = true;
+                logger.warn("Step journal dictionary of {} is full ({} strings); new templates are stored as text, new span strings are dropped",
+                        file, MAX_DICTIONARY_STRINGS);
+            }
+            return NO_STRING;
+        }
+        int newId = ids.size();
+        ids.put(value, newId);
+        try {
+            String stored = value.length() > MAX_UTF_CHARS ? value.substring(0, MAX_UTF_CHARS) : value;
+            dictionary.writeInt(newId);
+            dictionary.writeUTF(stored);
+            // Only test code strings are interned, so new ones are rare and bounded; flushing keeps
+            // the dictionary in step with the mapped records
+            dictionary.flush();
+        } catch (IOException e) {
+            logger.warn("Failed to write step journal dictionary for {}: {}", file, e.getMessage());
+        }
+        return newId;
+    }
+}
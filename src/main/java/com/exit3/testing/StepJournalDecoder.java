@@ -0,0 +1,212 @@
+package com.exit3.testing;
+
+import org.slf4j.helpers.MessageFormatter;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts a {@link StepJournal} file back into the TestLogger JSON format.
+ * <p>
+ * The decoder reads the string dictionary next to the journal, walks the records oldest
+ * first (also across a wrap-around) and formats each message template with its arguments.
+ * Argument values that the text ring has already overwritten decode as
+ * <code>&lt;overwritten&gt;</code>.
+ * It can be used from code or as a command line tool.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * // Print JSON to stdout
+ * java -cp target/classes:... com.exit3.testing.StepJournalDecoder target/journal/TestNG-1-20260120_101530.journal
+ *
+ * // Write JSON to a file
+ * java -cp target/classes:... com.exit3.testing.StepJournalDecoder in.journal out.json
+ *
+ * // From code
+ * List<TestLogger.LogEntry> entries = StepJournalDecoder.decode(Paths.get("in.journal"));
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ * @see StepJournal
+ */
+public class StepJournalDecoder {
+
+    private StepJournalDecoder() {
+    }
+
+    /**
+     * Decodes a journal file.
+     *
+     * @param journal the journal file; its <code>.dict</code> file must be next to it
+     * @return the entries, oldest first
+     * @throws IOException if the journal cannot be read or has an unknown format
+     */
+    public static List<TestLogger.LogEntry> decode(Path journal) throws IOException {
+        Map<Integer, String> dictionary = readDictionary(StepJournal.dictionaryFile(journal));
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.READ)) {
+            ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (data.limit() < StepJournal.HEADER_BYTES || data.getInt(0) != StepJournal.MAGIC) {
+                throw new IOException("Not a step journal: " + journal);
+            }
+            if (data.getInt(4) != StepJournal.VERSION || data.getInt(8) != StepJournal.RECORD_BYTES) {
+                throw new IOException("Unsupported step journal version " + data.getInt(4) + ": " + journal);
+            }
+            int textCapacity = data.getInt(StepJournal.HEADER_TEXT_CAPACITY_OFFSET);
+            Text text = new Text(data, textCapacity, data.getLong(StepJournal.HEADER_TEXT_OFFSET));
+            int recordsOffset = StepJournal.HEADER_BYTES + textCapacity;
+            long written = data.getLong(StepJournal.HEADER_RECORDS_OFFSET);
+            long stored = Math.max(0, data.limit() - recordsOffset) / StepJournal.RECORD_BYTES;
+            long count = Math.min(written, stored);
+            // After a wrap-around the oldest record is the one the next append would overwrite
+            long first = written > stored ? written % stored : 0;
+
+            List<TestLogger.LogEntry> entries = new ArrayList<>((int) Math.min(count, Integer.MAX_VALUE));
+            for (long i = 0; i < count; i++) {
+                int position = (int) (recordsOffset + ((first + i) % stored) * StepJournal.RECORD_BYTES);
+                entries.add(decodeRecord(data, position, dictionary, text));
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * Decodes a journal into the pretty-printed TestLogger JSON format.
+     *
+     * @param journal the journal file
+     * @return JSON array, or "{}" if the journal is empty
+     * @throws IOException if the journal cannot be read
+     */
+    public static String decodeToJson(Path journal) throws IOException {
+        return TestLogger.toJson(decode(journal));
+    }
+
+    /**
+     * Command line entry point: <code>StepJournalDecoder &lt;journal&gt; [output.json]</code>.
+     *
+     * @param args journal path and optional output path
+     * @throws IOException if decoding or writing fails
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: StepJournalDecoder <journal> [output.json]");
+            System.exit(2);
+        }
+        String json = decodeToJson(Paths.get(args[0]));
+        if (args.length > 1) {
+            Files.write(Paths.get(args[1]), json.getBytes(StandardCharsets.UTF_8));
+        } else {
+            System.out.println(json);
+        }
+    }
+
+    private static TestLogger.LogEntry decodeRecord(ByteBuffer data, int position, Map<Integer, String> dictionary,
+                                                    Text text) {
+        Instant timestamp = Instant.ofEpochMilli(data.getLong(position));
+        long stepNumber = data.getLong(position + 8);
+        byte type = data.get(position + 16);
+        int templateId = data.getInt(position + 20);
+        String template = templateId == StepJournal.NO_STRING && type == StepJournal.TYPE_MESSAGE
+                ? text.get(data.getLong(position + StepJournal.RECORD_TEXT_OFFSET))
+                : lookup(dictionary, templateId);
+
+        if (type == StepJournal.TYPE_MESSAGE) {
+            int argCount = data.get(position + 17);
+            if (argCount == 0) {
+                return new TestLogger.LogEntry(timestamp, template, stepNumber);
+            }
+            Object[] args = new Object[argCount];
+            for (int i = 0; i < argCount; i++) {
+                args[i] = text.get(data.getLong(position + 24 + i * 8));
+            }
+            return new TestLogger.LogEntry(timestamp, MessageFormatter.arrayFormat(template, args).getMessage(), stepNumber);
+        }
+
+        StepSpan.Outcome outcome = type == StepJournal.TYPE_SPAN_FAILED ? StepSpan.Outcome.FAILED : StepSpan.Outcome.PASSED;
+        int retries = data.getShort(position + 18);
+        String elementName = lookup(dictionary, data.getInt(position + 24));
+        String selector = lookup(dictionary, data.getInt(position + 28));
+        String error = text.get(data.getLong(position + StepJournal.RECORD_TEXT_OFFSET));
+        long durationNanos = data.getLong(position + 40);
+        long waitNanos = data.getLong(position + 48);
+        String message = StepSpan.describe(template, elementName, selector, outcome, durationNanos, waitNanos, retries, error);
+        return new TestLogger.LogEntry(timestamp, message, stepNumber, template, elementName, selector, outcome, error,
+                durationNanos, waitNanos, retries);
+    }
+
+    private static String lookup(Map<Integer, String> dictionary, int id) {
+        if (id == StepJournal.NO_STRING) {
+            return null;
+        }
+        String value = dictionary.get(id);
+        return value != null ? value : "<missing string " + id + ">";
+    }
+
+    /**
+     * The text ring of a journal.
+     */
+    private static final class Text {
+        private final ByteBuffer data;
+        private final int capacity;
+        private final long written;
+
+        private Text(ByteBuffer data, int capacity, long written) {
+            this.data = data;
+            this.capacity = capacity;
+            this.written = written;
+        }
+
+        /**
+         * Reads the value at a text position.
+         *
+         * @return the value, null for no value, or a placeholder if the ring has overwritten it
+         */
+        private String get(long textPosition) {
+            if (textPosition == StepJournal.NO_TEXT) {
+                return null;
+            }
+            if (textPosition < written - capacity || textPosition >= written) {
+                return "<overwritten>";
+            }
+            int start = StepJournal.HEADER_BYTES + (int) (textPosition % capacity);
+            int length = data.getInt(start);
+            byte[] bytes = new byte[length];
+            ByteBuffer value = data.duplicate();
+            value.position(start + 4);
+            value.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Map<Integer, String> readDictionary(Path file) throws IOException {
+        Map<Integer, String> dictionary = new HashMap<>();
+        if (!Files.exists(file)) {
+            return dictionary;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (true) {
+                int id = in.readInt();
+                dictionary.put(id, in.readUTF());
+            }
+        } catch (EOFException e) {
+            // End of dictionary; a string cut off by a crash is simply missing
+        }
+        return dictionary;
+    }
+}
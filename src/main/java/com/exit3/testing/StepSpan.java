@@ -0,0 +1,234 @@
+package com.exit3.testing;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timed span around a single {@link UiObject} action.
+ * <p>
+ * UiObject opens a span when an action starts and closes it when the action returns or
+ * throws. The span measures its duration with the monotonic {@link System#nanoTime()} clock
+ * and collects the time spent inside explicit waits ({@link TimedWait}), so every step can
+ * be split into waiting and acting. Closed spans are recorded in {@link TestLogger}, where
+ * they appear in the regular JSON export and feed the per-test {@link TestLogger.StepSummary}.
+ * </p>
+ * <p>
+ * Spans are per thread. A span opened while another one is open becomes its child; the
+ * child's wait time is added to the parent when it closes and only top-level spans count
+ * towards the summary.
+ * </p>
+ * <p>
+ * While a Java Flight Recorder recording is active, every span is also emitted as a
+ * {@link FrameworkEvents.ActionEvent}.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * StepSpan span = StepSpan.open("clickWithWait", "Login Button", "accessibilityId");
+ * try {
+ *     // ... wait and act ...
+ * } catch (Throwable t) {
+ *     span.fail(t);
+ *     throw t;
+ * } finally {
+ *     span.close();
+ * }
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ * @see TestLogger#getStepSummary()
+ */
+public final class StepSpan {
+    private static final ThreadLocal<StepSpan> current = new ThreadLocal<>();
+
+    /**
+     * Result of a step.
+     */
+    public enum Outcome {
+        RUNNING, PASSED, FAILED
+    }
+
+    private final String action;
+    private final String elementName;
+    private final String selector;
+    private final StepSpan parent;
+    private final long startEpochMillis;
+    private final long startNanos;
+    private long durationNanos;
+    private long waitNanos;
+    private int waits;
+    private int retries;
+    private Outcome outcome = Outcome.RUNNING;
+    private String error;
+    private FrameworkEvents.ActionEvent event;
+
+    private StepSpan(String action, String elementName, String selector, StepSpan parent) {
+        this.action = action;
+        this.elementName = elementName;
+        this.selector = selector;
+        this.parent = parent;
+        this.startEpochMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+        if (FrameworkEvents.actionsEnabled()) {
+            event = new FrameworkEvents.ActionEvent();
+            event.begin();
+        }
+    }
+
+    /**
+     * Opens a span for the current thread.
+     *
+     * @param action action name, e.g. <code>clickWithWait</code>
+     * @param elementName element name as passed to UiObject
+     * @param selector selector strategy, e.g. <code>xpath</code> or <code>accessibilityId</code>
+     * @return the open span
+     */
+    public static StepSpan open(String action, String elementName, String selector) {
+        StepSpan span = new StepSpan(action, elementName, selector, current.get());
+        current.set(span);
+        return span;
+    }
+
+    /**
+     * Returns the innermost open span of the current thread.
+     *
+     * @return the open span, or null outside of an action
+     */
+    public static StepSpan current() {
+        return current.get();
+    }
+
+    /**
+     * Adds time spent in an explicit wait to this span.
+     *
+     * @param nanos wait duration in nanoseconds
+     */
+    void addWait(long nanos) {
+        waitNanos += nanos;
+        waits++;
+    }
+
+    /**
+     * Counts a retry, e.g. one more scroll before the element is found.
+     */
+    public void retry() {
+        retries++;
+    }
+
+    /**
+     * Marks the span as failed. The span still has to be closed.
+     *
+     * @param cause the exception that ended the action
+     */
+    public void fail(Throwable cause) {
+        outcome = Outcome.FAILED;
+        error = cause.getClass().getSimpleName();
+    }
+
+    /**
+     * Closes the span and records it in TestLogger. Closing twice has no effect.
+     */
+    public void close() {
+        if (durationNanos > 0) {
+            return;
+        }
+        durationNanos = Math.max(1, System.nanoTime() - startNanos);
+        if (outcome == Outcome.RUNNING) {
+            outcome = Outcome.PASSED;
+        }
+        if (current.get() == this) {
+            if (parent == null) {
+                current.remove();
+            } else {
+                current.set(parent);
+            }
+        }
+        if (parent != null) {
+            parent.waitNanos += waitNanos;
+            parent.waits += waits;
+        }
+        if (event != null) {
+            event.end(this);
+        }
+        ChromeTracer.record("action", action, startNanos, durationNanos, elementName, outcome.name());
+        if (TestConfig.LIVE_METRICS_ENABLED) {
+            LiveMetrics.actionFinished(this);
+        }
+        TestLogger.addStepSpan(this);
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getElementName() {
+        return elementName;
+    }
+
+    public String getSelector() {
+        return selector;
+    }
+
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public long getWaitNanos() {
+        return waitNanos;
+    }
+
+    /**
+     * Time spent outside explicit waits.
+     *
+     * @return duration minus wait time, in nanoseconds
+     */
+    public long getActNanos() {
+        return Math.max(0, durationNanos - waitNanos);
+    }
+
+    public int getWaits() {
+        return waits;
+    }
+
+    public int getRetries() {
+        return retries;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isTopLevel() {
+        return parent == null;
+    }
+
+    @Override
+    public String toString() {
+        return describe(action, elementName, selector, outcome, durationNanos, waitNanos, retries, error);
+    }
+
+    /**
+     * Log message of a span; shared with {@link StepJournalDecoder} so decoded journals read the same.
+     */
+    static String describe(String action, String elementName, String selector, Outcome outcome,
+                           long durationNanos, long waitNanos, int retries, String error) {
+        return String.format("%s '%s' (%s) %s in %d ms, waited %d ms%s%s",
+                action, elementName, selector, outcome.name().toLowerCase(),
+                TimeUnit.NANOSECONDS.toMillis(durationNanos), TimeUnit.NANOSECONDS.toMillis(waitNanos),
+                retries > 0 ? ", " + retries + " retries" : "",
+                error != null ? ": " + error : "");
+    }
+}
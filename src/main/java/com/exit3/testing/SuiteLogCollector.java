@@ -0,0 +1,316 @@
+package com.exit3.testing;
+
+import com.google.gson.stream.JsonWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Collects finished TestLogger batches from all test threads into one time-ordered suite log.
+ * <p>
+ * Test threads publish their entries once per test through a lock-free
+ * {@link ConcurrentLinkedQueue}; publishing never blocks and never touches the file. A single
+ * consumer thread drains the queue, merges the batches by timestamp and appends them as JSON
+ * Lines to {@link TestConfig#SUITE_LOG_FILE}. Each line is a TestLogger entry with two extra
+ * fields, <code>test</code> and <code>thread</code>.
+ * </p>
+ * <p>
+ * {@link #testStarted()} records the thread's log position and the start time; {@link #publish(String)}
+ * sends only the entries added after that position, so every entry is published once even
+ * though the thread's TestLogger buffer is never cleared between tests. Entries logged before
+ * the test start or after its result is reported (for example in <code>@AfterMethod</code>) are
+ * not part of any batch.
+ * </p>
+ * <p>
+ * Batches from parallel tests overlap in time, so the consumer only writes entries older than
+ * the start of the oldest test still running (the watermark); everything else waits in memory
+ * until that test publishes. Entries of finished tests are written while the suite runs.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * // Done by ClickNCheckListener when -Dsuite.log.enabled=true
+ * SuiteLogCollector.start();              // suite start
+ * SuiteLogCollector.testStarted();        // test start
+ * SuiteLogCollector.publish("testLogin"); // test end, entries logged since test start
+ * SuiteLogCollector.stop();               // suite end, flushes the file
+ * }</pre>
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ * @see TestConfig#SUITE_LOG_ENABLED
+ */
+public class SuiteLogCollector {
+    private static final Logger logger = LoggerFactory.getLogger(SuiteLogCollector.class);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static final ConcurrentLinkedQueue<Batch> queue = new ConcurrentLinkedQueue<>();
+    private static final Map<Long, Long> runningTests = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Long> testPosition = new ThreadLocal<>();
+    private static final LongAdder publishedBatches = new LongAdder();
+    private static volatile Thread consumer;
+    private static Path consumerFile;
+    private static volatile boolean running;
+
+    /**
+     * Starts the consumer thread if it is not running yet.
+     *
+     * @return the suite log file
+     */
+    public static synchronized Path start() {
+        return start(Paths.get(TestConfig.SUITE_LOG_FILE));
+    }
+
+    /**
+     * Starts the consumer thread writing to a file if it is not running yet.
+     *
+     * @param file the suite log file
+     * @return the file the running consumer writes
+     */
+    static synchronized Path start(Path file) {
+        if (consumer != null) {
+            return consumerFile;
+        }
+        consumerFile = file;
+        running = true;
+        Consumer worker = new Consumer(file);
+        consumer = new Thread(worker, "clickncheck-suite-log");
+        consumer.setDaemon(true);
+        consumer.start();
+        logger.info("Suite log collector started: {}", file.toAbsolutePath());
+        return file;
+    }
+
+    /**
+     * Returns whether the consumer thread is running.
+     *
+     * @return true between {@link #start()} and {@link #stop()}
+     */
+    public static boolean isRunning() {
+        return consumer != null;
+    }
+
+    /**
+     * Marks the start of a test on the current thread: records the thread's log position,
+     * and the start time as the thread's watermark.
+     */
+    public static void testStarted() {
+        testPosition.set(TestLogger.position());
+        runningTests.put(Thread.currentThread().getId(), System.currentTimeMillis());
+    }
+
+    /**
+     * Publishes the entries the current thread logged since {@link #testStarted()}.
+     * Lock-free; the entries are written later by the consumer thread.
+     *
+     * @param testName the test name written with every entry
+     */
+    public static void publish(String testName) {
+        Long position = testPosition.get();
+        testPosition.remove();
+        publish(testName, consumer == null ? Collections.emptyList()
+                : TestLogger.getLogMessagesSince(position == null ? 0 : position));
+    }
+
+    /**
+     * Publishes a finished test's entries and ends the test's watermark. Lock-free; the
+     * entries are written later by the consumer thread.
+     *
+     * @param testName the test name written with every entry
+     * @param entries the test's log entries, oldest first
+     */
+    public static void publish(String testName, List<TestLogger.LogEntry> entries) {
+        if (consumer == null) {
+            runningTests.remove(Thread.currentThread().getId());
+            return;
+        }
+        if (!entries.isEmpty()) {
+            queue.offer(new Batch(testName, Thread.currentThread().getName(), entries));
+            publishedBatches.increment();
+        }
+        // Offer before removing, so the consumer never sees the watermark move past a batch it has not polled
+        runningTests.remove(Thread.currentThread().getId());
+    }
+
+    /**
+     * Stops the consumer after it has written every published entry.
+     *
+     * @param timeout maximum time to wait for the consumer
+     * @param unit unit of the timeout
+     */
+    public static synchronized void stop(long timeout, TimeUnit unit) {
+        Thread worker = consumer;
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(unit.toMillis(timeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            logger.warn("Suite log collector did not finish within {} {}", timeout, unit);
+        }
+        consumer = null;
+        runningTests.clear();
+    }
+
+    /**
+     * Stops the consumer, waiting up to 30 seconds for it to flush.
+     */
+    public static void stop() {
+        stop(30, TimeUnit.SECONDS);
+    }
+
+    private static long watermark() {
+        long watermark = System.currentTimeMillis();
+        for (Long start : runningTests.values()) {
+            watermark = Math.min(watermark, start);
+        }
+        return watermark;
+    }
+
+    /**
+     * One published test: the entries plus where they came from.
+     */
+    private static final class Batch {
+        private final String testName;
+        private final String threadName;
+        private final List<TestLogger.LogEntry> entries;
+
+        private Batch(String testName, String threadName, List<TestLogger.LogEntry> entries) {
+            this.testName = testName;
+            this.threadName = threadName;
+            this.entries = entries;
+        }
+    }
+
+    /**
+     * A pending entry; <code>sequence</code> keeps equal timestamps in publish order.
+     */
+    private static final class Pending {
+        private final TestLogger.LogEntry entry;
+        private final Batch batch;
+        private final long sequence;
+
+        private Pending(TestLogger.LogEntry entry, Batch batch, long sequence) {
+            this.entry = entry;
+            this.batch = batch;
+            this.sequence = sequence;
+        }
+
+        private long timestamp() {
+            return entry.getTimestamp().toEpochMilli();
+        }
+    }
+
+    /**
+     * The single consumer: drains the queue, merges by timestamp, writes below the watermark.
+     */
+    private static final class Consumer implements Runnable {
+        private final Path file;
+        private final PriorityQueue<Pending> pending = new PriorityQueue<>(
+                Comparator.comparingLong(Pending::timestamp).thenComparingLong(p -> p.sequence));
+        private long sequence;
+        private long written;
+
+        private Consumer(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Path parent = file.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                    JsonWriter json = new JsonWriter(writer);
+                    json.setLenient(true);
+                    boolean draining = true;
+                    while (draining) {
+                        boolean stopping = !running;
+                        long watermark = stopping ? Long.MAX_VALUE : watermark();
+                        boolean received = drain();
+                        if (write(watermark, json, writer)) {
+                            writer.flush();
+                        }
+                        if (stopping && queue.isEmpty()) {
+                            draining = false;
+                        } else if (!received) {
+                            LockSupport.parkNanos(IDLE_PARK_NANOS);
+                        }
+                    }
+                }
+                logger.info("Suite log written: {} entries from {} tests to {}",
+                        written, publishedBatches.sum(), file.toAbsolutePath());
+            } catch (IOException e) {
+                logger.error("Suite log collector failed writing {}: {}", file, e.getMessage());
+                queue.clear();
+            }
+        }
+
+        private boolean drain() {
+            boolean received = false;
+            for (Batch batch = queue.poll(); batch != null; batch = queue.poll()) {
+                for (TestLogger.LogEntry entry : batch.entries) {
+                    pending.add(new Pending(entry, batch, sequence++));
+                }
+                received = true;
+            }
+            return received;
+        }
+
+        private boolean write(long watermark, JsonWriter json, BufferedWriter writer) throws IOException {
+            boolean wrote = false;
+            while (!pending.isEmpty() && pending.peek().timestamp() < watermark) {
+                Pending next = pending.poll();
+                TestLogger.LogEntry entry = next.entry;
+                json.beginObject();
+                json.name("timestamp").value(entry.getTimestamp().toString());
+                json.name("test").value(next.batch.testName);
+                json.name("thread").value(next.batch.threadName);
+                json.name("stepNumber").value(entry.getStepNumber());
+                json.name("message").value(entry.getMessage());
+                if (entry.getAction() != null) {
+                    json.name("action").value(entry.getAction());
+                    json.name("elementName").value(entry.getElementName());
+                    json.name("selector").value(entry.getSelector());
+                    json.name("outcome").value(entry.getOutcome().name());
+                    if (entry.getError() != null) {
+                        json.name("error").value(entry.getError());
+                    }
+                    json.name("durationNanos").value(entry.getDurationNanos());
+                    json.name("waitNanos").value(entry.getWaitNanos());
+                    json.name("retries").value(entry.getRetries());
+                }
+                json.endObject();
+                writer.write('\n');
+                written++;
+                wrote = true;
+            }
+            return wrote;
+        }
+    }
+}
@@ -28,6 +28,57 @@ package com.exit3.testing;
  *   <li><b>short.wait</b> - Short wait timeout in seconds (default: 10)</li>
  *   <li><b>screenshot.dir</b> - Screenshot directory path (default: target/screenshots)</li>
  *   <li><b>screenshot.retention.days</b> - Days to keep screenshots (default: 7)</li>
+ *   <li><b>screenshot.max.bytes</b> - Total size cap for the screenshot directory in bytes (default: 1 GiB)</li>
+ *   <li><b>screenshot.ring.enabled</b> - Keep low-resolution frames in memory, flushed on failure (default: false)</li>
+ *   <li><b>screenshot.ring.frames</b> - Number of frames kept per thread (default: 5)</li>
+ *   <li><b>screenshot.ring.frame.bytes</b> - Maximum size of one encoded frame in bytes (default: 262144)</li>
+ *   <li><b>screenshot.ring.scale</b> - Resolution scale of ring buffer frames (default: 0.25)</li>
+ *   <li><b>screenshot.element.scoped</b> - Capture only the element region on element failures (default: true)</li>
+ *   <li><b>screenshot.element.padding</b> - Padding around element captures in points (default: 0)</li>
+ *   <li><b>recording.enabled</b> - Record the screen, keep video only for failed tests (default: false)</li>
+ *   <li><b>recording.segment.seconds</b> - Length of a recording segment in seconds (default: 60)</li>
+ *   <li><b>recording.keep.seconds</b> - Seconds of video kept for a failed test (default: 30)</li>
+ *   <li><b>recording.ffmpeg</b> - ffmpeg executable used to trim recordings (default: ffmpeg)</li>
+ *   <li><b>mjpeg.enabled</b> - Stream the device screen over MJPEG for fast frame grabs (default: false)</li>
+ *   <li><b>mjpeg.port</b> - First local MJPEG port, one port per session (default: 9100)</li>
+ *   <li><b>mjpeg.frames</b> - MJPEG frames kept in memory per session (default: 3)</li>
+ *   <li><b>mjpeg.max.frame.age.ms</b> - Oldest MJPEG frame used for screenshots in ms (default: 500)</li>
+ *   <li><b>testlogger.capacity</b> - Log entries kept per thread by TestLogger (default: 4096)</li>
+ *   <li><b>testlogger.stream.enabled</b> - Stream each test's log to a JSON Lines file (default: false)</li>
+ *   <li><b>testlogger.stream.dir</b> - Directory for JSON Lines test logs (default: target/test-logs)</li>
+ *   <li><b>suite.log.enabled</b> - Collect all tests' logs into one time-ordered suite log (default: false)</li>
+ *   <li><b>suite.log.file</b> - Suite log file (default: target/logs/suite-log.jsonl)</li>
+ *   <li><b>journal.enabled</b> - Write TestLogger entries to a memory-mapped binary journal per thread (default: false)</li>
+ *   <li><b>journal.dir</b> - Directory for binary step journals (default: target/journal)</li>
+ *   <li><b>journal.max.bytes</b> - Maximum size of one journal before it wraps (default: 64 MiB)</li>
+ *   <li><b>metrics.commands.enabled</b> - Record per-command WebDriver latency histograms (default: false)</li>
+ *   <li><b>metrics.dir</b> - Directory for exported metrics files (default: target/metrics)</li>
+ *   <li><b>http.accounting.enabled</b> - Count HTTP requests and bytes per driver session and test (default: false)</li>
+ *   <li><b>http.accounting.worst</b> - Number of heaviest tests flagged at suite end (default: 5)</li>
+ *   <li><b>trace.enabled</b> - Record device/thread timelines as a Chrome Trace file (default: false)</li>
+ *   <li><b>trace.file</b> - Chrome Trace file written at suite end (default: target/trace/clickncheck-trace.json)</li>
+ *   <li><b>metrics.live.enabled</b> - Serve live run metrics on localhost while tests run (default: false)</li>
+ *   <li><b>metrics.live.port</b> - Port of the live metrics endpoint (default: 9464)</li>
+ *   <li><b>appium.server.start</b> - Start a local Appium server in initialize; false expects one already running (default: true)</li>
+ *   <li><b>appium.server.keep.alive</b> - Keep idle Appium servers running for later test classes until JVM exit (default: true)</li>
+ *   <li><b>appium.server.attach</b> - Attach to a healthy Appium server already running on the port (default: true)</li>
+ *   <li><b>appium.server.daemon</b> - Leave started Appium servers running after exit for the next run (default: false)</li>
+ *   <li><b>appium.daemon.dir</b> - Directory of Appium daemon PID, lock and log files (default: target/appium-daemon)</li>
+ *   <li><b>session.pool.enabled</b> - Reuse driver sessions across test classes per device (default: false)</li>
+ *   <li><b>session.reset</b> - App reset between pooled session uses: restart-app, clear-app or none (default: restart-app)</li>
+ *   <li><b>session.pool.idle.timeout.seconds</b> - Idle timeout of pooled sessions on the Appium server (default: 600)</li>
+ *   <li><b>appium.pool.size</b> - Number of pooled Appium servers, one leased per device; 0 disables the pool (default: 0)</li>
+ *   <li><b>appium.pool.base.port</b> - First port for pool servers (default: 4723)</li>
+ *   <li><b>appium.pool.health.interval.ms</b> - Interval of pool server /status checks (default: 5000)</li>
+ *   <li><b>appium.pool.health.timeout.ms</b> - Timeout of a pool health check (default: 3000)</li>
+ *   <li><b>appium.pool.health.failures</b> - Failed checks before a pool server is restarted (default: 2)</li>
+ *   <li><b>appium.stub.enabled</b> - Serve sessions from the in-JVM W3C stub instead of Appium (default: false)</li>
+ *   <li><b>appium.stub.latency.ms</b> - Mean latency of every stub command (default: 0)</li>
+ *   <li><b>appium.stub.jitter.ms</b> - Maximum deviation from the stub latency (default: 0)</li>
+ *   <li><b>commands.record.enabled</b> - Record driver HTTP command traces for replay (default: false)</li>
+ *   <li><b>commands.record.dir</b> - Directory of recorded command traces (default: target/command-traces)</li>
+ *   <li><b>commands.replay</b> - Trace file or directory served instead of Appium (default: none)</li>
+ *   <li><b>commands.replay.scale</b> - Factor applied to recorded latencies on replay (default: 1.0)</li>
  * </ul>
  *
  * @author ClickNCheck Framework
@@ -79,4 +130,486 @@ public class TestConfig {
     public static final int SCREENSHOT_RETENTION_DAYS = Integer.parseInt(
         System.getProperty("screenshot.retention.days", "7")
     );
+
+    /**
+     * Maximum total size of the screenshot directory (in bytes).
+     * When exceeded, the retention sweep deletes the oldest screenshots first.
+     * Configure via: -Dscreenshot.max.bytes=1073741824
+     * Default: 1 GiB (0 disables the size cap)
+     */
+    public static final long SCREENSHOT_MAX_BYTES = Long.parseLong(
+        System.getProperty("screenshot.max.bytes", "1073741824")
+    );
+
+    /**
+     * Enables the in-memory screenshot ring buffer.
+     * When enabled, a low-resolution frame is captured after every mutating UiObject action
+     * and written to disk only if the test fails.
+     * Configure via: -Dscreenshot.ring.enabled=true
+     * Default: false
+     */
+    public static final boolean SCREENSHOT_RING_ENABLED = Boolean.parseBoolean(
+        System.getProperty("screenshot.ring.enabled", "false")
+    );
+
+    /**
+     * Number of frames kept in the screenshot ring buffer per thread.
+     * Configure via: -Dscreenshot.ring.frames=5
+     * Default: 5 frames
+     */
+    public static final int SCREENSHOT_RING_FRAMES = Integer.parseInt(
+        System.getProperty("screenshot.ring.frames", "5")
+    );
+
+    /**
+     * Maximum encoded size of a single ring buffer frame (in bytes).
+     * Memory per device is bounded by frames * frame bytes.
+     * Configure via: -Dscreenshot.ring.frame.bytes=262144
+     * Default: 256 KiB
+     */
+    public static final int SCREENSHOT_RING_FRAME_BYTES = Integer.parseInt(
+        System.getProperty("screenshot.ring.frame.bytes", "262144")
+    );
+
+    /**
+     * Resolution scale applied to ring buffer frames.
+     * Configure via: -Dscreenshot.ring.scale=0.25
+     * Default: 0.25 (a quarter of the device resolution)
+     */
+    public static final double SCREENSHOT_RING_SCALE = Double.parseDouble(
+        System.getProperty("screenshot.ring.scale", "0.25")
+    );
+
+    /**
+     * Captures only the element region (instead of the full screen) for element-specific
+     * failures in findOneElement() and clickWithWait().
+     * Configure via: -Dscreenshot.element.scoped=true
+     * Default: true
+     */
+    public static final boolean SCREENSHOT_ELEMENT_SCOPED = Boolean.parseBoolean(
+        System.getProperty("screenshot.element.scoped", "true")
+    );
+
+    /**
+     * Padding around element-scoped screenshots (in points).
+     * 0 uses the element screenshot endpoint; a positive value crops the padded
+     * element rectangle out of a full-screen capture locally.
+     * Configure via: -Dscreenshot.element.padding=16
+     * Default: 0
+     */
+    public static final int SCREENSHOT_ELEMENT_PADDING = Integer.parseInt(
+        System.getProperty("screenshot.element.padding", "0")
+    );
+
+    /**
+     * Enables continuous screen recording for every driver session.
+     * Recordings are kept only for failed tests.
+     * Configure via: -Drecording.enabled=true
+     * Default: false
+     */
+    public static final boolean RECORDING_ENABLED = Boolean.parseBoolean(
+        System.getProperty("recording.enabled", "false")
+    );
+
+    /**
+     * Length of a screen recording segment (in seconds).
+     * Configure via: -Drecording.segment.seconds=60
+     * Default: 60 seconds
+     */
+    public static final int RECORDING_SEGMENT_SECONDS = Integer.parseInt(
+        System.getProperty("recording.segment.seconds", "60")
+    );
+
+    /**
+     * Seconds of screen recording kept for a failed test.
+     * Configure via: -Drecording.keep.seconds=30
+     * Default: 30 seconds
+     */
+    public static final int RECORDING_KEEP_SECONDS = Integer.parseInt(
+        System.getProperty("recording.keep.seconds", "30")
+    );
+
+    /**
+     * ffmpeg executable used to trim failed-test recordings locally.
+     * Configure via: -Drecording.ffmpeg=/usr/local/bin/ffmpeg
+     * Default: ffmpeg (assumes it's in PATH)
+     */
+    public static final String RECORDING_FFMPEG = System.getProperty(
+        "recording.ffmpeg", "ffmpeg"
+    );
+
+    /**
+     * Enables the per-session MJPEG screen stream used for fast frame grabs and visual waits.
+     * Configure via: -Dmjpeg.enabled=true
+     * Default: false
+     */
+    public static final boolean MJPEG_ENABLED = Boolean.parseBoolean(
+        System.getProperty("mjpeg.enabled", "false")
+    );
+
+    /**
+     * First local port for MJPEG streams; every new session uses the next port.
+     * Configure via: -Dmjpeg.port=9100
+     * Default: 9100
+     */
+    public static final int MJPEG_PORT = Integer.parseInt(
+        System.getProperty("mjpeg.port", "9100")
+    );
+
+    /**
+     * Number of MJPEG frames kept in memory per session.
+     * Configure via: -Dmjpeg.frames=3
+     * Default: 3 frames
+     */
+    public static final int MJPEG_FRAMES = Integer.parseInt(
+        System.getProperty("mjpeg.frames", "3")
+    );
+
+    /**
+     * Maximum age of an MJPEG frame that screenshot helpers use instead of a
+     * WebDriver screenshot (in milliseconds).
+     * Configure via: -Dmjpeg.max.frame.age.ms=500
+     * Default: 500 ms
+     */
+    public static final long MJPEG_MAX_FRAME_AGE_MS = Long.parseLong(
+        System.getProperty("mjpeg.max.frame.age.ms", "500")
+    );
+
+    /**
+     * Number of log entries TestLogger keeps per thread; older entries are overwritten.
+     * Configure via: -Dtestlogger.capacity=4096
+     * Default: 4096 entries
+     */
+    public static final int TESTLOGGER_CAPACITY = Integer.parseInt(
+        System.getProperty("testlogger.capacity", "4096")
+    );
+
+    /**
+     * Streams each test's TestLogger entries to a JSON Lines file as they are added.
+     * Configure via: -Dtestlogger.stream.enabled=true
+     * Default: false
+     */
+    public static final boolean TESTLOGGER_STREAM_ENABLED = Boolean.parseBoolean(
+        System.getProperty("testlogger.stream.enabled", "false")
+    );
+
+    /**
+     * Directory where per-test JSON Lines logs are written.
+     * Configure via: -Dtestlogger.stream.dir=target/test-logs
+     * Default: target/test-logs
+     */
+    public static final String TESTLOGGER_STREAM_DIR = System.getProperty(
+        "testlogger.stream.dir", "target/test-logs"
+    );
+
+    /**
+     * Collects every test's TestLogger entries into one time-ordered suite log.
+     * Configure via: -Dsuite.log.enabled=true
+     * Default: false
+     */
+    public static final boolean SUITE_LOG_ENABLED = Boolean.parseBoolean(
+        System.getProperty("suite.log.enabled", "false")
+    );
+
+    /**
+     * JSON Lines file written by the suite log collector.
+     * Configure via: -Dsuite.log.file=target/logs/suite-log.jsonl
+     * Default: target/logs/suite-log.jsonl
+     */
+    public static final String SUITE_LOG_FILE = System.getProperty(
+        "suite.log.file", "target/logs/suite-log.jsonl"
+    );
+
+    /**
+     * Writes every TestLogger entry to a memory-mapped binary journal per thread.
+     * Configure via: -Djournal.enabled=true
+     * Default: false
+     */
+    public static final boolean JOURNAL_ENABLED = Boolean.parseBoolean(
+        System.getProperty("journal.enabled", "false")
+    );
+
+    /**
+     * Directory for binary step journals and their string dictionaries.
+     * Configure via: -Djournal.dir=target/journal
+     * Default: target/journal
+     */
+    public static final String JOURNAL_DIR = System.getProperty(
+        "journal.dir", "target/journal"
+    );
+
+    /**
+     * Maximum size of one step journal (in bytes), split evenly between records and argument text;
+     * the oldest records and text are overwritten beyond it.
+     * Configure via: -Djournal.max.bytes=67108864
+     * Default: 67108864 (64 MiB, about one million records)
+     */
+    public static final long JOURNAL_MAX_BYTES = Long.parseLong(
+        System.getProperty("journal.max.bytes", "67108864")
+    );
+
+    /**
+     * Times every WebDriver command of drivers created by AndroidSettings/IosSettings and
+     * exports per-command latency histograms at suite end.
+     * Configure via: -Dmetrics.commands.enabled=true
+     * Default: false
+     */
+    public static final boolean COMMAND_METRICS_ENABLED = Boolean.parseBoolean(
+        System.getProperty("metrics.commands.enabled", "false")
+    );
+
+    /**
+     * Directory for exported metrics files (JSON and Prometheus text format).
+     * Configure via: -Dmetrics.dir=target/metrics
+     * Default: target/metrics
+     */
+    public static final String METRICS_DIR = System.getProperty(
+        "metrics.dir", "target/metrics"
+    );
+
+    /**
+     * Counts HTTP requests, request/response bytes and closed connections between the driver
+     * and the Appium server, per session and per test.
+     * Configure via: -Dhttp.accounting.enabled=true
+     * Default: false
+     */
+    public static final boolean HTTP_ACCOUNTING_ENABLED = Boolean.parseBoolean(
+        System.getProperty("http.accounting.enabled", "false")
+    );
+
+    /**
+     * Number of tests with the most response bytes flagged in the HTTP accounting report.
+     * Configure via: -Dhttp.accounting.worst=5
+     * Default: 5
+     */
+    public static final int HTTP_ACCOUNTING_WORST = Integer.parseInt(
+        System.getProperty("http.accounting.worst", "5")
+    );
+
+    /**
+     * Records session creation, Appium server and emulator operations, UiObject actions and
+     * waits per device and thread, written as a Chrome Trace Event file at suite end.
+     * Configure via: -Dtrace.enabled=true
+     * Default: false
+     */
+    public static final boolean TRACE_ENABLED = Boolean.parseBoolean(
+        System.getProperty("trace.enabled", "false")
+    );
+
+    /**
+     * Chrome Trace Event file, opened with Perfetto or chrome://tracing.
+     * Configure via: -Dtrace.file=target/trace/clickncheck-trace.json
+     * Default: target/trace/clickncheck-trace.json
+     */
+    public static final String TRACE_FILE = System.getProperty(
+        "trace.file", "target/trace/clickncheck-trace.json"
+    );
+
+    /**
+     * Serves live per-device progress, action rate, wait ratio, screenshot backlog and recent
+     * command latency on 127.0.0.1 while the suite runs.
+     * Configure via: -Dmetrics.live.enabled=true
+     * Default: false
+     */
+    public static final boolean LIVE_METRICS_ENABLED = Boolean.parseBoolean(
+        System.getProperty("metrics.live.enabled", "false")
+    );
+
+    /**
+     * Port of the live metrics endpoint (/metrics and /metrics.json).
+     * Configure via: -Dmetrics.live.port=9464
+     * Default: 9464
+     */
+    public static final int LIVE_METRICS_PORT = Integer.parseInt(
+        System.getProperty("metrics.live.port", "9464")
+    );
+
+    /**
+     * Starts a local Appium server from AndroidSettings/IosSettings initialize. Set to false
+     * when a server is already running on the configured host and port.
+     * Configure via: -Dappium.server.start=false
+     * Default: true
+     */
+    public static final boolean APPIUM_SERVER_START = Boolean.parseBoolean(
+        System.getProperty("appium.server.start", "true")
+    );
+
+    /**
+     * Serves sessions from the in-JVM {@link AppiumStubServer} on the configured port instead of
+     * starting Appium, so the suite runs without devices.
+     * Configure via: -Dappium.stub.enabled=true
+     * Default: false
+     */
+    public static final boolean APPIUM_STUB_ENABLED = Boolean.parseBoolean(
+        System.getProperty("appium.stub.enabled", "false")
+    );
+
+    /**
+     * Mean latency of every stub command in milliseconds.
+     * Configure via: -Dappium.stub.latency.ms=20
+     * Default: 0
+     */
+    public static final long APPIUM_STUB_LATENCY_MS = Long.parseLong(
+        System.getProperty("appium.stub.latency.ms", "0")
+    );
+
+    /**
+     * Maximum uniform deviation from the stub latency in milliseconds.
+     * Configure via: -Dappium.stub.jitter.ms=5
+     * Default: 0
+     */
+    public static final long APPIUM_STUB_JITTER_MS = Long.parseLong(
+        System.getProperty("appium.stub.jitter.ms", "0")
+    );
+
+    /**
+     * Records the HTTP commands and responses of every driver session, with timings, as
+     * compressed traces for {@link CommandReplayServer}.
+     * Configure via: -Dcommands.record.enabled=true
+     * Default: false
+     */
+    public static final boolean COMMAND_RECORD_ENABLED = Boolean.parseBoolean(
+        System.getProperty("commands.record.enabled", "false")
+    );
+
+    /**
+     * Directory the command traces are written to, one file per session.
+     * Configure via: -Dcommands.record.dir=target/command-traces
+     * Default: target/command-traces
+     */
+    public static final String COMMAND_TRACE_DIR = System.getProperty(
+        "commands.record.dir", "target/command-traces"
+    );
+
+    /**
+     * Recorded trace file or directory served on the Appium port instead of starting Appium.
+     * Configure via: -Dcommands.replay=target/command-traces
+     * Default: empty (no replay)
+     */
+    public static final String COMMAND_REPLAY = System.getProperty(
+        "commands.replay", ""
+    );
+
+    /**
+     * Factor applied to recorded command latencies on replay; 0 replays without delay.
+     * Configure via: -Dcommands.replay.scale=0.5
+     * Default: 1.0
+     */
+    public static final double COMMAND_REPLAY_SCALE = Double.parseDouble(
+        System.getProperty("commands.replay.scale", "1.0")
+    );
+
+    /**
+     * Keeps a started Appium server running after its last session is released, so the next
+     * test class reuses it; all servers stop at JVM exit. Set to false to stop a server as soon
+     * as no session uses it.
+     * Configure via: -Dappium.server.keep.alive=false
+     * Default: true
+     */
+    public static final boolean APPIUM_SERVER_KEEP_ALIVE = Boolean.parseBoolean(
+        System.getProperty("appium.server.keep.alive", "true")
+    );
+
+    /**
+     * Number of Appium servers started as a pool, one leased per device by startAppiumServer;
+     * 0 starts a single server on the configured port.
+     * Configure via: -Dappium.pool.size=4
+     * Default: 0
+     */
+    public static final int APPIUM_POOL_SIZE = Integer.parseInt(
+        System.getProperty("appium.pool.size", "0")
+    );
+
+    /**
+     * First port tried for pool servers; ports in use are skipped.
+     * Configure via: -Dappium.pool.base.port=4723
+     * Default: 4723
+     */
+    public static final int APPIUM_POOL_BASE_PORT = Integer.parseInt(
+        System.getProperty("appium.pool.base.port", "4723")
+    );
+
+    /**
+     * Interval between /status health checks of each pool server in milliseconds.
+     * Configure via: -Dappium.pool.health.interval.ms=5000
+     * Default: 5000
+     */
+    public static final long APPIUM_POOL_HEALTH_INTERVAL_MS = Long.parseLong(
+        System.getProperty("appium.pool.health.interval.ms", "5000")
+    );
+
+    /**
+     * Connect and read timeout of a pool health check in milliseconds.
+     * Configure via: -Dappium.pool.health.timeout.ms=3000
+     * Default: 3000
+     */
+    public static final int APPIUM_POOL_HEALTH_TIMEOUT_MS = Integer.parseInt(
+        System.getProperty("appium.pool.health.timeout.ms", "3000")
+    );
+
+    /**
+     * Consecutive failed health checks (timeouts or error responses) after which a pool server
+     * is restarted; a refused connection restarts it at once.
+     * Configure via: -Dappium.pool.health.failures=2
+     * Default: 2
+     */
+    public static final int APPIUM_POOL_HEALTH_FAILURES = Integer.parseInt(
+        System.getProperty("appium.pool.health.failures", "2")
+    );
+
+    /**
+     * Attaches to a healthy Appium server already running on the host and port (e.g. a daemon
+     * of an earlier run) instead of starting one.
+     * Configure via: -Dappium.server.attach=false
+     * Default: true
+     */
+    public static final boolean APPIUM_SERVER_ATTACH = Boolean.parseBoolean(
+        System.getProperty("appium.server.attach", "true")
+    );
+
+    /**
+     * Starts Appium servers as daemons that keep running after the JVM exits, recorded with a
+     * PID and lock file, so the next run attaches to them.
+     * Configure via: -Dappium.server.daemon=true
+     * Default: false
+     */
+    public static final boolean APPIUM_SERVER_DAEMON = Boolean.parseBoolean(
+        System.getProperty("appium.server.daemon", "false")
+    );
+
+    /**
+     * Directory of the Appium daemon PID, lock and log files.
+     * Configure via: -Dappium.daemon.dir=target/appium-daemon
+     * Default: target/appium-daemon
+     */
+    public static final String APPIUM_DAEMON_DIR = System.getProperty(
+        "appium.daemon.dir", "target/appium-daemon"
+    );
+
+    /**
+     * Keep driver sessions open across test classes and reuse them per device.
+     * Configure via: -Dsession.pool.enabled=true
+     * Default: false
+     */
+    public static final boolean SESSION_POOL_ENABLED = Boolean.parseBoolean(
+        System.getProperty("session.pool.enabled", "false")
+    );
+
+    /**
+     * How a pooled session's app is reset before the next test class: restart-app, clear-app or none.
+     * Configure via: -Dsession.reset=restart-app
+     * Default: restart-app
+     */
+    public static final String SESSION_RESET = System.getProperty(
+        "session.reset", "restart-app"
+    );
+
+    /**
+     * Seconds Appium keeps an idle pooled session alive between test classes (appium:newCommandTimeout).
+     * Configure via: -Dsession.pool.idle.timeout.seconds=600
+     * Default: 600
+     */
+    public static final int SESSION_POOL_IDLE_TIMEOUT_SECONDS = Integer.parseInt(
+        System.getProperty("session.pool.idle.timeout.seconds", "600")
+    );
 }
@@ -2,25 +2,71 @@ package com.exit3.testing;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.MessageFormatter;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 
 /**
  * Thread-safe test logger for tracking test execution steps with timestamps.
  * <p>
- * Each test thread maintains its own independent log messages using ThreadLocal storage,
+ * Each test thread maintains its own independent log buffer using ThreadLocal storage,
  * making this class safe for parallel test execution. Log entries include timestamps,
  * step numbers, and messages.
  * </p>
+ * <p>
+ * Logging is allocation-light: messages are passed as an SLF4J-style template plus
+ * arguments and are only formatted when the log is read or exported. Entries are stored
+ * in a preallocated per-thread ring buffer of primitive timestamps and step numbers, so
+ * adding a message on the {@link UiObject} hot path does not create an Instant, a
+ * LogEntry or a concatenated String. The buffer holds the last
+ * <code>testlogger.capacity</code> entries; older entries are overwritten.
+ * </p>
+ * <p>
+ * Entries can also be mirrored at DEBUG to the <code>com.exit3.testing.steps</code> logger, which
+ * the shipped <code>logback.xml</code> routes to <code>test-execution.log</code> and the per-device
+ * files. The shipped level is INFO, so mirroring is off; set the logger to DEBUG to turn it on.
+ * Each mirrored entry then costs a logback event on the test thread, and the AsyncAppenders
+ * format its message there as well (<code>prepareForDeferredProcessing</code>) before queueing it.
+ * </p>
+ * <p>
+ * For long soak tests, a per-test JSON Lines stream can be opened with
+ * {@link #openStream(String)} (done automatically by {@link ClickNCheckListener} when
+ * <code>-Dtestlogger.stream.enabled=true</code>). Every step is then appended to
+ * <code>testlogger.stream.dir/&lt;test&gt;-&lt;time&gt;.jsonl</code> as it happens, one compact
+ * JSON object per line, and {@link #getLogMessagesAsJson()} / {@link #getLogMessages()}
+ * read the full history back from that file instead of the bounded buffer.
+ * </p>
  *
  * <h2>Key Features:</h2>
  * <ul>
  *   <li>Thread-safe logging using ThreadLocal</li>
- *   <li>Automatic timestamping (Instant precision)</li>
+ *   <li>Automatic timestamping (millisecond precision)</li>
  *   <li>Sequential step numbering per thread</li>
+ *   <li>Lazy <code>{}</code> placeholder formatting</li>
+ *   <li>Bounded, preallocated storage per thread</li>
  *   <li>JSON export with Gson</li>
+ *   <li>Optional streaming JSON Lines file per test</li>
+ *   <li>Timed step spans and a per-test wait-versus-act summary</li>
+ *   <li>Optional memory-mapped binary journal ({@link StepJournal})</li>
  *   <li>Memory leak prevention with cleanup()</li>
  * </ul>
  *
@@ -35,7 +81,7 @@ import java.util.List;
  * @Test
  * public void testLogin() {
  *     TestLogger.addLogMessage("Starting login test");
- *     TestLogger.addLogMessage("Clicking login button");
+ *     TestLogger.addLogMessage("Clicking {} using {}", "Login Button", "accessibilityId");
  *     // ... test execution ...
  * }
  *
@@ -58,20 +104,29 @@ import java.util.List;
  *   },
  *   {
  *     "timestamp": "2026-01-20T10:15:31.456Z",
- *     "message": "Clicking login button",
+ *     "message": "Clicking Login Button using accessibilityId",
  *     "stepNumber": 2
  *   }
  * ]
  * }</pre>
  *
  * @author ClickNCheck Framework
- * @version 2.0
+ * @version 2.1
  * @since 1.0
  * @see LogEntry
  */
 public class TestLogger {
-    private static final ThreadLocal<List<LogEntry>> logMessages = ThreadLocal.withInitial(ArrayList::new);
-    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private static final Logger logger = LoggerFactory.getLogger(TestLogger.class);
+    /** Step entries are mirrored at DEBUG to this logger when it is enabled (logback.xml ships it at INFO). */
+    private static final Logger stepLogger = LoggerFactory.getLogger("com.exit3.testing.steps");
+    private static final ThreadLocal<JsonLinesSink> sinks = new ThreadLocal<>();
+    /** Created on first use by {@link #buffer()}; {@link #cleanup()} removes it. */
+    private static final ThreadLocal<LogBuffer> logMessages = new ThreadLocal<>();
+    private static final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(Instant.class, new InstantAdapter())
+            .disableHtmlEscaping()
+            .setPrettyPrinting()
+            .create();
 
     /**
      * Adds a log message with timestamp for the current thread.
@@ -79,29 +134,295 @@ public class TestLogger {
      * @param logMessage the message to log
      */
     public static void addLogMessage(String logMessage) {
-        logMessages.get().add(new LogEntry(Instant.now(), logMessage));
+        log(logMessage, null, null, null, null, 0);
+    }
+
+    /**
+     * Adds a parameterized log message; <code>{}</code> is replaced by the argument when read.
+     *
+     * @param template message template with <code>{}</code> placeholders
+     * @param arg the argument
+     */
+    public static void addLogMessage(String template, Object arg) {
+        log(template, arg, null, null, null, 1);
+    }
+
+    /**
+     * Adds a parameterized log message with two arguments.
+     *
+     * @param template message template with <code>{}</code> placeholders
+     * @param arg1 the first argument
+     * @param arg2 the second argument
+     */
+    public static void addLogMessage(String template, Object arg1, Object arg2) {
+        log(template, arg1, arg2, null, null, 2);
+    }
+
+    /**
+     * Adds a parameterized log message with three arguments.
+     *
+     * @param template message template with <code>{}</code> placeholders
+     * @param arg1 the first argument
+     * @param arg2 the second argument
+     * @param arg3 the third argument
+     */
+    public static void addLogMessage(String template, Object arg1, Object arg2, Object arg3) {
+        log(template, arg1, arg2, arg3, null, 3);
+    }
+
+    /**
+     * Adds a parameterized log message with any number of arguments.
+     *
+     * @param template message template with <code>{}</code> placeholders
+     * @param args the arguments
+     */
+    public static void addLogMessage(String template, Object... args) {
+        log(template, null, null, null, args, args.length);
+    }
+
+    private static void log(String template, Object arg1, Object arg2, Object arg3, Object[] args, int argCount) {
+        LogBuffer buffer = buffer();
+        int slot = buffer.append(template, arg1, arg2, arg3, args, argCount);
+        if (stepLogger.isDebugEnabled()) {
+            logStep(template, arg1, arg2, arg3, args, argCount);
+        }
+        if (TestConfig.JOURNAL_ENABLED) {
+            StepJournal journal = StepJournal.forCurrentThread();
+            if (journal != null) {
+                journal.appendMessage(buffer.timestamps[slot], buffer.steps[slot], template, arg1, arg2, arg3, args, argCount);
+            }
+        }
+        JsonLinesSink sink = sinks.get();
+        if (sink != null && sink.isOpen()) {
+            sink.write(buffer.timestamps[slot], buffer.steps[slot], buffer.format(slot), null);
+        }
+    }
+
+    private static void logStep(String template, Object arg1, Object arg2, Object arg3, Object[] args, int argCount) {
+        if (args != null) {
+            stepLogger.debug(template, args);
+        } else if (argCount == 0) {
+            stepLogger.debug(template);
+        } else if (argCount == 1) {
+            stepLogger.debug(template, arg1);
+        } else if (argCount == 2) {
+            stepLogger.debug(template, arg1, arg2);
+        } else {
+            stepLogger.debug(template, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Records a closed step span as a log entry and adds top-level spans to the step summary.
+     * Called by {@link StepSpan#close()}.
+     *
+     * @param span the closed span
+     */
+    static void addStepSpan(StepSpan span) {
+        LogBuffer buffer = buffer();
+        int slot = buffer.appendSpan(span);
+        if (stepLogger.isDebugEnabled()) {
+            stepLogger.debug("{}", span);
+        }
+        if (TestConfig.JOURNAL_ENABLED) {
+            StepJournal journal = StepJournal.forCurrentThread();
+            if (journal != null) {
+                journal.appendSpan(buffer.steps[slot], span);
+            }
+        }
+        JsonLinesSink sink = sinks.get();
+        if (sink != null && sink.isOpen()) {
+            sink.write(buffer.timestamps[slot], buffer.steps[slot], buffer.format(slot), span);
+        }
+    }
+
+    /**
+     * Returns the wait-versus-act summary of the top-level step spans recorded for the
+     * current thread since the last {@link #resetStepSummary()} or {@link #clearLogs()}.
+     *
+     * @return the step summary
+     */
+    public static StepSummary getStepSummary() {
+        LogBuffer buffer = buffer();
+        return new StepSummary(buffer.spanSteps, buffer.spanFailed, buffer.spanNanos, buffer.spanWaitNanos);
+    }
+
+    /**
+     * Starts a new step summary for the current thread without clearing the log.
+     * {@link ClickNCheckListener} calls this at test start, so the summary covers one test.
+     */
+    public static void resetStepSummary() {
+        buffer().resetSpanCounters();
+    }
+
+    /**
+     * Returns the step summary of the current thread as JSON.
+     *
+     * @return JSON object with step counts and wait/act times
+     */
+    public static String getStepSummaryAsJson() {
+        return gson.toJson(getStepSummary());
+    }
+
+    /**
+     * Opens a JSON Lines stream for the current thread's test.
+     * <p>
+     * Subsequent log messages are appended to the file as they are added. A stream that is
+     * still open is closed first.
+     * </p>
+     *
+     * @param testName test name used in the file name
+     * @return the stream file, or null if it could not be created
+     */
+    public static Path openStream(String testName) {
+        closeStream();
+        long openedAt = position();
+        String readableTime = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        String safeName = (testName == null ? "test" : testName).replaceAll("[^A-Za-z0-9_.-]", "_");
+        Path file = Paths.get(TestConfig.TESTLOGGER_STREAM_DIR, safeName + "-" + readableTime + "-"
+                + Thread.currentThread().getId() + ".jsonl");
+        try {
+            sinks.set(new JsonLinesSink(file, openedAt));
+            return file;
+        } catch (IOException e) {
+            logger.warn("Failed to open log stream {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Flushes and closes the current thread's JSON Lines stream.
+     * <p>
+     * The file stays attached to the thread, so the log can still be read back until
+     * {@link #clearLogs()} or {@link #cleanup()} is called.
+     * </p>
+     */
+    public static void closeStream() {
+        JsonLinesSink sink = sinks.get();
+        if (sink != null) {
+            sink.close();
+        }
+    }
+
+    /**
+     * Returns the current thread's JSON Lines file, open or closed.
+     *
+     * @return the stream file, or null if no stream is attached
+     */
+    public static Path getStreamFile() {
+        JsonLinesSink sink = sinks.get();
+        return sink == null ? null : sink.file;
     }
 
     /**
      * Returns all log messages for the current thread as JSON.
+     * <p>
+     * When a stream is attached, the entries are read back from its file line by line.
+     * </p>
      *
      * @return JSON string containing all log messages with timestamps
      */
     public static String getLogMessagesAsJson() {
-        List<LogEntry> entries = logMessages.get();
-        if (entries.isEmpty()) {
-            return "{}";
+        JsonLinesSink sink = sinks.get();
+        if (sink == null) {
+            List<LogEntry> entries = buffer().toEntries(0);
+            if (entries.isEmpty()) {
+                return "{}";
+            }
+            return gson.toJson(entries);
+        }
+        try (BufferedReader reader = sink.reader()) {
+            StringWriter json = new StringWriter();
+            JsonWriter out = gson.newJsonWriter(json);
+            boolean empty = true;
+            out.beginArray();
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isEmpty()) {
+                    gson.toJson(gson.fromJson(line, LogEntry.class), LogEntry.class, out);
+                    empty = false;
+                }
+            }
+            out.endArray();
+            out.flush();
+            return empty ? "{}" : json.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read log stream " + sink.file, e);
         }
-        return gson.toJson(entries);
     }
 
     /**
-     * Returns all log messages for the current thread as a list.
+     * Returns all log messages for the current thread as a list, oldest first.
+     * Messages are formatted here, not when they were added. When a stream is
+     * attached, the entries are read back from its file.
      *
      * @return list of log entries
      */
     public static List<LogEntry> getLogMessages() {
-        return new ArrayList<>(logMessages.get());
+        JsonLinesSink sink = sinks.get();
+        if (sink == null) {
+            return buffer().toEntries(0);
+        }
+        return readStream(sink, 0);
+    }
+
+    /**
+     * Returns the current thread's log messages added after a {@link #position()}, oldest
+     * first. Reads them from the stream file when one was attached at that position,
+     * otherwise from the buffer, which holds at most <code>testlogger.capacity</code> entries.
+     *
+     * @param position value of {@link #position()} before the entries were added
+     * @return list of log entries
+     */
+    static List<LogEntry> getLogMessagesSince(long position) {
+        JsonLinesSink sink = sinks.get();
+        if (sink != null && sink.openedAt <= position) {
+            return readStream(sink, position - sink.openedAt);
+        }
+        return buffer().toEntries(position);
+    }
+
+    /**
+     * Returns the number of entries added to the current thread's log so far; a position
+     * for {@link #getLogMessagesSince(long)}. Clearing the log does not reset it.
+     *
+     * @return the log position
+     */
+    static long position() {
+        return buffer().appended;
+    }
+
+    private static List<LogEntry> readStream(JsonLinesSink sink, long skip) {
+        List<LogEntry> entries = new ArrayList<>();
+        long skipped = 0;
+        try (BufferedReader reader = sink.reader()) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isEmpty() && skipped++ >= skip) {
+                    entries.add(gson.fromJson(line, LogEntry.class));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read log stream " + sink.file, e);
+        }
+        return entries;
+    }
+
+    /**
+     * Serializes entries in the JSON export format.
+     *
+     * @param entries the entries
+     * @return pretty-printed JSON array, or "{}" if there are no entries
+     */
+    static String toJson(List<LogEntry> entries) {
+        return entries.isEmpty() ? "{}" : gson.toJson(entries);
+    }
+
+    /**
+     * Returns how many entries were overwritten because the buffer was full.
+     *
+     * @return number of dropped entries since the last clear
+     */
+    public static long getDroppedCount() {
+        return buffer().dropped;
     }
 
     /**
@@ -109,7 +430,8 @@ public class TestLogger {
      * Call this at the start of each test to ensure clean state.
      */
     public static void clearLogs() {
-        logMessages.get().clear();
+        buffer().clear();
+        detachStream();
     }
 
     /**
@@ -118,22 +440,364 @@ public class TestLogger {
      */
     public static void cleanup() {
         logMessages.remove();
+        detachStream();
+    }
+
+    /**
+     * Returns the current thread's buffer, allocating it with <code>testlogger.capacity</code>
+     * slots on first use.
+     */
+    private static LogBuffer buffer() {
+        LogBuffer buffer = logMessages.get();
+        if (buffer == null) {
+            buffer = new LogBuffer(TestConfig.TESTLOGGER_CAPACITY);
+            logMessages.set(buffer);
+        }
+        return buffer;
+    }
+
+    private static void detachStream() {
+        closeStream();
+        sinks.remove();
+    }
+
+    /**
+     * Preallocated ring buffer of log entries for one thread.
+     * <p>
+     * Up to three arguments are stored inline; longer argument lists keep the
+     * caller's varargs array.
+     * </p>
+     */
+    private static final class LogBuffer {
+        private static final int INLINE_ARGS = 3;
+
+        private final long[] timestamps;
+        private final long[] steps;
+        private final String[] templates;
+        private final Object[] inlineArgs;
+        private final Object[][] varArgs;
+        private final byte[] argCounts;
+        private final StepSpan[] spans;
+        private int head;
+        private int size;
+        private long appended;
+        private long stepCounter;
+        private long dropped;
+        private int spanSteps;
+        private int spanFailed;
+        private long spanNanos;
+        private long spanWaitNanos;
+
+        private LogBuffer(int capacity) {
+            int slots = Math.max(1, capacity);
+            timestamps = new long[slots];
+            steps = new long[slots];
+            templates = new String[slots];
+            inlineArgs = new Object[slots * INLINE_ARGS];
+            varArgs = new Object[slots][];
+            argCounts = new byte[slots];
+            spans = new StepSpan[slots];
+        }
+
+        private int append(String template, Object arg1, Object arg2, Object arg3, Object[] args, int argCount) {
+            int slot = head;
+            timestamps[slot] = System.currentTimeMillis();
+            steps[slot] = ++stepCounter;
+            templates[slot] = template;
+            int base = slot * INLINE_ARGS;
+            inlineArgs[base] = arg1;
+            inlineArgs[base + 1] = arg2;
+            inlineArgs[base + 2] = arg3;
+            varArgs[slot] = args;
+            argCounts[slot] = (byte) Math.min(argCount, Byte.MAX_VALUE);
+            spans[slot] = null;
+
+            head = (head + 1) % templates.length;
+            appended++;
+            if (size < templates.length) {
+                size++;
+            } else {
+                dropped++;
+            }
+            return slot;
+        }
+
+        private int appendSpan(StepSpan span) {
+            int slot = append(null, null, null, null, null, 0);
+            timestamps[slot] = span.getStartEpochMillis();
+            spans[slot] = span;
+            if (span.isTopLevel()) {
+                spanSteps++;
+                spanNanos += span.getDurationNanos();
+                spanWaitNanos += span.getWaitNanos();
+                if (span.getOutcome() == StepSpan.Outcome.FAILED) {
+                    spanFailed++;
+                }
+            }
+            return slot;
+        }
+
+        private String format(int slot) {
+            if (spans[slot] != null) {
+                return spans[slot].toString();
+            }
+            String template = templates[slot];
+            if (argCounts[slot] == 0) {
+                return template;
+            }
+            Object[] args = varArgs[slot];
+            if (args == null) {
+                int base = slot * INLINE_ARGS;
+                args = new Object[argCounts[slot]];
+                System.arraycopy(inlineArgs, base, args, 0, args.length);
+            }
+            return MessageFormatter.arrayFormat(template, args).getMessage();
+        }
+
+        /**
+         * Returns the held entries added after a position, oldest first.
+         */
+        private List<LogEntry> toEntries(long position) {
+            int count = (int) Math.min(size, Math.max(0, appended - position));
+            List<LogEntry> entries = new ArrayList<>(count);
+            int first = (head - count + templates.length) % templates.length;
+            for (int i = 0; i < count; i++) {
+                int slot = (first + i) % templates.length;
+                entries.add(new LogEntry(Instant.ofEpochMilli(timestamps[slot]), format(slot), steps[slot], spans[slot]));
+            }
+            return entries;
+        }
+
+        private void clear() {
+            Arrays.fill(templates, null);
+            Arrays.fill(inlineArgs, null);
+            Arrays.fill(varArgs, null);
+            Arrays.fill(spans, null);
+            head = 0;
+            size = 0;
+            dropped = 0;
+            resetSpanCounters();
+        }
+
+        private void resetSpanCounters() {
+            spanSteps = 0;
+            spanFailed = 0;
+            spanNanos = 0;
+            spanWaitNanos = 0;
+        }
+    }
+
+    /**
+     * Appends compact JSON Lines to a per-test file through one reusable writer.
+     * <p>
+     * Lines are buffered and flushed when the buffer fills, before the file is read
+     * back and on close. A write error closes the stream; the bounded buffer keeps logging.
+     * </p>
+     */
+    private static final class JsonLinesSink {
+        private final Path file;
+        /** Log position when the stream was opened; its first line is the entry after it. */
+        private final long openedAt;
+        private BufferedWriter writer;
+        private JsonWriter json;
+
+        private JsonLinesSink(Path file, long openedAt) throws IOException {
+            this.file = file;
+            this.openedAt = openedAt;
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            this.json = new JsonWriter(writer);
+            // Lenient mode allows one top-level object per line
+            this.json.setLenient(true);
+        }
+
+        private boolean isOpen() {
+            return writer != null;
+        }
+
+        private void write(long timestamp, long stepNumber, String message, StepSpan span) {
+            try {
+                json.beginObject();
+                json.name("timestamp").value(Instant.ofEpochMilli(timestamp).toString());
+                json.name("message").value(message);
+                json.name("stepNumber").value(stepNumber);
+                if (span != null) {
+                    json.name("action").value(span.getAction());
+                    json.name("elementName").value(span.getElementName());
+                    json.name("selector").value(span.getSelector());
+                    json.name("outcome").value(span.getOutcome().name());
+                    if (span.getError() != null) {
+                        json.name("error").value(span.getError());
+                    }
+                    json.name("durationNanos").value(span.getDurationNanos());
+                    json.name("waitNanos").value(span.getWaitNanos());
+                    json.name("retries").value(span.getRetries());
+                }
+                json.endObject();
+                writer.write('\n');
+            } catch (IOException e) {
+                logger.warn("Failed to write log stream {}: {}", file, e.getMessage());
+                close();
+            }
+        }
+
+        private BufferedReader reader() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            return Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        }
+
+        private void close() {
+            if (writer == null) {
+                return;
+            }
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close log stream {}: {}", file, e.getMessage());
+            } finally {
+                writer = null;
+                json = null;
+            }
+        }
+    }
+
+    /**
+     * Serializes Instants as ISO-8601 strings.
+     */
+    private static final class InstantAdapter extends TypeAdapter<Instant> {
+        @Override
+        public void write(JsonWriter out, Instant value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+            } else {
+                out.value(value.toString());
+            }
+        }
+
+        @Override
+        public Instant read(JsonReader in) throws IOException {
+            return Instant.parse(in.nextString());
+        }
+    }
+
+    /**
+     * Wait-versus-act summary of a test's top-level step spans.
+     */
+    public static class StepSummary {
+        private final int steps;
+        private final int failedSteps;
+        private final long totalNanos;
+        private final long waitNanos;
+        private final long actNanos;
+        private final double waitPercent;
+
+        StepSummary(int steps, int failedSteps, long totalNanos, long waitNanos) {
+            this.steps = steps;
+            this.failedSteps = failedSteps;
+            this.totalNanos = totalNanos;
+            this.waitNanos = waitNanos;
+            this.actNanos = Math.max(0, totalNanos - waitNanos);
+            this.waitPercent = totalNanos == 0 ? 0 : Math.round(waitNanos * 1000.0 / totalNanos) / 10.0;
+        }
+
+        public int getSteps() {
+            return steps;
+        }
+
+        public int getFailedSteps() {
+            return failedSteps;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getWaitNanos() {
+            return waitNanos;
+        }
+
+        public long getActNanos() {
+            return actNanos;
+        }
+
+        public double getWaitPercent() {
+            return waitPercent;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d steps (%d failed) in %d ms: waiting %d ms (%.1f%%), acting %d ms",
+                    steps, failedSteps, totalNanos / 1_000_000, waitNanos / 1_000_000, waitPercent,
+                    actNanos / 1_000_000);
+        }
     }
 
     /**
      * Represents a single log entry with timestamp and message.
+     * <p>
+     * Entries are materialized from the thread's buffer when the log is read. Entries
+     * recorded from a {@link StepSpan} also carry the span's action, element, selector,
+     * outcome and timings; these fields are null (and omitted from JSON) otherwise.
+     * </p>
      */
     public static class LogEntry {
         private final Instant timestamp;
         private final String message;
         private final long stepNumber;
-        private static final ThreadLocal<Long> stepCounter = ThreadLocal.withInitial(() -> 0L);
+        private final String action;
+        private final String elementName;
+        private final String selector;
+        private final StepSpan.Outcome outcome;
+        private final String error;
+        private final Long durationNanos;
+        private final Long waitNanos;
+        private final Integer retries;
 
+        /**
+         * Creates an entry with the next step number of the current thread.
+         *
+         * @param timestamp the entry timestamp
+         * @param message the formatted message
+         */
         public LogEntry(Instant timestamp, String message) {
+            this(timestamp, message, ++buffer().stepCounter);
+        }
+
+        LogEntry(Instant timestamp, String message, long stepNumber) {
+            this(timestamp, message, stepNumber, null);
+        }
+
+        LogEntry(Instant timestamp, String message, long stepNumber, StepSpan span) {
+            this(timestamp, message, stepNumber,
+                    span == null ? null : span.getAction(),
+                    span == null ? null : span.getElementName(),
+                    span == null ? null : span.getSelector(),
+                    span == null ? null : span.getOutcome(),
+                    span == null ? null : span.getError(),
+                    span == null ? null : span.getDurationNanos(),
+                    span == null ? null : span.getWaitNanos(),
+                    span == null ? null : span.getRetries());
+        }
+
+        LogEntry(Instant timestamp, String message, long stepNumber, String action, String elementName,
+                 String selector, StepSpan.Outcome outcome, String error, Long durationNanos, Long waitNanos,
+                 Integer retries) {
             this.timestamp = timestamp;
             this.message = message;
-            this.stepNumber = stepCounter.get() + 1;
-            stepCounter.set(this.stepNumber);
+            this.stepNumber = stepNumber;
+            this.action = action;
+            this.elementName = elementName;
+            this.selector = selector;
+            this.outcome = outcome;
+            this.error = error;
+            this.durationNanos = durationNanos;
+            this.waitNanos = waitNanos;
+            this.retries = retries;
         }
 
         public Instant getTimestamp() {
@@ -148,6 +812,38 @@ public class TestLogger {
             return stepNumber;
         }
 
+        public String getAction() {
+            return action;
+        }
+
+        public String getElementName() {
+            return elementName;
+        }
+
+        public String getSelector() {
+            return selector;
+        }
+
+        public StepSpan.Outcome getOutcome() {
+            return outcome;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public Long getDurationNanos() {
+            return durationNanos;
+        }
+
+        public Long getWaitNanos() {
+            return waitNanos;
+        }
+
+        public Integer getRetries() {
+            return retries;
+        }
+
         @Override
         public String toString() {
             return String.format("[Step %d @ %s] %s", stepNumber, timestamp, message);
@@ -157,14 +853,19 @@ public class TestLogger {
          * Resets the step counter for a new test.
          */
         public static void resetStepCounter() {
-            stepCounter.set(0L);
+            buffer().stepCounter = 0;
         }
 
         /**
          * Cleans up step counter for current thread.
+         * Does nothing if the thread has no log buffer, e.g. after {@link TestLogger#cleanup()},
+         * so teardown does not allocate a new one.
          */
         public static void cleanupStepCounter() {
-            stepCounter.remove();
+            LogBuffer buffer = logMessages.get();
+            if (buffer != null) {
+                buffer.stepCounter = 0;
+            }
         }
     }
 }
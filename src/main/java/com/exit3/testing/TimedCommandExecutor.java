@@ -0,0 +1,43 @@
+package com.exit3.testing;
+
+import io.appium.java_client.MobileCommand;
+import io.appium.java_client.remote.AppiumCommandExecutor;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.http.HttpClient;
+
+import java.net.URL;
+
+/**
+ * Appium command executor that records the latency of every WebDriver command in
+ * {@link CommandMetrics} and, when enabled, {@link LiveMetrics}. All driver and element commands (findElement, clickElement,
+ * getPageSource, screenshot, actions, ...) pass through {@link #execute(Command)}.
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+class TimedCommandExecutor extends AppiumCommandExecutor {
+
+    TimedCommandExecutor(URL addressOfRemoteServer) {
+        super(MobileCommand.commandRepository, addressOfRemoteServer);
+    }
+
+    TimedCommandExecutor(URL addressOfRemoteServer, HttpClient.Factory httpClientFactory) {
+        super(MobileCommand.commandRepository, addressOfRemoteServer, httpClientFactory);
+    }
+
+    @Override
+    public Response execute(Command command) {
+        long start = System.nanoTime();
+        try {
+            return super.execute(command);
+        } finally {
+            long nanos = System.nanoTime() - start;
+            CommandMetrics.record(command.getName(), nanos);
+            if (TestConfig.LIVE_METRICS_ENABLED) {
+                LiveMetrics.commandFinished(nanos);
+            }
+        }
+    }
+}
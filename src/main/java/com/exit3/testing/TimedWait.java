@@ -0,0 +1,50 @@
+package com.exit3.testing;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * WebDriverWait that adds the time spent in {@link #until(Function)} to the current
+ * {@link StepSpan}, so step spans can separate waiting from acting, and emits a
+ * {@link FrameworkEvents.WaitEvent} for Java Flight Recorder and a {@link ChromeTracer} span.
+ *
+ * @author ClickNCheck Framework
+ * @version 1.0
+ * @since 1.2
+ */
+class TimedWait extends WebDriverWait {
+    private final long timeoutMillis;
+
+    TimedWait(WebDriver driver, Duration timeout) {
+        super(driver, timeout);
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        FrameworkEvents.WaitEvent event = new FrameworkEvents.WaitEvent();
+        event.begin();
+        long start = System.nanoTime();
+        String outcome = "FAILED";
+        try {
+            V value = super.until(isTrue);
+            outcome = "PASSED";
+            return value;
+        } catch (TimeoutException e) {
+            outcome = "TIMEOUT";
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            StepSpan span = StepSpan.current();
+            if (span != null) {
+                span.addWait(elapsed);
+            }
+            event.end(span, timeoutMillis, outcome);
+            ChromeTracer.record("wait", "wait", start, elapsed, span != null ? span.getElementName() : null, outcome);
+        }
+    }
+}
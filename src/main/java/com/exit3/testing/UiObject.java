@@ -7,15 +7,17 @@ import io.appium.java_client.ios.IOSDriver;
 import io.appium.java_client.touch.WaitOptions;
 import io.appium.java_client.touch.offset.PointOption;
 import org.junit.Assert;
-import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.*;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.interactions.Pause;
 import org.openqa.selenium.interactions.PointerInput;
 import org.openqa.selenium.interactions.Sequence;
+import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -25,6 +27,7 @@ import java.nio.file.Files;
 import java.text.SimpleDateFormat;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
 
 
 import static java.time.Duration.ofMillis;
@@ -32,8 +35,6 @@ import static java.util.Collections.singletonList;
 
 @SuppressWarnings("ALL")
 public class UiObject {
-    private static IOSDriver driverIos;
-    private static AndroidDriver driverAndroid;
     private String element_name;
     private String android_locator;
     private String android_selector;
@@ -48,6 +49,13 @@ public class UiObject {
     private String child_of_child_ios_locator;
     private String child_of_child_ios_selector;
     private static ThreadLocal<String> platform = new ThreadLocal<>();
+
+    /** Screen and element captures of this JVM; the baseline {@link ScreenRecorder#logCost()} compares recording with. */
+    static final LongAdder screenCaptures = new LongAdder();
+    static final LongAdder screenCaptureBytes = new LongAdder();
+    static final LongAdder screenCaptureNanos = new LongAdder();
+    static final LongAdder screenCaptureCpuNanos = new LongAdder();
+    static final LongAdder screenshotDiskBytes = new LongAdder();
     UiObject(String element, String androidSelector, String androidLocator, String iosSelector, String iosLocator) throws FileNotFoundException {
         this.element_name = element;
         this.android_selector = androidSelector;
@@ -64,10 +72,22 @@ public class UiObject {
         platform.set(platformValue);
     }
 
+    /**
+     * Returns the driver of the current thread's platform, or null if none is initialized.
+     */
+    static RemoteWebDriver currentDriver() {
+        if ("android".equalsIgnoreCase(getPlatform())) {
+            return AndroidSettings.driverAndroid.get();
+        } else if ("ios".equalsIgnoreCase(getPlatform())) {
+            return IosSettings.driverIos.get();
+        }
+        return null;
+    }
+
     /**
      * Helper method to find By locator using reflection with better error messages
      */
-    private By findByLocator(String selector, String locator, String elementName) {
+    By findByLocator(String selector, String locator, String elementName) {
         try {
             Method method = By.class.getMethod(selector, String.class);
             return (By) method.invoke(null, locator);
@@ -91,7 +111,7 @@ public class UiObject {
     /**
      * Helper method to find AppiumBy locator using reflection with better error messages
      */
-    private AppiumBy findAppiumByLocator(String selector, String locator, String elementName) {
+    AppiumBy findAppiumByLocator(String selector, String locator, String elementName) {
         try {
             Method method = AppiumBy.class.getMethod(selector, String.class);
             return (AppiumBy) method.invoke(null, locator);
@@ -135,13 +155,59 @@ public class UiObject {
         }
     }
 
+    /**
+     * Selector strategy of the current platform, recorded in step spans.
+     */
+    private String selectorStrategy() {
+        return "ios".equalsIgnoreCase(getPlatform()) ? ios_selector : android_selector;
+    }
+
+    /**
+     * Hook run after every mutating action: captures a ring buffer frame when enabled
+     * and rotates the screen recording segment when due.
+     */
+    private void afterAction(String action) {
+        if (ScreenshotRingBuffer.isEnabled()) {
+            ScreenshotRingBuffer.capture(action + "-" + element_name);
+        }
+        ScreenRecorder.rotateIfDue();
+    }
+
+    /**
+     * Returns the current screen as encoded image bytes, preferring a fresh frame from the
+     * session's MJPEG stream over a WebDriver screenshot round trip.
+     */
+    static byte[] captureScreen(TakesScreenshot driver) {
+        FrameworkEvents.ScreenshotEvent event = new FrameworkEvents.ScreenshotEvent();
+        event.begin();
+        long start = System.nanoTime();
+        long startCpu = ScreenRecorder.threadCpuNanos();
+        byte[] frame = MjpegFrameStream.grabCurrent();
+        if (frame != null) {
+            event.end("screen", "mjpeg", frame);
+            countCapture(start, startCpu, frame);
+            return frame;
+        }
+        byte[] screenshot = driver.getScreenshotAs(OutputType.BYTES);
+        event.end("screen", "webdriver", screenshot);
+        countCapture(start, startCpu, screenshot);
+        return screenshot;
+    }
+
+    private static void countCapture(long startNanos, long startCpuNanos, byte[] image) {
+        screenCaptures.increment();
+        screenCaptureBytes.add(image == null ? 0 : image.length);
+        screenCaptureNanos.add(System.nanoTime() - startNanos);
+        screenCaptureCpuNanos.add(ScreenRecorder.threadCpuNanos() - startCpuNanos);
+    }
+
     public static String screenshotAndroid(String element_name, String element_locator) throws IOException{
-        driverAndroid = AndroidSettings.driverAndroid.get();
+        AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
         if (driverAndroid == null) {
             throw new IllegalStateException("Android driver is not initialized. Call AndroidSettings.initialize() first.");
         }
 
-        File srcFile = driverAndroid.getScreenshotAs(OutputType.FILE);
+        byte[] image = captureScreen(driverAndroid);
         String filename = element_name;
         long timestamp = System.currentTimeMillis();
         SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd_HHmmss");
@@ -153,22 +219,22 @@ public class UiObject {
 
         File targetFile = new File(screenshotDir, filename + "-" + readableTime + ".jpg");
         try {
-            FileUtils.copyFile(srcFile, targetFile);
-            TestLogger.addLogMessage("Screenshot saved: " + targetFile.getAbsolutePath());
+            Files.write(targetFile.toPath(), image);
+            screenshotDiskBytes.add(image.length);
+            TestLogger.addLogMessage("Screenshot saved: {}", targetFile.getAbsolutePath());
         } catch (IOException e) {
-            TestLogger.addLogMessage("Failed to save screenshot: " + e.getMessage());
+            TestLogger.addLogMessage("Failed to save screenshot: {}", e.getMessage());
             throw new IOException("Failed to save screenshot for element: " + element_name, e);
         }
-        byte[] fileContent = Files.readAllBytes(targetFile.toPath());
-        return Base64.getEncoder().encodeToString(fileContent);
+        return Base64.getEncoder().encodeToString(image);
     }
     public static String screenshotIos(String element_name, String element_locator) throws IOException{
-        driverIos = IosSettings.driverIos.get();
+        IOSDriver driverIos = IosSettings.driverIos.get();
         if (driverIos == null) {
             throw new IllegalStateException("iOS driver is not initialized. Call IosSettings.initialize() first.");
         }
 
-        File srcFile = driverIos.getScreenshotAs(OutputType.FILE);
+        byte[] image = captureScreen(driverIos);
         String filename = element_name;
         long timestamp = System.currentTimeMillis();
         SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd_HHmmss");
@@ -180,34 +246,34 @@ public class UiObject {
 
         File targetFile = new File(screenshotDir, filename + "-" + readableTime + ".jpg");
         try {
-            FileUtils.copyFile(srcFile, targetFile);
-            TestLogger.addLogMessage("Screenshot saved: " + targetFile.getAbsolutePath());
+            Files.write(targetFile.toPath(), image);
+            screenshotDiskBytes.add(image.length);
+            TestLogger.addLogMessage("Screenshot saved: {}", targetFile.getAbsolutePath());
         } catch (IOException e) {
-            TestLogger.addLogMessage("Failed to save screenshot: " + e.getMessage());
+            TestLogger.addLogMessage("Failed to save screenshot: {}", e.getMessage());
             throw new IOException("Failed to save screenshot for element: " + element_name, e);
         }
-        byte[] fileContent = Files.readAllBytes(targetFile.toPath());
-        return Base64.getEncoder().encodeToString(fileContent);
+        return Base64.getEncoder().encodeToString(image);
     }
     public static String screenshotFail(String testName) throws IOException{
         if (getPlatform() == null) {
             throw new IllegalStateException("Platform not set. Call UiObject.setPlatform() first.");
         }
 
-        File srcFile;
+        byte[] image;
         if("android".equalsIgnoreCase(getPlatform())) {
-            driverAndroid = AndroidSettings.driverAndroid.get();
+            AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
             if (driverAndroid == null) {
                 throw new IllegalStateException("Android driver is not initialized. Call AndroidSettings.initialize() first.");
             }
-            srcFile = driverAndroid.getScreenshotAs(OutputType.FILE);
+            image = captureScreen(driverAndroid);
         }
         else {
-            driverIos = IosSettings.driverIos.get();
+            IOSDriver driverIos = IosSettings.driverIos.get();
             if (driverIos == null) {
                 throw new IllegalStateException("iOS driver is not initialized. Call IosSettings.initialize() first.");
             }
-            srcFile = driverIos.getScreenshotAs(OutputType.FILE);
+            image = captureScreen(driverIos);
         }
 
         String filename = testName;
@@ -221,563 +287,797 @@ public class UiObject {
 
         File targetFile = new File(screenshotDir, filename + "-" + readableTime + ".jpg");
         try {
-            FileUtils.copyFile(srcFile, targetFile);
-            TestLogger.addLogMessage("Failure screenshot saved: " + targetFile.getAbsolutePath());
+            Files.write(targetFile.toPath(), image);
+            screenshotDiskBytes.add(image.length);
+            TestLogger.addLogMessage("Failure screenshot saved: {}", targetFile.getAbsolutePath());
         } catch (IOException e) {
-            TestLogger.addLogMessage("Failed to save failure screenshot: " + e.getMessage());
+            TestLogger.addLogMessage("Failed to save failure screenshot: {}", e.getMessage());
             throw new IOException("Failed to save failure screenshot for test: " + testName, e);
         }
-        byte[] fileContent = Files.readAllBytes(targetFile.toPath());
-        return Base64.getEncoder().encodeToString(fileContent);
+        ScreenshotRingBuffer.flush(testName);
+        return Base64.getEncoder().encodeToString(image);
+    }
+    /**
+     * Captures only the region of the given element on Android.
+     * <p>
+     * Uses the element screenshot endpoint when {@link TestConfig#SCREENSHOT_ELEMENT_PADDING} is 0,
+     * otherwise (or when the element goes stale) crops the padded element rectangle out of a
+     * full-screen capture locally. Falls back to {@link #screenshotAndroid(String, String)} when
+     * the element cannot be located at all.
+     * </p>
+     *
+     * @param element_name element name used for the file name
+     * @param by locator of the element
+     * @return Base64 encoded image
+     * @throws IOException if the screenshot cannot be saved
+     */
+    public static String screenshotElementAndroid(String element_name, By by) throws IOException {
+        AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+        if (driverAndroid == null) {
+            throw new IllegalStateException("Android driver is not initialized. Call AndroidSettings.initialize() first.");
+        }
+        byte[] image = captureElement(driverAndroid, by);
+        if (image == null) {
+            return screenshotAndroid(element_name, by.toString());
+        }
+        return saveElementScreenshot(image, "/android", element_name);
     }
-    public UiObject findOneElement() throws IOException {
-        validatePlatformAndDriver();
 
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    By by = findByLocator(android_selector, android_locator, element_name);
-                    driverAndroid.findElement(by);
-                    TestLogger.addLogMessage("Element '" + element_name + "' found using " + android_selector + ": " + android_locator);
-                }else {
-                    AppiumBy by = findAppiumByLocator(android_selector, android_locator, element_name);
-                    driverAndroid.findElement(by);
-                    TestLogger.addLogMessage("Element '" + element_name + "' found using " + android_selector + ": " + android_locator);
-                }
-            }
-            catch (NoSuchElementException e) {
-                TestLogger.addLogMessage("Element '" + element_name + "' not found using " + android_selector + ": " + android_locator);
-                screenshotAndroid(element_name, android_locator);
-                throw new NoSuchElementException("Element not found: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
-            }
-            catch (TimeoutException e) {
-                TestLogger.addLogMessage("Timeout waiting for element '" + element_name + "' using " + android_selector + ": " + android_locator);
-                screenshotAndroid(element_name, android_locator);
-                throw new TimeoutException("Timeout finding element: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
-            }
-            catch (StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Stale element reference for '" + element_name + "' using " + android_selector + ": " + android_locator);
-                screenshotAndroid(element_name, android_locator);
-                throw new StaleElementReferenceException("Stale element: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
+    /**
+     * Captures only the region of the given element on iOS.
+     *
+     * @param element_name element name used for the file name
+     * @param by locator of the element
+     * @return Base64 encoded image
+     * @throws IOException if the screenshot cannot be saved
+     * @see #screenshotElementAndroid(String, By)
+     */
+    public static String screenshotElementIos(String element_name, By by) throws IOException {
+        IOSDriver driverIos = IosSettings.driverIos.get();
+        if (driverIos == null) {
+            throw new IllegalStateException("iOS driver is not initialized. Call IosSettings.initialize() first.");
+        }
+        byte[] image = captureElement(driverIos, by);
+        if (image == null) {
+            return screenshotIos(element_name, by.toString());
+        }
+        return saveElementScreenshot(image, "/ios", element_name);
+    }
+
+    /**
+     * Returns the encoded element region, or null if the element is not on screen.
+     */
+    private static byte[] captureElement(RemoteWebDriver driver, By by) throws IOException {
+        List<WebElement> elements = driver.findElements(by);
+        if (elements.isEmpty()) {
+            return null;
+        }
+        WebElement element = elements.get(0);
+        Rectangle rect;
+        try {
+            rect = element.getRect();
+        } catch (StaleElementReferenceException e) {
+            return null;
+        }
+
+        if (TestConfig.SCREENSHOT_ELEMENT_PADDING == 0) {
+            FrameworkEvents.ScreenshotEvent event = new FrameworkEvents.ScreenshotEvent();
+            event.begin();
+            long start = System.nanoTime();
+            long startCpu = ScreenRecorder.threadCpuNanos();
             try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    By by = findByLocator(ios_selector, ios_locator, element_name);
-                    driverIos.findElement(by);
-                    TestLogger.addLogMessage("Element '" + element_name + "' found using " + ios_selector + ": " + ios_locator);
-                }else {
-                    AppiumBy by = findAppiumByLocator(ios_selector, ios_locator, element_name);
-                    driverIos.findElement(by);
-                    TestLogger.addLogMessage("Element '" + element_name + "' found using " + ios_selector + ": " + ios_locator);
-                }
-            }
-            catch (NoSuchElementException e) {
-                TestLogger.addLogMessage("Element '" + element_name + "' not found using " + ios_selector + ": " + ios_locator);
-                screenshotIos(element_name, ios_locator);
-                throw new NoSuchElementException("Element not found: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
-            }
-            catch (TimeoutException e) {
-                TestLogger.addLogMessage("Timeout waiting for element '" + element_name + "' using " + ios_selector + ": " + ios_locator);
-                screenshotIos(element_name, ios_locator);
-                throw new TimeoutException("Timeout finding element: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
-            }
-            catch (StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Stale element reference for '" + element_name + "' using " + ios_selector + ": " + ios_locator);
-                screenshotIos(element_name, ios_locator);
-                throw new StaleElementReferenceException("Stale element: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
+                byte[] image = element.getScreenshotAs(OutputType.BYTES);
+                event.end("element", "webdriver", image);
+                countCapture(start, startCpu, image);
+                return image;
+            } catch (StaleElementReferenceException e) {
+                TestLogger.addLogMessage("Element went stale during element screenshot, cropping full screen instead");
             }
         }
-        return this;
+
+        // Screenshots are in device pixels, element rectangles in points on iOS
+        FrameworkEvents.ScreenshotEvent event = new FrameworkEvents.ScreenshotEvent();
+        event.begin();
+        BufferedImage screen = ImageUtils.decode(captureScreen(driver));
+        double scale = (double) screen.getWidth() / driver.manage().window().getSize().getWidth();
+        int padding = TestConfig.SCREENSHOT_ELEMENT_PADDING;
+        BufferedImage region = ImageUtils.crop(screen,
+                (int) Math.floor((rect.getX() - padding) * scale),
+                (int) Math.floor((rect.getY() - padding) * scale),
+                (int) Math.ceil((rect.getWidth() + 2 * padding) * scale),
+                (int) Math.ceil((rect.getHeight() + 2 * padding) * scale));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageUtils.writeJpeg(region, 0.85f, out);
+        byte[] image = out.toByteArray();
+        event.end("element", "crop", image);
+        return image;
     }
-    public UiObject findAllElements() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    driverAndroid.findElements(by);
-                    TestLogger.addLogMessage("Elements " + element_name + " are found");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    driverAndroid.findElements(by);
-                    TestLogger.addLogMessage("Elements " + element_name + " are found");
+
+    private static String saveElementScreenshot(byte[] image, String subDir, String element_name) throws IOException {
+        String readableTime = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+
+        // Create screenshot directory if it doesn't exist
+        File screenshotDir = new File(TestConfig.SCREENSHOT_DIR + subDir);
+        screenshotDir.mkdirs();
+
+        File targetFile = new File(screenshotDir, element_name + "-element-" + readableTime + ".jpg");
+        try {
+            Files.write(targetFile.toPath(), image);
+            screenshotDiskBytes.add(image.length);
+            TestLogger.addLogMessage("Element screenshot saved: {}", targetFile.getAbsolutePath());
+        } catch (IOException e) {
+            TestLogger.addLogMessage("Failed to save element screenshot: {}", e.getMessage());
+            throw new IOException("Failed to save element screenshot for element: " + element_name, e);
+        }
+        return Base64.getEncoder().encodeToString(image);
+    }
+
+    /**
+     * Failure screenshot for element-specific errors: element region when enabled, full screen otherwise.
+     */
+    private void screenshotElementOnFailure() throws IOException {
+        boolean android = "android".equalsIgnoreCase(getPlatform());
+        String selector = android ? android_selector : ios_selector;
+        String locator = android ? android_locator : ios_locator;
+        if (TestConfig.SCREENSHOT_ELEMENT_SCOPED) {
+            try {
+                By by = Objects.equals(selector, "xpath")
+                        ? findByLocator(selector, locator, element_name)
+                        : findAppiumByLocator(selector, locator, element_name);
+                if (android) {
+                    screenshotElementAndroid(element_name, by);
+                } else {
+                    screenshotElementIos(element_name, by);
+                }
+                return;
+            } catch (WebDriverException e) {
+                TestLogger.addLogMessage("Element screenshot failed for '{}', capturing full screen: {}", element_name, e.getMessage());
+            }
+        }
+        if (android) {
+            screenshotAndroid(element_name, locator);
+        } else {
+            screenshotIos(element_name, locator);
+        }
+    }
+    public UiObject findOneElement() throws IOException {
+        StepSpan span = StepSpan.open("findOneElement", element_name, selectorStrategy());
+        try {
+            validatePlatformAndDriver();
+
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        By by = findByLocator(android_selector, android_locator, element_name);
+                        driverAndroid.findElement(by);
+                        TestLogger.addLogMessage("Element '{}' found using {}: {}", element_name, android_selector, android_locator);
+                    }else {
+                        AppiumBy by = findAppiumByLocator(android_selector, android_locator, element_name);
+                        driverAndroid.findElement(by);
+                        TestLogger.addLogMessage("Element '{}' found using {}: {}", element_name, android_selector, android_locator);
+                    }
+                }
+                catch (NoSuchElementException e) {
+                    TestLogger.addLogMessage("Element '{}' not found using {}: {}", element_name, android_selector, android_locator);
+                    screenshotElementOnFailure();
+                    throw new NoSuchElementException("Element not found: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
+                }
+                catch (TimeoutException e) {
+                    TestLogger.addLogMessage("Timeout waiting for element '{}' using {}: {}", element_name, android_selector, android_locator);
+                    screenshotElementOnFailure();
+                    throw new TimeoutException("Timeout finding element: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
+                }
+                catch (StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Stale element reference for '{}' using {}: {}", element_name, android_selector, android_locator);
+                    screenshotElementOnFailure();
+                    throw new StaleElementReferenceException("Stale element: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                boolean fail = !true;
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                assert  fail = false : "Error" + e;
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        By by = findByLocator(ios_selector, ios_locator, element_name);
+                        driverIos.findElement(by);
+                        TestLogger.addLogMessage("Element '{}' found using {}: {}", element_name, ios_selector, ios_locator);
+                    }else {
+                        AppiumBy by = findAppiumByLocator(ios_selector, ios_locator, element_name);
+                        driverIos.findElement(by);
+                        TestLogger.addLogMessage("Element '{}' found using {}: {}", element_name, ios_selector, ios_locator);
+                    }
+                }
+                catch (NoSuchElementException e) {
+                    TestLogger.addLogMessage("Element '{}' not found using {}: {}", element_name, ios_selector, ios_locator);
+                    screenshotElementOnFailure();
+                    throw new NoSuchElementException("Element not found: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
+                }
+                catch (TimeoutException e) {
+                    TestLogger.addLogMessage("Timeout waiting for element '{}' using {}: {}", element_name, ios_selector, ios_locator);
+                    screenshotElementOnFailure();
+                    throw new TimeoutException("Timeout finding element: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
+                }
+                catch (StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Stale element reference for '{}' using {}: {}", element_name, ios_selector, ios_locator);
+                    screenshotElementOnFailure();
+                    throw new StaleElementReferenceException("Stale element: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
+                }
             }
+            return this;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    driverIos.findElements(by);
-                    TestLogger.addLogMessage("Elements " + element_name + " are found");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    driverIos.findElements(by);
-                    TestLogger.addLogMessage("Elements " + element_name + " are found");
+    }
+    public UiObject findAllElements() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
+        StepSpan span = StepSpan.open("findAllElements", element_name, selectorStrategy());
+        try {
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        driverAndroid.findElements(by);
+                        TestLogger.addLogMessage("Elements {} are found", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        driverAndroid.findElements(by);
+                        TestLogger.addLogMessage("Elements {} are found", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    boolean fail = !true;
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    assert  fail = false : "Error" + e;
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                boolean fail = !true;
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name,ios_locator);
-                assert  fail = false : "Error" + e;
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        driverIos.findElements(by);
+                        TestLogger.addLogMessage("Elements {} are found", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        driverIos.findElements(by);
+                        TestLogger.addLogMessage("Elements {} are found", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    boolean fail = !true;
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name,ios_locator);
+                    assert  fail = false : "Error" + e;
+                }
             }
+            return this;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return this;
     }
     public UiObject tapAtCoordinates(int x, int y) throws IOException {
-        if ("android".equalsIgnoreCase(getPlatform())) {
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            try {
-                new TouchAction<>(driverAndroid)
-                        .tap(PointOption.point(x, y))
-                        .waitAction(WaitOptions.waitOptions(Duration.ofMillis(200)))
-                        .perform();
-                TestLogger.addLogMessage("Tapped at coordinates (" + x + ", " + y + ") on Android");
-            } catch (Exception e) {
-                TestLogger.addLogMessage("Failed to tap at coordinates (" + x + ", " + y + ") on Android. Error: " + e.getMessage());
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        } else if ("ios".equalsIgnoreCase(getPlatform())) {
-            driverIos = IosSettings.driverIos.get();
-            try {
-                PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                Sequence tap = new Sequence(finger, 1)
-                        .addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.viewport(), x, y))
-                        .addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()))
-                        .addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
+        StepSpan span = StepSpan.open("tapAtCoordinates", element_name, selectorStrategy());
+        try {
+            if ("android".equalsIgnoreCase(getPlatform())) {
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                try {
+                    new TouchAction<>(driverAndroid)
+                            .tap(PointOption.point(x, y))
+                            .waitAction(WaitOptions.waitOptions(Duration.ofMillis(200)))
+                            .perform();
+                    TestLogger.addLogMessage("Tapped at coordinates ({}, {}) on Android", x, y);
+                } catch (Exception e) {
+                    TestLogger.addLogMessage("Failed to tap at coordinates ({}, {}) on Android. Error: {}", x, y, e.getMessage());
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
+                }
+            } else if ("ios".equalsIgnoreCase(getPlatform())) {
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                try {
+                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                    Sequence tap = new Sequence(finger, 1)
+                            .addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.viewport(), x, y))
+                            .addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()))
+                            .addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
 
-                driverIos.perform(Collections.singletonList(tap));
-                TestLogger.addLogMessage("Tapped at coordinates (" + x + ", " + y + ") on iOS");
-            } catch (Exception e) {
-                TestLogger.addLogMessage("Failed to tap at coordinates (" + x + ", " + y + ") on iOS. Error: " + e.getMessage());
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());;
-            }
+                    driverIos.perform(Collections.singletonList(tap));
+                    TestLogger.addLogMessage("Tapped at coordinates ({}, {}) on iOS", x, y);
+                } catch (Exception e) {
+                    TestLogger.addLogMessage("Failed to tap at coordinates ({}, {}) on iOS. Error: {}", x, y, e.getMessage());
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());;
+                }
+            }
+            afterAction("tapAtCoordinates");
+            return this;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return this;
     }
     public UiObject sendText(String text) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    driverAndroid.findElement(by).sendKeys(text);
-                    TestLogger.addLogMessage("The text '" + text + "' has been sent to the " + element_name + " element");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    driverAndroid.findElement(by).sendKeys(text);
-                    TestLogger.addLogMessage("The text '" + text + "' has been sent to the " + element_name + " element");
+        StepSpan span = StepSpan.open("sendText", element_name, selectorStrategy());
+        try {
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        driverAndroid.findElement(by).sendKeys(text);
+                        TestLogger.addLogMessage("The text '{}' has been sent to the {} element", text, element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        driverAndroid.findElement(by).sendKeys(text);
+                        TestLogger.addLogMessage("The text '{}' has been sent to the {} element", text, element_name);
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    driverIos.findElement(by).sendKeys(text);
-                    TestLogger.addLogMessage("The text '" + text + "' has been sent to the " + element_name + " element");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    driverIos.findElement(by).sendKeys(text);
-                    TestLogger.addLogMessage("The text '" + text + "' has been sent to the " + element_name + " element");
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        driverIos.findElement(by).sendKeys(text);
+                        TestLogger.addLogMessage("The text '{}' has been sent to the {} element", text, element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        driverIos.findElement(by).sendKeys(text);
+                        TestLogger.addLogMessage("The text '{}' has been sent to the {} element", text, element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
+                }
             }
+            afterAction("sendText");
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return null;
     }
     public UiObject waitUntil() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+        StepSpan span = StepSpan.open("waitUntil", element_name, selectorStrategy());
+        try {
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
+                }
             }
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return null;
     }
     public String getText() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        String text = null;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    text = driverAndroid.findElement(by).getText();
-                    TestLogger.addLogMessage("The text '" + text + "' has been extracted from the " + element_name + " element");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    text = driverAndroid.findElement(by).getText();
-                    TestLogger.addLogMessage("The text '" + text + "' has been extracted from the " + element_name + " element");
+        StepSpan span = StepSpan.open("getText", element_name, selectorStrategy());
+        try {
+            String text = null;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        text = driverAndroid.findElement(by).getText();
+                        TestLogger.addLogMessage("The text '{}' has been extracted from the {} element", text, element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        text = driverAndroid.findElement(by).getText();
+                        TestLogger.addLogMessage("The text '{}' has been extracted from the {} element", text, element_name);
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                boolean fail = !true;
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                assert  fail = false : "Error" + e;
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    text = driverIos.findElement(by).getText();
-                    TestLogger.addLogMessage("The text '" + text + "' has been extracted from the " + element_name + " element");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    text = driverIos.findElement(by).getText();
-                    TestLogger.addLogMessage("The text '" + text + "' has been extracted from the " + element_name + " element");
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    boolean fail = !true;
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    assert  fail = false : "Error" + e;
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                boolean fail = !true;
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name,ios_locator);
-                assert  fail = false : "Error" + e;
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        text = driverIos.findElement(by).getText();
+                        TestLogger.addLogMessage("The text '{}' has been extracted from the {} element", text, element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        text = driverIos.findElement(by).getText();
+                        TestLogger.addLogMessage("The text '{}' has been extracted from the {} element", text, element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    boolean fail = !true;
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name,ios_locator);
+                    assert  fail = false : "Error" + e;
+                }
             }
+            return text;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return text;
     }
     public Boolean isEnabled(Integer waitTime) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        Boolean is_enabled = null;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(waitTime));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_enabled = driverAndroid.findElement(by).isEnabled();
-                    TestLogger.addLogMessage("Element " + element_name + " is enabeled");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_enabled = driverAndroid.findElement(by).isEnabled();
-                    TestLogger.addLogMessage("Element " + element_name + " is enabeled");
+        StepSpan span = StepSpan.open("isEnabled", element_name, selectorStrategy());
+        try {
+            Boolean is_enabled = null;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(waitTime));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_enabled = driverAndroid.findElement(by).isEnabled();
+                        TestLogger.addLogMessage("Element {} is enabeled", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_enabled = driverAndroid.findElement(by).isEnabled();
+                        TestLogger.addLogMessage("Element {} is enabeled", element_name);
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(waitTime));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_enabled = driverIos.findElement(by).isEnabled();
-                    TestLogger.addLogMessage("Element " + element_name + " is enabeled");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_enabled = driverIos.findElement(by).isEnabled();
-                    TestLogger.addLogMessage("Element " + element_name + " is enabeled");
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(waitTime));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_enabled = driverIos.findElement(by).isEnabled();
+                        TestLogger.addLogMessage("Element {} is enabeled", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_enabled = driverIos.findElement(by).isEnabled();
+                        TestLogger.addLogMessage("Element {} is enabeled", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
+                }
             }
+            return is_enabled;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return is_enabled;
     }
     public Boolean isElementWithIndexEnabled(Integer waitTime, Integer index) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        Boolean is_enabled = null;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(waitTime));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    List<WebElement> mobileElements = driverAndroid.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    is_enabled = mobileElement.isEnabled();
-                    TestLogger.addLogMessage("Element " + element_name + " is enabeled");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    List<WebElement> mobileElements = driverAndroid.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    is_enabled = mobileElement.isEnabled();
-                    TestLogger.addLogMessage("Element " + element_name + " is enabeled");
+        StepSpan span = StepSpan.open("isElementWithIndexEnabled", element_name, selectorStrategy());
+        try {
+            Boolean is_enabled = null;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(waitTime));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        List<WebElement> mobileElements = driverAndroid.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        is_enabled = mobileElement.isEnabled();
+                        TestLogger.addLogMessage("Element {} is enabeled", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        List<WebElement> mobileElements = driverAndroid.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        is_enabled = mobileElement.isEnabled();
+                        TestLogger.addLogMessage("Element {} is enabeled", element_name);
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                boolean fail = !true;
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                assert  fail = false : "Error" + e;
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(waitTime));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    List<WebElement> mobileElements = driverAndroid.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    is_enabled = mobileElement.isEnabled();
-                    TestLogger.addLogMessage("Element " + element_name + " is enabeled");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    List<WebElement> mobileElements = driverAndroid.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    is_enabled = mobileElement.isEnabled();
-                    TestLogger.addLogMessage("Element " + element_name + " is enabeled");
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    boolean fail = !true;
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    assert  fail = false : "Error" + e;
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                boolean fail = !true;
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name,ios_locator);
-                assert  fail = false : "Error" + e;
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(waitTime));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        List<WebElement> mobileElements = driverIos.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        is_enabled = mobileElement.isEnabled();
+                        TestLogger.addLogMessage("Element {} is enabeled", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        List<WebElement> mobileElements = driverIos.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        is_enabled = mobileElement.isEnabled();
+                        TestLogger.addLogMessage("Element {} is enabeled", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    boolean fail = !true;
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name,ios_locator);
+                    assert  fail = false : "Error" + e;
+                }
             }
+            return is_enabled;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return is_enabled;
     }
     public Boolean isDisplayed(Integer waitTime) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        Boolean is_displayed = false;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(waitTime));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverAndroid.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverAndroid.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
+        StepSpan span = StepSpan.open("isDisplayed", element_name, selectorStrategy());
+        try {
+            Boolean is_displayed = false;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(waitTime));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverAndroid.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverAndroid.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(waitTime));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverIos.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverIos.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(waitTime));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverIos.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverIos.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
+                }
             }
+            return is_displayed;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return is_displayed;
     }
     public Boolean isSelected(Integer waitTime) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        Boolean is_selected = null;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(waitTime));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_selected = driverAndroid.findElement(by).isSelected();
-                    TestLogger.addLogMessage("Element " + element_name + " is selected");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_selected = driverAndroid.findElement(by).isSelected();
-                    TestLogger.addLogMessage("Element " + element_name + " is selected");
+        StepSpan span = StepSpan.open("isSelected", element_name, selectorStrategy());
+        try {
+            Boolean is_selected = null;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(waitTime));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_selected = driverAndroid.findElement(by).isSelected();
+                        TestLogger.addLogMessage("Element {} is selected", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_selected = driverAndroid.findElement(by).isSelected();
+                        TestLogger.addLogMessage("Element {} is selected", element_name);
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(waitTime));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_selected = driverIos.findElement(by).isSelected();
-                    TestLogger.addLogMessage("Element " + element_name + " is selected");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_selected = driverIos.findElement(by).isSelected();
-                    TestLogger.addLogMessage("Element " + element_name + " is selected");
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(waitTime));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_selected = driverIos.findElement(by).isSelected();
+                        TestLogger.addLogMessage("Element {} is selected", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_selected = driverIos.findElement(by).isSelected();
+                        TestLogger.addLogMessage("Element {} is selected", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
+                }
             }
+            return is_selected;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return is_selected;
     }
     public Boolean ifIsDisplayed(Integer waitTime) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        Boolean is_displayed = true;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(waitTime));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverAndroid.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverAndroid.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
+        StepSpan span = StepSpan.open("ifIsDisplayed", element_name, selectorStrategy());
+        try {
+            Boolean is_displayed = true;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(waitTime));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverAndroid.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverAndroid.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                is_displayed = false;
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(waitTime));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverIos.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverIos.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    is_displayed = false;
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                is_displayed = false;
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(waitTime));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverIos.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverIos.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    is_displayed = false;
+                }
             }
+            return is_displayed;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return is_displayed;
     }
     /** Metoda koja provjerava da li je element s
      * @param text vidljiv
@@ -785,68 +1085,76 @@ public class UiObject {
      * Ako element nije vidljiv metoda ne baca error i ne prekida test
      */
     public Boolean ifIsDisplayedWithText(Integer waitTime, String text) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        Boolean is_displayed = true;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(waitTime));
-            String android_xpath_locator = "//" + android_locator + "[@text=\"" + text + "\"]";
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_xpath_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverAndroid.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, text);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverAndroid.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
+        StepSpan span = StepSpan.open("ifIsDisplayedWithText", element_name, selectorStrategy());
+        try {
+            Boolean is_displayed = true;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(waitTime));
+                String android_xpath_locator = "//" + android_locator + "[@text=\"" + text + "\"]";
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_xpath_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverAndroid.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, text);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverAndroid.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    is_displayed = false;
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                is_displayed = false;
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(waitTime));
-            String ios_xpath_locator = null;
-            if (Objects.equals(ios_selector, "xpath")) {
-                ios_xpath_locator = "//" + ios_locator + "[@name=\"" + text + "\"]";
-            }
-            else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
-                ios_xpath_locator = "type == \"" + ios_locator + "\" AND name CONTAINS \"" + text + "\"";
-            }
-            else if (Objects.equals(ios_selector, "iOSClassChain")) {
-                ios_xpath_locator = "**/" + ios_locator+ "[`label CONTAINS \"" + text + "\" `]";
-            }
-            else if (Objects.equals(ios_selector, "accessibilityId")) {
-                ios_xpath_locator = text;
-            }
-            try {
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(waitTime));
+                String ios_xpath_locator = null;
                 if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_xpath_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverIos.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverIos.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
+                    ios_xpath_locator = "//" + ios_locator + "[@name=\"" + text + "\"]";
+                }
+                else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
+                    ios_xpath_locator = "type == \"" + ios_locator + "\" AND name CONTAINS \"" + text + "\"";
+                }
+                else if (Objects.equals(ios_selector, "iOSClassChain")) {
+                    ios_xpath_locator = "**/" + ios_locator+ "[`label CONTAINS \"" + text + "\" `]";
+                }
+                else if (Objects.equals(ios_selector, "accessibilityId")) {
+                    ios_xpath_locator = text;
+                }
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_xpath_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverIos.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverIos.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    is_displayed = false;
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                is_displayed = false;
-            }
+            return is_displayed;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return is_displayed;
     }
     /** Metoda za slanje teksta elemenatu s čekanjem.
      * @param text je tekst koji zelimo input-at i on se salje metodi
@@ -854,194 +1162,221 @@ public class UiObject {
      * i nakon toga salje tekst sa send_keys
      */
     public UiObject sendTextWithWait(String text) throws IOException {
-        if (text == null) {
-            throw new IllegalArgumentException("Text cannot be null for element: " + element_name);
-        }
-        validatePlatformAndDriver();
+        StepSpan span = StepSpan.open("sendTextWithWait", element_name, selectorStrategy());
+        try {
+            if (text == null) {
+                throw new IllegalArgumentException("Text cannot be null for element: " + element_name);
+            }
+            validatePlatformAndDriver();
 
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    By by = findByLocator(android_selector, android_locator, element_name);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    driverAndroid.findElement(by).sendKeys(text);
-                    TestLogger.addLogMessage("Text '" + text + "' sent to element '" + element_name + "' using " + android_selector + ": " + android_locator);
-                }
-                else {
-                    AppiumBy by = findAppiumByLocator(android_selector, android_locator, element_name);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    driverAndroid.findElement(by).sendKeys(text);
-                    TestLogger.addLogMessage("Text '" + text + "' sent to element '" + element_name + "' using " + android_selector + ": " + android_locator);
-                }
-            }
-            catch (NoSuchElementException e) {
-                TestLogger.addLogMessage("Element not found for sendText: '" + element_name + "' using " + android_selector + ": " + android_locator);
-                screenshotAndroid(element_name, android_locator);
-                throw new NoSuchElementException("Failed to send text - element not found: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
-            }
-            catch (TimeoutException e) {
-                TestLogger.addLogMessage("Timeout waiting for element to be visible for sendText: '" + element_name + "' using " + android_selector + ": " + android_locator);
-                screenshotAndroid(element_name, android_locator);
-                throw new TimeoutException("Failed to send text - timeout waiting for element: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
-            }
-            catch (StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Stale element for sendText: '" + element_name + "' using " + android_selector + ": " + android_locator);
-                screenshotAndroid(element_name, android_locator);
-                throw new StaleElementReferenceException("Failed to send text - stale element: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
-            }
-            catch (Exception e) {
-                TestLogger.addLogMessage("Unexpected error sending text to element '" + element_name + "': " + e.getMessage());
-                screenshotAndroid(element_name, android_locator);
-                throw new RuntimeException("Failed to send text to element: " + element_name, e);
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    By by = findByLocator(ios_selector, ios_locator, element_name);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    driverIos.findElement(by).sendKeys(text);
-                    TestLogger.addLogMessage("Text '" + text + "' sent to element '" + element_name + "' using " + ios_selector + ": " + ios_locator);
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        By by = findByLocator(android_selector, android_locator, element_name);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        driverAndroid.findElement(by).sendKeys(text);
+                        TestLogger.addLogMessage("Text '{}' sent to element '{}' using {}: {}", text, element_name, android_selector, android_locator);
+                    }
+                    else {
+                        AppiumBy by = findAppiumByLocator(android_selector, android_locator, element_name);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        driverAndroid.findElement(by).sendKeys(text);
+                        TestLogger.addLogMessage("Text '{}' sent to element '{}' using {}: {}", text, element_name, android_selector, android_locator);
+                    }
                 }
-                else {
-                    AppiumBy by = findAppiumByLocator(ios_selector, ios_locator, element_name);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    driverIos.findElement(by).sendKeys(text);
-                    TestLogger.addLogMessage("Text '" + text + "' sent to element '" + element_name + "' using " + ios_selector + ": " + ios_locator);
+                catch (NoSuchElementException e) {
+                    TestLogger.addLogMessage("Element not found for sendText: '{}' using {}: {}", element_name, android_selector, android_locator);
+                    screenshotAndroid(element_name, android_locator);
+                    throw new NoSuchElementException("Failed to send text - element not found: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
+                }
+                catch (TimeoutException e) {
+                    TestLogger.addLogMessage("Timeout waiting for element to be visible for sendText: '{}' using {}: {}", element_name, android_selector, android_locator);
+                    screenshotAndroid(element_name, android_locator);
+                    throw new TimeoutException("Failed to send text - timeout waiting for element: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
+                }
+                catch (StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Stale element for sendText: '{}' using {}: {}", element_name, android_selector, android_locator);
+                    screenshotAndroid(element_name, android_locator);
+                    throw new StaleElementReferenceException("Failed to send text - stale element: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
+                }
+                catch (Exception e) {
+                    TestLogger.addLogMessage("Unexpected error sending text to element '{}': {}", element_name, e.getMessage());
+                    screenshotAndroid(element_name, android_locator);
+                    throw new RuntimeException("Failed to send text to element: " + element_name, e);
                 }
             }
-            catch (NoSuchElementException e) {
-                TestLogger.addLogMessage("Element not found for sendText: '" + element_name + "' using " + ios_selector + ": " + ios_locator);
-                screenshotIos(element_name, ios_locator);
-                throw new NoSuchElementException("Failed to send text - element not found: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
-            }
-            catch (TimeoutException e) {
-                TestLogger.addLogMessage("Timeout waiting for element to be visible for sendText: '" + element_name + "' using " + ios_selector + ": " + ios_locator);
-                screenshotIos(element_name, ios_locator);
-                throw new TimeoutException("Failed to send text - timeout waiting for element: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
-            }
-            catch (StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Stale element for sendText: '" + element_name + "' using " + ios_selector + ": " + ios_locator);
-                screenshotIos(element_name, ios_locator);
-                throw new StaleElementReferenceException("Failed to send text - stale element: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
-            }
-            catch (Exception e) {
-                TestLogger.addLogMessage("Unexpected error sending text to element '" + element_name + "': " + e.getMessage());
-                screenshotIos(element_name, ios_locator);
-                throw new RuntimeException("Failed to send text to element: " + element_name, e);
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        By by = findByLocator(ios_selector, ios_locator, element_name);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        driverIos.findElement(by).sendKeys(text);
+                        TestLogger.addLogMessage("Text '{}' sent to element '{}' using {}: {}", text, element_name, ios_selector, ios_locator);
+                    }
+                    else {
+                        AppiumBy by = findAppiumByLocator(ios_selector, ios_locator, element_name);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        driverIos.findElement(by).sendKeys(text);
+                        TestLogger.addLogMessage("Text '{}' sent to element '{}' using {}: {}", text, element_name, ios_selector, ios_locator);
+                    }
+                }
+                catch (NoSuchElementException e) {
+                    TestLogger.addLogMessage("Element not found for sendText: '{}' using {}: {}", element_name, ios_selector, ios_locator);
+                    screenshotIos(element_name, ios_locator);
+                    throw new NoSuchElementException("Failed to send text - element not found: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
+                }
+                catch (TimeoutException e) {
+                    TestLogger.addLogMessage("Timeout waiting for element to be visible for sendText: '{}' using {}: {}", element_name, ios_selector, ios_locator);
+                    screenshotIos(element_name, ios_locator);
+                    throw new TimeoutException("Failed to send text - timeout waiting for element: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
+                }
+                catch (StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Stale element for sendText: '{}' using {}: {}", element_name, ios_selector, ios_locator);
+                    screenshotIos(element_name, ios_locator);
+                    throw new StaleElementReferenceException("Failed to send text - stale element: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
+                }
+                catch (Exception e) {
+                    TestLogger.addLogMessage("Unexpected error sending text to element '{}': {}", element_name, e.getMessage());
+                    screenshotIos(element_name, ios_locator);
+                    throw new RuntimeException("Failed to send text to element: " + element_name, e);
+                }
             }
+            afterAction("sendTextWithWait");
+            return this;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return this;
     }
     public UiObject clearTextWithWait() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    driverAndroid.findElement(by).clear();
-                    TestLogger.addLogMessage("The text has been cleared from the " + element_name + " element");
+        StepSpan span = StepSpan.open("clearTextWithWait", element_name, selectorStrategy());
+        try {
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        driverAndroid.findElement(by).clear();
+                        TestLogger.addLogMessage("The text has been cleared from the {} element", element_name);
+                    }
+                    else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        driverAndroid.findElement(by).clear();
+                        TestLogger.addLogMessage("The text has been cleared from the {} element", element_name);
+                    }
                 }
-                else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    driverAndroid.findElement(by).clear();
-                    TestLogger.addLogMessage("The text has been cleared from the " + element_name + " element");
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    driverIos.findElement(by).clear();
-                    TestLogger.addLogMessage("The text has been cleared from the " + element_name + " element");
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        driverIos.findElement(by).clear();
+                        TestLogger.addLogMessage("The text has been cleared from the {} element", element_name);
+                    }
+                    else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        driverIos.findElement(by).clear();
+                        TestLogger.addLogMessage("The text has been cleared from the {} element", element_name);
+                    }
                 }
-                else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    driverIos.findElement(by).clear();
-                    TestLogger.addLogMessage("The text has been cleared from the " + element_name + " element");
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
+            afterAction("clearTextWithWait");
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return null;
     }
     public UiObject sendEnterWithWait() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    driverAndroid.findElement(by).sendKeys(Keys.RETURN);
-                    TestLogger.addLogMessage("Enter has been sent to the " + element_name + " element");
+        StepSpan span = StepSpan.open("sendEnterWithWait", element_name, selectorStrategy());
+        try {
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        driverAndroid.findElement(by).sendKeys(Keys.RETURN);
+                        TestLogger.addLogMessage("Enter has been sent to the {} element", element_name);
+                    }
+                    else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        driverAndroid.findElement(by).sendKeys(Keys.RETURN);
+                        TestLogger.addLogMessage("Enter has been sent to the {} element", element_name);
+                    }
                 }
-                else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    driverAndroid.findElement(by).sendKeys(Keys.RETURN);
-                    TestLogger.addLogMessage("Enter has been sent to the " + element_name + " element");
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    driverIos.findElement(by).sendKeys(Keys.RETURN);
-                    TestLogger.addLogMessage("Enter has been sent to the " + element_name + " element");
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        driverIos.findElement(by).sendKeys(Keys.RETURN);
+                        TestLogger.addLogMessage("Enter has been sent to the {} element", element_name);
+                    }
+                    else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        driverIos.findElement(by).sendKeys(Keys.RETURN);
+                        TestLogger.addLogMessage("Enter has been sent to the {} element", element_name);
+                    }
                 }
-                else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    driverIos.findElement(by).sendKeys(Keys.RETURN);
-                    TestLogger.addLogMessage("Enter has been sent to the " + element_name + " element");
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
+            afterAction("sendEnterWithWait");
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return null;
     }
     /** Metoda za izvlacenje tekst iz elemenata s čekanjem.
      * Metoda prvo ceka dok element ne bude visible, zatim ga validira s isDisplayed
@@ -1049,195 +1384,220 @@ public class UiObject {
      * @param text.
      */
     public String getTextWithWait() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        String text = null;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    text = driverAndroid.findElement(by).getText();
-                    TestLogger.addLogMessage("The text '" + text + "' has been extracted from the " + element_name + " element");
-                }
-                else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    text = driverAndroid.findElement(by).getText();
-                    TestLogger.addLogMessage("The text '" + text + "' has been extracted from the " + element_name + " element");
-                }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    text = driverIos.findElement(by).getText();
-                    TestLogger.addLogMessage("The text '" + text + "' has been extracted from the " + element_name + " element");
-                }
-                else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    text = driverIos.findElement(by).getText();
-                    TestLogger.addLogMessage("The text '" + text + "' has been extracted from the " + element_name + " element");
+        StepSpan span = StepSpan.open("getTextWithWait", element_name, selectorStrategy());
+        try {
+            String text = null;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        text = driverAndroid.findElement(by).getText();
+                        TestLogger.addLogMessage("The text '{}' has been extracted from the {} element", text, element_name);
+                    }
+                    else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        text = driverAndroid.findElement(by).getText();
+                        TestLogger.addLogMessage("The text '{}' has been extracted from the {} element", text, element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        text = driverIos.findElement(by).getText();
+                        TestLogger.addLogMessage("The text '{}' has been extracted from the {} element", text, element_name);
+                    }
+                    else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        text = driverIos.findElement(by).getText();
+                        TestLogger.addLogMessage("The text '{}' has been extracted from the {} element", text, element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
+                }
             }
+            return text;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return text;
     }
     /** Metoda za klikanje elemenata s čekanjem.
      * Metoda prvo ceka dok element ne bude visible, zatim ga validira s isDisplayed
      * i nakon toga ga klika.
      */
     public UiObject clickWithWait() throws IOException {
-        validatePlatformAndDriver();
+        StepSpan span = StepSpan.open("clickWithWait", element_name, selectorStrategy());
+        try {
+            validatePlatformAndDriver();
 
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    By by = findByLocator(android_selector, android_locator, element_name);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverAndroid.findElement(by).click();
-                    TestLogger.addLogMessage("Clicked element '" + element_name + "' using " + android_selector + ": " + android_locator);
-                }
-                else {
-                    AppiumBy by = findAppiumByLocator(android_selector, android_locator, element_name);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverAndroid.findElement(by).click();
-                    TestLogger.addLogMessage("Clicked element '" + element_name + "' using " + android_selector + ": " + android_locator);
-                }
-            }
-            catch (NoSuchElementException e) {
-                TestLogger.addLogMessage("Element not found for click: '" + element_name + "' using " + android_selector + ": " + android_locator);
-                screenshotAndroid(element_name, android_locator);
-                throw new NoSuchElementException("Failed to click - element not found: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
-            }
-            catch (TimeoutException e) {
-                TestLogger.addLogMessage("Timeout waiting for element to be clickable: '" + element_name + "' using " + android_selector + ": " + android_locator);
-                screenshotAndroid(element_name, android_locator);
-                throw new TimeoutException("Failed to click - timeout waiting for element: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
-            }
-            catch (StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Stale element for click: '" + element_name + "' using " + android_selector + ": " + android_locator);
-                screenshotAndroid(element_name, android_locator);
-                throw new StaleElementReferenceException("Failed to click - stale element: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
-            }
-            catch (Exception e) {
-                TestLogger.addLogMessage("Unexpected error clicking element '" + element_name + "': " + e.getMessage());
-                screenshotAndroid(element_name, android_locator);
-                throw new RuntimeException("Failed to click element: " + element_name, e);
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    By by = findByLocator(ios_selector, ios_locator, element_name);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverIos.findElement(by).click();
-                    TestLogger.addLogMessage("Clicked element '" + element_name + "' using " + ios_selector + ": " + ios_locator);
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        By by = findByLocator(android_selector, android_locator, element_name);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverAndroid.findElement(by).click();
+                        TestLogger.addLogMessage("Clicked element '{}' using {}: {}", element_name, android_selector, android_locator);
+                    }
+                    else {
+                        AppiumBy by = findAppiumByLocator(android_selector, android_locator, element_name);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverAndroid.findElement(by).click();
+                        TestLogger.addLogMessage("Clicked element '{}' using {}: {}", element_name, android_selector, android_locator);
+                    }
                 }
-                else {
-                    AppiumBy by = findAppiumByLocator(ios_selector, ios_locator, element_name);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    driverIos.findElement(by).click();
-                    TestLogger.addLogMessage("Clicked element '" + element_name + "' using " + ios_selector + ": " + ios_locator);
+                catch (NoSuchElementException e) {
+                    TestLogger.addLogMessage("Element not found for click: '{}' using {}: {}", element_name, android_selector, android_locator);
+                    screenshotElementOnFailure();
+                    throw new NoSuchElementException("Failed to click - element not found: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
+                }
+                catch (TimeoutException e) {
+                    TestLogger.addLogMessage("Timeout waiting for element to be clickable: '{}' using {}: {}", element_name, android_selector, android_locator);
+                    screenshotElementOnFailure();
+                    throw new TimeoutException("Failed to click - timeout waiting for element: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
+                }
+                catch (StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Stale element for click: '{}' using {}: {}", element_name, android_selector, android_locator);
+                    screenshotElementOnFailure();
+                    throw new StaleElementReferenceException("Failed to click - stale element: " + element_name + " using " + android_selector + "(" + android_locator + ")", e);
+                }
+                catch (Exception e) {
+                    TestLogger.addLogMessage("Unexpected error clicking element '{}': {}", element_name, e.getMessage());
+                    screenshotElementOnFailure();
+                    throw new RuntimeException("Failed to click element: " + element_name, e);
                 }
             }
-            catch (NoSuchElementException e) {
-                TestLogger.addLogMessage("Element not found for click: '" + element_name + "' using " + ios_selector + ": " + ios_locator);
-                screenshotIos(element_name, ios_locator);
-                throw new NoSuchElementException("Failed to click - element not found: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
-            }
-            catch (TimeoutException e) {
-                TestLogger.addLogMessage("Timeout waiting for element to be clickable: '" + element_name + "' using " + ios_selector + ": " + ios_locator);
-                screenshotIos(element_name, ios_locator);
-                throw new TimeoutException("Failed to click - timeout waiting for element: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
-            }
-            catch (StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Stale element for click: '" + element_name + "' using " + ios_selector + ": " + ios_locator);
-                screenshotIos(element_name, ios_locator);
-                throw new StaleElementReferenceException("Failed to click - stale element: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
-            }
-            catch (Exception e) {
-                TestLogger.addLogMessage("Unexpected error clicking element '" + element_name + "': " + e.getMessage());
-                screenshotIos(element_name, ios_locator);
-                throw new RuntimeException("Failed to click element: " + element_name, e);
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        By by = findByLocator(ios_selector, ios_locator, element_name);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverIos.findElement(by).click();
+                        TestLogger.addLogMessage("Clicked element '{}' using {}: {}", element_name, ios_selector, ios_locator);
+                    }
+                    else {
+                        AppiumBy by = findAppiumByLocator(ios_selector, ios_locator, element_name);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        driverIos.findElement(by).click();
+                        TestLogger.addLogMessage("Clicked element '{}' using {}: {}", element_name, ios_selector, ios_locator);
+                    }
+                }
+                catch (NoSuchElementException e) {
+                    TestLogger.addLogMessage("Element not found for click: '{}' using {}: {}", element_name, ios_selector, ios_locator);
+                    screenshotElementOnFailure();
+                    throw new NoSuchElementException("Failed to click - element not found: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
+                }
+                catch (TimeoutException e) {
+                    TestLogger.addLogMessage("Timeout waiting for element to be clickable: '{}' using {}: {}", element_name, ios_selector, ios_locator);
+                    screenshotElementOnFailure();
+                    throw new TimeoutException("Failed to click - timeout waiting for element: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
+                }
+                catch (StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Stale element for click: '{}' using {}: {}", element_name, ios_selector, ios_locator);
+                    screenshotElementOnFailure();
+                    throw new StaleElementReferenceException("Failed to click - stale element: " + element_name + " using " + ios_selector + "(" + ios_locator + ")", e);
+                }
+                catch (Exception e) {
+                    TestLogger.addLogMessage("Unexpected error clicking element '{}': {}", element_name, e.getMessage());
+                    screenshotElementOnFailure();
+                    throw new RuntimeException("Failed to click element: " + element_name, e);
+                }
             }
+            afterAction("clickWithWait");
+            return this;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return this;
     }
     /** Metoda za izvlacenje lokacije koja se sprema u varijablu.
      * @param location varijabla koja sadrži koordinate elementa
      * na ekranu.
     */
     public Point getLocation() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        Point location = null;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    location = driverAndroid.findElement(by).getLocation();
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    location = driverAndroid.findElement(by).getLocation();
+        StepSpan span = StepSpan.open("getLocation", element_name, selectorStrategy());
+        try {
+            Point location = null;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        location = driverAndroid.findElement(by).getLocation();
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        location = driverAndroid.findElement(by).getLocation();
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    location = driverIos.findElement(by).getLocation();
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    location = driverIos.findElement(by).getLocation();
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        location = driverIos.findElement(by).getLocation();
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        location = driverIos.findElement(by).getLocation();
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
+                }
             }
+            return location;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return location;
     }
     /** Metoda za slanje tekst child elementu unutar parent elementa.
      * Kreira se UiObject na parent elementu i kao parametar metodi
@@ -1246,80 +1606,89 @@ public class UiObject {
      * @param child ime child elementa iz element.json tablice
     */
     public UiObject sendTextInsideWithWait(UiObject child, String text) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        this.child_android_selector = child.android_selector;
-        this.child_android_locator = child.android_locator;
+        StepSpan span = StepSpan.open("sendTextInsideWithWait", element_name, selectorStrategy());
+        try {
+            this.child_android_selector = child.android_selector;
+            this.child_android_locator = child.android_locator;
 
-        this.child_ios_selector = child.ios_selector;
-        this.child_ios_locator = child.ios_locator;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(child_android_selector, "xpath")) {
-                    Method parent_method = By.class.getMethod(android_selector, String.class);
-                    By parent_by = (By) parent_method.invoke(null, android_locator);
-                    Method child_method = By.class.getMethod(child_android_selector, String.class);
-                    By child_by = (By) child_method.invoke(null, child_android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
-                    WebElement parent_element = (WebElement) driverAndroid.findElements(parent_by);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
-                    parent_element.findElement(child_by).sendKeys(text);
-                    TestLogger.addLogMessage("The text '" + text + "' has been sent to the " + child + " element");
-                }
-                else {
-                    Method parent_method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy parent_by = (AppiumBy) parent_method.invoke(null, android_locator);
-                    Method child_method = AppiumBy.class.getMethod(child_android_selector, String.class);
-                    AppiumBy child_by = (AppiumBy) child_method.invoke(null, child_android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
-                    WebElement parent_element = (WebElement) driverAndroid.findElements(parent_by);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
-                    parent_element.findElement(child_by).sendKeys(text);
-                    TestLogger.addLogMessage("The text '" + text + "' has been sent to the " + child + " element");
+            this.child_ios_selector = child.ios_selector;
+            this.child_ios_locator = child.ios_locator;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(child_android_selector, "xpath")) {
+                        Method parent_method = By.class.getMethod(android_selector, String.class);
+                        By parent_by = (By) parent_method.invoke(null, android_locator);
+                        Method child_method = By.class.getMethod(child_android_selector, String.class);
+                        By child_by = (By) child_method.invoke(null, child_android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
+                        WebElement parent_element = (WebElement) driverAndroid.findElements(parent_by);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
+                        parent_element.findElement(child_by).sendKeys(text);
+                        TestLogger.addLogMessage("The text '{}' has been sent to the {} element", text, child);
+                    }
+                    else {
+                        Method parent_method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy parent_by = (AppiumBy) parent_method.invoke(null, android_locator);
+                        Method child_method = AppiumBy.class.getMethod(child_android_selector, String.class);
+                        AppiumBy child_by = (AppiumBy) child_method.invoke(null, child_android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
+                        WebElement parent_element = (WebElement) driverAndroid.findElements(parent_by);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
+                        parent_element.findElement(child_by).sendKeys(text);
+                        TestLogger.addLogMessage("The text '{}' has been sent to the {} element", text, child);
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                boolean fail = !true;
-                TestLogger.addLogMessage("Element '" + child + "' is not found");
-                screenshotAndroid(element_name, android_locator);
-                assert  fail = false : "Error" + e;
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(child_ios_selector, "xpath")) {
-                    Method parent_method = By.class.getMethod(ios_selector, String.class);
-                    By parent_by = (By) parent_method.invoke(null, ios_locator);
-                    Method child_method = By.class.getMethod(child_ios_selector, String.class);
-                    By child_by = (By) child_method.invoke(null, child_ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
-                    WebElement parent_element = (WebElement) driverIos.findElements(parent_by);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
-                    parent_element.findElement(child_by).sendKeys(text);
-                    TestLogger.addLogMessage("The text '" + text + "' has been sent to the " + child + " element");
-                }
-                else {
-                    Method parent_method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy parent_by = (AppiumBy) parent_method.invoke(null, ios_locator);
-                    Method child_method = AppiumBy.class.getMethod(child_ios_selector, String.class);
-                    AppiumBy child_by = (AppiumBy) child_method.invoke(null, child_ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
-                    WebElement parent_element = (WebElement) driverIos.findElements(parent_by);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
-                    parent_element.findElement(child_by).sendKeys(text);
-                    TestLogger.addLogMessage("The text '" + text + "' has been sent to the " + child + " element");
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    boolean fail = !true;
+                    TestLogger.addLogMessage("Element '{}' is not found", child);
+                    screenshotAndroid(element_name, android_locator);
+                    assert  fail = false : "Error" + e;
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                boolean fail = !true;
-                TestLogger.addLogMessage("Element '" + child + "' is not found");
-                screenshotIos(element_name,ios_locator);
-                assert  fail = false : "Error" + e;
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(child_ios_selector, "xpath")) {
+                        Method parent_method = By.class.getMethod(ios_selector, String.class);
+                        By parent_by = (By) parent_method.invoke(null, ios_locator);
+                        Method child_method = By.class.getMethod(child_ios_selector, String.class);
+                        By child_by = (By) child_method.invoke(null, child_ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
+                        WebElement parent_element = (WebElement) driverIos.findElements(parent_by);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
+                        parent_element.findElement(child_by).sendKeys(text);
+                        TestLogger.addLogMessage("The text '{}' has been sent to the {} element", text, child);
+                    }
+                    else {
+                        Method parent_method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy parent_by = (AppiumBy) parent_method.invoke(null, ios_locator);
+                        Method child_method = AppiumBy.class.getMethod(child_ios_selector, String.class);
+                        AppiumBy child_by = (AppiumBy) child_method.invoke(null, child_ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
+                        WebElement parent_element = (WebElement) driverIos.findElements(parent_by);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
+                        parent_element.findElement(child_by).sendKeys(text);
+                        TestLogger.addLogMessage("The text '{}' has been sent to the {} element", text, child);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    boolean fail = !true;
+                    TestLogger.addLogMessage("Element '{}' is not found", child);
+                    screenshotIos(element_name,ios_locator);
+                    assert  fail = false : "Error" + e;
+                }
             }
+            afterAction("sendTextInsideWithWait");
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return null;
     }
     /** Metoda za izvlacenje teksta child elementa unutar parent elementa.
      * Kreira se UiObject na parent elementu i kao parametar metodi
@@ -1329,81 +1698,89 @@ public class UiObject {
      * @param text tekst koji se nalazi u traženom child elementu
      */
     public String getTextInsideWithWait(UiObject child) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        String text = null;
-        this.child_android_selector = child.android_selector;
-        this.child_android_locator = child.android_locator;
+        StepSpan span = StepSpan.open("getTextInsideWithWait", element_name, selectorStrategy());
+        try {
+            String text = null;
+            this.child_android_selector = child.android_selector;
+            this.child_android_locator = child.android_locator;
 
-        this.child_ios_selector = child.ios_selector;
-        this.child_ios_locator = child.ios_locator;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(child_android_selector, "xpath")) {
-                    Method parent_method = By.class.getMethod(android_selector, String.class);
-                    By parent_by = (By) parent_method.invoke(null, android_locator);
-                    Method child_method = By.class.getMethod(child_android_selector, String.class);
-                    By child_by = (By) child_method.invoke(null, child_android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
-                    WebElement parent_element = (WebElement) driverAndroid.findElements(parent_by);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
-                    text = parent_element.findElement(child_by).getText();
-                    TestLogger.addLogMessage("The text '" + text + "' has been extracted from the " + child + " element");
-                }
-                else {
-                    Method parent_method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy parent_by = (AppiumBy) parent_method.invoke(null, android_locator);
-                    Method child_method = AppiumBy.class.getMethod(child_android_selector, String.class);
-                    AppiumBy child_by = (AppiumBy) child_method.invoke(null, child_android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
-                    WebElement parent_element = (WebElement) driverAndroid.findElements(parent_by);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
-                    text = parent_element.findElement(child_by).getText();
-                    TestLogger.addLogMessage("The text '" + text + "' has been extracted from the " + child + " element");
+            this.child_ios_selector = child.ios_selector;
+            this.child_ios_locator = child.ios_locator;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(child_android_selector, "xpath")) {
+                        Method parent_method = By.class.getMethod(android_selector, String.class);
+                        By parent_by = (By) parent_method.invoke(null, android_locator);
+                        Method child_method = By.class.getMethod(child_android_selector, String.class);
+                        By child_by = (By) child_method.invoke(null, child_android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
+                        WebElement parent_element = (WebElement) driverAndroid.findElements(parent_by);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
+                        text = parent_element.findElement(child_by).getText();
+                        TestLogger.addLogMessage("The text '{}' has been extracted from the {} element", text, child);
+                    }
+                    else {
+                        Method parent_method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy parent_by = (AppiumBy) parent_method.invoke(null, android_locator);
+                        Method child_method = AppiumBy.class.getMethod(child_android_selector, String.class);
+                        AppiumBy child_by = (AppiumBy) child_method.invoke(null, child_android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
+                        WebElement parent_element = (WebElement) driverAndroid.findElements(parent_by);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
+                        text = parent_element.findElement(child_by).getText();
+                        TestLogger.addLogMessage("The text '{}' has been extracted from the {} element", text, child);
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                boolean fail = !true;
-                TestLogger.addLogMessage("Element '" + child + "' is not found");
-                screenshotAndroid(element_name, android_locator);
-                assert  fail = false : "Error" + e;
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(child_ios_selector, "xpath")) {
-                    Method parent_method = By.class.getMethod(ios_selector, String.class);
-                    By parent_by = (By) parent_method.invoke(null, ios_locator);
-                    Method child_method = By.class.getMethod(child_ios_selector, String.class);
-                    By child_by = (By) child_method.invoke(null, child_ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
-                    WebElement parent_element = (WebElement) driverIos.findElements(parent_by);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
-                    text = parent_element.findElement(child_by).getText();
-                    TestLogger.addLogMessage("The text '" + text + "' has been extracted from the " + child + " element");
-                }
-                else {
-                    Method parent_method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy parent_by = (AppiumBy) parent_method.invoke(null, ios_locator);
-                    Method child_method = AppiumBy.class.getMethod(child_ios_selector, String.class);
-                    AppiumBy child_by = (AppiumBy) child_method.invoke(null, child_ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
-                    WebElement parent_element = (WebElement) driverIos.findElements(parent_by);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
-                    text = parent_element.findElement(child_by).getText();
-                    TestLogger.addLogMessage("The text '" + text + "' has been extracted from the " + child + " element");
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    boolean fail = !true;
+                    TestLogger.addLogMessage("Element '{}' is not found", child);
+                    screenshotAndroid(element_name, android_locator);
+                    assert  fail = false : "Error" + e;
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                boolean fail = !true;
-                TestLogger.addLogMessage("Element '" + child + "' is not found");
-                screenshotIos(element_name,ios_locator);
-                assert  fail = false : "Error" + e;
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(child_ios_selector, "xpath")) {
+                        Method parent_method = By.class.getMethod(ios_selector, String.class);
+                        By parent_by = (By) parent_method.invoke(null, ios_locator);
+                        Method child_method = By.class.getMethod(child_ios_selector, String.class);
+                        By child_by = (By) child_method.invoke(null, child_ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
+                        WebElement parent_element = (WebElement) driverIos.findElements(parent_by);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
+                        text = parent_element.findElement(child_by).getText();
+                        TestLogger.addLogMessage("The text '{}' has been extracted from the {} element", text, child);
+                    }
+                    else {
+                        Method parent_method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy parent_by = (AppiumBy) parent_method.invoke(null, ios_locator);
+                        Method child_method = AppiumBy.class.getMethod(child_ios_selector, String.class);
+                        AppiumBy child_by = (AppiumBy) child_method.invoke(null, child_ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
+                        WebElement parent_element = (WebElement) driverIos.findElements(parent_by);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
+                        text = parent_element.findElement(child_by).getText();
+                        TestLogger.addLogMessage("The text '{}' has been extracted from the {} element", text, child);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    boolean fail = !true;
+                    TestLogger.addLogMessage("Element '{}' is not found", child);
+                    screenshotIos(element_name,ios_locator);
+                    assert  fail = false : "Error" + e;
+                }
             }
+            return text;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return text;
     }
     /** Metoda za klik na child element unutar parent elementa.
      * Kreira se UiObject na parent elementu i kao parametar metodi
@@ -1411,80 +1788,89 @@ public class UiObject {
      * Metoda traži i klika na child element trazeci ga unutar parent elementa
      */
     public UiObject clickInsideWithWait(UiObject child) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        this.child_android_selector = child.android_selector;
-        this.child_android_locator = child.android_locator;
+        StepSpan span = StepSpan.open("clickInsideWithWait", element_name, selectorStrategy());
+        try {
+            this.child_android_selector = child.android_selector;
+            this.child_android_locator = child.android_locator;
 
-        this.child_ios_selector = child.ios_selector;
-        this.child_ios_locator = child.ios_locator;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(child_android_selector, "xpath")) {
-                    Method parent_method = By.class.getMethod(android_selector, String.class);
-                    By parent_by = (By) parent_method.invoke(null, android_locator);
-                    Method child_method = By.class.getMethod(child_android_selector, String.class);
-                    By child_by = (By) child_method.invoke(null, child_android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
-                    WebElement parent_element = (WebElement) driverAndroid.findElement(parent_by);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
-                    parent_element.findElement(child_by).click();
-                    TestLogger.addLogMessage("Element '" + child + "' is clicked");
-                }
-                else {
-                    Method parent_method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy parent_by = (AppiumBy) parent_method.invoke(null, android_locator);
-                    Method child_method = AppiumBy.class.getMethod(child_android_selector, String.class);
-                    AppiumBy child_by = (AppiumBy) child_method.invoke(null, child_android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
-                    WebElement parent_element = (WebElement) driverAndroid.findElement(parent_by);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
-                    parent_element.findElement(child_by).click();
-                    TestLogger.addLogMessage("Element '" + child + "' is clicked");
+            this.child_ios_selector = child.ios_selector;
+            this.child_ios_locator = child.ios_locator;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(child_android_selector, "xpath")) {
+                        Method parent_method = By.class.getMethod(android_selector, String.class);
+                        By parent_by = (By) parent_method.invoke(null, android_locator);
+                        Method child_method = By.class.getMethod(child_android_selector, String.class);
+                        By child_by = (By) child_method.invoke(null, child_android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
+                        WebElement parent_element = (WebElement) driverAndroid.findElement(parent_by);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
+                        parent_element.findElement(child_by).click();
+                        TestLogger.addLogMessage("Element '{}' is clicked", child);
+                    }
+                    else {
+                        Method parent_method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy parent_by = (AppiumBy) parent_method.invoke(null, android_locator);
+                        Method child_method = AppiumBy.class.getMethod(child_android_selector, String.class);
+                        AppiumBy child_by = (AppiumBy) child_method.invoke(null, child_android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
+                        WebElement parent_element = (WebElement) driverAndroid.findElement(parent_by);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
+                        parent_element.findElement(child_by).click();
+                        TestLogger.addLogMessage("Element '{}' is clicked", child);
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                boolean fail = !true;
-                TestLogger.addLogMessage("Element '" + child + "' is not found");
-                screenshotAndroid(element_name, android_locator);
-                assert  fail = false : "Error" + e;
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method parent_method = By.class.getMethod(ios_selector, String.class);
-                    By parent_by = (By) parent_method.invoke(null, ios_locator);
-                    Method child_method = By.class.getMethod(child_ios_selector, String.class);
-                    By child_by = (By) child_method.invoke(null, child_ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
-                    WebElement parent_element = (WebElement) driverIos.findElements(parent_by);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
-                    parent_element.findElement(child_by).click();
-                    TestLogger.addLogMessage("Element '" + child + "' is clicked");
-                }
-                else {
-                    Method parent_method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy parent_by = (AppiumBy) parent_method.invoke(null, ios_locator);
-                    Method child_method = AppiumBy.class.getMethod(child_ios_selector, String.class);
-                    AppiumBy child_by = (AppiumBy) child_method.invoke(null, child_ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
-                    WebElement parent_element = (WebElement) driverIos.findElement(parent_by);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
-                    parent_element.findElement(child_by).click();
-                    TestLogger.addLogMessage("Element '" + child + "' is clicked");
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    boolean fail = !true;
+                    TestLogger.addLogMessage("Element '{}' is not found", child);
+                    screenshotAndroid(element_name, android_locator);
+                    assert  fail = false : "Error" + e;
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                boolean fail = !true;
-                TestLogger.addLogMessage("Element '" + child + "' is not found");
-                screenshotIos(element_name,ios_locator);
-                assert  fail = false : "Error" + e;
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method parent_method = By.class.getMethod(ios_selector, String.class);
+                        By parent_by = (By) parent_method.invoke(null, ios_locator);
+                        Method child_method = By.class.getMethod(child_ios_selector, String.class);
+                        By child_by = (By) child_method.invoke(null, child_ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
+                        WebElement parent_element = (WebElement) driverIos.findElements(parent_by);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
+                        parent_element.findElement(child_by).click();
+                        TestLogger.addLogMessage("Element '{}' is clicked", child);
+                    }
+                    else {
+                        Method parent_method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy parent_by = (AppiumBy) parent_method.invoke(null, ios_locator);
+                        Method child_method = AppiumBy.class.getMethod(child_ios_selector, String.class);
+                        AppiumBy child_by = (AppiumBy) child_method.invoke(null, child_ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(parent_by));
+                        WebElement parent_element = (WebElement) driverIos.findElement(parent_by);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(child_by));
+                        parent_element.findElement(child_by).click();
+                        TestLogger.addLogMessage("Element '{}' is clicked", child);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    boolean fail = !true;
+                    TestLogger.addLogMessage("Element '{}' is not found", child);
+                    screenshotIos(element_name,ios_locator);
+                    assert  fail = false : "Error" + e;
+                }
             }
+            afterAction("clickInsideWithWait");
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return null;
     }
     /** Metoda za scroll do elementa. Koristi se na ekranima na kojima možemo
      * pretpostaviti da ce se element koji tražimo nalaziti izvan vidljivosti na
@@ -1492,103 +1878,17 @@ public class UiObject {
      * i trazi opet element na ekranu s isDisplayed. Kada isDisplayed bude true for petlja se prekida.
      */
     public UiObject scrollToElement() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        final int MAX_SCROLL_ATTEMPTS = 12;
-        int attempt = 0;
-        boolean is_displayed = false;
-
-        while (!is_displayed && attempt < MAX_SCROLL_ATTEMPTS) {
-            try {
-                if ("android".equalsIgnoreCase(getPlatform())) {
-                    driverAndroid = AndroidSettings.driverAndroid.get();
-                    WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.SHORT_WAIT));
-                    if (Objects.equals(android_selector, "xpath")) {
-                        Method method = By.class.getMethod(android_selector, String.class);
-                        By by = (By) method.invoke(null, android_locator);
-                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                        is_displayed = driverAndroid.findElement(by).isDisplayed();
-                    } else {
-                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                        is_displayed = driverAndroid.findElement(by).isDisplayed();
-                    }
-                } else if ("ios".equalsIgnoreCase(getPlatform())) {
-                    driverIos = IosSettings.driverIos.get();
-                    WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.SHORT_WAIT));
-                    if (Objects.equals(ios_selector, "xpath")) {
-                        Method method = By.class.getMethod(ios_selector, String.class);
-                        By by = (By) method.invoke(null, ios_locator);
-                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                        is_displayed = driverIos.findElement(by).isDisplayed();
-                    } else {
-                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                        is_displayed = driverIos.findElement(by).isDisplayed();
-                    }
-                }
-            } catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                attempt++; // Increment the scroll attempt
-                if (attempt >= MAX_SCROLL_ATTEMPTS) {
-                    throw new NoSuchElementException("Element not found after " + MAX_SCROLL_ATTEMPTS + " scroll attempts");
-                }
-
-                // Perform scroll
-                if ("android".equalsIgnoreCase(getPlatform())) {
-                    Dimension screen_size = driverAndroid.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height * 8 / 10));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height / 5));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-                    driverAndroid.perform(singletonList(sequence));
-                } else if ("ios".equalsIgnoreCase(getPlatform())) {
-                    Dimension screen_size = driverIos.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height * 8 / 10));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height / 5));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-                    driverIos.perform(singletonList(sequence));
-                }
-            }
-        }
-
-        return null; // Optionally return the element instead of null if needed
-    }
-    public UiObject scrollToElementWithText(String text) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        final int MAX_SCROLL_ATTEMPTS = 12;
-        int attempt = 0;
-        boolean is_displayed = false;
-
-        while (!is_displayed && attempt < MAX_SCROLL_ATTEMPTS) {
-            try {
-                if ("android".equalsIgnoreCase(getPlatform())) {
-                    driverAndroid = AndroidSettings.driverAndroid.get();
-                    WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.SHORT_WAIT));
+        StepSpan span = StepSpan.open("scrollToElement", element_name, selectorStrategy());
+        try {
+            final int MAX_SCROLL_ATTEMPTS = 12;
+            int attempt = 0;
+            boolean is_displayed = false;
 
-                    if (!Objects.equals(text, "noTextSearch")) {
-                        if (Objects.equals(android_selector, "xpath")) {
-                            String android_xpath_locator = "(//" + android_locator + "[contains(@text, \"" + text + "\")])";
-                            Method method = By.class.getMethod(android_selector, String.class);
-                            By by = (By) method.invoke(null, android_xpath_locator);
-                            wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                            is_displayed = driverAndroid.findElement(by).isDisplayed();
-                        } else {
-                            Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                            AppiumBy by = (AppiumBy) method.invoke(null, text);
-                            wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                            is_displayed = driverAndroid.findElement(by).isDisplayed();
-                        }
-                    } else {
+            while (!is_displayed && attempt < MAX_SCROLL_ATTEMPTS) {
+                try {
+                    if ("android".equalsIgnoreCase(getPlatform())) {
+                        AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                        WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.SHORT_WAIT));
                         if (Objects.equals(android_selector, "xpath")) {
                             Method method = By.class.getMethod(android_selector, String.class);
                             By by = (By) method.invoke(null, android_locator);
@@ -1600,36 +1900,9 @@ public class UiObject {
                             wait.until(ExpectedConditions.visibilityOfElementLocated(by));
                             is_displayed = driverAndroid.findElement(by).isDisplayed();
                         }
-                    }
-                } else if ("ios".equalsIgnoreCase(getPlatform())) {
-                    driverIos = IosSettings.driverIos.get();
-                    WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.SHORT_WAIT));
-
-                    String ios_xpath_locator = null;
-
-                    if (!Objects.equals(text, "noTextSearch")) {
-                        if (Objects.equals(ios_selector, "xpath")) {
-                            ios_xpath_locator = "//" + ios_locator + "[@name=\"" + text + "\"]";
-                        } else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
-                            ios_xpath_locator = "type == \"" + ios_locator + "\" AND name CONTAINS \"" + text + "\"";
-                        } else if (Objects.equals(ios_selector, "iOSClassChain")) {
-                            ios_xpath_locator = "**/" + ios_locator + "[`label CONTAINS \"" + text + "\"`]";
-                        } else if (Objects.equals(ios_selector, "accessibilityId")) {
-                            ios_xpath_locator = text;
-                        }
-
-                        if (Objects.equals(ios_selector, "xpath")) {
-                            Method method = By.class.getMethod(ios_selector, String.class);
-                            By by = (By) method.invoke(null, ios_xpath_locator);
-                            wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                            is_displayed = driverIos.findElement(by).isDisplayed();
-                        } else {
-                            Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                            AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
-                            wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                            is_displayed = driverIos.findElement(by).isDisplayed();
-                        }
-                    } else {
+                    } else if ("ios".equalsIgnoreCase(getPlatform())) {
+                        IOSDriver driverIos = IosSettings.driverIos.get();
+                        WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.SHORT_WAIT));
                         if (Objects.equals(ios_selector, "xpath")) {
                             Method method = By.class.getMethod(ios_selector, String.class);
                             By by = (By) method.invoke(null, ios_locator);
@@ -1642,1511 +1915,1834 @@ public class UiObject {
                             is_displayed = driverIos.findElement(by).isDisplayed();
                         }
                     }
-                }
-            } catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                attempt++;
-                if (attempt >= MAX_SCROLL_ATTEMPTS) {
-                    throw new NoSuchElementException("Element with text \"" + text + "\" not found after " + MAX_SCROLL_ATTEMPTS + " scroll attempts");
-                }
+                } catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    attempt++; // Increment the scroll attempt
+                    span.retry();
+                    if (attempt >= MAX_SCROLL_ATTEMPTS) {
+                        throw new NoSuchElementException("Element not found after " + MAX_SCROLL_ATTEMPTS + " scroll attempts");
+                    }
 
-                // Perform scroll
-                if ("android".equalsIgnoreCase(getPlatform())) {
-                    Dimension screen_size = driverAndroid.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height * 8 / 10));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height / 5));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-                    driverAndroid.perform(singletonList(sequence));
-                } else if ("ios".equalsIgnoreCase(getPlatform())) {
-                    Dimension screen_size = driverIos.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height * 8 / 10));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height / 5));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-                    driverIos.perform(singletonList(sequence));
+                    FrameworkEvents.ScrollEvent scrollEvent = new FrameworkEvents.ScrollEvent();
+                    scrollEvent.begin();
+                    // Perform scroll
+                    if ("android".equalsIgnoreCase(getPlatform())) {
+                        AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                        Dimension screen_size = driverAndroid.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height * 8 / 10));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height / 5));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
+                        driverAndroid.perform(singletonList(sequence));
+                    } else if ("ios".equalsIgnoreCase(getPlatform())) {
+                        IOSDriver driverIos = IosSettings.driverIos.get();
+                        Dimension screen_size = driverIos.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height * 8 / 10));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height / 5));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
+                        driverIos.perform(singletonList(sequence));
+                    }
+                    scrollEvent.end(element_name, "down", attempt);
                 }
             }
-        }
 
-        return null;
+            afterAction("scrollToElement");
+            return null; // Optionally return the element instead of null if needed
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
+        }
     }
-    public UiObject scrollUpToElement(String text) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        final int MAX_SCROLL_ATTEMPTS = 12;
-        int attempt = 0;
-        Boolean is_displayed = false;
-        while (!is_displayed && attempt < MAX_SCROLL_ATTEMPTS) {
-            try {
-                if("android".equalsIgnoreCase(getPlatform())){
-                    driverAndroid = AndroidSettings.driverAndroid.get();
-                    WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.SHORT_WAIT));
-                    if (!Objects.equals(text, "noTextSearch")) {
-                        if (Objects.equals(android_selector, "xpath")) {
-                            String android_xpath_locator = "//" + android_locator + "[@text=\"" + text + "\"]";
-                            Method method = By.class.getMethod(android_selector, String.class);
-                            By by = (By) method.invoke(null, android_xpath_locator);
-                            wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                            is_displayed = driverAndroid.findElement(by).isDisplayed();
-                        }else {
-                            Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                            AppiumBy by = (AppiumBy) method.invoke(null, text);
-                            wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                            is_displayed = driverAndroid.findElement(by).isDisplayed();
+    public UiObject scrollToElementWithText(String text) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+        StepSpan span = StepSpan.open("scrollToElementWithText", element_name, selectorStrategy());
+        try {
+            final int MAX_SCROLL_ATTEMPTS = 12;
+            int attempt = 0;
+            boolean is_displayed = false;
+
+            while (!is_displayed && attempt < MAX_SCROLL_ATTEMPTS) {
+                try {
+                    if ("android".equalsIgnoreCase(getPlatform())) {
+                        AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                        WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.SHORT_WAIT));
+
+                        if (!Objects.equals(text, "noTextSearch")) {
+                            if (Objects.equals(android_selector, "xpath")) {
+                                String android_xpath_locator = "(//" + android_locator + "[contains(@text, \"" + text + "\")])";
+                                Method method = By.class.getMethod(android_selector, String.class);
+                                By by = (By) method.invoke(null, android_xpath_locator);
+                                wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                                is_displayed = driverAndroid.findElement(by).isDisplayed();
+                            } else {
+                                Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                                AppiumBy by = (AppiumBy) method.invoke(null, text);
+                                wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                                is_displayed = driverAndroid.findElement(by).isDisplayed();
+                            }
+                        } else {
+                            if (Objects.equals(android_selector, "xpath")) {
+                                Method method = By.class.getMethod(android_selector, String.class);
+                                By by = (By) method.invoke(null, android_locator);
+                                wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                                is_displayed = driverAndroid.findElement(by).isDisplayed();
+                            } else {
+                                Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                                AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                                wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                                is_displayed = driverAndroid.findElement(by).isDisplayed();
+                            }
                         }
-                    }
-                    else {
-                        if (Objects.equals(android_selector, "xpath")) {
-                            Method method = By.class.getMethod(android_selector, String.class);
-                            By by = (By) method.invoke(null, android_locator);
-                            wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                            is_displayed = driverAndroid.findElement(by).isDisplayed();
-                        }else {
-                            Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                            AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                            wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                            is_displayed = driverAndroid.findElement(by).isDisplayed();
+                    } else if ("ios".equalsIgnoreCase(getPlatform())) {
+                        IOSDriver driverIos = IosSettings.driverIos.get();
+                        WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.SHORT_WAIT));
+
+                        String ios_xpath_locator = null;
+
+                        if (!Objects.equals(text, "noTextSearch")) {
+                            if (Objects.equals(ios_selector, "xpath")) {
+                                ios_xpath_locator = "//" + ios_locator + "[@name=\"" + text + "\"]";
+                            } else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
+                                ios_xpath_locator = "type == \"" + ios_locator + "\" AND name CONTAINS \"" + text + "\"";
+                            } else if (Objects.equals(ios_selector, "iOSClassChain")) {
+                                ios_xpath_locator = "**/" + ios_locator + "[`label CONTAINS \"" + text + "\"`]";
+                            } else if (Objects.equals(ios_selector, "accessibilityId")) {
+                                ios_xpath_locator = text;
+                            }
+
+                            if (Objects.equals(ios_selector, "xpath")) {
+                                Method method = By.class.getMethod(ios_selector, String.class);
+                                By by = (By) method.invoke(null, ios_xpath_locator);
+                                wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                                is_displayed = driverIos.findElement(by).isDisplayed();
+                            } else {
+                                Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                                AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
+                                wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                                is_displayed = driverIos.findElement(by).isDisplayed();
+                            }
+                        } else {
+                            if (Objects.equals(ios_selector, "xpath")) {
+                                Method method = By.class.getMethod(ios_selector, String.class);
+                                By by = (By) method.invoke(null, ios_locator);
+                                wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                                is_displayed = driverIos.findElement(by).isDisplayed();
+                            } else {
+                                Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                                AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                                wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                                is_displayed = driverIos.findElement(by).isDisplayed();
+                            }
                         }
                     }
+                } catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    attempt++;
+                    span.retry();
+                    if (attempt >= MAX_SCROLL_ATTEMPTS) {
+                        throw new NoSuchElementException("Element with text \"" + text + "\" not found after " + MAX_SCROLL_ATTEMPTS + " scroll attempts");
+                    }
+
+                    FrameworkEvents.ScrollEvent scrollEvent = new FrameworkEvents.ScrollEvent();
+                    scrollEvent.begin();
+                    // Perform scroll
+                    if ("android".equalsIgnoreCase(getPlatform())) {
+                        AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                        Dimension screen_size = driverAndroid.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height * 8 / 10));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height / 5));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
+                        driverAndroid.perform(singletonList(sequence));
+                    } else if ("ios".equalsIgnoreCase(getPlatform())) {
+                        IOSDriver driverIos = IosSettings.driverIos.get();
+                        Dimension screen_size = driverIos.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height * 8 / 10));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height / 5));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
+                        driverIos.perform(singletonList(sequence));
+                    }
+                    scrollEvent.end(element_name, "down", attempt);
                 }
-                else if("ios".equalsIgnoreCase(getPlatform())){
-                    driverIos = IosSettings.driverIos.get();
-                    WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.SHORT_WAIT));
-                    if (!Objects.equals(text, "noTextSearch")) {
-                        String ios_xpath_locator = null;
-                        if (Objects.equals(ios_selector, "xpath")) {
-                            ios_xpath_locator = "//" + ios_locator + "[contains(text()," + text + ")]";
-                        }
-                        else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
-                            ios_xpath_locator = "type == '" + ios_locator + "' AND name CONTAINS '" + text + "'";
-                        }
-                        else if (Objects.equals(ios_selector, "iOSClassChain")) {
-                            ios_xpath_locator = "**/" + ios_locator+ "[`label CONTAINS \"" + text + "\" `]";
-                        }
-                        else if (Objects.equals(ios_selector, "accessibilityId")) {
-                            ios_xpath_locator = text;
+            }
+
+            afterAction("scrollToElementWithText");
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
+        }
+    }
+    public UiObject scrollUpToElement(String text) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+        StepSpan span = StepSpan.open("scrollUpToElement", element_name, selectorStrategy());
+        try {
+            final int MAX_SCROLL_ATTEMPTS = 12;
+            int attempt = 0;
+            Boolean is_displayed = false;
+            while (!is_displayed && attempt < MAX_SCROLL_ATTEMPTS) {
+                try {
+                    if("android".equalsIgnoreCase(getPlatform())){
+                        AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                        WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.SHORT_WAIT));
+                        if (!Objects.equals(text, "noTextSearch")) {
+                            if (Objects.equals(android_selector, "xpath")) {
+                                String android_xpath_locator = "//" + android_locator + "[@text=\"" + text + "\"]";
+                                Method method = By.class.getMethod(android_selector, String.class);
+                                By by = (By) method.invoke(null, android_xpath_locator);
+                                wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                                is_displayed = driverAndroid.findElement(by).isDisplayed();
+                            }else {
+                                Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                                AppiumBy by = (AppiumBy) method.invoke(null, text);
+                                wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                                is_displayed = driverAndroid.findElement(by).isDisplayed();
+                            }
                         }
-                        if (Objects.equals(ios_selector, "xpath")) {
-                            Method method = By.class.getMethod(ios_selector, String.class);
-                            By by = (By) method.invoke(null, ios_xpath_locator);
-                            wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                            is_displayed = driverIos.findElement(by).isEnabled();
-                        }else {
-                            Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                            AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
-                            wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                            is_displayed = driverIos.findElement(by).isEnabled();
+                        else {
+                            if (Objects.equals(android_selector, "xpath")) {
+                                Method method = By.class.getMethod(android_selector, String.class);
+                                By by = (By) method.invoke(null, android_locator);
+                                wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                                is_displayed = driverAndroid.findElement(by).isDisplayed();
+                            }else {
+                                Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                                AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                                wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                                is_displayed = driverAndroid.findElement(by).isDisplayed();
+                            }
                         }
                     }
-                    else {
-                        if (Objects.equals(ios_selector, "xpath")) {
-                            Method method = By.class.getMethod(ios_selector, String.class);
-                            By by = (By) method.invoke(null, ios_locator);
-                            wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                            is_displayed = driverIos.findElement(by).isEnabled();
-                        }else {
-                            Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                            AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                            wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                            is_displayed = driverIos.findElement(by).isEnabled();
+                    else if("ios".equalsIgnoreCase(getPlatform())){
+                        IOSDriver driverIos = IosSettings.driverIos.get();
+                        WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.SHORT_WAIT));
+                        if (!Objects.equals(text, "noTextSearch")) {
+                            String ios_xpath_locator = null;
+                            if (Objects.equals(ios_selector, "xpath")) {
+                                ios_xpath_locator = "//" + ios_locator + "[contains(text()," + text + ")]";
+                            }
+                            else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
+                                ios_xpath_locator = "type == '" + ios_locator + "' AND name CONTAINS '" + text + "'";
+                            }
+                            else if (Objects.equals(ios_selector, "iOSClassChain")) {
+                                ios_xpath_locator = "**/" + ios_locator+ "[`label CONTAINS \"" + text + "\" `]";
+                            }
+                            else if (Objects.equals(ios_selector, "accessibilityId")) {
+                                ios_xpath_locator = text;
+                            }
+                            if (Objects.equals(ios_selector, "xpath")) {
+                                Method method = By.class.getMethod(ios_selector, String.class);
+                                By by = (By) method.invoke(null, ios_xpath_locator);
+                                wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                                is_displayed = driverIos.findElement(by).isEnabled();
+                            }else {
+                                Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                                AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
+                                wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                                is_displayed = driverIos.findElement(by).isEnabled();
+                            }
+                        }
+                        else {
+                            if (Objects.equals(ios_selector, "xpath")) {
+                                Method method = By.class.getMethod(ios_selector, String.class);
+                                By by = (By) method.invoke(null, ios_locator);
+                                wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                                is_displayed = driverIos.findElement(by).isEnabled();
+                            }else {
+                                Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                                AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                                wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                                is_displayed = driverIos.findElement(by).isEnabled();
+                            }
                         }
                     }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                attempt++;
-                if (attempt >= MAX_SCROLL_ATTEMPTS) {
-                    throw new NoSuchElementException("Element with text '" + text + "' not found after " + MAX_SCROLL_ATTEMPTS + " scroll attempts");
-                }
-                if ("android".equalsIgnoreCase(getPlatform())) {
-                    Dimension screen_size = driverAndroid.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height/5));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height * 8 / 10));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-                    driverAndroid.perform(singletonList(sequence));
-                }
-                else if ("ios".equalsIgnoreCase(getPlatform())) {
-                    Dimension screen_size = driverIos.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height/5));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height * 8 / 10));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-                    driverIos.perform(singletonList(sequence));
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    attempt++;
+                    span.retry();
+                    if (attempt >= MAX_SCROLL_ATTEMPTS) {
+                        throw new NoSuchElementException("Element with text '" + text + "' not found after " + MAX_SCROLL_ATTEMPTS + " scroll attempts");
+                    }
+                    FrameworkEvents.ScrollEvent scrollEvent = new FrameworkEvents.ScrollEvent();
+                    scrollEvent.begin();
+                    if ("android".equalsIgnoreCase(getPlatform())) {
+                        AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                        Dimension screen_size = driverAndroid.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height/5));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height * 8 / 10));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
+                        driverAndroid.perform(singletonList(sequence));
+                    }
+                    else if ("ios".equalsIgnoreCase(getPlatform())) {
+                        IOSDriver driverIos = IosSettings.driverIos.get();
+                        Dimension screen_size = driverIos.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height/5));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), screen_size.width / 2, screen_size.height * 8 / 10));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
+                        driverIos.perform(singletonList(sequence));
 
+                    }
+                    scrollEvent.end(element_name, "up", attempt);
                 }
             }
+            afterAction("scrollUpToElement");
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return null;
     }
     public UiObject swipeElementRight() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        Point location = null;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    location = driverAndroid.findElement(by).getLocation();
-                    Dimension screen_size = driverAndroid.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
-                    driverAndroid.perform(singletonList(sequence));
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    location = driverAndroid.findElement(by).getLocation();
-                    Dimension screen_size = driverAndroid.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
-                    driverAndroid.perform(singletonList(sequence));
+        StepSpan span = StepSpan.open("swipeElementRight", element_name, selectorStrategy());
+        try {
+            Point location = null;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        location = driverAndroid.findElement(by).getLocation();
+                        Dimension screen_size = driverAndroid.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
+                        driverAndroid.perform(singletonList(sequence));
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        location = driverAndroid.findElement(by).getLocation();
+                        Dimension screen_size = driverAndroid.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
+                        driverAndroid.perform(singletonList(sequence));
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    location = driverIos.findElement(by).getLocation();
-                    Dimension screen_size = driverIos.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
-                    driverIos.perform(singletonList(sequence));
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    location = driverIos.findElement(by).getLocation();
-                    Dimension screen_size = driverIos.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
-                    driverIos.perform(singletonList(sequence));
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        location = driverIos.findElement(by).getLocation();
+                        Dimension screen_size = driverIos.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
+                        driverIos.perform(singletonList(sequence));
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        location = driverIos.findElement(by).getLocation();
+                        Dimension screen_size = driverIos.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
+                        driverIos.perform(singletonList(sequence));
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
+                }
             }
+            afterAction("swipeElementRight");
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return null;
     }
     public UiObject swipeElementLeft() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        Point location = null;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    location = driverAndroid.findElement(by).getLocation();
-                    Dimension screen_size = driverAndroid.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
-                    driverAndroid.perform(singletonList(sequence));
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    location = driverAndroid.findElement(by).getLocation();
-                    Dimension screen_size = driverAndroid.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
-                    driverAndroid.perform(singletonList(sequence));
+        StepSpan span = StepSpan.open("swipeElementLeft", element_name, selectorStrategy());
+        try {
+            Point location = null;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        location = driverAndroid.findElement(by).getLocation();
+                        Dimension screen_size = driverAndroid.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
+                        driverAndroid.perform(singletonList(sequence));
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        location = driverAndroid.findElement(by).getLocation();
+                        Dimension screen_size = driverAndroid.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
+                        driverAndroid.perform(singletonList(sequence));
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    location = driverIos.findElement(by).getLocation();
-                    Dimension screen_size = driverIos.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
-                    driverIos.perform(singletonList(sequence));
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    location = driverIos.findElement(by).getLocation();
-                    Dimension screen_size = driverIos.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
-                    driverIos.perform(singletonList(sequence));
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
+                }
+            }else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        location = driverIos.findElement(by).getLocation();
+                        Dimension screen_size = driverIos.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
+                        driverIos.perform(singletonList(sequence));
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        location = driverIos.findElement(by).getLocation();
+                        Dimension screen_size = driverIos.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
+                        driverIos.perform(singletonList(sequence));
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
+            afterAction("swipeElementLeft");
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return null;
     }
     public UiObject swipeElementUp() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        Point location = null;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    location = driverAndroid.findElement(by).getLocation();
-                    Dimension screen_size = driverAndroid.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), location.x + 16, location.y - 128));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
-                    driverAndroid.perform(singletonList(sequence));
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    location = driverAndroid.findElement(by).getLocation();
-                    Dimension screen_size = driverAndroid.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
-                    driverAndroid.perform(singletonList(sequence));
+        StepSpan span = StepSpan.open("swipeElementUp", element_name, selectorStrategy());
+        try {
+            Point location = null;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        location = driverAndroid.findElement(by).getLocation();
+                        Dimension screen_size = driverAndroid.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), location.x + 16, location.y - 128));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
+                        driverAndroid.perform(singletonList(sequence));
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        location = driverAndroid.findElement(by).getLocation();
+                        Dimension screen_size = driverAndroid.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
+                        driverAndroid.perform(singletonList(sequence));
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                boolean fail = !true;
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                assert  fail = false : "Error" + e;
-            }
-        }else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    location = driverIos.findElement(by).getLocation();
-                    Dimension screen_size = driverIos.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
-                    driverIos.perform(singletonList(sequence));
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    location = driverIos.findElement(by).getLocation();
-                    Dimension screen_size = driverIos.manage().window().getSize();
-                    PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-                    Sequence sequence = new Sequence(finger, 1);
-                    sequence.addAction(finger.createPointerMove(ofMillis(0),
-                            PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
-                    sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
-                    sequence.addAction(new Pause(finger, ofMillis(600)));
-                    sequence.addAction(finger.createPointerMove(ofMillis(600),
-                            PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
-                    sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
-                    driverIos.perform(singletonList(sequence));
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    boolean fail = !true;
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    assert  fail = false : "Error" + e;
+                }
+            }else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        location = driverIos.findElement(by).getLocation();
+                        Dimension screen_size = driverIos.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
+                        driverIos.perform(singletonList(sequence));
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        location = driverIos.findElement(by).getLocation();
+                        Dimension screen_size = driverIos.manage().window().getSize();
+                        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+                        Sequence sequence = new Sequence(finger, 1);
+                        sequence.addAction(finger.createPointerMove(ofMillis(0),
+                                PointerInput.Origin.viewport(), screen_size.width - 16, location.y + 16));
+                        sequence.addAction(finger.createPointerDown(PointerInput.MouseButton.MIDDLE.asArg()));
+                        sequence.addAction(new Pause(finger, ofMillis(600)));
+                        sequence.addAction(finger.createPointerMove(ofMillis(600),
+                                PointerInput.Origin.viewport(), location.x + 32, location.y + 16));
+                        sequence.addAction(finger.createPointerUp(PointerInput.MouseButton.MIDDLE.asArg()));
+                        driverIos.perform(singletonList(sequence));
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    boolean fail = !true;
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name,ios_locator);
+                    assert  fail = false : "Error" + e;
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                boolean fail = !true;
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name,ios_locator);
-                assert  fail = false : "Error" + e;
-            }
+            afterAction("swipeElementUp");
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return null;
     }
     /** Metode tryClickWithWait, tryGetTextWithWait, trySendTextWithWait koriste se kada pretpostavljamo da možda element nad kojim
      * želimo obaviti neku od navedenih akcija neće biti prisutan. Metode su unutar try catch bloka koji ignorira NoSuchElementException i TimeoutException,
      * s smanjenim vremenom čekanja.
      */
     public UiObject tryClickWithWait(Integer waitTime) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+        StepSpan span = StepSpan.open("tryClickWithWait", element_name, selectorStrategy());
         try {
-            if("android".equalsIgnoreCase(getPlatform())){
-                driverAndroid = AndroidSettings.driverAndroid.get();
-                WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(waitTime));
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverAndroid.findElement(by).click();
-                    TestLogger.addLogMessage("Element " + element_name + " is clicked");
-                }
-                else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverAndroid.findElement(by).click();
-                    TestLogger.addLogMessage("Element " + element_name + " is clicked");
-                }
-            }
-            else if("ios".equalsIgnoreCase(getPlatform())){
-                driverIos = IosSettings.driverIos.get();
-                WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(waitTime));
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverIos.findElement(by).click();
-                    TestLogger.addLogMessage("Element " + element_name + " is clicked");
+            try {
+                if("android".equalsIgnoreCase(getPlatform())){
+                    AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                    WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(waitTime));
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverAndroid.findElement(by).click();
+                        TestLogger.addLogMessage("Element {} is clicked", element_name);
+                    }
+                    else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverAndroid.findElement(by).click();
+                        TestLogger.addLogMessage("Element {} is clicked", element_name);
+                    }
                 }
-                else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverIos.findElement(by).click();
-                    TestLogger.addLogMessage("Element " + element_name + " is clicked");
+                else if("ios".equalsIgnoreCase(getPlatform())){
+                    IOSDriver driverIos = IosSettings.driverIos.get();
+                    WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(waitTime));
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverIos.findElement(by).click();
+                        TestLogger.addLogMessage("Element {} is clicked", element_name);
+                    }
+                    else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverIos.findElement(by).click();
+                        TestLogger.addLogMessage("Element {} is clicked", element_name);
+                    }
                 }
             }
-        }
-        catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-            TestLogger.addLogMessage("Element " + element_name + " nije bio vidljiv");
-        }
+            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                TestLogger.addLogMessage("Element {} nije bio vidljiv", element_name);
+            }
 
-        return null;
+            afterAction("tryClickWithWait");
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
+        }
     }
     public String tryGetTextWithWait(Integer waitTime) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        String text = null;
+        StepSpan span = StepSpan.open("tryGetTextWithWait", element_name, selectorStrategy());
         try {
-            if("android".equalsIgnoreCase(getPlatform())){
-                driverAndroid = AndroidSettings.driverAndroid.get();
-                WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(waitTime));
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    text = driverAndroid.findElement(by).getText();
-                    TestLogger.addLogMessage("The text '" + text + "' has been extracted from the " + element_name + " element");
-                }
-                else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    text = driverAndroid.findElement(by).getText();
-                    TestLogger.addLogMessage("The text '" + text + "' has been extracted from the " + element_name + " element");
-                }
-            }
-            else if("ios".equalsIgnoreCase(getPlatform())){
-                driverIos = IosSettings.driverIos.get();
-                WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(waitTime));
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    text = driverIos.findElement(by).getText();
-                    TestLogger.addLogMessage("The text '" + text + "' has been extracted from the " + element_name + " element");
+            String text = null;
+            try {
+                if("android".equalsIgnoreCase(getPlatform())){
+                    AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                    WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(waitTime));
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        text = driverAndroid.findElement(by).getText();
+                        TestLogger.addLogMessage("The text '{}' has been extracted from the {} element", text, element_name);
+                    }
+                    else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        text = driverAndroid.findElement(by).getText();
+                        TestLogger.addLogMessage("The text '{}' has been extracted from the {} element", text, element_name);
+                    }
                 }
-                else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    text = driverIos.findElement(by).getText();
-                    TestLogger.addLogMessage("The text '" + text + "' has been extracted from the " + element_name + " element");
+                else if("ios".equalsIgnoreCase(getPlatform())){
+                    IOSDriver driverIos = IosSettings.driverIos.get();
+                    WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(waitTime));
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        text = driverIos.findElement(by).getText();
+                        TestLogger.addLogMessage("The text '{}' has been extracted from the {} element", text, element_name);
+                    }
+                    else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        text = driverIos.findElement(by).getText();
+                        TestLogger.addLogMessage("The text '{}' has been extracted from the {} element", text, element_name);
+                    }
                 }
             }
+            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                TestLogger.addLogMessage("Element {} nije bio vidljiv", element_name);
+            }
+            return text;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-            TestLogger.addLogMessage("Element " + element_name + " nije bio vidljiv");
-        }
-        return text;
     }
     public UiObject trySendTextWithWait(String text, Integer waitTime) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+        StepSpan span = StepSpan.open("trySendTextWithWait", element_name, selectorStrategy());
         try {
-            if("android".equalsIgnoreCase(getPlatform())){
-                driverAndroid = AndroidSettings.driverAndroid.get();
-                WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(waitTime));
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    driverAndroid.findElement(by).sendKeys(text);
-                    TestLogger.addLogMessage("The text '" + text + "' has been sent to the " + element_name + " element");
-                }
-                else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    driverAndroid.findElement(by).sendKeys(text);
-                    TestLogger.addLogMessage("The text '" + text + "' has been sent to the " + element_name + " element");
-                }
-            }else if("ios".equalsIgnoreCase(getPlatform())){
-                driverIos = IosSettings.driverIos.get();
-                WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(waitTime));
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    driverIos.findElement(by).sendKeys(text);
-                    TestLogger.addLogMessage("The text '" + text + "' has been sent to the " + element_name + " element");
-                }
-                else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    driverIos.findElement(by).sendKeys(text);
-                    TestLogger.addLogMessage("The text '" + text + "' has been sent to the " + element_name + " element");
+            try {
+                if("android".equalsIgnoreCase(getPlatform())){
+                    AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                    WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(waitTime));
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        driverAndroid.findElement(by).sendKeys(text);
+                        TestLogger.addLogMessage("The text '{}' has been sent to the {} element", text, element_name);
+                    }
+                    else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        driverAndroid.findElement(by).sendKeys(text);
+                        TestLogger.addLogMessage("The text '{}' has been sent to the {} element", text, element_name);
+                    }
+                }else if("ios".equalsIgnoreCase(getPlatform())){
+                    IOSDriver driverIos = IosSettings.driverIos.get();
+                    WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(waitTime));
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        driverIos.findElement(by).sendKeys(text);
+                        TestLogger.addLogMessage("The text '{}' has been sent to the {} element", text, element_name);
+                    }
+                    else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        driverIos.findElement(by).sendKeys(text);
+                        TestLogger.addLogMessage("The text '{}' has been sent to the {} element", text, element_name);
+                    }
                 }
             }
+            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                TestLogger.addLogMessage("Element {} nije bio vidljiv", element_name);
+            }
+            afterAction("trySendTextWithWait");
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-            TestLogger.addLogMessage("Element " + element_name + " nije bio vidljiv");
-        }
-        return null;
     }
     /** Metoda isElementWithTextDisplayed koriste se kada tražimo određeni tekst
      * Najčešće se koristi s xpath-om gdje po parametru className tražimo da li je određeni parametar text vidljiv
      */
     public Boolean isElementWithTextDisplayed(Integer waitTime, String text) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        Boolean is_displayed = false;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(waitTime));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    String android_xpath_locator = "//" + android_locator + "[@text=\"" + text + "\"]";
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_xpath_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverAndroid.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, text);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverAndroid.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
+        StepSpan span = StepSpan.open("isElementWithTextDisplayed", element_name, selectorStrategy());
+        try {
+            Boolean is_displayed = false;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(waitTime));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        String android_xpath_locator = "//" + android_locator + "[@text=\"" + text + "\"]";
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_xpath_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverAndroid.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, text);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverAndroid.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(waitTime));
-            String ios_xpath_locator = null;
-            if (Objects.equals(ios_selector, "xpath")) {
-                ios_xpath_locator = "//" + ios_locator + "[@name=\"" + text + "\"]";
-            }
-            else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
-                ios_xpath_locator = "type == \"" + ios_locator + "\" AND name CONTAINS \"" + text + "\"";
-            }
-            else if (Objects.equals(ios_selector, "iOSClassChain")) {
-                ios_xpath_locator = "**/" + ios_locator+ "[`label CONTAINS \"" + text + "\"`]";
-            }
-            else if (Objects.equals(ios_selector, "accessibilityId")) {
-                ios_xpath_locator = text;
-            }
-            try {
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(waitTime));
+                String ios_xpath_locator = null;
                 if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_xpath_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverIos.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverIos.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
+                    ios_xpath_locator = "//" + ios_locator + "[@name=\"" + text + "\"]";
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_xpath_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        return is_displayed;
-    }
-    public Boolean elementWithTextIsNotDisplayed(Integer waitTime, String text) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        Boolean is_displayed = false;
-        if ("android".equalsIgnoreCase(getPlatform())) {
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(waitTime));
-            String android_xpath_locator = "//" + android_locator + "[@text=\"" + text + "\"]";
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_xpath_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverAndroid.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
-                    screenshotAndroid(element_name,android_locator);
-                    Assert.fail("Element " + element_name + " is not found");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverAndroid.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is not found");
-                    screenshotAndroid(element_name, android_locator);
-                    Assert.fail("Element " + element_name + " is not found");
+                else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
+                    ios_xpath_locator = "type == \"" + ios_locator + "\" AND name CONTAINS \"" + text + "\"";
                 }
-            } catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element not found or not visible as expected");
-            }
-        } else if ("ios".equalsIgnoreCase(getPlatform())) {
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(waitTime));
-            String ios_xpath_locator = null;
-            if (Objects.equals(ios_selector, "xpath")) {
-                ios_xpath_locator = "//" + ios_locator + "[@name=\"" + text + "\"]";
-            }
-            else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
-                ios_xpath_locator = "type == \"" + ios_locator + "\" AND name CONTAINS \"" + text + "\"";
-            }
-            else if (Objects.equals(ios_selector, "iOSClassChain")) {
-                ios_xpath_locator = "**/" + ios_locator+ "[`label CONTAINS \"" + text + "\" `]";
-            }
-            else if (Objects.equals(ios_selector, "accessibilityId")) {
-                ios_xpath_locator = text;
-            }
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_xpath_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverIos.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
-                    screenshotIos(element_name,ios_locator);
-                    Assert.fail("Element " + element_name + " is not found");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    is_displayed = driverIos.findElement(by).isDisplayed();
-                    TestLogger.addLogMessage("Element " + element_name + " is displayed");
-                    screenshotIos(element_name,ios_locator);
-                    Assert.fail("Element " + element_name + " is not found");
+                else if (Objects.equals(ios_selector, "iOSClassChain")) {
+                    ios_xpath_locator = "**/" + ios_locator+ "[`label CONTAINS \"" + text + "\"`]";
+                }
+                else if (Objects.equals(ios_selector, "accessibilityId")) {
+                    ios_xpath_locator = text;
+                }
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_xpath_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverIos.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverIos.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_xpath_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
-            } catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element not found or not visible as expected");
             }
+            return is_displayed;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        if (is_displayed) {
-            throw new AssertionError("Element " + element_name + " is unexpectedly displayed.");
-        }
-        return is_displayed;
     }
-    public UiObject clickElementWithText(String text) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            String android_xpath_locator = "//" + android_locator + "[@text=\"" + text + "\"]";
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_xpath_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverAndroid.findElement(by).click();
-                    TestLogger.addLogMessage("Element " + element_name + " is clicked");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverAndroid.findElement(by).click();
-                    TestLogger.addLogMessage("Element " + element_name + " is clicked");
+    public Boolean elementWithTextIsNotDisplayed(Integer waitTime, String text) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
+        StepSpan span = StepSpan.open("elementWithTextIsNotDisplayed", element_name, selectorStrategy());
+        try {
+            Boolean is_displayed = false;
+            if ("android".equalsIgnoreCase(getPlatform())) {
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(waitTime));
+                String android_xpath_locator = "//" + android_locator + "[@text=\"" + text + "\"]";
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_xpath_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverAndroid.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                        screenshotAndroid(element_name,android_locator);
+                        Assert.fail("Element " + element_name + " is not found");
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverAndroid.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is not found", element_name);
+                        screenshotAndroid(element_name, android_locator);
+                        Assert.fail("Element " + element_name + " is not found");
+                    }
+                } catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element not found or not visible as expected");
+                }
+            } else if ("ios".equalsIgnoreCase(getPlatform())) {
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(waitTime));
+                String ios_xpath_locator = null;
+                if (Objects.equals(ios_selector, "xpath")) {
+                    ios_xpath_locator = "//" + ios_locator + "[@name=\"" + text + "\"]";
+                }
+                else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
+                    ios_xpath_locator = "type == \"" + ios_locator + "\" AND name CONTAINS \"" + text + "\"";
+                }
+                else if (Objects.equals(ios_selector, "iOSClassChain")) {
+                    ios_xpath_locator = "**/" + ios_locator+ "[`label CONTAINS \"" + text + "\" `]";
+                }
+                else if (Objects.equals(ios_selector, "accessibilityId")) {
+                    ios_xpath_locator = text;
+                }
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_xpath_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverIos.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                        screenshotIos(element_name,ios_locator);
+                        Assert.fail("Element " + element_name + " is not found");
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        is_displayed = driverIos.findElement(by).isDisplayed();
+                        TestLogger.addLogMessage("Element {} is displayed", element_name);
+                        screenshotIos(element_name,ios_locator);
+                        Assert.fail("Element " + element_name + " is not found");
+                    }
+                } catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element not found or not visible as expected");
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
+            if (is_displayed) {
+                throw new AssertionError("Element " + element_name + " is unexpectedly displayed.");
             }
+            return is_displayed;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            String ios_xpath_locator = null;
-            if (Objects.equals(ios_selector, "xpath")) {
-                ios_xpath_locator = "//" + ios_locator + "[@name=\"" + text + "\"]";
-            }
-            else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
-                ios_xpath_locator = "type == \"" + ios_locator + "\" AND name CONTAINS \"" + text + "\"";
-            }
-            else if (Objects.equals(ios_selector, "iOSClassChain")) {
-                ios_xpath_locator = "**/" + ios_locator + "[`label CONTAINS \"" + text + "\" `]";
-            }
-            else if (Objects.equals(ios_selector, "accessibilityId")) {
-                ios_xpath_locator = text;
+    }
+    public UiObject clickElementWithText(String text) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
+        StepSpan span = StepSpan.open("clickElementWithText", element_name, selectorStrategy());
+        try {
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                String android_xpath_locator = "//" + android_locator + "[@text=\"" + text + "\"]";
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_xpath_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverAndroid.findElement(by).click();
+                        TestLogger.addLogMessage("Element {} is clicked", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverAndroid.findElement(by).click();
+                        TestLogger.addLogMessage("Element {} is clicked", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
+                }
             }
-            try {
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                String ios_xpath_locator = null;
                 if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_xpath_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverIos.findElement(by).click();
-                    TestLogger.addLogMessage("Element " + element_name + " is clicked");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverIos.findElement(by).click();
-                    TestLogger.addLogMessage("Element " + element_name + " is clicked");
+                    ios_xpath_locator = "//" + ios_locator + "[@name=\"" + text + "\"]";
+                }
+                else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
+                    ios_xpath_locator = "type == \"" + ios_locator + "\" AND name CONTAINS \"" + text + "\"";
+                }
+                else if (Objects.equals(ios_selector, "iOSClassChain")) {
+                    ios_xpath_locator = "**/" + ios_locator + "[`label CONTAINS \"" + text + "\" `]";
+                }
+                else if (Objects.equals(ios_selector, "accessibilityId")) {
+                    ios_xpath_locator = text;
+                }
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_xpath_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverIos.findElement(by).click();
+                        TestLogger.addLogMessage("Element {} is clicked", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverIos.findElement(by).click();
+                        TestLogger.addLogMessage("Element {} is clicked", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
+            afterAction("clickElementWithText");
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return null;
     }
     public UiObject clickElementWithTextAndIndex(String text, int index) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            String android_xpath_locator = "//" + android_locator + "[@text=\"" + text + "\"]";
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_xpath_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    List<WebElement> mobileElements = driverAndroid.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    mobileElement.click();
-                    TestLogger.addLogMessage("Element " + element_name + " is clicked");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    List<WebElement> mobileElements = driverAndroid.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    mobileElement.click();
-                    TestLogger.addLogMessage("Element " + element_name + " is clicked");
+        StepSpan span = StepSpan.open("clickElementWithTextAndIndex", element_name, selectorStrategy());
+        try {
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                String android_xpath_locator = "//" + android_locator + "[@text=\"" + text + "\"]";
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_xpath_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        List<WebElement> mobileElements = driverAndroid.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        mobileElement.click();
+                        TestLogger.addLogMessage("Element {} is clicked", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        List<WebElement> mobileElements = driverAndroid.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        mobileElement.click();
+                        TestLogger.addLogMessage("Element {} is clicked", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            String ios_xpath_locator = null;
-            if (Objects.equals(ios_selector, "xpath")) {
-                ios_xpath_locator = "//" + ios_locator + "[@name=\"" + text + "\"]";
-            }
-            else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
-                ios_xpath_locator = "type == \"" + ios_locator + "\" AND name CONTAINS \"" + text + "\"";
-            }
-            else if (Objects.equals(ios_selector, "iOSClassChain")) {
-                ios_xpath_locator = "**/" + ios_locator + "[`label CONTAINS \"" + text + "\" `]";
-            }
-            else if (Objects.equals(ios_selector, "accessibilityId")) {
-                ios_xpath_locator = text;
-            }
-            try {
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                String ios_xpath_locator = null;
                 if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_xpath_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    List<WebElement> mobileElements = driverIos.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    mobileElement.click();
-                    TestLogger.addLogMessage("Element " + element_name + " is clicked");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    List<WebElement> mobileElements = driverIos.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    mobileElement.click();
-                    TestLogger.addLogMessage("Element " + element_name + " is clicked");
+                    ios_xpath_locator = "//" + ios_locator + "[@name=\"" + text + "\"]";
+                }
+                else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
+                    ios_xpath_locator = "type == \"" + ios_locator + "\" AND name CONTAINS \"" + text + "\"";
+                }
+                else if (Objects.equals(ios_selector, "iOSClassChain")) {
+                    ios_xpath_locator = "**/" + ios_locator + "[`label CONTAINS \"" + text + "\" `]";
+                }
+                else if (Objects.equals(ios_selector, "accessibilityId")) {
+                    ios_xpath_locator = text;
+                }
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_xpath_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        List<WebElement> mobileElements = driverIos.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        mobileElement.click();
+                        TestLogger.addLogMessage("Element {} is clicked", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        List<WebElement> mobileElements = driverIos.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        mobileElement.click();
+                        TestLogger.addLogMessage("Element {} is clicked", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
+            afterAction("clickElementWithTextAndIndex");
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return null;
     }
     public UiObject findElementWithText(String text) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            String android_xpath_locator = "//" + android_locator + "[@text=\"" + text + "\"]";
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_xpath_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverAndroid.findElement(by);
-                    TestLogger.addLogMessage("Element " + element_name + " is found");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverAndroid.findElement(by);
-                    TestLogger.addLogMessage("Element " + element_name + " is found");
+        StepSpan span = StepSpan.open("findElementWithText", element_name, selectorStrategy());
+        try {
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                String android_xpath_locator = "//" + android_locator + "[@text=\"" + text + "\"]";
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_xpath_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverAndroid.findElement(by);
+                        TestLogger.addLogMessage("Element {} is found", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverAndroid.findElement(by);
+                        TestLogger.addLogMessage("Element {} is found", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            String ios_xpath_locator = null;
-            if (Objects.equals(ios_selector, "xpath")) {
-                ios_xpath_locator = "//" + ios_locator + "[@name=\"" + text + "\"]";
-            }
-            else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
-                ios_xpath_locator = "type == \"" + ios_locator + "\" AND name CONTAINS \"" + text + "\"";
-            }
-            else if (Objects.equals(ios_selector, "iOSClassChain")) {
-                ios_xpath_locator = "**/" + ios_locator+ "[`label CONTAINS \"" + text + "\" `]";
-            }
-            else if (Objects.equals(ios_selector, "accessibilityId")) {
-                ios_xpath_locator = text;
-            }
-            try {
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                String ios_xpath_locator = null;
                 if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_xpath_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverIos.findElement(by);
-                    TestLogger.addLogMessage("Element " + element_name + " is found");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverIos.findElement(by);
-                    TestLogger.addLogMessage("Element " + element_name + " is found");
+                    ios_xpath_locator = "//" + ios_locator + "[@name=\"" + text + "\"]";
+                }
+                else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
+                    ios_xpath_locator = "type == \"" + ios_locator + "\" AND name CONTAINS \"" + text + "\"";
+                }
+                else if (Objects.equals(ios_selector, "iOSClassChain")) {
+                    ios_xpath_locator = "**/" + ios_locator+ "[`label CONTAINS \"" + text + "\" `]";
+                }
+                else if (Objects.equals(ios_selector, "accessibilityId")) {
+                    ios_xpath_locator = text;
+                }
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_xpath_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverIos.findElement(by);
+                        TestLogger.addLogMessage("Element {} is found", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverIos.findElement(by);
+                        TestLogger.addLogMessage("Element {} is found", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return null;
     }
     public UiObject clickElementWithIndexAndWait(Integer index) throws InvocationTargetException, IllegalAccessException, NoSuchMethodException, IOException {
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            try {
-                WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    List<WebElement> mobileElements = driverAndroid.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    mobileElement.click();
-                    TestLogger.addLogMessage("Elements " + element_name + " are found, and " + index + " is clicked");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    List<WebElement> mobileElements = driverAndroid.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    mobileElement.click();
-                    TestLogger.addLogMessage("Elements " + element_name + " are found, and " + index + " is clicked");
-                }
-            }
-            catch (NoSuchElementException | TimeoutException | IndexOutOfBoundsException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            try {
-                WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    List<WebElement> mobileElements = driverIos.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    mobileElement.click();
-                    TestLogger.addLogMessage("Elements " + element_name + " are found, and " + index + " is clicked");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    List<WebElement> mobileElements = driverIos.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    mobileElement.click();
-                    TestLogger.addLogMessage("Elements " + element_name + " are found, and " + index + " is clicked");
-                }
-            }
-            catch (NoSuchElementException | TimeoutException | IndexOutOfBoundsException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        return this;
-    }
-    public UiObject sendTextToElementWithIndexAndWait(Integer index, String text) throws InvocationTargetException, IllegalAccessException, NoSuchMethodException, IOException {
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            try {
-                WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    List<WebElement> mobileElements = driverAndroid.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    mobileElement.sendKeys(text);
-                    TestLogger.addLogMessage("Elements " + element_name + " are found, and " + index + " index is clicked");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    List<WebElement> mobileElements = driverAndroid.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    mobileElement.sendKeys(text);
-                    TestLogger.addLogMessage("Elements " + element_name + " are found, and " + index + " index is clicked");
-                }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException | IndexOutOfBoundsException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            try {
-                WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    List<WebElement> mobileElements = driverIos.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    mobileElement.sendKeys(text);
-                    TestLogger.addLogMessage("Elements " + element_name + " are found, and to " + index + " index, '" + text + "' is sent");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    List<WebElement> mobileElements = driverIos.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    mobileElement.sendKeys(text);
-                    TestLogger.addLogMessage("Elements " + element_name + " are found, and to " + index + " index, '" + text + "' is sent");
-                }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException | IndexOutOfBoundsException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        return this;
-    }
-    public String getTextFromElementWithIndexAndWait(Integer index) throws InvocationTargetException, IllegalAccessException, NoSuchMethodException, IOException {
-        String text = null;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            try {
-                WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    List<WebElement> mobileElements = driverAndroid.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    text = mobileElement.getText();
-                    TestLogger.addLogMessage("Elements " + element_name + " are found, and from " + index + " index, '" + text + "' is extracted");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    List<WebElement> mobileElements = driverAndroid.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    text = mobileElement.getText();
-                    TestLogger.addLogMessage("Elements " + element_name + " are found, and from " + index + " index, '" + text + "' is extracted");
+        StepSpan span = StepSpan.open("clickElementWithIndexAndWait", element_name, selectorStrategy());
+        try {
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                try {
+                    WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        List<WebElement> mobileElements = driverAndroid.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        mobileElement.click();
+                        TestLogger.addLogMessage("Elements {} are found, and {} is clicked", element_name, index);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        List<WebElement> mobileElements = driverAndroid.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        mobileElement.click();
+                        TestLogger.addLogMessage("Elements {} are found, and {} is clicked", element_name, index);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | IndexOutOfBoundsException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                try {
+                    WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        List<WebElement> mobileElements = driverIos.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        mobileElement.click();
+                        TestLogger.addLogMessage("Elements {} are found, and {} is clicked", element_name, index);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        List<WebElement> mobileElements = driverIos.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        mobileElement.click();
+                        TestLogger.addLogMessage("Elements {} are found, and {} is clicked", element_name, index);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | IndexOutOfBoundsException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
+                }
             }
+            afterAction("clickElementWithIndexAndWait");
+            return this;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            try {
-                WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    List<WebElement> mobileElements = driverIos.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    text = mobileElement.getText();
-                    TestLogger.addLogMessage("Elements " + element_name + " are found, and from " + index + " index, '" + text + "' is extracted");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    List<WebElement> mobileElements = driverIos.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    text = mobileElement.getText();
-                    TestLogger.addLogMessage("Elements " + element_name + " are found, and from " + index + " index, '" + text + "' is extracted");
+    }
+    public UiObject sendTextToElementWithIndexAndWait(Integer index, String text) throws InvocationTargetException, IllegalAccessException, NoSuchMethodException, IOException {
+        StepSpan span = StepSpan.open("sendTextToElementWithIndexAndWait", element_name, selectorStrategy());
+        try {
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                try {
+                    WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        List<WebElement> mobileElements = driverAndroid.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        mobileElement.sendKeys(text);
+                        TestLogger.addLogMessage("Elements {} are found, and {} index is clicked", element_name, index);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        List<WebElement> mobileElements = driverAndroid.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        mobileElement.sendKeys(text);
+                        TestLogger.addLogMessage("Elements {} are found, and {} index is clicked", element_name, index);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException | IndexOutOfBoundsException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                try {
+                    WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        List<WebElement> mobileElements = driverIos.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        mobileElement.sendKeys(text);
+                        TestLogger.addLogMessage("Elements {} are found, and to {} index, '{}' is sent", element_name, index, text);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        List<WebElement> mobileElements = driverIos.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        mobileElement.sendKeys(text);
+                        TestLogger.addLogMessage("Elements {} are found, and to {} index, '{}' is sent", element_name, index, text);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException | IndexOutOfBoundsException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
+                }
             }
+            afterAction("sendTextToElementWithIndexAndWait");
+            return this;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return text;
     }
-    public UiObject clearTextFromElementWithIndexAndWait(Integer index) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    List<WebElement> mobileElements = driverAndroid.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    mobileElement.clear();
-                    TestLogger.addLogMessage("The text has been cleared from the " + element_name + " element");
-                }
-                else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    List<WebElement> mobileElements = driverAndroid.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    mobileElement.clear();
-                    TestLogger.addLogMessage("The text has been cleared from the " + element_name + " element");
+    public String getTextFromElementWithIndexAndWait(Integer index) throws InvocationTargetException, IllegalAccessException, NoSuchMethodException, IOException {
+        StepSpan span = StepSpan.open("getTextFromElementWithIndexAndWait", element_name, selectorStrategy());
+        try {
+            String text = null;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                try {
+                    WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        List<WebElement> mobileElements = driverAndroid.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        text = mobileElement.getText();
+                        TestLogger.addLogMessage("Elements {} are found, and from {} index, '{}' is extracted", element_name, index, text);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        List<WebElement> mobileElements = driverAndroid.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        text = mobileElement.getText();
+                        TestLogger.addLogMessage("Elements {} are found, and from {} index, '{}' is extracted", element_name, index, text);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                try {
+                    WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        List<WebElement> mobileElements = driverIos.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        text = mobileElement.getText();
+                        TestLogger.addLogMessage("Elements {} are found, and from {} index, '{}' is extracted", element_name, index, text);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        List<WebElement> mobileElements = driverIos.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        text = mobileElement.getText();
+                        TestLogger.addLogMessage("Elements {} are found, and from {} index, '{}' is extracted", element_name, index, text);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
+                }
             }
+            return text;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            try {
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    List<WebElement> mobileElements = driverIos.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    mobileElement.clear();
-                    TestLogger.addLogMessage("The text has been cleared from the " + element_name + " element");
-                }
-                else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    List<WebElement> mobileElements = driverIos.findElements(by);
-                    WebElement mobileElement = mobileElements.get(index);
-                    mobileElement.clear();
-                    TestLogger.addLogMessage("The text has been cleared from the " + element_name + " element");
+    }
+    public UiObject clearTextFromElementWithIndexAndWait(Integer index) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
+        StepSpan span = StepSpan.open("clearTextFromElementWithIndexAndWait", element_name, selectorStrategy());
+        try {
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        List<WebElement> mobileElements = driverAndroid.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        mobileElement.clear();
+                        TestLogger.addLogMessage("The text has been cleared from the {} element", element_name);
+                    }
+                    else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        List<WebElement> mobileElements = driverAndroid.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        mobileElement.clear();
+                        TestLogger.addLogMessage("The text has been cleared from the {} element", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        List<WebElement> mobileElements = driverIos.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        mobileElement.clear();
+                        TestLogger.addLogMessage("The text has been cleared from the {} element", element_name);
+                    }
+                    else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        List<WebElement> mobileElements = driverIos.findElements(by);
+                        WebElement mobileElement = mobileElements.get(index);
+                        mobileElement.clear();
+                        TestLogger.addLogMessage("The text has been cleared from the {} element", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
+                }
             }
+            afterAction("clearTextFromElementWithIndexAndWait");
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return null;
     }
     public UiObject clickDoubleNestedElement(Integer iosIndexChild, Integer androidIndexChild, Integer iosIndexChildOfChild, Integer androidIndexChildOfChild, UiObject child, UiObject childOfChild) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        this.child_android_selector = child.android_selector;
-        this.child_android_locator = child.android_locator;
-        this.child_of_child_android_selector = childOfChild.android_selector;
-        this.child_of_child_android_locator = childOfChild.android_locator;
+        StepSpan span = StepSpan.open("clickDoubleNestedElement", element_name, selectorStrategy());
+        try {
+            this.child_android_selector = child.android_selector;
+            this.child_android_locator = child.android_locator;
+            this.child_of_child_android_selector = childOfChild.android_selector;
+            this.child_of_child_android_locator = childOfChild.android_locator;
 
-        this.child_ios_selector = child.ios_selector;
-        this.child_ios_locator = child.ios_locator;
-        this.child_of_child_ios_selector = childOfChild.ios_selector;
-        this.child_of_child_ios_locator = childOfChild.ios_locator;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            try {
-                WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    Method childMethod = By.class.getMethod(child_android_selector, String.class);
-                    By childBy = (By) method.invoke(null, child_android_locator);
-                    Method childOfChildMethod = By.class.getMethod(child_of_child_android_selector, String.class);
-                    By childOfChildBy = (By) method.invoke(null, child_of_child_android_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    WebElement parentElement = driverAndroid.findElement(by);
-                    List<WebElement> childElements = parentElement.findElements(childBy);
-                    WebElement childElement = childElements.get(androidIndexChild);
-                    List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
-                    WebElement childOfChildElement = childOfChildElements.get(androidIndexChildOfChild);
-                    childOfChildElement.click();
-                    TestLogger.addLogMessage("Nested element " + childOfChild + " is found, and is clicked");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    Method childMethod = AppiumBy.class.getMethod(child_android_selector, String.class);
-                    AppiumBy childBy = (AppiumBy) method.invoke(null, child_android_locator);
-                    Method childOfChildMethod = AppiumBy.class.getMethod(child_of_child_android_selector, String.class);
-                    AppiumBy childOfChildBy = (AppiumBy) method.invoke(null, child_of_child_android_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    WebElement parentElement = driverAndroid.findElement(by);
-                    List<WebElement> childElements = parentElement.findElements(childBy);
-                    WebElement childElement = childElements.get(androidIndexChild);
-                    List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
-                    WebElement childOfChildElement = childOfChildElements.get(androidIndexChildOfChild);
-                    childOfChildElement.click();
-                    TestLogger.addLogMessage("Nested element " + childOfChild + " is found, and is clicked");
+            this.child_ios_selector = child.ios_selector;
+            this.child_ios_locator = child.ios_locator;
+            this.child_of_child_ios_selector = childOfChild.ios_selector;
+            this.child_of_child_ios_locator = childOfChild.ios_locator;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                try {
+                    WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        Method childMethod = By.class.getMethod(child_android_selector, String.class);
+                        By childBy = (By) method.invoke(null, child_android_locator);
+                        Method childOfChildMethod = By.class.getMethod(child_of_child_android_selector, String.class);
+                        By childOfChildBy = (By) method.invoke(null, child_of_child_android_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        WebElement parentElement = driverAndroid.findElement(by);
+                        List<WebElement> childElements = parentElement.findElements(childBy);
+                        WebElement childElement = childElements.get(androidIndexChild);
+                        List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
+                        WebElement childOfChildElement = childOfChildElements.get(androidIndexChildOfChild);
+                        childOfChildElement.click();
+                        TestLogger.addLogMessage("Nested element {} is found, and is clicked", childOfChild);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        Method childMethod = AppiumBy.class.getMethod(child_android_selector, String.class);
+                        AppiumBy childBy = (AppiumBy) method.invoke(null, child_android_locator);
+                        Method childOfChildMethod = AppiumBy.class.getMethod(child_of_child_android_selector, String.class);
+                        AppiumBy childOfChildBy = (AppiumBy) method.invoke(null, child_of_child_android_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        WebElement parentElement = driverAndroid.findElement(by);
+                        List<WebElement> childElements = parentElement.findElements(childBy);
+                        WebElement childElement = childElements.get(androidIndexChild);
+                        List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
+                        WebElement childOfChildElement = childOfChildElements.get(androidIndexChildOfChild);
+                        childOfChildElement.click();
+                        TestLogger.addLogMessage("Nested element {} is found, and is clicked", childOfChild);
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            try {
-                WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    Method childMethod = By.class.getMethod(child_ios_selector, String.class);
-                    By childBy = (By) method.invoke(null, child_ios_locator);
-                    Method childOfChildMethod = By.class.getMethod(child_of_child_ios_selector, String.class);
-                    By childOfChildBy = (By) method.invoke(null, child_of_child_ios_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    WebElement parentElement = driverIos.findElement(by);
-                    List<WebElement> childElements = parentElement.findElements(childBy);
-                    WebElement childElement = childElements.get(iosIndexChild);
-                    List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
-                    WebElement childOfChildElement = childOfChildElements.get(iosIndexChildOfChild);
-                    childOfChildElement.click();
-                    TestLogger.addLogMessage("Nested element " + childOfChild + " is found, and is clicked");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    Method childMethod = AppiumBy.class.getMethod(child_ios_selector, String.class);
-                    AppiumBy childBy = (AppiumBy) method.invoke(null, child_ios_locator);
-                    Method childOfChildMethod = AppiumBy.class.getMethod(child_of_child_ios_selector, String.class);
-                    AppiumBy childOfChildBy = (AppiumBy) method.invoke(null, child_of_child_ios_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    WebElement parentElement = driverIos.findElement(by);
-                    List<WebElement> childElements = parentElement.findElements(childBy);
-                    WebElement childElement = childElements.get(iosIndexChild);
-                    List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
-                    WebElement childOfChildElement = childOfChildElements.get(iosIndexChildOfChild);
-                    childOfChildElement.click();
-                    TestLogger.addLogMessage("Nested element " + childOfChild + " is found, and is clicked");
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                try {
+                    WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        Method childMethod = By.class.getMethod(child_ios_selector, String.class);
+                        By childBy = (By) method.invoke(null, child_ios_locator);
+                        Method childOfChildMethod = By.class.getMethod(child_of_child_ios_selector, String.class);
+                        By childOfChildBy = (By) method.invoke(null, child_of_child_ios_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        WebElement parentElement = driverIos.findElement(by);
+                        List<WebElement> childElements = parentElement.findElements(childBy);
+                        WebElement childElement = childElements.get(iosIndexChild);
+                        List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
+                        WebElement childOfChildElement = childOfChildElements.get(iosIndexChildOfChild);
+                        childOfChildElement.click();
+                        TestLogger.addLogMessage("Nested element {} is found, and is clicked", childOfChild);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        Method childMethod = AppiumBy.class.getMethod(child_ios_selector, String.class);
+                        AppiumBy childBy = (AppiumBy) method.invoke(null, child_ios_locator);
+                        Method childOfChildMethod = AppiumBy.class.getMethod(child_of_child_ios_selector, String.class);
+                        AppiumBy childOfChildBy = (AppiumBy) method.invoke(null, child_of_child_ios_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        WebElement parentElement = driverIos.findElement(by);
+                        List<WebElement> childElements = parentElement.findElements(childBy);
+                        WebElement childElement = childElements.get(iosIndexChild);
+                        List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
+                        WebElement childOfChildElement = childOfChildElements.get(iosIndexChildOfChild);
+                        childOfChildElement.click();
+                        TestLogger.addLogMessage("Nested element {} is found, and is clicked", childOfChild);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
+                }
             }
+            afterAction("clickDoubleNestedElement");
+            return this;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return this;
     }
     public String getTextFromDoubleNestedElement(Integer iosIndexChild, Integer androidIndexChild, Integer iosIndexChildOfChild, Integer androidIndexChildOfChild, UiObject child, UiObject childOfChild) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        String text = "";
-        this.child_android_selector = child.android_selector;
-        this.child_android_locator = child.android_locator;
-        this.child_of_child_android_selector = childOfChild.android_selector;
-        this.child_of_child_android_locator = childOfChild.android_locator;
+        StepSpan span = StepSpan.open("getTextFromDoubleNestedElement", element_name, selectorStrategy());
+        try {
+            String text = "";
+            this.child_android_selector = child.android_selector;
+            this.child_android_locator = child.android_locator;
+            this.child_of_child_android_selector = childOfChild.android_selector;
+            this.child_of_child_android_locator = childOfChild.android_locator;
 
-        this.child_ios_selector = child.ios_selector;
-        this.child_ios_locator = child.ios_locator;
-        this.child_of_child_ios_selector = childOfChild.ios_selector;
-        this.child_of_child_ios_locator = childOfChild.ios_locator;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            try {
-                WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    Method childMethod = By.class.getMethod(child_android_selector, String.class);
-                    By childBy = (By) childMethod.invoke(null, child_android_locator);
-                    Method childOfChildMethod = By.class.getMethod(child_of_child_android_selector, String.class);
-                    By childOfChildBy = (By) childOfChildMethod.invoke(null, child_of_child_android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    WebElement parentElement = driverAndroid.findElement(by);
-                    List<WebElement> childElements = parentElement.findElements(childBy);
-                    WebElement childElement = childElements.get(androidIndexChild);
-                    List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
-                    WebElement childOfChildElement = childOfChildElements.get(androidIndexChildOfChild);
-                    text = childOfChildElement.getText();
-                    TestLogger.addLogMessage("Nested element " + childOfChild + " is found, and '" + text + "' is extracted");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    Method childMethod = AppiumBy.class.getMethod(child_android_selector, String.class);
-                    AppiumBy childBy = (AppiumBy) childMethod.invoke(null, child_android_locator);
-                    Method childOfChildMethod = AppiumBy.class.getMethod(child_of_child_android_selector, String.class);
-                    AppiumBy childOfChildBy = (AppiumBy) childOfChildMethod.invoke(null, child_of_child_android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    WebElement parentElement = driverAndroid.findElement(by);
-                    List<WebElement> childElements = parentElement.findElements(childBy);
-                    WebElement childElement = childElements.get(androidIndexChild);
-                    List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
-                    WebElement childOfChildElement = childOfChildElements.get(androidIndexChildOfChild);
-                    text = childOfChildElement.getText();
-                    TestLogger.addLogMessage("Nested element " + childOfChild + " is found, and '" + text + "' is extracted");
+            this.child_ios_selector = child.ios_selector;
+            this.child_ios_locator = child.ios_locator;
+            this.child_of_child_ios_selector = childOfChild.ios_selector;
+            this.child_of_child_ios_locator = childOfChild.ios_locator;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                try {
+                    WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        Method childMethod = By.class.getMethod(child_android_selector, String.class);
+                        By childBy = (By) childMethod.invoke(null, child_android_locator);
+                        Method childOfChildMethod = By.class.getMethod(child_of_child_android_selector, String.class);
+                        By childOfChildBy = (By) childOfChildMethod.invoke(null, child_of_child_android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        WebElement parentElement = driverAndroid.findElement(by);
+                        List<WebElement> childElements = parentElement.findElements(childBy);
+                        WebElement childElement = childElements.get(androidIndexChild);
+                        List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
+                        WebElement childOfChildElement = childOfChildElements.get(androidIndexChildOfChild);
+                        text = childOfChildElement.getText();
+                        TestLogger.addLogMessage("Nested element {} is found, and '{}' is extracted", childOfChild, text);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        Method childMethod = AppiumBy.class.getMethod(child_android_selector, String.class);
+                        AppiumBy childBy = (AppiumBy) childMethod.invoke(null, child_android_locator);
+                        Method childOfChildMethod = AppiumBy.class.getMethod(child_of_child_android_selector, String.class);
+                        AppiumBy childOfChildBy = (AppiumBy) childOfChildMethod.invoke(null, child_of_child_android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        WebElement parentElement = driverAndroid.findElement(by);
+                        List<WebElement> childElements = parentElement.findElements(childBy);
+                        WebElement childElement = childElements.get(androidIndexChild);
+                        List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
+                        WebElement childOfChildElement = childOfChildElements.get(androidIndexChildOfChild);
+                        text = childOfChildElement.getText();
+                        TestLogger.addLogMessage("Nested element {} is found, and '{}' is extracted", childOfChild, text);
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            try {
-                WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_locator);
-                    Method childMethod = By.class.getMethod(child_ios_selector, String.class);
-                    By childBy = (By) childMethod.invoke(null, child_ios_locator);
-                    Method childOfChildMethod = By.class.getMethod(child_of_child_ios_selector, String.class);
-                    By childOfChildBy = (By) childOfChildMethod.invoke(null, child_of_child_ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    WebElement parentElement = driverIos.findElement(by);
-                    List<WebElement> childElements = parentElement.findElements(childBy);
-                    WebElement childElement = childElements.get(iosIndexChild);
-                    List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
-                    WebElement childOfChildElement = childOfChildElements.get(iosIndexChildOfChild);
-                    text = childOfChildElement.getText();
-                    TestLogger.addLogMessage("Nested element " + childOfChild + " is found, and '" + text + "' is extracted");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    Method childMethod = AppiumBy.class.getMethod(child_ios_selector, String.class);
-                    AppiumBy childBy = (AppiumBy) childMethod.invoke(null, child_ios_locator);
-                    Method childOfChildMethod = AppiumBy.class.getMethod(child_of_child_ios_selector, String.class);
-                    AppiumBy childOfChildBy = (AppiumBy) childOfChildMethod.invoke(null, child_of_child_ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    WebElement parentElement = driverIos.findElement(by);
-                    List<WebElement> childElements = parentElement.findElements(childBy);
-                    WebElement childElement = childElements.get(iosIndexChild);
-                    List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
-                    WebElement childOfChildElement = childOfChildElements.get(iosIndexChildOfChild);
-                    text = childOfChildElement.getText();
-                    TestLogger.addLogMessage("Nested element " + childOfChild + " is found, and '" + text + "' is extracted");
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                try {
+                    WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_locator);
+                        Method childMethod = By.class.getMethod(child_ios_selector, String.class);
+                        By childBy = (By) childMethod.invoke(null, child_ios_locator);
+                        Method childOfChildMethod = By.class.getMethod(child_of_child_ios_selector, String.class);
+                        By childOfChildBy = (By) childOfChildMethod.invoke(null, child_of_child_ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        WebElement parentElement = driverIos.findElement(by);
+                        List<WebElement> childElements = parentElement.findElements(childBy);
+                        WebElement childElement = childElements.get(iosIndexChild);
+                        List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
+                        WebElement childOfChildElement = childOfChildElements.get(iosIndexChildOfChild);
+                        text = childOfChildElement.getText();
+                        TestLogger.addLogMessage("Nested element {} is found, and '{}' is extracted", childOfChild, text);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        Method childMethod = AppiumBy.class.getMethod(child_ios_selector, String.class);
+                        AppiumBy childBy = (AppiumBy) childMethod.invoke(null, child_ios_locator);
+                        Method childOfChildMethod = AppiumBy.class.getMethod(child_of_child_ios_selector, String.class);
+                        AppiumBy childOfChildBy = (AppiumBy) childOfChildMethod.invoke(null, child_of_child_ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        WebElement parentElement = driverIos.findElement(by);
+                        List<WebElement> childElements = parentElement.findElements(childBy);
+                        WebElement childElement = childElements.get(iosIndexChild);
+                        List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
+                        WebElement childOfChildElement = childOfChildElements.get(iosIndexChildOfChild);
+                        text = childOfChildElement.getText();
+                        TestLogger.addLogMessage("Nested element {} is found, and '{}' is extracted", childOfChild, text);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
+                }
             }
+            return text;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return text;
     }
     public UiObject sendTextToDoubleNestedElement(Integer iosIndexChild, Integer androidIndexChild, Integer iosIndexChildOfChild, Integer androidIndexChildOfChild, UiObject child, UiObject childOfChild, String text) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        this.child_android_selector = child.android_selector;
-        this.child_android_locator = child.android_locator;
-        this.child_of_child_android_selector = childOfChild.android_selector;
-        this.child_of_child_android_locator = childOfChild.android_locator;
+        StepSpan span = StepSpan.open("sendTextToDoubleNestedElement", element_name, selectorStrategy());
+        try {
+            this.child_android_selector = child.android_selector;
+            this.child_android_locator = child.android_locator;
+            this.child_of_child_android_selector = childOfChild.android_selector;
+            this.child_of_child_android_locator = childOfChild.android_locator;
 
-        this.child_ios_selector = child.ios_selector;
-        this.child_ios_locator = child.ios_locator;
-        this.child_of_child_ios_selector = childOfChild.ios_selector;
-        this.child_of_child_ios_locator = childOfChild.ios_locator;
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            try {
-                WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_locator);
-                    Method childMethod = By.class.getMethod(child_android_selector, String.class);
-                    By childBy = (By) method.invoke(null, child_android_locator);
-                    Method childOfChildMethod = By.class.getMethod(child_of_child_android_selector, String.class);
-                    By childOfChildBy = (By) method.invoke(null, child_of_child_android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    WebElement parentElement = driverAndroid.findElement(by);
-                    List<WebElement> childElements = parentElement.findElements(childBy);
-                    WebElement childElement = childElements.get(androidIndexChild);
-                    List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
-                    WebElement childOfChildElement = childOfChildElements.get(androidIndexChildOfChild);
-                    childOfChildElement.sendKeys(text);
-                    TestLogger.addLogMessage("Nested element " + childOfChild + " is found, and '" + text + "' is sent to element");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    Method childMethod = AppiumBy.class.getMethod(child_android_selector, String.class);
-                    AppiumBy childBy = (AppiumBy) method.invoke(null, child_android_locator);
-                    Method childOfChildMethod = AppiumBy.class.getMethod(child_of_child_android_selector, String.class);
-                    AppiumBy childOfChildBy = (AppiumBy) method.invoke(null, child_of_child_android_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    WebElement parentElement = driverAndroid.findElement(by);
-                    List<WebElement> childElements = parentElement.findElements(childBy);
-                    WebElement childElement = childElements.get(androidIndexChild);
-                    List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
-                    WebElement childOfChildElement = childOfChildElements.get(androidIndexChildOfChild);
-                    childOfChildElement.sendKeys(text);
-                    TestLogger.addLogMessage("Nested element " + childOfChild + " is found, and '" + text + "' is sent to element");
+            this.child_ios_selector = child.ios_selector;
+            this.child_ios_locator = child.ios_locator;
+            this.child_of_child_ios_selector = childOfChild.ios_selector;
+            this.child_of_child_ios_locator = childOfChild.ios_locator;
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                try {
+                    WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_locator);
+                        Method childMethod = By.class.getMethod(child_android_selector, String.class);
+                        By childBy = (By) method.invoke(null, child_android_locator);
+                        Method childOfChildMethod = By.class.getMethod(child_of_child_android_selector, String.class);
+                        By childOfChildBy = (By) method.invoke(null, child_of_child_android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        WebElement parentElement = driverAndroid.findElement(by);
+                        List<WebElement> childElements = parentElement.findElements(childBy);
+                        WebElement childElement = childElements.get(androidIndexChild);
+                        List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
+                        WebElement childOfChildElement = childOfChildElements.get(androidIndexChildOfChild);
+                        childOfChildElement.sendKeys(text);
+                        TestLogger.addLogMessage("Nested element {} is found, and '{}' is sent to element", childOfChild, text);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        Method childMethod = AppiumBy.class.getMethod(child_android_selector, String.class);
+                        AppiumBy childBy = (AppiumBy) method.invoke(null, child_android_locator);
+                        Method childOfChildMethod = AppiumBy.class.getMethod(child_of_child_android_selector, String.class);
+                        AppiumBy childOfChildBy = (AppiumBy) method.invoke(null, child_of_child_android_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        WebElement parentElement = driverAndroid.findElement(by);
+                        List<WebElement> childElements = parentElement.findElements(childBy);
+                        WebElement childElement = childElements.get(androidIndexChild);
+                        List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
+                        WebElement childOfChildElement = childOfChildElements.get(androidIndexChildOfChild);
+                        childOfChildElement.sendKeys(text);
+                        TestLogger.addLogMessage("Nested element {} is found, and '{}' is sent to element", childOfChild, text);
+                    }
                 }
-            }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                boolean fail = !true;
-                TestLogger.addLogMessage("Elements " + element_name + " are not found");
-                screenshotAndroid(element_name, android_locator);
-                assert  fail = false : "Error" + e;
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            try {
-                WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-                if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    Method childMethod = AppiumBy.class.getMethod(child_ios_selector, String.class);
-                    AppiumBy childBy = (AppiumBy) method.invoke(null, child_ios_locator);
-                    Method childOfChildMethod = By.class.getMethod(child_of_child_ios_selector, String.class);
-                    AppiumBy childOfChildBy = (AppiumBy) method.invoke(null, child_of_child_ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    WebElement parentElement = driverIos.findElement(by);
-                    List<WebElement> childElements = parentElement.findElements(childBy);
-                    WebElement childElement = childElements.get(iosIndexChild);
-                    List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
-                    WebElement childOfChildElement = childOfChildElements.get(iosIndexChildOfChild);
-                    childOfChildElement.sendKeys(text);
-                    TestLogger.addLogMessage("Nested element " + childOfChild + " is found, and '" + text + "' is sent to element");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
-                    Method childMethod = AppiumBy.class.getMethod(child_ios_selector, String.class);
-                    AppiumBy childBy = (AppiumBy) method.invoke(null, child_ios_locator);
-                    Method childOfChildMethod = AppiumBy.class.getMethod(child_of_child_ios_selector, String.class);
-                    AppiumBy childOfChildBy = (AppiumBy) method.invoke(null, child_of_child_ios_locator);
-                    wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                    WebElement parentElement = driverIos.findElement(by);
-                    List<WebElement> childElements = parentElement.findElements(childBy);
-                    WebElement childElement = childElements.get(iosIndexChild);
-                    List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
-                    WebElement childOfChildElement = childOfChildElements.get(iosIndexChildOfChild);
-                    childOfChildElement.sendKeys(text);
-                    TestLogger.addLogMessage("Nested element " + childOfChild + " is found, and '" + text + "' is sent to element");
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    boolean fail = !true;
+                    TestLogger.addLogMessage("Elements {} are not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    assert  fail = false : "Error" + e;
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                boolean fail = !true;
-                TestLogger.addLogMessage("Element " + element_name + " are not found");
-                screenshotIos(element_name,ios_locator);
-                assert  fail = false : "Error" + e;
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                try {
+                    WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        Method childMethod = AppiumBy.class.getMethod(child_ios_selector, String.class);
+                        AppiumBy childBy = (AppiumBy) method.invoke(null, child_ios_locator);
+                        Method childOfChildMethod = By.class.getMethod(child_of_child_ios_selector, String.class);
+                        AppiumBy childOfChildBy = (AppiumBy) method.invoke(null, child_of_child_ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        WebElement parentElement = driverIos.findElement(by);
+                        List<WebElement> childElements = parentElement.findElements(childBy);
+                        WebElement childElement = childElements.get(iosIndexChild);
+                        List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
+                        WebElement childOfChildElement = childOfChildElements.get(iosIndexChildOfChild);
+                        childOfChildElement.sendKeys(text);
+                        TestLogger.addLogMessage("Nested element {} is found, and '{}' is sent to element", childOfChild, text);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_locator);
+                        Method childMethod = AppiumBy.class.getMethod(child_ios_selector, String.class);
+                        AppiumBy childBy = (AppiumBy) method.invoke(null, child_ios_locator);
+                        Method childOfChildMethod = AppiumBy.class.getMethod(child_of_child_ios_selector, String.class);
+                        AppiumBy childOfChildBy = (AppiumBy) method.invoke(null, child_of_child_ios_locator);
+                        wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+                        WebElement parentElement = driverIos.findElement(by);
+                        List<WebElement> childElements = parentElement.findElements(childBy);
+                        WebElement childElement = childElements.get(iosIndexChild);
+                        List<WebElement> childOfChildElements = childElement.findElements(childOfChildBy);
+                        WebElement childOfChildElement = childOfChildElements.get(iosIndexChildOfChild);
+                        childOfChildElement.sendKeys(text);
+                        TestLogger.addLogMessage("Nested element {} is found, and '{}' is sent to element", childOfChild, text);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    boolean fail = !true;
+                    TestLogger.addLogMessage("Element {} are not found", element_name);
+                    screenshotIos(element_name,ios_locator);
+                    assert  fail = false : "Error" + e;
+                }
             }
+            afterAction("sendTextToDoubleNestedElement");
+            return this;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return this;
     }
     public UiObject clickElementThatContainsText(String text) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
-        if("android".equalsIgnoreCase(getPlatform())){
-            driverAndroid = AndroidSettings.driverAndroid.get();
-            WebDriverWait wait = new WebDriverWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            String android_xpath_locator = "//" + android_locator + "[contains(text()," + text + ")]";
-            try {
-                if (Objects.equals(android_selector, "xpath")) {
-                    Method method = By.class.getMethod(android_selector, String.class);
-                    By by = (By) method.invoke(null, android_xpath_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverAndroid.findElement(by).click();
-                    TestLogger.addLogMessage("Element " + element_name + " is clicked");
-                }else {
-                    Method method = AppiumBy.class.getMethod(android_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverAndroid.findElement(by).click();
-                    TestLogger.addLogMessage("Element " + element_name + " is clicked");
+        StepSpan span = StepSpan.open("clickElementThatContainsText", element_name, selectorStrategy());
+        try {
+            if("android".equalsIgnoreCase(getPlatform())){
+                AndroidDriver driverAndroid = AndroidSettings.driverAndroid.get();
+                WebDriverWait wait = new TimedWait(driverAndroid, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                String android_xpath_locator = "//" + android_locator + "[contains(text()," + text + ")]";
+                try {
+                    if (Objects.equals(android_selector, "xpath")) {
+                        Method method = By.class.getMethod(android_selector, String.class);
+                        By by = (By) method.invoke(null, android_xpath_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverAndroid.findElement(by).click();
+                        TestLogger.addLogMessage("Element {} is clicked", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(android_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, android_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverAndroid.findElement(by).click();
+                        TestLogger.addLogMessage("Element {} is clicked", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotAndroid(element_name, android_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotAndroid(element_name, android_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
-        }
-        else if("ios".equalsIgnoreCase(getPlatform())){
-            driverIos = IosSettings.driverIos.get();
-            WebDriverWait wait = new WebDriverWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
-            String ios_xpath_locator = null;
-            if (Objects.equals(ios_selector, "xpath")) {
-                ios_xpath_locator = "//" + ios_locator + "[contains(text()," + text + ")]";
-            }
-            else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
-                ios_xpath_locator = "type == '" + ios_locator + "' AND name CONTAINS '" + text + "'";
-            }
-            else if (Objects.equals(ios_selector, "iOSClassChain")) {
-                ios_xpath_locator = "**/" + ios_locator+ "[`label CONTAINS \"" + text + "\" `]";
-            }
-            else if (Objects.equals(ios_selector, "accessibilityId")) {
-                ios_xpath_locator = text;
-            }
-
-            try {
+            else if("ios".equalsIgnoreCase(getPlatform())){
+                IOSDriver driverIos = IosSettings.driverIos.get();
+                WebDriverWait wait = new TimedWait(driverIos, Duration.ofSeconds(TestConfig.DEFAULT_WAIT));
+                String ios_xpath_locator = null;
                 if (Objects.equals(ios_selector, "xpath")) {
-                    Method method = By.class.getMethod(ios_selector, String.class);
-                    By by = (By) method.invoke(null, ios_xpath_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverIos.findElement(by).click();
-                    TestLogger.addLogMessage("Element " + element_name + " is clicked");
-                }else {
-                    Method method = AppiumBy.class.getMethod(ios_selector, String.class);
-                    AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
-                    wait.until(ExpectedConditions.elementToBeClickable(by));
-                    driverIos.findElement(by).click();
-                    TestLogger.addLogMessage("Element " + element_name + " is clicked");
+                    ios_xpath_locator = "//" + ios_locator + "[contains(text()," + text + ")]";
+                }
+                else if (Objects.equals(ios_selector, "iOSNsPredicateString")) {
+                    ios_xpath_locator = "type == '" + ios_locator + "' AND name CONTAINS '" + text + "'";
+                }
+                else if (Objects.equals(ios_selector, "iOSClassChain")) {
+                    ios_xpath_locator = "**/" + ios_locator+ "[`label CONTAINS \"" + text + "\" `]";
+                }
+                else if (Objects.equals(ios_selector, "accessibilityId")) {
+                    ios_xpath_locator = text;
+                }
+
+                try {
+                    if (Objects.equals(ios_selector, "xpath")) {
+                        Method method = By.class.getMethod(ios_selector, String.class);
+                        By by = (By) method.invoke(null, ios_xpath_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverIos.findElement(by).click();
+                        TestLogger.addLogMessage("Element {} is clicked", element_name);
+                    }else {
+                        Method method = AppiumBy.class.getMethod(ios_selector, String.class);
+                        AppiumBy by = (AppiumBy) method.invoke(null, ios_xpath_locator);
+                        wait.until(ExpectedConditions.elementToBeClickable(by));
+                        driverIos.findElement(by).click();
+                        TestLogger.addLogMessage("Element {} is clicked", element_name);
+                    }
+                }
+                catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
+                    TestLogger.addLogMessage("Element {} is not found", element_name);
+                    screenshotIos(element_name, ios_locator);
+                    Assert.fail("Error: " + e.getMessage());
                 }
             }
-            catch (NoSuchElementException | TimeoutException | StaleElementReferenceException e) {
-                TestLogger.addLogMessage("Element " + element_name + " is not found");
-                screenshotIos(element_name, ios_locator);
-                Assert.fail("Error: " + e.getMessage());
-            }
+            afterAction("clickElementThatContainsText");
+            return null;
+        } catch (Throwable t) {
+            span.fail(t);
+            throw t;
+        } finally {
+            span.close();
         }
-        return null;
     }
 }
 
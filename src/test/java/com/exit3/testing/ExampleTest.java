@@ -1,5 +1,6 @@
 package com.exit3.testing;
 
+import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.ios.IOSDriver;
 import org.openqa.selenium.Point;
@@ -8,7 +9,6 @@ import org.testng.annotations.*;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
-import java.net.MalformedURLException;
 
 import static org.testng.Assert.*;
 
@@ -112,21 +112,20 @@ public class ExampleTest {
         AndroidDriver androidDriver = AndroidSettings.initialize(
                 deviceName,
                 platformVersion,
+                null,
+                appPackage,
+                appActivity,
                 ipAddress,
                 port
         );
 
         driver.set(androidDriver);
-
-        // Note: In real tests, you should set these capabilities in AndroidSettings:
-        // capabilities.setCapability("appium:appPackage", appPackage);
-        // capabilities.setCapability("appium:appActivity", appActivity);
     }
 
     /**
      * Initialize iOS driver with configuration
      */
-    private void initializeIosDriver() throws MalformedURLException, InterruptedException {
+    private void initializeIosDriver() throws IOException, InterruptedException {
         String ipAddress = System.getProperty("appium.ip", "127.0.0.1");
         String port = System.getProperty("appium.port", "4723");
 
@@ -392,7 +391,8 @@ public class ExampleTest {
      * - Graceful failure handling
      */
     @Test(priority = 7, description = "Test try methods with custom timeouts")
-    public void testTryMethods() throws FileNotFoundException {
+    public void testTryMethods() throws FileNotFoundException, NoSuchMethodException,
+            InvocationTargetException, IllegalAccessException {
 
         UiObject optionalElement = new UiElement()
                 .name(
@@ -537,24 +537,26 @@ public class ExampleTest {
 
     /**
      * Cleanup method - runs once after all tests in this class
-     * Stops the Appium server and closes the driver
+     * Releases the Appium server and the driver session
      */
     @AfterClass
     public void teardownDriver() {
         try {
             // Close driver
             if (driver.get() != null) {
-                if (driver.get() instanceof AndroidDriver) {
-                    ((AndroidDriver) driver.get()).quit();
-                } else if (driver.get() instanceof IOSDriver) {
-                    ((IOSDriver) driver.get()).quit();
-                }
-                System.out.println("Driver closed successfully");
+                ScreenRecorder.stop();
+                MjpegFrameStream.stop();
+                // Pooled sessions stay open for the next test class, all others are quit
+                SessionPool.release((AppiumDriver) driver.get());
+                System.out.println("Driver released successfully");
             }
 
-            // Stop Appium server
+            // Return this thread's screenshot frame buffers to the shared pool
+            ScreenshotRingBuffer.release();
+
+            // Release Appium server (kept running for the next test class; pooled sessions hold their own lease)
             AppiumManager.stopAppiumServer();
-            System.out.println("Appium server stopped successfully");
+            System.out.println("Appium server released successfully");
 
         } catch (Exception e) {
             System.err.println("Error during teardown: " + e.getMessage());
@@ -0,0 +1,137 @@
+package com.exit3.testing;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Round-trip tests of {@link StepJournal} and {@link StepJournalDecoder}.
+ */
+public class StepJournalTest {
+    private Path directory;
+    private Path file;
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("step-journal");
+        file = directory.resolve("test.journal");
+    }
+
+    @AfterMethod
+    public void deleteDirectory() throws IOException {
+        TestLogger.cleanup();
+        Files.deleteIfExists(StepJournal.dictionaryFile(file));
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    @Test
+    public void decodesMessagesAndSpans() throws IOException {
+        StepJournal journal = new StepJournal(file, 1024 * 1024);
+        journal.appendMessage(1000, 1, "Started", null, null, null, null, 0);
+        journal.appendMessage(1001, 2, "Tap {} at {}", "login", "10,20", null, null, 2);
+        journal.appendMessage(1002, 3, "Typed {} {} {} {}", "a", null, "ü€😀", new Object[]{"a", null, "ü€😀", 4}, 4);
+        journal.appendMessage(1003, 4, "Five {} {} {} {} {}", 1, 2, 3, new Object[]{1, 2, 3, 4, 5}, 5);
+
+        // Nested like UiObject actions; spans are closed, inner first, before they are journaled
+        StepSpan passed = StepSpan.open("click", "Login", "id=login");
+        StepSpan failed = StepSpan.open("type", "Password", "id=password");
+        failed.addWait(2_000_000);
+        failed.retry();
+        failed.fail(new IllegalStateException("element not interactable"));
+        failed.close();
+        passed.close();
+        assertNull(StepSpan.current(), "no span left open on the thread");
+        journal.appendSpan(5, failed);
+        journal.appendSpan(6, passed);
+        journal.close();
+
+        List<TestLogger.LogEntry> entries = StepJournalDecoder.decode(file);
+        assertEquals(entries.size(), 6);
+        assertEquals(entries.get(0).getMessage(), "Started");
+        assertEquals(entries.get(0).getTimestamp().toEpochMilli(), 1000);
+        assertEquals(entries.get(1).getMessage(), "Tap login at 10,20");
+        assertEquals(entries.get(1).getStepNumber(), 2);
+        assertEquals(entries.get(2).getMessage(), "Typed a null ü€😀 4");
+        assertEquals(entries.get(3).getMessage(), "Five 1 2 3 4 5");
+
+        TestLogger.LogEntry failedEntry = entries.get(4);
+        assertEquals(failedEntry.getAction(), "type");
+        assertEquals(failedEntry.getElementName(), "Password");
+        assertEquals(failedEntry.getSelector(), "id=password");
+        assertEquals(failedEntry.getOutcome(), StepSpan.Outcome.FAILED);
+        assertEquals((int) failedEntry.getRetries(), 1);
+        assertEquals(failedEntry.getError(), "IllegalStateException");
+        assertEquals((long) failedEntry.getDurationNanos(), failed.getDurationNanos());
+        assertEquals((long) failedEntry.getWaitNanos(), 2_000_000L);
+        assertEquals(failedEntry.getMessage(), StepSpan.describe("type", "Password", "id=password",
+                StepSpan.Outcome.FAILED, failed.getDurationNanos(), failed.getWaitNanos(), 1, failed.getError()));
+
+        TestLogger.LogEntry passedEntry = entries.get(5);
+        assertEquals(passedEntry.getAction(), "click");
+        assertEquals(passedEntry.getElementName(), "Login");
+        assertEquals(passedEntry.getSelector(), "id=login");
+        assertEquals(passed.getOutcome(), StepSpan.Outcome.PASSED);
+        assertEquals(passedEntry.getOutcome(), StepSpan.Outcome.PASSED);
+        assertNull(passedEntry.getError());
+        assertTrue(passed.getDurationNanos() > 0);
+        assertEquals((long) passedEntry.getDurationNanos(), passed.getDurationNanos());
+        // The parent carries the wait of its child
+        assertEquals((long) passedEntry.getWaitNanos(), 2_000_000L);
+    }
+
+    /**
+     * Unique argument values must not grow the dictionary; with a small journal both the
+     * records and the text ring wrap, and the newest records still decode in order.
+     */
+    @Test
+    public void wrapsRecordsAndTextWithoutGrowingTheDictionary() throws IOException {
+        StepJournal journal = new StepJournal(file, 256 * 1024);
+        int count = 20_000;
+        for (int i = 0; i < count; i++) {
+            String value = "value-" + i;
+            journal.appendMessage(i, i, "Typed {} into {}", value, "field", null, null, 2);
+        }
+        assertEquals(journal.getDictionarySize(), 1);
+        journal.close();
+
+        assertTrue(Files.size(StepJournal.dictionaryFile(file)) < 64);
+        List<TestLogger.LogEntry> entries = StepJournalDecoder.decode(file);
+        assertTrue(entries.size() > 0 && entries.size() < count, "records wrapped: " + entries.size());
+        int first = count - entries.size();
+        for (int i = 0; i < entries.size(); i++) {
+            TestLogger.LogEntry entry = entries.get(i);
+            assertEquals(entry.getStepNumber(), first + i);
+            assertEquals(entry.getMessage(), "Typed value-" + (first + i) + " into field");
+        }
+    }
+
+    /**
+     * Long values overwrite the text ring faster than records wrap: older records keep their
+     * template and report the lost argument.
+     */
+    @Test
+    public void marksOverwrittenText() throws IOException {
+        StepJournal journal = new StepJournal(file, 256 * 1024);
+        StringBuilder longValue = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            longValue.append('x');
+        }
+        for (int i = 0; i < 200; i++) {
+            journal.appendMessage(i, i, "Value {}", longValue.toString() + i, null, null, null, 1);
+        }
+        journal.close();
+
+        List<TestLogger.LogEntry> entries = StepJournalDecoder.decode(file);
+        assertEquals(entries.size(), 200);
+        assertEquals(entries.get(0).getMessage(), "Value <overwritten>");
+        assertEquals(entries.get(199).getMessage(), "Value " + longValue + 199);
+    }
+}
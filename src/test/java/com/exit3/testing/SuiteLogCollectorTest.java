@@ -0,0 +1,79 @@
+package com.exit3.testing;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for {@link SuiteLogCollector}; no device or Appium server needed.
+ */
+public class SuiteLogCollectorTest {
+
+    @AfterMethod
+    public void cleanup() {
+        TestLogger.cleanup();
+    }
+
+    /**
+     * Two tests on one thread: each entry is written once, with its own test name, and the
+     * first test's entries reach the file while the suite is still running.
+     */
+    @Test
+    public void publishesEachEntryOnceAndWritesFinishedTestsBeforeStop() throws Exception {
+        if (SuiteLogCollector.isRunning()) {
+            throw new SkipException("Suite log collector already runs for this suite (-Dsuite.log.enabled=true)");
+        }
+        Path file = Files.createTempFile("suite-log", ".jsonl");
+        SuiteLogCollector.start(file);
+        try {
+            TestLogger.addLogMessage("logged before the first test");
+
+            SuiteLogCollector.testStarted();
+            TestLogger.addLogMessage("first test step {}", 1);
+            TestLogger.addLogMessage("first test step {}", 2);
+            SuiteLogCollector.publish("firstTest");
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (readLines(file).size() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(readLines(file).size(), 2, "first test's entries are written before stop");
+
+            SuiteLogCollector.testStarted();
+            TestLogger.addLogMessage("second test step {}", 1);
+            SuiteLogCollector.publish("secondTest");
+        } finally {
+            SuiteLogCollector.stop();
+        }
+
+        List<JsonObject> lines = readLines(file);
+        assertEquals(lines.size(), 3, "entries: " + lines);
+        assertEquals(lines.get(0).get("test").getAsString(), "firstTest");
+        assertEquals(lines.get(0).get("message").getAsString(), "first test step 1");
+        assertEquals(lines.get(1).get("test").getAsString(), "firstTest");
+        assertEquals(lines.get(1).get("message").getAsString(), "first test step 2");
+        assertEquals(lines.get(2).get("test").getAsString(), "secondTest");
+        assertEquals(lines.get(2).get("message").getAsString(), "second test step 1");
+        Files.deleteIfExists(file);
+    }
+
+    private static List<JsonObject> readLines(Path file) throws IOException {
+        List<JsonObject> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            if (!line.isEmpty()) {
+                lines.add(JsonParser.parseString(line).getAsJsonObject());
+            }
+        }
+        return lines;
+    }
+}